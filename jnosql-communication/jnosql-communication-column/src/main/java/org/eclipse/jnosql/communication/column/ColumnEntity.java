@@ -48,12 +48,17 @@ import static java.util.stream.Collectors.toList;
  */
 public class ColumnEntity {
 
-    private final Map<String, Column> columns = new HashMap<>();
+    private final Map<String, Column> columns;
 
     private final String name;
 
     ColumnEntity(String name) {
+        this(name, new HashMap<>());
+    }
+
+    private ColumnEntity(String name, Map<String, Column> columns) {
         this.name = name;
+        this.columns = columns;
     }
 
 
@@ -232,9 +237,7 @@ public class ColumnEntity {
      * @return an instance copy
      */
     public ColumnEntity copy() {
-        ColumnEntity entity = new ColumnEntity(this.name);
-        entity.columns.putAll(new HashMap<>(this.columns));
-        return entity;
+        return new ColumnEntity(this.name, new HashMap<>(this.columns));
     }
 
     /**
@@ -314,7 +317,7 @@ public class ColumnEntity {
     }
 
     public static ColumnEntity of(String name, List<Column> columns) {
-        ColumnEntity columnEntity = new ColumnEntity(name);
+        ColumnEntity columnEntity = new ColumnEntity(name, new HashMap<>(columns.size() * 4 / 3 + 1));
         columnEntity.addAll(columns);
         return columnEntity;
     }
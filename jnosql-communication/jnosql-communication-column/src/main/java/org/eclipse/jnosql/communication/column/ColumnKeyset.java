@@ -0,0 +1,104 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import jakarta.data.repository.Direction;
+import jakarta.data.repository.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Translates a keyset, the sort values of the last (or first) element of a page, into a range condition.
+ * Given the sorts "a" and "b" ascending and the keyset [x, y], the next page is
+ * {@code (a > x) OR (a = x AND b > y)}, so the database can seek instead of skipping the previous pages.
+ * The range conditions compare the values as they are, thus, a case-insensitive sort and a null key are not supported.
+ * The sorts must identify an element uniquely, e.g. with the id as the last sort, otherwise the elements that share
+ * the keyset of the page boundary are skipped.
+ */
+final class ColumnKeyset {
+
+    private ColumnKeyset() {
+    }
+
+    static ColumnQuery after(ColumnQuery query, Object[] keys) {
+        return of(query, keys, true);
+    }
+
+    static ColumnQuery before(ColumnQuery query, Object[] keys) {
+        return of(query, keys, false);
+    }
+
+    private static ColumnQuery of(ColumnQuery query, Object[] keys, boolean after) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(keys, "keys is required");
+        List<Sort> sorts = query.sorts();
+        if (sorts.isEmpty()) {
+            throw new IllegalArgumentException("The keyset pagination requires at least one sort, query: " + query);
+        }
+        if (sorts.size() != keys.length) {
+            throw new IllegalArgumentException("The keyset size should match the sorts size, keys: " + keys.length
+                    + " sorts: " + sorts);
+        }
+        for (int index = 0; index < keys.length; index++) {
+            if (sorts.get(index).ignoreCase()) {
+                throw new IllegalArgumentException("The keyset pagination does not support a case-insensitive sort: "
+                        + sorts.get(index));
+            }
+            if (keys[index] == null) {
+                throw new IllegalArgumentException("The keyset pagination does not support a null key, the sort: "
+                        + sorts.get(index).property() + " at the index: " + index);
+            }
+        }
+        ColumnCondition keyset = condition(sorts, keys, after);
+        ColumnCondition condition = query.condition()
+                .map(c -> ColumnCondition.and(c, keyset))
+                .orElse(keyset);
+        List<Sort> querySorts = after ? sorts : reverse(sorts);
+        return new DefaultColumnQuery(query.limit(), 0, query.name(), query.columns(), querySorts, condition,
+                query.timeout().orElse(null), query.hints());
+    }
+
+    private static ColumnCondition condition(List<Sort> sorts, Object[] keys, boolean after) {
+        List<ColumnCondition> branches = new ArrayList<>(sorts.size());
+        for (int index = 0; index < sorts.size(); index++) {
+            List<ColumnCondition> conditions = new ArrayList<>(index + 1);
+            for (int previous = 0; previous < index; previous++) {
+                conditions.add(ColumnCondition.eq(sorts.get(previous).property(), keys[previous]));
+            }
+            Sort sort = sorts.get(index);
+            if (sort.isAscending() == after) {
+                conditions.add(ColumnCondition.gt(sort.property(), keys[index]));
+            } else {
+                conditions.add(ColumnCondition.lt(sort.property(), keys[index]));
+            }
+            branches.add(conditions.size() == 1 ? conditions.get(0)
+                    : ColumnCondition.and(conditions.toArray(ColumnCondition[]::new)));
+        }
+        return branches.size() == 1 ? branches.get(0) : ColumnCondition.or(branches.toArray(ColumnCondition[]::new));
+    }
+
+    private static List<Sort> reverse(List<Sort> sorts) {
+        List<Sort> reversed = new ArrayList<>(sorts.size());
+        for (Sort sort : sorts) {
+            Direction direction = sort.isAscending() ? Direction.DESC : Direction.ASC;
+            reversed.add(Sort.of(sort.property(), direction, false));
+        }
+        return reversed;
+    }
+}
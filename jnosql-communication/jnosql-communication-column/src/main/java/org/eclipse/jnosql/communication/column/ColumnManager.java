@@ -18,11 +18,20 @@ package org.eclipse.jnosql.communication.column;
 
 
 import jakarta.data.exceptions.NonUniqueResultException;
+import org.eclipse.jnosql.communication.Cancellation;
+import org.eclipse.jnosql.communication.QueryHints;
+import org.eclipse.jnosql.communication.RangeSpliterator;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -57,6 +66,22 @@ public interface ColumnManager extends AutoCloseable {
      */
     ColumnEntity update(ColumnEntity entity);
 
+    /**
+     * Updates only the columns of the entity whose names are given, thus, the drivers that support partial updates
+     * send just the changed columns instead of the whole entity. By default, it updates the whole entity using
+     * {@link ColumnManager#update(ColumnEntity)}.
+     *
+     * @param entity the entity with all the columns
+     * @param columns the names of the columns that have changed
+     * @return the entity updated
+     * @throws NullPointerException when there is a null parameter
+     */
+    default ColumnEntity update(ColumnEntity entity, Set<String> columns) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(columns, "columns is required");
+        return update(entity);
+    }
+
     /**
      * Updates a Column family entities, by default it's just run for each saving using
      * {@link ColumnManager#update(ColumnEntity)}, each NoSQL vendor might
@@ -103,6 +128,38 @@ public interface ColumnManager extends AutoCloseable {
      */
     Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities, Duration ttl);
 
+    /**
+     * Saves column entities with hints, such as {@link QueryHints#BATCH_SIZE}. By default, when there is a batch
+     * size, it saves the entities in chunks of that size using {@link ColumnManager#insert(Iterable)}; otherwise,
+     * it saves all of them at once. Each NoSQL vendor might replace it to a more appropriate one.
+     *
+     * @param entities entities to be saved
+     * @param hints    the hints propagated untouched to the driver
+     * @return the entities saved
+     * @throws NullPointerException when there is a null parameter
+     */
+    default Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities, Map<String, Object> hints) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(hints, "hints is required");
+        OptionalInt batchSize = QueryHints.batchSize(hints);
+        if (batchSize.isEmpty()) {
+            return insert(entities);
+        }
+        List<ColumnEntity> saved = new ArrayList<>();
+        List<ColumnEntity> batch = new ArrayList<>(batchSize.getAsInt());
+        for (ColumnEntity entity : entities) {
+            batch.add(entity);
+            if (batch.size() == batchSize.getAsInt()) {
+                insert(batch).forEach(saved::add);
+                batch = new ArrayList<>(batchSize.getAsInt());
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(batch).forEach(saved::add);
+        }
+        return saved;
+    }
+
     /**
      * Deletes an entity
      *
@@ -198,6 +255,76 @@ public interface ColumnManager extends AutoCloseable {
         throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
     }
 
+    /**
+     * Splits the query into disjoint ranges, e.g. token or key ranges, that can be fetched at the same time.
+     * The default implementation returns the query itself; drivers that can serve ranges in parallel
+     * should override it.
+     *
+     * @param query       the query
+     * @param parallelism the expected number of ranges
+     * @return the queries of each range, together they return the same result of the query
+     * @throws NullPointerException     when query is null
+     * @throws IllegalArgumentException when parallelism is not positive
+     */
+    default List<ColumnQuery> split(ColumnQuery query, int parallelism) {
+        Objects.requireNonNull(query, "query is required");
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("The parallelism should be positive, parallelism: " + parallelism);
+        }
+        return Collections.singletonList(query);
+    }
+
+    /**
+     * Finds {@link ColumnEntity} from select in parallel. The query is split by
+     * {@link ColumnManager#split(ColumnQuery, int)} and the result is a parallel {@link Stream} whose
+     * {@link java.util.Spliterator#trySplit()} splits those ranges, so each range is fetched by a
+     * fork-join worker.
+     *
+     * @param query       the query
+     * @param parallelism the expected number of ranges
+     * @return a parallel stream of the entities found by select
+     * @throws NullPointerException     when query is null
+     * @throws IllegalArgumentException when parallelism is not positive
+     */
+    default Stream<ColumnEntity> parallelSelect(ColumnQuery query, int parallelism) {
+        return RangeSpliterator.stream(split(query, parallelism), this::select);
+    }
+
+    /**
+     * Finds {@link ColumnEntity} from select bound to a {@link Cancellation}. When it is either cancelled or expired,
+     * the stream stops producing elements and is closed, thus, the driver cursor is released.
+     * The default implementation wraps {@link ColumnManager#select(ColumnQuery)}; drivers that support
+     * a server-side timeout should override it.
+     *
+     * @param query        the query
+     * @param cancellation the cancellation handle
+     * @return the entities found by select
+     * @throws NullPointerException                              when there is a null parameter
+     * @throws org.eclipse.jnosql.communication.QueryTimeoutException when the timeout has expired
+     * @throws java.util.concurrent.CancellationException         when it was cancelled
+     */
+    default Stream<ColumnEntity> select(ColumnQuery query, Cancellation cancellation) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(cancellation, "cancellation is required");
+        return cancellation.apply(cancellation.call(() -> select(query)));
+    }
+
+    /**
+     * Returns the number of elements of the query bound to a {@link Cancellation}.
+     *
+     * @param query        the query
+     * @param cancellation the cancellation handle
+     * @return the number of elements
+     * @throws NullPointerException                              when there is a null parameter
+     * @throws org.eclipse.jnosql.communication.QueryTimeoutException when the timeout has expired
+     * @throws java.util.concurrent.CancellationException         when it was cancelled
+     */
+    default long count(ColumnQuery query, Cancellation cancellation) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(cancellation, "cancellation is required");
+        return cancellation.call(() -> count(query));
+    }
+
     /**
      * Returns the number of elements from column family
      *
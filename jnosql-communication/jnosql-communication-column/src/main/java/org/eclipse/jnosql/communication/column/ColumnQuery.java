@@ -19,10 +19,13 @@ package org.eclipse.jnosql.communication.column;
 
 
 import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.QueryHints;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -75,6 +78,26 @@ public interface ColumnQuery {
      */
     List<String> columns();
 
+    /**
+     * The maximum time to run this query. It is an execution hint, thus, it is not part of the query equality.
+     * When it is empty, the manager will use its default behavior.
+     *
+     * @return the timeout or {@link Optional#empty()}
+     */
+    default Optional<Duration> timeout() {
+        return Optional.empty();
+    }
+
+    /**
+     * The hints of this query, such as {@link QueryHints#FETCH_SIZE}. The hints are propagated untouched to the
+     * driver, which might ignore them. They are not part of the query equality.
+     *
+     * @return the hints, it never returns null
+     */
+    default Map<String, Object> hints() {
+        return Collections.emptyMap();
+    }
+
     /**
      * The sorts that contains in this {@link ColumnQuery}
      * The implementation might ignore this option.
@@ -134,6 +157,53 @@ public interface ColumnQuery {
     }
 
 
+    /**
+     * Creates a new {@link ColumnQuery} that returns the elements after the given keyset, the values of the
+     * {@link ColumnQuery#sorts()} of the last element of the previous page. It replaces the skip with a range
+     * condition, so the cost of fetching a page does not grow with the page depth.
+     *
+     * @param query the query with the sorts that define the keyset
+     * @param keys  the keyset values, in the same order of {@link ColumnQuery#sorts()}
+     * @return a new {@link ColumnQuery} instance without skip
+     * @throws NullPointerException     when there is a null parameter
+     * @throws IllegalArgumentException when the query has no sort, the keyset size does not match the sorts, there
+     *                                  is a case-insensitive sort or a null element in the keyset
+     */
+    static ColumnQuery afterKeyset(ColumnQuery query, Object... keys) {
+        return ColumnKeyset.after(query, keys);
+    }
+
+    /**
+     * Creates a new {@link ColumnQuery} that returns the elements before the given keyset, the values of the
+     * {@link ColumnQuery#sorts()} of the first element of the next page.
+     * The sorts of the returned query are reversed, thus, the caller should reverse the result to keep the original order.
+     *
+     * @param query the query with the sorts that define the keyset
+     * @param keys  the keyset values, in the same order of {@link ColumnQuery#sorts()}
+     * @return a new {@link ColumnQuery} instance without skip and with the sorts reversed
+     * @throws NullPointerException     when there is a null parameter
+     * @throws IllegalArgumentException when the query has no sort, the keyset size does not match the sorts, there
+     *                                  is a case-insensitive sort or a null element in the keyset
+     */
+    static ColumnQuery beforeKeyset(ColumnQuery query, Object... keys) {
+        return ColumnKeyset.before(query, keys);
+    }
+
+    /**
+     * Creates a new {@link ColumnQuery} with the hints; the new hints replace the ones of the query with the same name.
+     *
+     * @param query the query
+     * @param hints the hints
+     * @return a new {@link ColumnQuery} instance
+     * @throws NullPointerException when there is a null parameter
+     * @see ColumnQuery#hints()
+     */
+    static ColumnQuery withHints(ColumnQuery query, Map<String, Object> hints) {
+        requireNonNull(query, "query is required");
+        requireNonNull(hints, "hints is required");
+        return DefaultColumnQuery.of(query, hints);
+    }
+
     /**
      * The ColumnFrom Query
      */
@@ -207,6 +277,27 @@ public interface ColumnQuery {
      */
     interface ColumnNameOrder extends ColumnQueryBuild {
 
+        /**
+         * Defines the keyset pagination, the query will return the elements after the keyset in the order defined.
+         * It replaces the skip with a range condition on the sorts.
+         *
+         * @param keys the values of the sorts of the last element of the previous page
+         * @return a query with the keyset defined
+         * @throws NullPointerException when there is a null element
+         * @see ColumnQuery#afterKeyset(ColumnQuery, Object...)
+         */
+        ColumnNameOrder afterKeyset(Object... keys);
+
+        /**
+         * Defines the keyset pagination, the query will return the elements before the keyset in the order defined.
+         * The query sorts are reversed, thus, the result should be reversed to keep the original order.
+         *
+         * @param keys the values of the sorts of the first element of the next page
+         * @return a query with the keyset defined
+         * @throws NullPointerException when there is a null element
+         * @see ColumnQuery#beforeKeyset(ColumnQuery, Object...)
+         */
+        ColumnNameOrder beforeKeyset(Object... keys);
 
         /**
          * Add the order how the result will return
@@ -276,6 +367,28 @@ public interface ColumnQuery {
          */
         ColumnQuery build();
 
+        /**
+         * Defines the maximum time to run the query, it will replace the current timeout.
+         *
+         * @param timeout the timeout
+         * @return the {@link ColumnQueryBuild}
+         * @throws NullPointerException     when timeout is null
+         * @throws IllegalArgumentException when timeout is either zero or negative
+         * @see ColumnQuery#timeout()
+         */
+        ColumnQueryBuild timeout(Duration timeout);
+
+        /**
+         * Defines a hint of the query, it will replace the hint with the same name.
+         *
+         * @param name  the hint name, e.g. {@link QueryHints#FETCH_SIZE}
+         * @param value the hint value
+         * @return the {@link ColumnQueryBuild}
+         * @throws NullPointerException when there is a null parameter
+         * @see ColumnQuery#hints()
+         */
+        ColumnQueryBuild hint(String name, Object value);
+
         /**
          * Executes {@link ColumnManager#select(ColumnQuery)}
          *
@@ -589,6 +702,50 @@ public interface ColumnQuery {
          */
         ColumnQueryBuilder limit(long limit);
 
+        /**
+         * Defines the keyset pagination, the query will return the elements after the keyset following the sorts.
+         * It replaces the skip with a range condition on the sorts, and it will replace the current keyset.
+         *
+         * @param keys the values of the sorts of the last element of the previous page
+         * @return the {@link ColumnQueryBuilder}
+         * @throws NullPointerException when there is a null element
+         * @see ColumnQuery#afterKeyset(ColumnQuery, Object...)
+         */
+        ColumnQueryBuilder afterKeyset(Object... keys);
+
+        /**
+         * Defines the keyset pagination, the query will return the elements before the keyset following the sorts.
+         * The query sorts are reversed, thus, the result should be reversed to keep the original order.
+         *
+         * @param keys the values of the sorts of the first element of the next page
+         * @return the {@link ColumnQueryBuilder}
+         * @throws NullPointerException when there is a null element
+         * @see ColumnQuery#beforeKeyset(ColumnQuery, Object...)
+         */
+        ColumnQueryBuilder beforeKeyset(Object... keys);
+
+        /**
+         * Defines the maximum time to run the query, it will replace the current timeout.
+         *
+         * @param timeout the timeout
+         * @return the {@link ColumnQueryBuilder}
+         * @throws NullPointerException     when timeout is null
+         * @throws IllegalArgumentException when timeout is either zero or negative
+         * @see ColumnQuery#timeout()
+         */
+        ColumnQueryBuilder timeout(Duration timeout);
+
+        /**
+         * Defines a hint of the query, it will replace the hint with the same name.
+         *
+         * @param name  the hint name, e.g. {@link QueryHints#FETCH_SIZE}
+         * @param value the hint value
+         * @return the {@link ColumnQueryBuilder}
+         * @throws NullPointerException when there is a null parameter
+         * @see ColumnQuery#hints()
+         */
+        ColumnQueryBuilder hint(String name, Object value);
+
         /**
          * It will validate and then create a {@link ColumnQuery} instance.
          *
@@ -19,13 +19,19 @@ package org.eclipse.jnosql.communication.column;
 
 
 import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.Cancellation;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Optional.ofNullable;
 
 /**
@@ -45,15 +51,27 @@ class DefaultColumnQuery implements ColumnQuery {
 
     private final ColumnCondition condition;
 
+    private final Duration timeout;
+
+    private final Map<String, Object> hints;
+
 
     DefaultColumnQuery(long maxResults, long firstResult, String columnFamily,
                        List<String> columns, List<Sort> sorts, ColumnCondition condition) {
+        this(maxResults, firstResult, columnFamily, columns, sorts, condition, null, Collections.emptyMap());
+    }
+
+    DefaultColumnQuery(long maxResults, long firstResult, String columnFamily,
+                       List<String> columns, List<Sort> sorts, ColumnCondition condition,
+                       Duration timeout, Map<String, Object> hints) {
         this.maxResults = maxResults;
         this.firstResult = firstResult;
         this.columnFamily = columnFamily;
         this.columns = columns;
         this.sorts = sorts;
         this.condition = ofNullable(condition).map(ColumnCondition::readOnly).orElse(null);
+        this.timeout = timeout;
+        this.hints = hints.isEmpty() ? Collections.emptyMap() : unmodifiableMap(new LinkedHashMap<>(hints));
     }
 
     @Override
@@ -86,6 +104,16 @@ class DefaultColumnQuery implements ColumnQuery {
         return unmodifiableList(sorts);
     }
 
+    @Override
+    public Optional<Duration> timeout() {
+        return ofNullable(timeout);
+    }
+
+    @Override
+    public Map<String, Object> hints() {
+        return hints;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -116,15 +144,32 @@ class DefaultColumnQuery implements ColumnQuery {
                 ", columns=" + columns +
                 ", sorts=" + sorts +
                 ", condition=" + condition +
+                ", timeout=" + timeout +
+                ", hints=" + hints +
                 '}';
     }
     static ColumnQuery countBy(ColumnQuery query) {
         return new DefaultColumnQuery(0, 0, query.name(), query.columns(),
-                Collections.emptyList(), query.condition().orElse(null));
+                Collections.emptyList(), query.condition().orElse(null), query.timeout().orElse(null),
+                query.hints());
     }
 
     static ColumnQuery existsBy(ColumnQuery query) {
         return new DefaultColumnQuery(1, 0, query.name(), query.columns(),
-                Collections.emptyList(), query.condition().orElse(null));
+                Collections.emptyList(), query.condition().orElse(null), query.timeout().orElse(null),
+                query.hints());
+    }
+
+    static ColumnQuery of(ColumnQuery query, Map<String, Object> hints) {
+        Map<String, Object> merged = new LinkedHashMap<>(query.hints());
+        merged.putAll(hints);
+        return new DefaultColumnQuery(query.limit(), query.skip(), query.name(), query.columns(), query.sorts(),
+                query.condition().orElse(null), query.timeout().orElse(null), merged);
+    }
+
+    static Stream<ColumnEntity> select(ColumnManager manager, ColumnQuery query) {
+        return query.timeout()
+                .map(timeout -> Cancellation.stream(timeout, c -> manager.select(query, c)))
+                .orElseGet(() -> manager.select(query));
     }
 }
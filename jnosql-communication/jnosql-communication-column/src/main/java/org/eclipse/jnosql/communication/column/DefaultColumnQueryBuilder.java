@@ -19,8 +19,12 @@ package org.eclipse.jnosql.communication.column;
 
 import jakarta.data.repository.Sort;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -42,6 +46,14 @@ class DefaultColumnQueryBuilder implements ColumnQuery.ColumnQueryBuilder {
 
     private long limit;
 
+    private Duration timeout;
+
+    private final Map<String, Object> hints = new LinkedHashMap<>();
+
+    private Object[] keyset;
+
+    private boolean afterKeyset;
+
 
     @Override
     public ColumnQuery.ColumnQueryBuilder select(String column) {
@@ -105,19 +117,57 @@ class DefaultColumnQueryBuilder implements ColumnQuery.ColumnQueryBuilder {
         return this;
     }
 
+    @Override
+    public ColumnQuery.ColumnQueryBuilder afterKeyset(Object... keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        this.keyset = keys;
+        this.afterKeyset = true;
+        return this;
+    }
+
+    @Override
+    public ColumnQuery.ColumnQueryBuilder beforeKeyset(Object... keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        this.keyset = keys;
+        this.afterKeyset = false;
+        return this;
+    }
+
+    @Override
+    public ColumnQuery.ColumnQueryBuilder timeout(Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout is required");
+        if (timeout.isZero() || timeout.isNegative()) {
+            throw new IllegalArgumentException("The timeout should be positive, timeout: " + timeout);
+        }
+        this.timeout = timeout;
+        return this;
+    }
+
+    @Override
+    public ColumnQuery.ColumnQueryBuilder hint(String name, Object value) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(value, "value is required");
+        this.hints.put(name, value);
+        return this;
+    }
+
     @Override
     public ColumnQuery build() {
         if (Objects.isNull(documentCollection)) {
             throw new IllegalArgumentException("The document collection is mandatory to build");
         }
-        return new DefaultColumnQuery(limit, skip, documentCollection,
-                columns, sorts, condition);
+        ColumnQuery query = new DefaultColumnQuery(limit, skip, documentCollection,
+                columns, sorts, condition, timeout, hints);
+        if (Objects.isNull(keyset)) {
+            return query;
+        }
+        return afterKeyset ? ColumnKeyset.after(query, keyset) : ColumnKeyset.before(query, keyset);
     }
 
     @Override
     public Stream<ColumnEntity> getResult(ColumnManager manager) {
         Objects.requireNonNull(manager, "manager is required");
-        return manager.select(build());
+        return DefaultColumnQuery.select(manager, build());
     }
 
     @Override
@@ -140,12 +190,18 @@ class DefaultColumnQueryBuilder implements ColumnQuery.ColumnQueryBuilder {
                 && Objects.equals(columns, that.columns)
                 && Objects.equals(sorts, that.sorts)
                 && Objects.equals(documentCollection, that.documentCollection)
-                && Objects.equals(condition, that.condition);
+                && Objects.equals(condition, that.condition)
+                && afterKeyset == that.afterKeyset
+                && Objects.equals(timeout, that.timeout)
+                && Objects.equals(hints, that.hints)
+                && Arrays.equals(keyset, that.keyset);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(columns, sorts, documentCollection, condition, skip, limit);
+        return 31 * Objects.hash(columns, sorts, documentCollection, condition, skip, limit, afterKeyset, timeout,
+                hints)
+                + Arrays.hashCode(keyset);
     }
 
     @Override
@@ -157,6 +213,10 @@ class DefaultColumnQueryBuilder implements ColumnQuery.ColumnQueryBuilder {
                 ", condition=" + condition +
                 ", skip=" + skip +
                 ", limit=" + limit +
+                ", keyset=" + Arrays.toString(keyset) +
+                ", afterKeyset=" + afterKeyset +
+                ", timeout=" + timeout +
+                ", hints=" + hints +
                 '}';
     }
 }
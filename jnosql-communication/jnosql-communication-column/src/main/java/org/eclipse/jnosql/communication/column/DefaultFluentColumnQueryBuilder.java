@@ -29,8 +29,11 @@ import org.eclipse.jnosql.communication.column.ColumnQuery.ColumnSelect;
 import org.eclipse.jnosql.communication.column.ColumnQuery.ColumnSkip;
 import org.eclipse.jnosql.communication.column.ColumnQuery.ColumnWhere;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -50,10 +53,18 @@ class DefaultFluentColumnQueryBuilder extends BaseQueryBuilder implements
 
     private long limit;
 
+    private Duration timeout;
+
+    private final Map<String, Object> hints = new LinkedHashMap<>();
+
     private final List<Sort> sorts = new ArrayList<>();
 
     private final List<String> columns;
 
+    private Object[] keyset;
+
+    private boolean afterKeyset;
+
 
     DefaultFluentColumnQueryBuilder(List<String> columns) {
         this.columns = columns;
@@ -187,15 +198,53 @@ class DefaultFluentColumnQueryBuilder extends BaseQueryBuilder implements
     }
 
 
+    @Override
+    public ColumnNameOrder afterKeyset(Object... keys) {
+        requireNonNull(keys, "keys is required");
+        this.keyset = keys;
+        this.afterKeyset = true;
+        return this;
+    }
+
+    @Override
+    public ColumnNameOrder beforeKeyset(Object... keys) {
+        requireNonNull(keys, "keys is required");
+        this.keyset = keys;
+        this.afterKeyset = false;
+        return this;
+    }
+
+    @Override
+    public ColumnQueryBuild timeout(Duration timeout) {
+        requireNonNull(timeout, "timeout is required");
+        if (timeout.isZero() || timeout.isNegative()) {
+            throw new IllegalArgumentException("The timeout should be positive, timeout: " + timeout);
+        }
+        this.timeout = timeout;
+        return this;
+    }
+
+    @Override
+    public ColumnQueryBuild hint(String name, Object value) {
+        requireNonNull(name, "name is required");
+        requireNonNull(value, "value is required");
+        this.hints.put(name, value);
+        return this;
+    }
+
     @Override
     public ColumnQuery build() {
-        return new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition);
+        ColumnQuery query = new DefaultColumnQuery(limit, skip, columnFamily, columns, sorts, condition, timeout, hints);
+        if (keyset == null) {
+            return query;
+        }
+        return afterKeyset ? ColumnKeyset.after(query, keyset) : ColumnKeyset.before(query, keyset);
     }
 
     @Override
     public Stream<ColumnEntity> getResult(ColumnManager manager) {
         requireNonNull(manager, "manager is required");
-        return manager.select(this.build());
+        return DefaultColumnQuery.select(manager, this.build());
     }
 
     @Override
@@ -0,0 +1,121 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.column;
+
+import jakarta.data.repository.Sort;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.communication.column.ColumnQuery.builder;
+import static org.eclipse.jnosql.communication.column.ColumnQuery.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColumnKeysetTest {
+
+    @Test
+    public void shouldReturnErrorWhenThereIsNoSort() {
+        ColumnQuery query = select().from("person").build();
+        assertThrows(IllegalArgumentException.class, () -> ColumnQuery.afterKeyset(query, "Ada"));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenKeysetDoesNotMatchSorts() {
+        ColumnQuery query = select().from("person").orderBy("name").asc().build();
+        assertThrows(IllegalArgumentException.class, () -> ColumnQuery.afterKeyset(query, "Ada", 10));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSortIgnoresCase() {
+        ColumnQuery query = builder().from("person").sort(Sort.ascIgnoreCase("name")).build();
+        assertThrows(IllegalArgumentException.class, () -> ColumnQuery.afterKeyset(query, "Ada"));
+        assertThrows(IllegalArgumentException.class, () -> ColumnQuery.beforeKeyset(query, "Ada"));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenKeyIsNull() {
+        ColumnQuery query = select().from("person").orderBy("name").asc().build();
+        assertThrows(IllegalArgumentException.class, () -> ColumnQuery.afterKeyset(query, new Object[]{null}));
+    }
+
+    @Test
+    public void shouldCreateAfterKeyset() {
+        ColumnQuery query = select().from("person").orderBy("name").asc()
+                .skip(20).limit(10).build();
+        ColumnQuery keyset = ColumnQuery.afterKeyset(query, "Ada");
+
+        assertEquals(0L, keyset.skip());
+        assertEquals(10L, keyset.limit());
+        assertEquals(query.sorts(), keyset.sorts());
+        assertThat(keyset.condition()).get().isEqualTo(ColumnCondition.gt("name", "Ada"));
+    }
+
+    @Test
+    public void shouldCreateAfterKeysetWithDescendingSort() {
+        ColumnQuery query = select().from("person").orderBy("age").desc().build();
+        ColumnQuery keyset = ColumnQuery.afterKeyset(query, 30);
+        assertThat(keyset.condition()).get().isEqualTo(ColumnCondition.lt("age", 30));
+    }
+
+    @Test
+    public void shouldCreateAfterKeysetWithMultipleSorts() {
+        ColumnQuery query = select().from("person").orderBy("name").asc()
+                .orderBy("id").asc().build();
+        ColumnQuery keyset = ColumnQuery.afterKeyset(query, "Ada", 10L);
+
+        ColumnCondition expected = ColumnCondition.or(ColumnCondition.gt("name", "Ada"),
+                ColumnCondition.and(ColumnCondition.eq("name", "Ada"), ColumnCondition.gt("id", 10L)));
+        assertThat(keyset.condition()).get().isEqualTo(expected);
+    }
+
+    @Test
+    public void shouldAppendKeysetToCondition() {
+        ColumnQuery query = select().from("person").where("city").eq("Salvador")
+                .orderBy("name").asc().build();
+        ColumnQuery keyset = ColumnQuery.afterKeyset(query, "Ada");
+
+        ColumnCondition expected = ColumnCondition.and(ColumnCondition.eq("city", "Salvador"),
+                ColumnCondition.gt("name", "Ada"));
+        assertThat(keyset.condition()).get().isEqualTo(expected);
+    }
+
+    @Test
+    public void shouldCreateBeforeKeyset() {
+        ColumnQuery query = select().from("person").orderBy("name").asc().build();
+        ColumnQuery keyset = ColumnQuery.beforeKeyset(query, "Ada");
+
+        assertThat(keyset.sorts()).containsExactly(Sort.desc("name"));
+        assertThat(keyset.condition()).get().isEqualTo(ColumnCondition.lt("name", "Ada"));
+    }
+
+    @Test
+    public void shouldUseKeysetOnFluentAPI() {
+        ColumnQuery query = select().from("person").orderBy("name").asc()
+                .afterKeyset("Ada").limit(10).build();
+        assertEquals(0L, query.skip());
+        assertEquals(10L, query.limit());
+        assertThat(query.condition()).get().isEqualTo(ColumnCondition.gt("name", "Ada"));
+    }
+
+    @Test
+    public void shouldUseKeysetOnBuilder() {
+        ColumnQuery query = builder().from("person").sort(Sort.asc("name"))
+                .beforeKeyset("Ada").limit(10).build();
+        assertThat(query.sorts()).containsExactly(Sort.desc("name"));
+        assertThat(query.condition()).get().isEqualTo(ColumnCondition.lt("name", "Ada"));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.column;
+
+import org.eclipse.jnosql.communication.QueryHints;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ColumnManagerTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldInsertInBatches() {
+        ColumnManager manager = Mockito.mock(ColumnManager.class);
+        when(manager.insert(any(Iterable.class), any(Map.class))).thenCallRealMethod();
+        when(manager.insert(any(Iterable.class))).thenAnswer(a -> a.getArgument(0));
+        List<ColumnEntity> entities = IntStream.range(0, 5).mapToObj(i -> ColumnEntity.of("entity" + i))
+                .collect(Collectors.toList());
+
+        Iterable<ColumnEntity> saved = manager.insert(entities, Map.of(QueryHints.BATCH_SIZE, 2));
+
+        ArgumentCaptor<Iterable<ColumnEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(manager, times(3)).insert(captor.capture());
+        assertThat(captor.getAllValues()).extracting(i -> ((List<?>) i).size()).containsExactly(2, 2, 1);
+        assertThat(saved).containsExactlyElementsOf(entities);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldInsertAllWhenThereIsNoBatchSize() {
+        ColumnManager manager = Mockito.mock(ColumnManager.class, Mockito.CALLS_REAL_METHODS);
+        List<ColumnEntity> entities = List.of(ColumnEntity.of("entity"));
+        doReturn(entities).when(manager).insert(entities);
+
+        manager.insert(entities, Collections.emptyMap());
+        verify(manager).insert(entities);
+        assertThrows(NullPointerException.class, () -> manager.insert(entities, (Map<String, Object>) null));
+    }
+
+    @Test
+    public void shouldUpdateWholeEntityByDefault() {
+        ColumnManager manager = Mockito.mock(ColumnManager.class, Mockito.CALLS_REAL_METHODS);
+        ColumnEntity entity = ColumnEntity.of("entity");
+        doReturn(entity).when(manager).update(entity);
+
+        assertEquals(entity, manager.update(entity, Set.of("name")));
+        verify(manager).update(entity);
+        assertThrows(NullPointerException.class, () -> manager.update(null, Set.of("name")));
+        assertThrows(NullPointerException.class, () -> manager.update(entity, (Set<String>) null));
+    }
+}
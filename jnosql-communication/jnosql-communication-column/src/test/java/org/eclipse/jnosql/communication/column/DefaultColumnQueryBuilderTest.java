@@ -18,14 +18,17 @@ package org.eclipse.jnosql.communication.column;
 
 import org.eclipse.jnosql.communication.Condition;
 import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -359,4 +362,22 @@ class DefaultColumnQueryBuilderTest {
         assertFalse(query.condition().isPresent());
         assertEquals(collection, query.name());
     }
+
+    @Test
+    public void shouldBuilderHints() {
+        ColumnQuery query = builder().from("name").hint(QueryHints.FETCH_SIZE, 10).build();
+        assertEquals(Map.of(QueryHints.FETCH_SIZE, 10), query.hints());
+        assertEquals(builder().from("name").build(), query);
+        assertThrows(NullPointerException.class, () -> builder().hint(null, 10));
+        assertThrows(NullPointerException.class, () -> builder().hint(QueryHints.FETCH_SIZE, null));
+    }
+
+    @Test
+    public void shouldBuilderTimeout() {
+        ColumnQuery query = builder().from("name").timeout(Duration.ofMillis(100)).build();
+        assertEquals(Duration.ofMillis(100), query.timeout().orElseThrow());
+        assertEquals(builder().from("name").build(), query);
+        assertNotEquals(builder().from("name"), builder().from("name").timeout(Duration.ofMillis(100)));
+        assertThrows(IllegalArgumentException.class, () -> builder().timeout(Duration.ofMillis(-1)));
+    }
 }
\ No newline at end of file
@@ -16,16 +16,20 @@
  */
 package org.eclipse.jnosql.communication.column;
 
+import org.eclipse.jnosql.communication.Cancellation;
 import org.eclipse.jnosql.communication.Condition;
 import jakarta.data.repository.Sort;
 import jakarta.data.repository.Direction;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -333,6 +337,42 @@ public class DefaultSelectQueryBuilderTest {
         checkQuery(queryCaptor, columnFamily);
     }
 
+    @Test
+    public void shouldSelectTimeout() {
+        String name = "name";
+        ColumnQuery query = select().from(name).timeout(Duration.ofSeconds(2)).build();
+        assertEquals(Duration.ofSeconds(2), query.timeout().orElseThrow());
+        assertEquals(select().from(name).build(), query);
+        Assertions.assertThrows(NullPointerException.class, () -> select().from(name).timeout(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> select().from(name).timeout(Duration.ZERO));
+    }
+
+    @Test
+    public void shouldSelectHints() {
+        ColumnQuery query = select().from("name").hint(QueryHints.FETCH_SIZE, 100)
+                .hint(QueryHints.READ_CONSISTENCY, "ONE").build();
+        assertEquals(Map.of(QueryHints.FETCH_SIZE, 100, QueryHints.READ_CONSISTENCY, "ONE"), query.hints());
+        assertEquals(select().from("name").build(), query);
+
+        ColumnQuery hinted = ColumnQuery.withHints(query, Map.of(QueryHints.READ_CONSISTENCY, "QUORUM"));
+        assertEquals(Map.of(QueryHints.FETCH_SIZE, 100, QueryHints.READ_CONSISTENCY, "QUORUM"), hinted.hints());
+        assertEquals(Map.of(QueryHints.FETCH_SIZE, 100), select().from("name").hint(QueryHints.FETCH_SIZE, 100)
+                .build().hints());
+    }
+
+    @Test
+    public void shouldExecuteManagerWithTimeout() {
+        ColumnManager manager = Mockito.mock(ColumnManager.class);
+        ColumnEntity entity = ColumnEntity.of("name");
+        Mockito.when(manager.select(Mockito.any(ColumnQuery.class))).thenReturn(Stream.of(entity));
+        Mockito.when(manager.select(Mockito.any(ColumnQuery.class), Mockito.any(Cancellation.class)))
+                .thenCallRealMethod();
+        try (Stream<ColumnEntity> entities = select().from("name").timeout(Duration.ofSeconds(10)).getResult(manager)) {
+            assertEquals(List.of(entity), entities.collect(Collectors.toList()));
+        }
+        Mockito.verify(manager).select(Mockito.any(ColumnQuery.class), Mockito.any(Cancellation.class));
+    }
+
     private void checkQuery(ArgumentCaptor<ColumnQuery> queryCaptor, String columnFamily) {
         ColumnQuery query = queryCaptor.getValue();
         assertTrue(query.columns().isEmpty());
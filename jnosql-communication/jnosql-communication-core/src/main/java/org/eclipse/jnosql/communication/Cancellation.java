@@ -0,0 +1,448 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A cooperative cancellation handle of a query. It is cancelled either explicitly by {@link Cancellation#cancel()}
+ * or when the timeout expires. Once it is cancelled, the streams bound by {@link Cancellation#apply(Stream)} stop
+ * producing elements and are closed, thus, the driver cursors are released, and the threads running
+ * {@link Cancellation#call(Supplier)} are interrupted.
+ * The operations throw {@link QueryTimeoutException} when the timeout expires and {@link CancellationException}
+ * when it is cancelled explicitly.
+ */
+public final class Cancellation implements AutoCloseable {
+
+    private static final int ACTIVE = 0;
+
+    private static final int CANCELLED = 1;
+
+    private static final int EXPIRED = 2;
+
+    private static final Registration EMPTY = () -> {
+    };
+
+    private final Duration timeout;
+
+    private final long deadline;
+
+    private final AtomicInteger state = new AtomicInteger(ACTIVE);
+
+    private final List<Runnable> callbacks = new CopyOnWriteArrayList<>();
+
+    private final ScheduledFuture<?> timer;
+
+    private Cancellation(Duration timeout) {
+        this.timeout = timeout;
+        if (timeout == null) {
+            this.deadline = 0;
+            this.timer = null;
+        } else {
+            this.deadline = System.nanoTime() + timeout.toNanos();
+            this.timer = Scheduler.INSTANCE.schedule(new Expiration(this), timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * The timeout of this cancellation
+     *
+     * @return the timeout or {@link Optional#empty()} when it is only cancelled explicitly
+     */
+    public Optional<Duration> timeout() {
+        return Optional.ofNullable(timeout);
+    }
+
+    /**
+     * Cancels the query, it does nothing when it is already cancelled or expired.
+     */
+    public void cancel() {
+        terminate(CANCELLED);
+    }
+
+    /**
+     * Checks if either it was cancelled or the timeout has expired
+     *
+     * @return true when the query should stop
+     */
+    public boolean isCancelled() {
+        if (timeout != null && state.get() == ACTIVE && System.nanoTime() - deadline >= 0) {
+            expire();
+        }
+        return state.get() != ACTIVE;
+    }
+
+    /**
+     * Throws an exception when either it was cancelled or the timeout has expired
+     *
+     * @throws QueryTimeoutException when the timeout has expired
+     * @throws CancellationException when it was cancelled
+     */
+    public void check() {
+        if (isCancelled()) {
+            throw exception(null);
+        }
+    }
+
+    /**
+     * Registers a callback that runs once when the query is cancelled or expired. When it is already cancelled,
+     * the callback runs immediately.
+     *
+     * @param callback the callback
+     * @return the registration to remove the callback
+     * @throws NullPointerException when callback is null
+     */
+    public Registration onCancel(Runnable callback) {
+        Objects.requireNonNull(callback, "callback is required");
+        callbacks.add(callback);
+        if (isCancelled()) {
+            run(callback);
+            return EMPTY;
+        }
+        return () -> callbacks.remove(callback);
+    }
+
+    /**
+     * Binds the stream to this cancellation: it checks the cancellation before each element and closes the
+     * stream, releasing the driver cursor, when it is cancelled.
+     *
+     * @param stream the stream
+     * @param <T>    the element type
+     * @return a stream that stops when it is cancelled
+     * @throws NullPointerException when stream is null
+     */
+    public <T> Stream<T> apply(Stream<T> stream) {
+        Objects.requireNonNull(stream, "stream is required");
+        Registration registration = onCancel(stream::close);
+        return StreamSupport.stream(new CancellableSpliterator<>(stream.spliterator()), stream.isParallel())
+                .onClose(() -> {
+                    registration.close();
+                    stream.close();
+                });
+    }
+
+    /**
+     * Runs the operation at the current thread; when it is cancelled meanwhile, the thread is interrupted.
+     *
+     * @param operation the operation
+     * @param <T>       the result type
+     * @return the operation result
+     * @throws NullPointerException  when operation is null
+     * @throws QueryTimeoutException when the timeout has expired
+     * @throws CancellationException when it was cancelled
+     */
+    public <T> T call(Supplier<T> operation) {
+        Objects.requireNonNull(operation, "operation is required");
+        check();
+        Registration registration = onCancel(Thread.currentThread()::interrupt);
+        try {
+            T result = operation.get();
+            check();
+            return result;
+        } catch (RuntimeException exception) {
+            if (isCancelled()) {
+                throw exception(exception);
+            }
+            throw exception;
+        } finally {
+            registration.close();
+            if (isCancelled()) {
+                Thread.interrupted();
+            }
+        }
+    }
+
+    /**
+     * Releases the timer of the timeout, it does not cancel the query.
+     */
+    @Override
+    public void close() {
+        if (timer != null) {
+            timer.cancel(false);
+        }
+        callbacks.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "Cancellation{" +
+                "timeout=" + timeout +
+                ", state=" + state.get() +
+                '}';
+    }
+
+    /**
+     * Creates a cancellation without timeout, thus, it is only cancelled by {@link Cancellation#cancel()}
+     *
+     * @return a {@link Cancellation} instance
+     */
+    public static Cancellation create() {
+        return new Cancellation(null);
+    }
+
+    /**
+     * Creates a cancellation that expires after the timeout
+     *
+     * @param timeout the timeout
+     * @return a {@link Cancellation} instance
+     * @throws NullPointerException     when timeout is null
+     * @throws IllegalArgumentException when timeout is either zero or negative
+     */
+    public static Cancellation of(Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout is required");
+        if (timeout.isZero() || timeout.isNegative()) {
+            throw new IllegalArgumentException("The timeout should be positive, timeout: " + timeout);
+        }
+        return new Cancellation(timeout);
+    }
+
+    /**
+     * Runs the query bound to a new cancellation that expires after the timeout. The cancellation is released
+     * when the returned stream is either exhausted or closed.
+     *
+     * @param timeout the timeout
+     * @param query   the query that receives the cancellation
+     * @param <T>     the element type
+     * @return the stream bound to the cancellation
+     * @throws NullPointerException     when there is a null parameter
+     * @throws IllegalArgumentException when timeout is either zero or negative
+     */
+    public static <T> Stream<T> stream(Duration timeout, Function<Cancellation, Stream<T>> query) {
+        Objects.requireNonNull(query, "query is required");
+        Cancellation cancellation = of(timeout);
+        try {
+            Stream<T> stream = query.apply(cancellation);
+            ReleasingSpliterator<T> spliterator = new ReleasingSpliterator<>(stream.spliterator(), cancellation::close,
+                    new AtomicInteger(1));
+            return StreamSupport.stream(spliterator, stream.isParallel())
+                    .onClose(() -> {
+                        cancellation.close();
+                        stream.close();
+                    });
+        } catch (RuntimeException exception) {
+            cancellation.close();
+            throw exception;
+        }
+    }
+
+    private void expire() {
+        terminate(EXPIRED);
+    }
+
+    private void terminate(int reason) {
+        if (state.compareAndSet(ACTIVE, reason)) {
+            for (Runnable callback : callbacks) {
+                run(callback);
+            }
+        }
+    }
+
+    private void run(Runnable callback) {
+        if (callbacks.remove(callback)) {
+            try {
+                callback.run();
+            } catch (RuntimeException ignored) {
+                //the query is cancelled anyway, an error releasing a resource should not skip the other callbacks
+            }
+        }
+    }
+
+    private RuntimeException exception(Throwable cause) {
+        if (state.get() == EXPIRED) {
+            return new QueryTimeoutException("The query has exceeded the timeout: " + timeout, cause);
+        }
+        CancellationException exception = new CancellationException("The query was cancelled");
+        if (cause != null) {
+            exception.initCause(cause);
+        }
+        return exception;
+    }
+
+    /**
+     * The registration of a callback, closing it removes the callback
+     */
+    @FunctionalInterface
+    public interface Registration extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    private final class CancellableSpliterator<T> implements Spliterator<T> {
+
+        private final Spliterator<T> spliterator;
+
+        private CancellableSpliterator(Spliterator<T> spliterator) {
+            this.spliterator = spliterator;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            check();
+            try {
+                return spliterator.tryAdvance(action);
+            } catch (RuntimeException exception) {
+                if (isCancelled()) {
+                    throw exception(exception);
+                }
+                throw exception;
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<T> prefix = spliterator.trySplit();
+            return prefix == null ? null : new CancellableSpliterator<>(prefix);
+        }
+
+        @Override
+        public long estimateSize() {
+            return spliterator.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return spliterator.characteristics();
+        }
+    }
+
+    /**
+     * The timer task, it holds the cancellation weakly, thus, the scheduler does not keep a stream that nobody
+     * consumes, with its cursor, reachable until the timeout expires.
+     */
+    private static final class Expiration implements Runnable {
+
+        private final WeakReference<Cancellation> cancellation;
+
+        private Expiration(Cancellation cancellation) {
+            this.cancellation = new WeakReference<>(cancellation);
+        }
+
+        @Override
+        public void run() {
+            Cancellation reference = cancellation.get();
+            if (reference != null) {
+                reference.expire();
+            }
+        }
+    }
+
+    /**
+     * Releases the cancellation once all the splits of the stream are exhausted.
+     */
+    private static final class ReleasingSpliterator<T> implements Spliterator<T> {
+
+        private final Spliterator<T> spliterator;
+
+        private final Runnable release;
+
+        private final AtomicInteger active;
+
+        private boolean exhausted;
+
+        private ReleasingSpliterator(Spliterator<T> spliterator, Runnable release, AtomicInteger active) {
+            this.spliterator = spliterator;
+            this.release = release;
+            this.active = active;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (exhausted) {
+                return false;
+            }
+            boolean advanced = false;
+            try {
+                advanced = spliterator.tryAdvance(action);
+                return advanced;
+            } finally {
+                if (!advanced) {
+                    exhaust();
+                }
+            }
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (exhausted) {
+                return;
+            }
+            try {
+                spliterator.forEachRemaining(action);
+            } finally {
+                exhaust();
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (exhausted) {
+                return null;
+            }
+            Spliterator<T> prefix = spliterator.trySplit();
+            if (prefix == null) {
+                return null;
+            }
+            active.incrementAndGet();
+            return new ReleasingSpliterator<>(prefix, release, active);
+        }
+
+        @Override
+        public long estimateSize() {
+            return spliterator.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return spliterator.characteristics();
+        }
+
+        private void exhaust() {
+            exhausted = true;
+            if (active.decrementAndGet() == 0) {
+                release.run();
+            }
+        }
+    }
+
+    private static final class Scheduler {
+
+        private static final ScheduledExecutorService INSTANCE = newExecutor();
+
+        private static ScheduledExecutorService newExecutor() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "jnosql-query-timeout");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * The well-known hints of a query. The hints are propagated untouched from the query to the driver, thus,
+ * a driver might ignore a hint that it does not support, and it might support vendor-specific ones.
+ */
+public final class QueryHints {
+
+    /**
+     * The number of elements to fetch per round-trip to the database.
+     */
+    public static final String FETCH_SIZE = "jnosql.fetch.size";
+
+    /**
+     * The number of elements to send per round-trip on bulk writes.
+     */
+    public static final String BATCH_SIZE = "jnosql.batch.size";
+
+    /**
+     * The read consistency level, the value is vendor-specific, e.g. "QUORUM".
+     */
+    public static final String READ_CONSISTENCY = "jnosql.read.consistency";
+
+    /**
+     * The server-side timeout of the query, either as a {@link java.time.Duration} or milliseconds.
+     */
+    public static final String TIMEOUT = "jnosql.timeout";
+
+    private QueryHints() {
+    }
+
+    /**
+     * Returns the {@link QueryHints#FETCH_SIZE} hint
+     *
+     * @param hints the hints
+     * @return the fetch size or {@link OptionalInt#empty()}
+     * @throws NullPointerException     when hints is null
+     * @throws IllegalArgumentException when the value is not a positive number
+     */
+    public static OptionalInt fetchSize(Map<String, ?> hints) {
+        return positive(hints, FETCH_SIZE);
+    }
+
+    /**
+     * Returns the {@link QueryHints#BATCH_SIZE} hint
+     *
+     * @param hints the hints
+     * @return the batch size or {@link OptionalInt#empty()}
+     * @throws NullPointerException     when hints is null
+     * @throws IllegalArgumentException when the value is not a positive number
+     */
+    public static OptionalInt batchSize(Map<String, ?> hints) {
+        return positive(hints, BATCH_SIZE);
+    }
+
+    /**
+     * Returns the {@link QueryHints#READ_CONSISTENCY} hint
+     *
+     * @param hints the hints
+     * @return the read consistency or {@link Optional#empty()}
+     * @throws NullPointerException when hints is null
+     */
+    public static Optional<String> readConsistency(Map<String, ?> hints) {
+        Objects.requireNonNull(hints, "hints is required");
+        return Optional.ofNullable(hints.get(READ_CONSISTENCY)).map(Object::toString);
+    }
+
+    private static OptionalInt positive(Map<String, ?> hints, String name) {
+        Objects.requireNonNull(hints, "hints is required");
+        Object value = hints.get(name);
+        if (value == null) {
+            return OptionalInt.empty();
+        }
+        try {
+            int size = value instanceof Number ? ((Number) value).intValue() : Integer.parseInt(value.toString().trim());
+            if (size <= 0) {
+                throw new IllegalArgumentException("The hint " + name + " should be positive: " + value);
+            }
+            return OptionalInt.of(size);
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("The hint " + name + " should be a number: " + value, exception);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+/**
+ * The exception when a query runs longer than its timeout
+ *
+ * @see Cancellation
+ */
+public class QueryTimeoutException extends QueryException {
+
+    /**
+     * creates an error with an error message
+     *
+     * @param message the message
+     */
+    public QueryTimeoutException(String message) {
+        super(message);
+    }
+
+    /**
+     * A new exception with a Throwable error
+     * @param message the message
+     * @param exception the exception
+     */
+    public QueryTimeoutException(String message, Throwable exception) {
+        super(message, exception);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ *
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link Spliterator} over disjoint ranges of a query, where each range is fetched lazily by the worker
+ * that owns it. The {@link Spliterator#trySplit()} splits the remaining ranges in half, thus, a parallel stream
+ * fetches the ranges from the database at the same time. Closing the {@link Stream} closes the ranges that are
+ * still open, e.g., when the pipeline short-circuits or fails.
+ *
+ * @param <Q> the range type, usually, a query
+ * @param <T> the element type
+ */
+public final class RangeSpliterator<Q, T> implements Spliterator<T> {
+
+    private final List<Q> ranges;
+
+    private final Function<Q, Stream<T>> fetcher;
+
+    private final Set<Stream<T>> opened;
+
+    private int origin;
+
+    private final int fence;
+
+    private Stream<T> current;
+
+    private Iterator<T> iterator;
+
+    private RangeSpliterator(List<Q> ranges, Function<Q, Stream<T>> fetcher, Set<Stream<T>> opened,
+                             int origin, int fence) {
+        this.ranges = ranges;
+        this.fetcher = fetcher;
+        this.opened = opened;
+        this.origin = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action is required");
+        try {
+            while (true) {
+                if (iterator != null && iterator.hasNext()) {
+                    action.accept(iterator.next());
+                    return true;
+                }
+                closeCurrent();
+                if (origin >= fence) {
+                    return false;
+                }
+                open();
+            }
+        } catch (RuntimeException | Error exception) {
+            closeCurrent();
+            throw exception;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action is required");
+        try {
+            if (iterator != null) {
+                iterator.forEachRemaining(action);
+                closeCurrent();
+            }
+            while (origin < fence) {
+                open();
+                iterator.forEachRemaining(action);
+                closeCurrent();
+            }
+        } finally {
+            closeCurrent();
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (iterator != null) {
+            return null;
+        }
+        int middle = (origin + fence) >>> 1;
+        if (middle <= origin) {
+            return null;
+        }
+        RangeSpliterator<Q, T> prefix = new RangeSpliterator<>(ranges, fetcher, opened, origin, middle);
+        this.origin = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return NONNULL;
+    }
+
+    private void open() {
+        this.current = fetcher.apply(ranges.get(origin++));
+        opened.add(current);
+        this.iterator = current.iterator();
+    }
+
+    private void closeCurrent() {
+        if (current != null) {
+            Stream<T> stream = current;
+            this.current = null;
+            this.iterator = null;
+            opened.remove(stream);
+            stream.close();
+        }
+    }
+
+    private static <T> void closeAll(Set<Stream<T>> opened) {
+        for (Stream<T> stream : opened) {
+            if (opened.remove(stream)) {
+                stream.close();
+            }
+        }
+    }
+
+    /**
+     * Creates a parallel {@link Stream} over the ranges, each range is fetched by the function on the
+     * worker thread that processes it. Closing the returned {@link Stream} closes the ranges that are still open.
+     *
+     * @param ranges  the disjoint ranges
+     * @param fetcher the function that fetches the elements of a range
+     * @param <Q>     the range type
+     * @param <T>     the element type
+     * @return a parallel {@link Stream}
+     * @throws NullPointerException when there is a null parameter
+     */
+    public static <Q, T> Stream<T> stream(List<Q> ranges, Function<Q, Stream<T>> fetcher) {
+        Objects.requireNonNull(ranges, "ranges is required");
+        Objects.requireNonNull(fetcher, "fetcher is required");
+        Set<Stream<T>> opened = ConcurrentHashMap.newKeySet();
+        RangeSpliterator<Q, T> spliterator = new RangeSpliterator<>(List.copyOf(ranges), fetcher, opened, 0,
+                ranges.size());
+        return StreamSupport.stream(spliterator, true).onClose(() -> closeAll(opened));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CancellationTest {
+
+    @Test
+    public void shouldReturnErrorWhenTimeoutIsInvalid() {
+        assertThrows(NullPointerException.class, () -> Cancellation.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Cancellation.of(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> Cancellation.of(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    public void shouldCancel() {
+        Cancellation cancellation = Cancellation.create();
+        assertTrue(cancellation.timeout().isEmpty());
+        assertFalse(cancellation.isCancelled());
+        cancellation.check();
+        cancellation.cancel();
+        assertTrue(cancellation.isCancelled());
+        assertThrows(CancellationException.class, cancellation::check);
+    }
+
+    @Test
+    public void shouldExpire() throws InterruptedException {
+        try (Cancellation cancellation = Cancellation.of(Duration.ofMillis(10))) {
+            assertEquals(Duration.ofMillis(10), cancellation.timeout().orElseThrow());
+            TimeUnit.MILLISECONDS.sleep(50);
+            assertTrue(cancellation.isCancelled());
+            assertThrows(QueryTimeoutException.class, cancellation::check);
+        }
+    }
+
+    @Test
+    public void shouldRunCallbackOnce() {
+        AtomicInteger counter = new AtomicInteger();
+        Cancellation cancellation = Cancellation.create();
+        cancellation.onCancel(counter::incrementAndGet);
+        cancellation.cancel();
+        cancellation.cancel();
+        assertEquals(1, counter.get());
+        cancellation.onCancel(counter::incrementAndGet);
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    public void shouldRemoveCallback() {
+        AtomicInteger counter = new AtomicInteger();
+        Cancellation cancellation = Cancellation.create();
+        cancellation.onCancel(counter::incrementAndGet).close();
+        cancellation.cancel();
+        assertEquals(0, counter.get());
+    }
+
+    @Test
+    public void shouldStopStreamAndReleaseCursor() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Cancellation cancellation = Cancellation.create();
+        Stream<Integer> stream = cancellation.apply(Stream.iterate(0, i -> i + 1).onClose(() -> closed.set(true)));
+        Iterator<Integer> iterator = stream.iterator();
+        assertEquals(0, iterator.next());
+        assertEquals(1, iterator.next());
+        cancellation.cancel();
+        assertTrue(closed.get());
+        assertThrows(CancellationException.class, iterator::next);
+    }
+
+    @Test
+    public void shouldCloseSourceStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Cancellation cancellation = Cancellation.create();
+        try (Stream<Integer> stream = cancellation.apply(Stream.of(1, 2).onClose(() -> closed.set(true)))) {
+            assertEquals(2, stream.count());
+        }
+        assertTrue(closed.get());
+        assertFalse(cancellation.isCancelled());
+    }
+
+    @Test
+    public void shouldInterruptCall() {
+        Cancellation cancellation = Cancellation.of(Duration.ofMillis(20));
+        assertThrows(QueryTimeoutException.class, () -> cancellation.call(() -> {
+            try {
+                TimeUnit.SECONDS.sleep(10);
+                return 1;
+            } catch (InterruptedException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }));
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void shouldReturnCallResult() {
+        try (Cancellation cancellation = Cancellation.of(Duration.ofSeconds(10))) {
+            assertEquals(1, cancellation.<Integer>call(() -> 1));
+        }
+    }
+
+    @Test
+    public void shouldCreateBoundStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        try (Stream<Integer> stream = Cancellation.stream(Duration.ofSeconds(10),
+                c -> c.apply(Stream.of(1, 2, 3).onClose(() -> closed.set(true))))) {
+            assertEquals(3, stream.count());
+        }
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void shouldReleaseTimerWhenStreamIsExhausted() throws InterruptedException {
+        AtomicBoolean expired = new AtomicBoolean();
+        Stream<Integer> stream = Cancellation.stream(Duration.ofMillis(50), c -> {
+            c.onCancel(() -> expired.set(true));
+            return c.apply(Stream.of(1, 2, 3));
+        });
+        assertEquals(List.of(1, 2, 3), stream.collect(Collectors.toList()));
+        Thread.sleep(150);
+        assertFalse(expired.get());
+    }
+}
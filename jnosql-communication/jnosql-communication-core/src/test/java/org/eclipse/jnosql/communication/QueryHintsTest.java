@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryHintsTest {
+
+    @Test
+    public void shouldReturnErrorWhenNull() {
+        assertThrows(NullPointerException.class, () -> QueryHints.fetchSize(null));
+        assertThrows(NullPointerException.class, () -> QueryHints.batchSize(null));
+        assertThrows(NullPointerException.class, () -> QueryHints.readConsistency(null));
+    }
+
+    @Test
+    public void shouldReturnEmpty() {
+        assertTrue(QueryHints.fetchSize(Collections.emptyMap()).isEmpty());
+        assertTrue(QueryHints.batchSize(Collections.emptyMap()).isEmpty());
+        assertTrue(QueryHints.readConsistency(Collections.emptyMap()).isEmpty());
+    }
+
+    @Test
+    public void shouldReturnSizeFromNumberAndText() {
+        assertEquals(100, QueryHints.fetchSize(Map.of(QueryHints.FETCH_SIZE, 100)).getAsInt());
+        assertEquals(50, QueryHints.batchSize(Map.of(QueryHints.BATCH_SIZE, " 50")).getAsInt());
+        assertEquals("QUORUM", QueryHints.readConsistency(Map.of(QueryHints.READ_CONSISTENCY, "QUORUM"))
+                .orElseThrow());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSizeIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> QueryHints.fetchSize(Map.of(QueryHints.FETCH_SIZE, 0)));
+        assertThrows(IllegalArgumentException.class, () -> QueryHints.batchSize(Map.of(QueryHints.BATCH_SIZE, "a")));
+    }
+}
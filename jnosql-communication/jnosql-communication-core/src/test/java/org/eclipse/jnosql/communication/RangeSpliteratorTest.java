@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RangeSpliteratorTest {
+
+    private final Function<Integer, Stream<Integer>> fetcher = r -> IntStream.range(r * 10, r * 10 + 10).boxed();
+
+    @Test
+    public void shouldReturnErrorWhenNull() {
+        assertThrows(NullPointerException.class, () -> RangeSpliterator.stream(null, fetcher));
+        assertThrows(NullPointerException.class, () -> RangeSpliterator.stream(List.of(1), null));
+    }
+
+    @Test
+    public void shouldReturnParallelStream() {
+        Stream<Integer> stream = RangeSpliterator.stream(List.of(0, 1, 2, 3), fetcher);
+        assertTrue(stream.isParallel());
+        List<Integer> result = stream.sorted().collect(Collectors.toList());
+        assertEquals(IntStream.range(0, 40).boxed().collect(Collectors.toList()), result);
+    }
+
+    @Test
+    public void shouldReturnEmptyStream() {
+        assertEquals(0, RangeSpliterator.stream(Collections.<Integer>emptyList(), fetcher).count());
+    }
+
+    @Test
+    public void shouldSplitRanges() {
+        Spliterator<Integer> spliterator = RangeSpliterator.stream(List.of(0, 1, 2, 3), fetcher).spliterator();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        List<Integer> first = new ArrayList<>();
+        prefix.forEachRemaining(first::add);
+        List<Integer> second = new ArrayList<>();
+        spliterator.forEachRemaining(second::add);
+        assertEquals(IntStream.range(0, 20).boxed().collect(Collectors.toList()), first);
+        assertEquals(IntStream.range(20, 40).boxed().collect(Collectors.toList()), second);
+    }
+
+    @Test
+    public void shouldNotSplitSingleRange() {
+        Spliterator<Integer> spliterator = RangeSpliterator.stream(List.of(0), fetcher).spliterator();
+        assertNull(spliterator.trySplit());
+    }
+
+    @Test
+    public void shouldAdvanceAcrossRanges() {
+        Spliterator<Integer> spliterator = RangeSpliterator.stream(List.of(0, 1), fetcher).spliterator();
+        List<Integer> result = new ArrayList<>();
+        while (spliterator.tryAdvance(result::add)) {
+            assertNull(spliterator.trySplit());
+        }
+        assertEquals(20, result.size());
+        assertFalse(spliterator.tryAdvance(result::add));
+    }
+
+    @Test
+    public void shouldFetchRangeOnWorker() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        AtomicInteger closed = new AtomicInteger();
+        Function<Integer, Stream<Integer>> tracker = r -> {
+            threads.add(Thread.currentThread().getName());
+            return fetcher.apply(r).onClose(closed::incrementAndGet);
+        };
+        List<Integer> ranges = IntStream.range(0, 16).boxed().collect(Collectors.toList());
+        long count = RangeSpliterator.stream(ranges, tracker).count();
+        assertEquals(160, count);
+        assertEquals(16, closed.get());
+        assertThat(threads).isNotEmpty();
+    }
+
+    @Test
+    public void shouldCloseRangeWhenStreamIsClosed() {
+        AtomicInteger closed = new AtomicInteger();
+        Function<Integer, Stream<Integer>> tracker = r -> fetcher.apply(r).onClose(closed::incrementAndGet);
+        Stream<Integer> stream = RangeSpliterator.stream(List.of(0, 1), tracker);
+        Spliterator<Integer> spliterator = stream.spliterator();
+        assertTrue(spliterator.tryAdvance(i -> { }));
+        assertEquals(0, closed.get());
+        stream.close();
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    public void shouldCloseRangeWhenActionFails() {
+        AtomicInteger closed = new AtomicInteger();
+        Function<Integer, Stream<Integer>> tracker = r -> fetcher.apply(r).onClose(closed::incrementAndGet);
+        Spliterator<Integer> advance = RangeSpliterator.stream(List.of(0, 1), tracker).spliterator();
+        assertThrows(IllegalStateException.class, () -> advance.tryAdvance(i -> {
+            throw new IllegalStateException("error");
+        }));
+        assertEquals(1, closed.get());
+        Spliterator<Integer> remaining = RangeSpliterator.stream(List.of(0, 1), tracker).spliterator();
+        assertThrows(IllegalStateException.class, () -> remaining.forEachRemaining(i -> {
+            throw new IllegalStateException("error");
+        }));
+        assertEquals(2, closed.get());
+    }
+}
@@ -18,13 +18,19 @@ package org.eclipse.jnosql.communication.document;
 
 
 import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.Cancellation;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Optional.ofNullable;
 
 class DefaultDocumentQuery implements DocumentQuery {
@@ -41,8 +47,18 @@ class DefaultDocumentQuery implements DocumentQuery {
 
     private final List<String> documents;
 
+    private final Duration timeout;
+
+    private final Map<String, Object> hints;
+
     DefaultDocumentQuery(long limit, long skip, String documentCollection,
                          List<String> documents, List<Sort> sorts, DocumentCondition condition) {
+        this(limit, skip, documentCollection, documents, sorts, condition, null, Collections.emptyMap());
+    }
+
+    DefaultDocumentQuery(long limit, long skip, String documentCollection,
+                         List<String> documents, List<Sort> sorts, DocumentCondition condition,
+                         Duration timeout, Map<String, Object> hints) {
 
         this.limit = limit;
         this.skip = skip;
@@ -50,6 +66,8 @@ class DefaultDocumentQuery implements DocumentQuery {
         this.condition = ofNullable(condition).map(DocumentCondition::readOnly).orElse(null);
         this.sorts = sorts;
         this.documents = documents;
+        this.timeout = timeout;
+        this.hints = hints.isEmpty() ? Collections.emptyMap() : unmodifiableMap(new LinkedHashMap<>(hints));
     }
 
     @Override
@@ -82,6 +100,16 @@ class DefaultDocumentQuery implements DocumentQuery {
         return unmodifiableList(documents);
     }
 
+    @Override
+    public Optional<Duration> timeout() {
+        return ofNullable(timeout);
+    }
+
+    @Override
+    public Map<String, Object> hints() {
+        return hints;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -112,15 +140,32 @@ class DefaultDocumentQuery implements DocumentQuery {
                 ", condition=" + condition +
                 ", sorts=" + sorts +
                 ", documents=" + documents +
+                ", timeout=" + timeout +
+                ", hints=" + hints +
                 '}';
     }
 
     static DocumentQuery countBy(DocumentQuery query) {
         return new DefaultDocumentQuery(0, 0, query.name(), query.documents(),
-                Collections.emptyList(), query.condition().orElse(null));
+                Collections.emptyList(), query.condition().orElse(null), query.timeout().orElse(null),
+                query.hints());
     }
     static DocumentQuery existsBy(DocumentQuery query) {
         return new DefaultDocumentQuery(1, 0, query.name(), query.documents(),
-                Collections.emptyList(), query.condition().orElse(null));
+                Collections.emptyList(), query.condition().orElse(null), query.timeout().orElse(null),
+                query.hints());
+    }
+
+    static DocumentQuery of(DocumentQuery query, Map<String, Object> hints) {
+        Map<String, Object> merged = new LinkedHashMap<>(query.hints());
+        merged.putAll(hints);
+        return new DefaultDocumentQuery(query.limit(), query.skip(), query.name(), query.documents(), query.sorts(),
+                query.condition().orElse(null), query.timeout().orElse(null), merged);
+    }
+
+    static Stream<DocumentEntity> select(DocumentManager manager, DocumentQuery query) {
+        return query.timeout()
+                .map(timeout -> Cancellation.stream(timeout, c -> manager.select(query, c)))
+                .orElseGet(() -> manager.select(query));
     }
 }
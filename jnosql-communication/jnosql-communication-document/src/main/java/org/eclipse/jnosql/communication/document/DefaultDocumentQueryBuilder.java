@@ -19,8 +19,12 @@ package org.eclipse.jnosql.communication.document;
 
 import jakarta.data.repository.Sort;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -42,6 +46,14 @@ class DefaultDocumentQueryBuilder implements DocumentQuery.DocumentQueryBuilder
 
     private long limit;
 
+    private Duration timeout;
+
+    private final Map<String, Object> hints = new LinkedHashMap<>();
+
+    private Object[] keyset;
+
+    private boolean afterKeyset;
+
 
     @Override
     public DocumentQuery.DocumentQueryBuilder select(String document) {
@@ -105,19 +117,57 @@ class DefaultDocumentQueryBuilder implements DocumentQuery.DocumentQueryBuilder
         return this;
     }
 
+    @Override
+    public DocumentQuery.DocumentQueryBuilder afterKeyset(Object... keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        this.keyset = keys;
+        this.afterKeyset = true;
+        return this;
+    }
+
+    @Override
+    public DocumentQuery.DocumentQueryBuilder beforeKeyset(Object... keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        this.keyset = keys;
+        this.afterKeyset = false;
+        return this;
+    }
+
+    @Override
+    public DocumentQuery.DocumentQueryBuilder timeout(Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout is required");
+        if (timeout.isZero() || timeout.isNegative()) {
+            throw new IllegalArgumentException("The timeout should be positive, timeout: " + timeout);
+        }
+        this.timeout = timeout;
+        return this;
+    }
+
+    @Override
+    public DocumentQuery.DocumentQueryBuilder hint(String name, Object value) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(value, "value is required");
+        this.hints.put(name, value);
+        return this;
+    }
+
     @Override
     public DocumentQuery build() {
         if (Objects.isNull(documentCollection)) {
             throw new IllegalArgumentException("The document collection is mandatory to build");
         }
-        return new DefaultDocumentQuery(limit, skip, documentCollection,
-                documents, sorts, condition);
+        DocumentQuery query = new DefaultDocumentQuery(limit, skip, documentCollection,
+                documents, sorts, condition, timeout, hints);
+        if (Objects.isNull(keyset)) {
+            return query;
+        }
+        return afterKeyset ? DocumentKeyset.after(query, keyset) : DocumentKeyset.before(query, keyset);
     }
 
     @Override
     public Stream<DocumentEntity> getResult(DocumentManager manager) {
         Objects.requireNonNull(manager, "manager is required");
-        return manager.select(build());
+        return DefaultDocumentQuery.select(manager, build());
     }
 
     @Override
@@ -140,12 +190,18 @@ class DefaultDocumentQueryBuilder implements DocumentQuery.DocumentQueryBuilder
                 && Objects.equals(documents, that.documents)
                 && Objects.equals(sorts, that.sorts)
                 && Objects.equals(documentCollection, that.documentCollection)
-                && Objects.equals(condition, that.condition);
+                && Objects.equals(condition, that.condition)
+                && afterKeyset == that.afterKeyset
+                && Objects.equals(timeout, that.timeout)
+                && Objects.equals(hints, that.hints)
+                && Arrays.equals(keyset, that.keyset);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(documents, sorts, documentCollection, condition, skip, limit);
+        return 31 * Objects.hash(documents, sorts, documentCollection, condition, skip, limit, afterKeyset, timeout,
+                hints)
+                + Arrays.hashCode(keyset);
     }
 
     @Override
@@ -157,6 +213,10 @@ class DefaultDocumentQueryBuilder implements DocumentQuery.DocumentQueryBuilder
                 ", condition=" + condition +
                 ", skip=" + skip +
                 ", limit=" + limit +
+                ", keyset=" + Arrays.toString(keyset) +
+                ", afterKeyset=" + afterKeyset +
+                ", timeout=" + timeout +
+                ", hints=" + hints +
                 '}';
     }
 }
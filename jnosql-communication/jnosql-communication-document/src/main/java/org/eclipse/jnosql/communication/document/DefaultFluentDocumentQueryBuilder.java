@@ -30,8 +30,11 @@ import org.eclipse.jnosql.communication.document.DocumentQuery.DocumentSelect;
 import org.eclipse.jnosql.communication.document.DocumentQuery.DocumentSkip;
 import org.eclipse.jnosql.communication.document.DocumentQuery.DocumentWhere;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -50,10 +53,18 @@ class DefaultFluentDocumentQueryBuilder extends BaseQueryBuilder implements Docu
 
     private long limit;
 
+    private Duration timeout;
+
+    private final Map<String, Object> hints = new LinkedHashMap<>();
+
     private final List<Sort> sorts = new ArrayList<>();
 
     private final List<String> documents;
 
+    private Object[] keyset;
+
+    private boolean afterKeyset;
+
 
     DefaultFluentDocumentQueryBuilder(List<String> documents) {
         this.documents = documents;
@@ -187,15 +198,54 @@ class DefaultFluentDocumentQueryBuilder extends BaseQueryBuilder implements Docu
     }
 
 
+    @Override
+    public DocumentNameOrder afterKeyset(Object... keys) {
+        requireNonNull(keys, "keys is required");
+        this.keyset = keys;
+        this.afterKeyset = true;
+        return this;
+    }
+
+    @Override
+    public DocumentNameOrder beforeKeyset(Object... keys) {
+        requireNonNull(keys, "keys is required");
+        this.keyset = keys;
+        this.afterKeyset = false;
+        return this;
+    }
+
+    @Override
+    public DocumentQueryBuild timeout(Duration timeout) {
+        requireNonNull(timeout, "timeout is required");
+        if (timeout.isZero() || timeout.isNegative()) {
+            throw new IllegalArgumentException("The timeout should be positive, timeout: " + timeout);
+        }
+        this.timeout = timeout;
+        return this;
+    }
+
+    @Override
+    public DocumentQueryBuild hint(String name, Object value) {
+        requireNonNull(name, "name is required");
+        requireNonNull(value, "value is required");
+        this.hints.put(name, value);
+        return this;
+    }
+
     @Override
     public DocumentQuery build() {
-        return new DefaultDocumentQuery(limit, skip, documentCollection, documents, sorts, condition);
+        DocumentQuery query = new DefaultDocumentQuery(limit, skip, documentCollection, documents, sorts, condition,
+                timeout, hints);
+        if (keyset == null) {
+            return query;
+        }
+        return afterKeyset ? DocumentKeyset.after(query, keyset) : DocumentKeyset.before(query, keyset);
     }
 
     @Override
     public Stream<DocumentEntity> getResult(DocumentManager manager) {
         requireNonNull(manager, "manager is required");
-        return manager.select(this.build());
+        return DefaultDocumentQuery.select(manager, this.build());
     }
 
     @Override
@@ -50,12 +50,17 @@ import static java.util.stream.Collectors.toList;
  */
 public class DocumentEntity {
 
-    private final Map<String, Document> documents = new HashMap<>();
+    private final Map<String, Document> documents;
 
     private final String name;
 
     DocumentEntity(String name) {
+        this(name, new HashMap<>());
+    }
+
+    private DocumentEntity(String name, Map<String, Document> documents) {
         this.name = name;
+        this.documents = documents;
     }
 
     /**
@@ -211,9 +216,7 @@ public class DocumentEntity {
      * @return an instance copy
      */
     public DocumentEntity copy() {
-        DocumentEntity entity = new DocumentEntity(this.name);
-        entity.documents.putAll(new HashMap<>(this.documents));
-        return entity;
+        return new DocumentEntity(this.name, new HashMap<>(this.documents));
     }
 
     /**
@@ -331,7 +334,8 @@ public class DocumentEntity {
      */
     public static DocumentEntity of(String name, List<Document> documents) {
         requireNonNull(documents, "documents is required");
-        DocumentEntity entity = new DocumentEntity(requireNonNull(name, "name is required"));
+        DocumentEntity entity = new DocumentEntity(requireNonNull(name, "name is required"),
+                new HashMap<>(documents.size() * 4 / 3 + 1));
         entity.addAll(documents);
         return entity;
     }
@@ -18,12 +18,16 @@ package org.eclipse.jnosql.communication.document;
 
 
 import jakarta.data.exceptions.NonUniqueResultException;
+import org.eclipse.jnosql.communication.Cancellation;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.QueryHints;
 
 import java.time.Duration;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -52,6 +56,10 @@ public final class DocumentPreparedStatement {
 
     private final DocumentManager manager;
 
+    private Duration timeout;
+
+    private final Map<String, Object> hints = new LinkedHashMap<>();
+
     private DocumentPreparedStatement(DocumentEntity entity,
                                       DocumentQuery documentQuery,
                                       DocumentDeleteQuery documentDeleteQuery,
@@ -89,6 +97,39 @@ public final class DocumentPreparedStatement {
         return this;
     }
 
+    /**
+     * Defines a hint of a select statement, such as {@link QueryHints#FETCH_SIZE}, it is propagated untouched
+     * to the driver and replaces the hint of the query with the same name.
+     *
+     * @param name  the hint name
+     * @param value the hint value
+     * @return the same query instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    public DocumentPreparedStatement hint(String name, Object value) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(value, "value is required");
+        hints.put(name, value);
+        return this;
+    }
+
+    /**
+     * Defines the maximum time to run a select statement, it replaces the timeout of the query.
+     *
+     * @param timeout the timeout
+     * @return the same query instance
+     * @throws NullPointerException     when timeout is null
+     * @throws IllegalArgumentException when timeout is either zero or negative
+     */
+    public DocumentPreparedStatement timeout(Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout is required");
+        if (timeout.isZero() || timeout.isNegative()) {
+            throw new IllegalArgumentException("The timeout should be positive, timeout: " + timeout);
+        }
+        this.timeout = timeout;
+        return this;
+    }
+
     /**
      * Executes a query and return the result as {@link Stream}
      *
@@ -100,7 +141,11 @@ public final class DocumentPreparedStatement {
         }
         switch (type) {
             case SELECT:
-                return manager.select(documentQuery);
+                DocumentQuery select = hints.isEmpty() ? documentQuery : DefaultDocumentQuery.of(documentQuery, hints);
+                if (Objects.isNull(timeout)) {
+                    return DefaultDocumentQuery.select(manager, select);
+                }
+                return Cancellation.stream(timeout, c -> manager.select(select, c));
             case DELETE:
                 manager.delete(documentDeleteQuery);
                 return Stream.empty();
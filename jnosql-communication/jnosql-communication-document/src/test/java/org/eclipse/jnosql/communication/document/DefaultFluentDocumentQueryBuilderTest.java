@@ -17,15 +17,20 @@
 package org.eclipse.jnosql.communication.document;
 
 import org.assertj.core.api.Assertions;
+import org.eclipse.jnosql.communication.Cancellation;
 import org.eclipse.jnosql.communication.Condition;
 import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -334,6 +339,42 @@ public class DefaultFluentDocumentQueryBuilderTest {
         checkQuery(queryCaptor, collection);
     }
 
+    @Test
+    public void shouldSelectTimeout() {
+        String name = "name";
+        DocumentQuery query = select().from(name).timeout(Duration.ofSeconds(2)).build();
+        assertEquals(Duration.ofSeconds(2), query.timeout().orElseThrow());
+        assertEquals(select().from(name).build(), query);
+        assertThrows(NullPointerException.class, () -> select().from(name).timeout(null));
+        assertThrows(IllegalArgumentException.class, () -> select().from(name).timeout(Duration.ZERO));
+    }
+
+    @Test
+    public void shouldSelectHints() {
+        DocumentQuery query = select().from("name").hint(QueryHints.FETCH_SIZE, 100)
+                .hint(QueryHints.READ_CONSISTENCY, "ONE").build();
+        assertEquals(Map.of(QueryHints.FETCH_SIZE, 100, QueryHints.READ_CONSISTENCY, "ONE"), query.hints());
+        assertEquals(select().from("name").build(), query);
+
+        DocumentQuery hinted = DocumentQuery.withHints(query, Map.of(QueryHints.READ_CONSISTENCY, "QUORUM"));
+        assertEquals(Map.of(QueryHints.FETCH_SIZE, 100, QueryHints.READ_CONSISTENCY, "QUORUM"), hinted.hints());
+        assertEquals(Map.of(QueryHints.FETCH_SIZE, 100), select().from("name").hint(QueryHints.FETCH_SIZE, 100)
+                .build().hints());
+    }
+
+    @Test
+    public void shouldExecuteManagerWithTimeout() {
+        DocumentManager manager = Mockito.mock(DocumentManager.class);
+        DocumentEntity entity = DocumentEntity.of("name");
+        Mockito.when(manager.select(Mockito.any(DocumentQuery.class))).thenReturn(Stream.of(entity));
+        Mockito.when(manager.select(Mockito.any(DocumentQuery.class), Mockito.any(Cancellation.class)))
+                .thenCallRealMethod();
+        try (Stream<DocumentEntity> entities = select().from("name").timeout(Duration.ofSeconds(10)).getResult(manager)) {
+            assertEquals(List.of(entity), entities.collect(Collectors.toList()));
+        }
+        Mockito.verify(manager).select(Mockito.any(DocumentQuery.class), Mockito.any(Cancellation.class));
+    }
+
     private void checkQuery(ArgumentCaptor<DefaultDocumentQuery> queryCaptor, String collection) {
         DocumentQuery query = queryCaptor.getValue();
         assertTrue(query.documents().isEmpty());
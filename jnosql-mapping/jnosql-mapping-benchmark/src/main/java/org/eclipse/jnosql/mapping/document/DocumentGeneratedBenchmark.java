@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.document;
+
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the conversion of the wide entity of {@link DocumentReadBenchmark} into a {@link DocumentEntity} with and
+ * without the generated accessors, {@link MappingConfigurations#CONVERTER_GENERATED}. The setting is read when the converter is created, thus,
+ * each value runs at its own fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DocumentGeneratedBenchmark {
+
+    private static final int FIELDS = 120;
+
+    @Param({"false", "true"})
+    private String generated;
+
+    private WeldContainer container;
+
+    private DocumentEntityConverter converter;
+
+    private Object instance;
+
+    @Setup
+    public void setUp() {
+        System.setProperty(MappingConfigurations.CONVERTER_GENERATED.get(), generated);
+        this.container = new Weld().disableDiscovery()
+                .addExtension(new EntityMetadataExtension())
+                .addPackages(false, Converters.class, Reflections.class)
+                .initialize();
+        EntitiesMetadata entities = container.select(EntitiesMetadata.class).get();
+        Converters converters = container.select(Converters.class).get();
+        this.converter = new DocumentEntityConverter() {
+            @Override
+            protected EntitiesMetadata getEntities() {
+                return entities;
+            }
+
+            @Override
+            protected Converters getConverters() {
+                return converters;
+            }
+        };
+        DocumentEntity entity = DocumentEntity.of("Wide");
+        entity.add(Document.of("_id", "id"));
+        for (int index = 0; index < FIELDS; index++) {
+            entity.add(Document.of("field" + index, index % 2 == 0 ? "value" + index : index));
+        }
+        this.instance = converter.toEntity(entity);
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+        System.clearProperty(MappingConfigurations.CONVERTER_GENERATED.get());
+    }
+
+    @Benchmark
+    public Object toDocument() {
+        return converter.toDocument(instance);
+    }
+}
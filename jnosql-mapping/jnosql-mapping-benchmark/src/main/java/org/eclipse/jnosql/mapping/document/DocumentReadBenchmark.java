@@ -0,0 +1,470 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.document;
+
+import jakarta.nosql.Column;
+import jakarta.nosql.Entity;
+import jakarta.nosql.Id;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of a {@link DocumentEntity} into a wide entity, with 120 fields, and the projection of two
+ * of those fields. Run it before and after a change at the read path of the converter to compare them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DocumentReadBenchmark {
+
+    private static final int FIELDS = 120;
+
+    private WeldContainer container;
+
+    private DocumentEntityConverter converter;
+
+    private DocumentEntity entity;
+
+    @Setup
+    public void setUp() {
+        this.container = new Weld().disableDiscovery()
+                .addExtension(new EntityMetadataExtension())
+                .addPackages(false, Converters.class, Reflections.class)
+                .initialize();
+        EntitiesMetadata entities = container.select(EntitiesMetadata.class).get();
+        Converters converters = container.select(Converters.class).get();
+        this.converter = new DocumentEntityConverter() {
+            @Override
+            protected EntitiesMetadata getEntities() {
+                return entities;
+            }
+
+            @Override
+            protected Converters getConverters() {
+                return converters;
+            }
+        };
+        this.entity = DocumentEntity.of("Wide");
+        entity.add(Document.of("_id", "id"));
+        for (int index = FIELDS - 1; index >= 0; index--) {
+            entity.add(Document.of("field" + index, index % 2 == 0 ? "value" + index : index));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public Object toEntity() {
+        return converter.toEntity(entity);
+    }
+
+    @Benchmark
+    public Object toEntityProjection() {
+        return converter.toEntity(entity, List.of("field0", "field1"));
+    }
+
+    @Entity
+    public static class Wide {
+
+        @Id
+        private String id;
+
+        @Column
+        private String field0;
+
+        @Column
+        private int field1;
+
+        @Column
+        private String field2;
+
+        @Column
+        private int field3;
+
+        @Column
+        private String field4;
+
+        @Column
+        private int field5;
+
+        @Column
+        private String field6;
+
+        @Column
+        private int field7;
+
+        @Column
+        private String field8;
+
+        @Column
+        private int field9;
+
+        @Column
+        private String field10;
+
+        @Column
+        private int field11;
+
+        @Column
+        private String field12;
+
+        @Column
+        private int field13;
+
+        @Column
+        private String field14;
+
+        @Column
+        private int field15;
+
+        @Column
+        private String field16;
+
+        @Column
+        private int field17;
+
+        @Column
+        private String field18;
+
+        @Column
+        private int field19;
+
+        @Column
+        private String field20;
+
+        @Column
+        private int field21;
+
+        @Column
+        private String field22;
+
+        @Column
+        private int field23;
+
+        @Column
+        private String field24;
+
+        @Column
+        private int field25;
+
+        @Column
+        private String field26;
+
+        @Column
+        private int field27;
+
+        @Column
+        private String field28;
+
+        @Column
+        private int field29;
+
+        @Column
+        private String field30;
+
+        @Column
+        private int field31;
+
+        @Column
+        private String field32;
+
+        @Column
+        private int field33;
+
+        @Column
+        private String field34;
+
+        @Column
+        private int field35;
+
+        @Column
+        private String field36;
+
+        @Column
+        private int field37;
+
+        @Column
+        private String field38;
+
+        @Column
+        private int field39;
+
+        @Column
+        private String field40;
+
+        @Column
+        private int field41;
+
+        @Column
+        private String field42;
+
+        @Column
+        private int field43;
+
+        @Column
+        private String field44;
+
+        @Column
+        private int field45;
+
+        @Column
+        private String field46;
+
+        @Column
+        private int field47;
+
+        @Column
+        private String field48;
+
+        @Column
+        private int field49;
+
+        @Column
+        private String field50;
+
+        @Column
+        private int field51;
+
+        @Column
+        private String field52;
+
+        @Column
+        private int field53;
+
+        @Column
+        private String field54;
+
+        @Column
+        private int field55;
+
+        @Column
+        private String field56;
+
+        @Column
+        private int field57;
+
+        @Column
+        private String field58;
+
+        @Column
+        private int field59;
+
+        @Column
+        private String field60;
+
+        @Column
+        private int field61;
+
+        @Column
+        private String field62;
+
+        @Column
+        private int field63;
+
+        @Column
+        private String field64;
+
+        @Column
+        private int field65;
+
+        @Column
+        private String field66;
+
+        @Column
+        private int field67;
+
+        @Column
+        private String field68;
+
+        @Column
+        private int field69;
+
+        @Column
+        private String field70;
+
+        @Column
+        private int field71;
+
+        @Column
+        private String field72;
+
+        @Column
+        private int field73;
+
+        @Column
+        private String field74;
+
+        @Column
+        private int field75;
+
+        @Column
+        private String field76;
+
+        @Column
+        private int field77;
+
+        @Column
+        private String field78;
+
+        @Column
+        private int field79;
+
+        @Column
+        private String field80;
+
+        @Column
+        private int field81;
+
+        @Column
+        private String field82;
+
+        @Column
+        private int field83;
+
+        @Column
+        private String field84;
+
+        @Column
+        private int field85;
+
+        @Column
+        private String field86;
+
+        @Column
+        private int field87;
+
+        @Column
+        private String field88;
+
+        @Column
+        private int field89;
+
+        @Column
+        private String field90;
+
+        @Column
+        private int field91;
+
+        @Column
+        private String field92;
+
+        @Column
+        private int field93;
+
+        @Column
+        private String field94;
+
+        @Column
+        private int field95;
+
+        @Column
+        private String field96;
+
+        @Column
+        private int field97;
+
+        @Column
+        private String field98;
+
+        @Column
+        private int field99;
+
+        @Column
+        private String field100;
+
+        @Column
+        private int field101;
+
+        @Column
+        private String field102;
+
+        @Column
+        private int field103;
+
+        @Column
+        private String field104;
+
+        @Column
+        private int field105;
+
+        @Column
+        private String field106;
+
+        @Column
+        private int field107;
+
+        @Column
+        private String field108;
+
+        @Column
+        private int field109;
+
+        @Column
+        private String field110;
+
+        @Column
+        private int field111;
+
+        @Column
+        private String field112;
+
+        @Column
+        private int field113;
+
+        @Column
+        private String field114;
+
+        @Column
+        private int field115;
+
+        @Column
+        private String field116;
+
+        @Column
+        private int field117;
+
+        @Column
+        private String field118;
+
+        @Column
+        private int field119;
+    }
+}
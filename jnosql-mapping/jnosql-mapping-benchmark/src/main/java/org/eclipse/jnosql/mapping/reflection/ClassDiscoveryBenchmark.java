@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+import jakarta.nosql.Entity;
+import jakarta.nosql.Id;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the startup cost of finding the entities: the previous full classpath scan with all the information,
+ * the annotation only scan, the package scoped scan and the index generated at build time.
+ * Each iteration is a single shot in a fresh fork, which is the cost at the application startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ClassDiscoveryBenchmark {
+
+    @Benchmark
+    public Object scanAllInfo() {
+        try (ScanResult result = new ClassGraph().enableAllInfo().scan()) {
+            return result.getClassesWithAnnotation(Entity.class).loadClasses();
+        }
+    }
+
+    @Benchmark
+    public Object scanAnnotations() {
+        return ClassDiscovery.scan(List.of()).getEntities();
+    }
+
+    @Benchmark
+    public Object scanPackage() {
+        return ClassDiscovery.scan(List.of(ClassDiscoveryBenchmark.class.getPackageName())).getEntities();
+    }
+
+    @Benchmark
+    public Object index() {
+        return ClassDiscovery.index(ClassDiscoveryBenchmark.class.getClassLoader()).orElseThrow().getEntities();
+    }
+
+    @Entity
+    public static class Sample {
+
+        @Id
+        private String id;
+    }
+}
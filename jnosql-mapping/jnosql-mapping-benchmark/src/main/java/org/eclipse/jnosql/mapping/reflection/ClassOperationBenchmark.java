@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link ReflectionClassOperation} with the {@link MethodHandleClassOperation} creating a typical
+ * entity and writing and reading all of its fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ClassOperationBenchmark {
+
+    @Param({"reflection", "methodHandle"})
+    private String operation;
+
+    private InstanceSupplier supplier;
+
+    private FieldWriter[] writers;
+
+    private FieldReader[] readers;
+
+    private Object[] values;
+
+    private Book book;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Reflections reflections = new Reflections();
+        ClassOperation classOperation = "reflection".equals(operation) ? new ReflectionClassOperation(reflections)
+                : new MethodHandleClassOperation(reflections);
+        String[] names = {"id", "title", "author", "edition", "price", "tags"};
+        this.values = new Object[]{1L, "Effective Java", "Joshua Bloch", 3, 45.5D, List.of("java", "jvm")};
+        this.writers = new FieldWriter[names.length];
+        this.readers = new FieldReader[names.length];
+        for (int index = 0; index < names.length; index++) {
+            Field field = Book.class.getDeclaredField(names[index]);
+            reflections.makeAccessible(field);
+            writers[index] = classOperation.getFieldWriterFactory().apply(field);
+            readers[index] = classOperation.getFieldReaderFactory().apply(field);
+        }
+        Constructor<Book> constructor = Book.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        this.supplier = classOperation.getInstanceSupplierFactory().apply(constructor);
+        this.book = (Book) create();
+    }
+
+    @Benchmark
+    public Object create() {
+        Object entity = supplier.get();
+        for (int index = 0; index < writers.length; index++) {
+            writers[index].write(entity, values[index]);
+        }
+        return entity;
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) {
+        for (FieldReader reader : readers) {
+            blackhole.consume(reader.read(book));
+        }
+    }
+
+    static class Book {
+
+        private long id;
+
+        private String title;
+
+        private String author;
+
+        private int edition;
+
+        private double price;
+
+        private List<String> tags;
+
+        Book() {
+        }
+    }
+}
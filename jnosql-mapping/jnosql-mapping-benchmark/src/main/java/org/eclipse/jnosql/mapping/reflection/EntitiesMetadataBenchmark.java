@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.nosql.Column;
+import jakarta.nosql.Entity;
+import jakarta.nosql.Id;
+import org.eclipse.jnosql.mapping.DiscriminatorColumn;
+import org.eclipse.jnosql.mapping.DiscriminatorValue;
+import org.eclipse.jnosql.mapping.Inheritance;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the metadata lookups that the converters run for each row of an inheritance mapped entity: the entity
+ * by the row name, the parent group by discriminator value and the subclass metadata.
+ * The scan benchmark is the previous implementation, which streams over all the entities for each row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EntitiesMetadataBenchmark {
+
+    private static final List<String> ROWS = List.of("Car", "Truck", "Bike", "Vehicle");
+
+    private WeldContainer container;
+
+    private EntitiesMetadata entities;
+
+    private Collection<EntityMetadata> values;
+
+    @Setup
+    public void setUp() {
+        this.container = new Weld().disableDiscovery()
+                .addExtension(new EntityMetadataExtension())
+                .addBeanClasses(DefaultEntitiesMetadata.class, ClassConverter.class, Reflections.class)
+                .initialize();
+        this.entities = container.select(EntitiesMetadata.class).get();
+        this.entities.warmUp();
+        this.values = container.select(EntityMetadataExtension.class).get().getClasses().values();
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public void indexed(Blackhole blackhole) {
+        for (String discriminator : ROWS) {
+            EntityMetadata mapping = entities.findByName("vehicle");
+            Map<String, InheritanceMetadata> group = entities.findByParentGroupByDiscriminatorValue(mapping.getType());
+            blackhole.consume(entities.get(group.get(discriminator).getEntity()));
+        }
+    }
+
+    @Benchmark
+    public void scan(Blackhole blackhole) {
+        for (String discriminator : ROWS) {
+            EntityMetadata mapping = values.stream().filter(EntityMetadata::hasEntityName)
+                    .filter(e -> e.getName().equalsIgnoreCase("vehicle"))
+                    .findFirst().orElseThrow();
+            Map<String, InheritanceMetadata> group = values.stream()
+                    .flatMap(c -> c.getInheritance().stream())
+                    .filter(p -> p.isParent(mapping.getType()))
+                    .collect(Collectors.toMap(InheritanceMetadata::getDiscriminatorValue, Function.identity()));
+            blackhole.consume(entities.get(group.get(discriminator).getEntity()));
+        }
+    }
+
+    @Entity
+    @Inheritance
+    @DiscriminatorColumn("type")
+    public static class Vehicle {
+
+        @Id
+        private String id;
+
+        @Column
+        private String model;
+    }
+
+    @Entity
+    @DiscriminatorValue("Car")
+    public static class Car extends Vehicle {
+
+        @Column
+        private int doors;
+    }
+
+    @Entity
+    @DiscriminatorValue("Truck")
+    public static class Truck extends Vehicle {
+
+        @Column
+        private double load;
+    }
+
+    @Entity
+    @DiscriminatorValue("Bike")
+    public static class Bike extends Vehicle {
+
+        @Column
+        private boolean electric;
+    }
+}
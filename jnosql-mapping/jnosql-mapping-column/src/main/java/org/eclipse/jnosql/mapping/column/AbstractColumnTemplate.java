@@ -19,23 +19,37 @@ import jakarta.data.exceptions.NonUniqueResultException;
 import jakarta.nosql.PreparedStatement;
 import jakarta.nosql.QueryMapper;
 import jakarta.nosql.column.ColumnTemplate;
+import org.eclipse.jnosql.communication.Cancellation;
+import org.eclipse.jnosql.communication.column.Column;
 import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
 import org.eclipse.jnosql.communication.column.ColumnEntity;
 import org.eclipse.jnosql.communication.column.ColumnManager;
 import org.eclipse.jnosql.communication.column.ColumnObserverParser;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
 import org.eclipse.jnosql.communication.column.ColumnQueryParser;
+import org.eclipse.jnosql.mapping.CacheStatistics;
+import org.eclipse.jnosql.mapping.ChangeTracker;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.EntityCache;
+import org.eclipse.jnosql.mapping.EntityCaches;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.IdentityMap;
+import org.eclipse.jnosql.mapping.SecondLevelCache;
+import org.eclipse.jnosql.mapping.UnitOfWork;
+import org.eclipse.jnosql.mapping.config.QueryTimeout;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
 import org.eclipse.jnosql.mapping.reflection.FieldMapping;
 import org.eclipse.jnosql.mapping.util.ConverterUtil;
 
 import java.time.Duration;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -63,10 +77,30 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
 
     protected abstract Converters getConverters();
 
+    /**
+     * Returns the second-level caches of the entities annotated with {@link org.eclipse.jnosql.mapping.Cacheable}, by
+     * default, they are kept at this template; the templates of the container share the ones of the application per
+     * manager, thus, templates on different databases do not read each other entities.
+     *
+     * @return the caches
+     * @see SecondLevelCache
+     */
+    protected EntityCaches<ColumnEntity> getCaches() {
+        return caches;
+    }
+
     private final UnaryOperator<ColumnEntity> insert = e -> getManager().insert(e);
 
     private final UnaryOperator<ColumnEntity> update = e -> getManager().update(e);
 
+    private final boolean tracking = ChangeTracker.isEnabled();
+
+    private final Duration defaultTimeout = QueryTimeout.get().orElse(null);
+
+    private final ChangeTracker<ColumnEntity> tracker = new ChangeTracker<>();
+
+    private final EntityCaches<ColumnEntity> caches = new EntityCaches<>();
+
     private ColumnObserverParser observer;
 
 
@@ -80,7 +114,7 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
     @Override
     public <T> T insert(T entity) {
         requireNonNull(entity, "entity is required");
-        return getFlow().flow(entity, insert);
+        return invalidate(getFlow().flow(entity, insert));
     }
 
 
@@ -88,43 +122,48 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
     public <T> T insert(T entity, Duration ttl) {
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
-        return getFlow().flow(entity, e -> getManager().insert(e, ttl));
+        return invalidate(getFlow().flow(entity, e -> getManager().insert(e, ttl)));
     }
 
 
     @Override
     public <T> T update(T entity) {
         requireNonNull(entity, "entity is required");
-        return getFlow().flow(entity, update);
+        if (tracking) {
+            return invalidate(getFlow().flow(entity, e -> update(entity, e)));
+        }
+        return invalidate(getFlow().flow(entity, update));
     }
 
     @Override
     public <T> Iterable<T> update(Iterable<T> entities) {
         requireNonNull(entities, "entity is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        if (tracking) {
+            return StreamSupport.stream(entities.spliterator(), false)
+                    .map(this::update).collect(Collectors.toList());
+        }
+        return invalidate(getFlow().flowAll(entities, getManager()::update));
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        return invalidate(getFlow().flowAll(entities, e -> getManager().insert(e)));
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
         requireNonNull(entities, "entities is required");
         requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(e -> insert(e, ttl))
-                .collect(Collectors.toList());
+        return invalidate(getFlow().flowAll(entities, e -> getManager().insert(e, ttl)));
     }
 
     @Override
     public void delete(ColumnDeleteQuery query) {
         requireNonNull(query, "query is required");
         getEventManager().firePreDeleteQuery(query);
+        identityMap().ifPresent(m -> m.evict(query.name()));
+        getCaches().evict(query.name());
         getManager().delete(query);
     }
 
@@ -137,7 +176,38 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
 
     @Override
     public long count(ColumnQuery query) {
-        return getManager().count(query);
+        Optional<Duration> timeout = timeout(query);
+        if (timeout.isEmpty()) {
+            return getManager().count(query);
+        }
+        try (Cancellation cancellation = Cancellation.of(timeout.get())) {
+            return getManager().count(query, cancellation);
+        }
+    }
+
+    @Override
+    public <T> Stream<T> parallelSelect(ColumnQuery query, int parallelism) {
+        requireNonNull(query, "query is required");
+        getEventManager().firePreQuery(query);
+        Stream<ColumnEntity> entities = getManager().parallelSelect(query, parallelism);
+        Function<ColumnEntity, T> function = e -> track(getConverter().toEntity(e, query.columns()));
+        return entities.map(function).peek(getEventManager()::firePostEntity);
+    }
+
+    @Override
+    public <T> Stream<T> select(ColumnQuery query, Cancellation cancellation) {
+        requireNonNull(query, "query is required");
+        requireNonNull(cancellation, "cancellation is required");
+        getEventManager().firePreQuery(query);
+        boolean entire = query.columns().isEmpty();
+        long generation = entire ? getCaches().generation() : 0L;
+        Stream<ColumnEntity> entities = getManager().select(query, cancellation);
+        Optional<IdentityMap> identityMap = entire ? identityMap() : Optional.empty();
+        Function<ColumnEntity, T> function = e -> {
+            T loaded = cache(entire, generation, e, getConverter().toEntity(e, query.columns()));
+            return track(loaded, identity(identityMap, loaded));
+        };
+        return entities.map(function).peek(getEventManager()::firePostEntity);
     }
 
     @Override
@@ -172,6 +242,17 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
                 .orElseThrow(() -> IdNotFoundException.newInstance(type));
 
         Object value = ConverterUtil.getValue(id, entityMetadata, idField.getFieldName(), getConverters());
+        Optional<T> entity = identityMap().flatMap(m -> m.get(entityMetadata.getName(), value, type));
+        if (entity.isPresent()) {
+            return entity;
+        }
+        Optional<ColumnEntity> cached = getCaches().get(entityMetadata).flatMap(c -> c.get(value));
+        if (cached.isPresent()) {
+            T loaded = getConverter().toEntity(cached.get());
+            T hit = track(loaded, identity(identityMap(), loaded));
+            getEventManager().firePostEntity(hit);
+            return Optional.of(hit);
+        }
         ColumnQuery query = ColumnQuery.select().from(entityMetadata.getName())
                 .where(idField.getName()).eq(value).build();
 
@@ -190,6 +271,8 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
 
         ColumnDeleteQuery query = ColumnDeleteQuery.delete().from(entityMetadata.getName())
                 .where(idField.getName()).eq(value).build();
+        identityMap().ifPresent(m -> m.remove(entityMetadata.getName(), value));
+        getCaches().get(entityMetadata).ifPresent(c -> c.remove(value));
         getManager().delete(query);
     }
 
@@ -197,7 +280,11 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
     @Override
     public <T> Stream<T> query(String query) {
         requireNonNull(query, "query is required");
-        return PARSER.query(query, getManager(), getObserver()).map(c -> (T) getConverter().toEntity(c));
+        if (!isSelect(query)) {
+            identityMap().ifPresent(IdentityMap::clear);
+            getCaches().clear();
+        }
+        return PARSER.query(query, getManager(), getObserver()).map(c -> this.<T>track(getConverter().toEntity(c)));
     }
 
     @Override
@@ -217,7 +304,25 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
 
     @Override
     public PreparedStatement prepare(String query) {
-        return new ColumnPreparedStatement(PARSER.prepare(query, getManager(), getObserver()), getConverter());
+        org.eclipse.jnosql.communication.column.ColumnPreparedStatement statement =
+                PARSER.prepare(query, getManager(), getObserver());
+        if (defaultTimeout != null) {
+            statement.timeout(defaultTimeout);
+        }
+        return new ColumnPreparedStatement(statement, getConverter());
+    }
+
+    @Override
+    public PreparedStatement prepare(String query, Map<String, Object> hints) {
+        requireNonNull(query, "query is required");
+        requireNonNull(hints, "hints is required");
+        org.eclipse.jnosql.communication.column.ColumnPreparedStatement statement =
+                PARSER.prepare(query, getManager(), getObserver());
+        if (defaultTimeout != null) {
+            statement.timeout(defaultTimeout);
+        }
+        hints.forEach(statement::hint);
+        return new ColumnPreparedStatement(statement, getConverter());
     }
 
 
@@ -237,11 +342,144 @@ public abstract class AbstractColumnTemplate implements JNoSQLColumnTemplate {
     private <T> Stream<T> executeQuery(ColumnQuery query) {
         requireNonNull(query, "query is required");
         getEventManager().firePreQuery(query);
-        Stream<ColumnEntity> entities = getManager().select(query);
-        Function<ColumnEntity, T> function = e -> getConverter().toEntity(e);
+        boolean entire = query.columns().isEmpty();
+        long generation = entire ? getCaches().generation() : 0L;
+        Optional<Duration> timeout = timeout(query);
+        Stream<ColumnEntity> entities = timeout
+                .map(t -> Cancellation.stream(t, c -> getManager().select(query, c)))
+                .orElseGet(() -> getManager().select(query));
+        Optional<IdentityMap> identityMap = entire ? identityMap() : Optional.empty();
+        Function<ColumnEntity, T> function = e -> {
+            T loaded = cache(entire, generation, e, getConverter().toEntity(e, query.columns()));
+            return track(loaded, identity(identityMap, loaded));
+        };
         return entities.map(function).peek(getEventManager()::firePostEntity);
     }
 
+    @Override
+    public Map<String, CacheStatistics> cacheStatistics() {
+        return getCaches().statistics();
+    }
+
+    /**
+     * Returns the {@link UnitOfWork} of the current thread, the templates of a CDI container override it to also
+     * resolve the one of the current request.
+     *
+     * @return the {@link UnitOfWork} or {@link Optional#empty()} when there is none
+     */
+    protected Optional<UnitOfWork> getUnitOfWork() {
+        return UnitOfWork.current();
+    }
+
+    private Optional<IdentityMap> identityMap() {
+        return getUnitOfWork().map(u -> u.identityMap(this));
+    }
+
+    /**
+     * Returns the entity already loaded at the {@link UnitOfWork} with the same id, if any, otherwise it keeps the
+     * entity at the identity map
+     */
+    private <T> T identity(Optional<IdentityMap> identityMap, T entity) {
+        if (identityMap.isEmpty()) {
+            return entity;
+        }
+        EntityMetadata metadata = getEntities().get(entity.getClass());
+        return id(metadata, entity).map(id -> identityMap.get().putIfAbsent(metadata.getName(), id, entity))
+                .orElse(entity);
+    }
+
+    /**
+     * Keeps the column entity at the second-level cache, when the entity is {@link org.eclipse.jnosql.mapping.Cacheable}
+     * and the query has read the entire entity, unless a write has invalidated the cache since the generation was taken
+     */
+    private <T> T cache(boolean entire, long generation, ColumnEntity column, T entity) {
+        if (entire) {
+            EntityMetadata metadata = getEntities().get(entity.getClass());
+            getCaches().get(metadata).ifPresent(c -> id(metadata, entity).ifPresent(id -> c.put(id, column.copy(), generation)));
+        }
+        return entity;
+    }
+
+    private <T> List<T> invalidate(List<T> entities) {
+        entities.forEach(this::invalidate);
+        return entities;
+    }
+
+    private <T> T invalidate(T entity) {
+        EntityMetadata metadata = getEntities().get(entity.getClass());
+        Optional<IdentityMap> identityMap = identityMap();
+        Optional<EntityCache<ColumnEntity>> cache = getCaches().get(metadata);
+        if (identityMap.isPresent() || cache.isPresent()) {
+            id(metadata, entity).ifPresent(id -> {
+                identityMap.ifPresent(m -> m.remove(metadata.getName(), id));
+                cache.ifPresent(c -> c.remove(id));
+            });
+        }
+        return entity;
+    }
+
+    private static boolean isSelect(String query) {
+        return query.stripLeading().regionMatches(true, 0, "select", 0, 6);
+    }
+
+    private Optional<Object> id(EntityMetadata metadata, Object entity) {
+        return metadata.getId().flatMap(id -> Optional.ofNullable(id.read(entity))
+                .map(value -> ConverterUtil.getValue(value, metadata, id.getFieldName(), getConverters())));
+    }
+
+    private <T> T track(T entity) {
+        return track(entity, entity);
+    }
+
+    /**
+     * Keeps the snapshot of the loaded entity for the entity returned to the caller, which is either the same
+     * instance or the one already at the identity map. The snapshot comes from the converter, as the columns of an
+     * update do, thus, both sides of the comparison have the same value types.
+     */
+    private <T> T track(Object loaded, T entity) {
+        if (tracking) {
+            tracker.track(entity, getConverter().toColumn(loaded));
+        }
+        return entity;
+    }
+
+    /**
+     * Sends only the columns that have changed since the entity was loaded; when there is no change, it does not
+     * reach the database, and when a column was removed, it updates the whole entity.
+     */
+    private ColumnEntity update(Object entity, ColumnEntity column) {
+        Optional<Set<String>> changes = tracker.get(entity).flatMap(snapshot -> changes(snapshot, column));
+        ColumnEntity updated;
+        if (changes.isEmpty()) {
+            updated = getManager().update(column);
+        } else if (changes.get().isEmpty()) {
+            updated = column;
+        } else {
+            updated = getManager().update(column, changes.get());
+        }
+        tracker.track(entity, column.copy());
+        return updated;
+    }
+
+    private static Optional<Set<String>> changes(ColumnEntity snapshot, ColumnEntity column) {
+        for (String name : snapshot.columnNames()) {
+            if (!column.contains(name)) {
+                return Optional.empty();
+            }
+        }
+        Set<String> changes = new HashSet<>();
+        for (Column current : column.columns()) {
+            if (snapshot.find(current.name()).filter(current::equals).isEmpty()) {
+                changes.add(current.name());
+            }
+        }
+        return Optional.of(changes);
+    }
+
+    private Optional<Duration> timeout(ColumnQuery query) {
+        return query.timeout().or(() -> Optional.ofNullable(defaultTimeout));
+    }
+
     @Override
     public <T> QueryMapper.MapperFrom select(Class<T> type) {
         Objects.requireNonNull(type, "type is required");
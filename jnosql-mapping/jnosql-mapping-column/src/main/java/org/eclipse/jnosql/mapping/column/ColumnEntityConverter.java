@@ -17,27 +17,25 @@ package org.eclipse.jnosql.mapping.column;
 import org.eclipse.jnosql.communication.column.Column;
 import org.eclipse.jnosql.communication.column.ColumnEntity;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.LazyList;
 import jakarta.data.exceptions.MappingException;
 import org.eclipse.jnosql.mapping.reflection.ConstructorBuilder;
 import org.eclipse.jnosql.mapping.reflection.ConstructorMetadata;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityAccessor;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
 import org.eclipse.jnosql.mapping.reflection.FieldMapping;
-import org.eclipse.jnosql.mapping.reflection.FieldValue;
 import org.eclipse.jnosql.mapping.reflection.InheritanceMetadata;
-import org.eclipse.jnosql.mapping.reflection.MappingType;
 import org.eclipse.jnosql.mapping.reflection.ParameterMetaData;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
-import static org.eclipse.jnosql.mapping.reflection.MappingType.EMBEDDED;
 import static org.eclipse.jnosql.mapping.reflection.MappingType.ENTITY;
 
 
@@ -46,6 +44,14 @@ import static org.eclipse.jnosql.mapping.reflection.MappingType.ENTITY;
  */
 public abstract class ColumnEntityConverter {
 
+    private final Map<Class<?>, ColumnReadPlan> readPlans = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, ColumnWritePlan> writePlans = new ConcurrentHashMap<>();
+
+    private final boolean generated = EntityAccessor.isEnabled();
+
+    private final boolean lazy = LazyList.isEnabled();
+
     protected abstract EntitiesMetadata getEntities();
 
     protected abstract Converters getConverters();
@@ -59,18 +65,9 @@ public abstract class ColumnEntityConverter {
      */
     public ColumnEntity toColumn(Object entity) {
         requireNonNull(entity, "entity is required");
-        EntityMetadata mapping = getEntities().get(entity.getClass());
-        ColumnEntity communication = ColumnEntity.of(mapping.getName());
-        mapping.getFields().stream()
-                .map(f -> to(f, entity))
-                .filter(FieldValue::isNotEmpty)
-                .map(f -> f.toColumn(this, getConverters()))
-                .flatMap(List::stream)
-                .forEach(communication::add);
-
-        mapping.getInheritance().ifPresent(i -> communication.add(i.getDiscriminatorColumn(),
-                i.getDiscriminatorValue()));
-        return communication;
+        ColumnWritePlan plan = writePlans.computeIfAbsent(entity.getClass(),
+                type -> ColumnWritePlan.of(getEntities().get(type), getConverters(), accessor(type)));
+        return plan.write(entity, this);
     }
 
     /**
@@ -115,15 +112,32 @@ public abstract class ColumnEntityConverter {
      * @throws NullPointerException when entity is null
      */
     public <T> T toEntity(ColumnEntity entity) {
+        return toEntity(entity, Collections.emptyList());
+    }
+
+    /**
+     * Similar to {@link ColumnEntityConverter#toEntity(ColumnEntity)}, but it only touches the
+     * fields of the projection, e.g. {@link org.eclipse.jnosql.communication.column.ColumnQuery#columns()},
+     * instead of walking through all the fields of the entity.
+     * When the projection is empty, it converts all the fields.
+     *
+     * @param entity     the {@link ColumnEntity} to be converted
+     * @param projection the columns names of the projection
+     * @param <T>        the entity type
+     * @return the instance from {@link ColumnEntity}
+     * @throws NullPointerException when there is a null parameter
+     */
+    public <T> T toEntity(ColumnEntity entity, List<String> projection) {
         requireNonNull(entity, "entity is required");
+        requireNonNull(projection, "projection is required");
         EntityMetadata mapping = getEntities().findByName(entity.name());
         if (mapping.isInheritance()) {
-            return mapInheritanceEntity(entity, mapping.getType());
+            return mapInheritanceEntity(entity, mapping.getType(), projection);
         }
         ConstructorMetadata constructor = mapping.getConstructor();
         if (constructor.isDefault()) {
             T instance = mapping.newInstance();
-            return convertEntity(entity.columns(), mapping, instance);
+            return convertEntity(entity.columns(), mapping, instance, projection);
         } else {
             return convertEntityByConstructor(entity.columns(), mapping);
         }
@@ -138,7 +152,7 @@ public abstract class ColumnEntityConverter {
         return (String k) -> {
             Optional<Column> column = columns.stream().filter(c -> c.name().equals(k)).findFirst();
             FieldMapping field = fieldsGroupByName.get(k);
-            FieldConverter fieldConverter = FieldConverter.get(field);
+            FieldConverter fieldConverter = FieldConverter.get(field, lazy);
             if (ENTITY.equals(field.getType())) {
                 column.ifPresent(c -> fieldConverter.convert(entity, c, field, this));
             } else {
@@ -163,35 +177,39 @@ public abstract class ColumnEntityConverter {
     }
 
     private <T> T convertEntityByConstructor(List<Column> columns, EntityMetadata mapping) {
-        ConstructorBuilder builder = ConstructorBuilder.of(mapping.getConstructor());
-        for (ParameterMetaData parameter : builder.getParameters()) {
-            Optional<Column> column = columns.stream()
-                    .filter(c -> c.name().equals(parameter.getName()))
-                    .findFirst();
-            column.ifPresentOrElse(c -> {
+        ConstructorMetadata constructor = mapping.getConstructor();
+        ConstructorBuilder builder = ConstructorBuilder.of(constructor);
+        List<ParameterMetaData> parameters = builder.getParameters();
+        Column[] values = new Column[parameters.size()];
+        for (Column column : columns) {
+            int index = constructor.indexOf(column.name());
+            if (index >= 0 && values[index] == null) {
+                values[index] = column;
+            }
+        }
+        for (int index = 0; index < values.length; index++) {
+            ParameterMetaData parameter = parameters.get(index);
+            if (values[index] == null) {
+                builder.addEmptyParameter();
+            } else {
                 ParameterConverter converter = ParameterConverter.of(parameter);
-                converter.convert(this, c, parameter, builder);
-            }, builder::addEmptyParameter);
+                converter.convert(this, values[index], parameter, builder);
+            }
         }
         return builder.build();
     }
 
     private <T> T convertEntity(List<Column> columns, EntityMetadata mapping, T instance) {
-        final Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
-        final List<String> names = columns.stream().map(Column::name).sorted().collect(Collectors.toList());
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            MappingType type = fieldsGroupByName.get(k).getType();
-            return EMBEDDED.equals(type) || ENTITY.equals(type);
-        };
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, columns, fieldsGroupByName));
+        return convertEntity(columns, mapping, instance, Collections.emptyList());
+    }
 
-        return instance;
+    private <T> T convertEntity(List<Column> columns, EntityMetadata mapping, T instance,
+                                List<String> projection) {
+        ColumnReadPlan plan = readPlans.computeIfAbsent(mapping.getType(), k -> ColumnReadPlan.of(mapping, lazy));
+        return plan.read(instance, columns, projection, this);
     }
 
-    private <T> T mapInheritanceEntity(ColumnEntity entity, Class<?> type) {
+    private <T> T mapInheritanceEntity(ColumnEntity entity, Class<?> type, List<String> projection) {
         Map<String, InheritanceMetadata> group = getEntities()
                 .findByParentGroupByDiscriminatorValue(type);
 
@@ -218,7 +236,7 @@ public abstract class ColumnEntityConverter {
         ConstructorMetadata constructor = mapping.getConstructor();
         if (constructor.isDefault()) {
             T instance = mapping.newInstance();
-            return convertEntity(entity.columns(), mapping, instance);
+            return convertEntity(entity.columns(), mapping, instance, projection);
         } else {
             return convertEntityByConstructor(entity.columns(), mapping);
         }
@@ -255,4 +273,11 @@ public abstract class ColumnEntityConverter {
         T instance = inheritanceMetadata.newInstance();
         return convertEntity(columns, inheritanceMetadata, instance);
     }
+
+    private EntityAccessor accessor(Class<?> type) {
+        if (!generated) {
+            return null;
+        }
+        return EntityAccessor.of(getEntities().get(type)).orElse(null);
+    }
 }
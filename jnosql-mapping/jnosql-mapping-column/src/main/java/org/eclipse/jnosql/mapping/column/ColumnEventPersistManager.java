@@ -18,8 +18,10 @@ package org.eclipse.jnosql.mapping.column;
 import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
 import org.eclipse.jnosql.communication.column.ColumnEntity;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
 import org.eclipse.jnosql.mapping.EntityPostPersist;
@@ -64,13 +66,52 @@ public class ColumnEventPersistManager {
     @Inject
     private Event<ColumnDeleteQueryExecute> columnDeleteQueryExecute;
 
+    @Inject
+    private BeanManager beanManager;
+
+    private boolean columnEntityPrePersistEventObserved = true;
+
+    private boolean columnEntityPostPersistEventObserved = true;
+
+    private boolean entityPrePersistEventObserved = true;
+
+    private boolean entityPostPersistEventObserved = true;
+
+    private boolean entityColumnPrePersistObserved = true;
+
+    private boolean entityColumnPostPersistObserved = true;
+
+    private boolean columnQueryExecuteObserved = true;
+
+    private boolean columnDeleteQueryExecuteObserved = true;
+
+    /**
+     * Resolves, once, which events have observers, thus, the events without observers are neither created nor
+     * fired.
+     */
+    @PostConstruct
+    void init() {
+        ColumnEntity entity = ColumnEntity.of("observer");
+        Object object = new Object();
+        this.columnEntityPrePersistEventObserved = isObserved(new ColumnEntityPrePersist(entity));
+        this.columnEntityPostPersistEventObserved = isObserved(new ColumnEntityPostPersist(entity));
+        this.entityPrePersistEventObserved = isObserved(EntityPrePersist.of(object));
+        this.entityPostPersistEventObserved = isObserved(EntityPostPersist.of(object));
+        this.entityColumnPrePersistObserved = isObserved(new EntityColumnPrePersist(object));
+        this.entityColumnPostPersistObserved = isObserved(new EntityColumnPostPersist(object));
+        this.columnQueryExecuteObserved = isObserved(new ColumnQueryExecute(ColumnQuery.select().from("observer").build()));
+        this.columnDeleteQueryExecuteObserved = isObserved(new ColumnDeleteQueryExecute(ColumnDeleteQuery.delete().from("observer").build()));
+    }
+
     /**
      * Fire an event after the conversion of the entity to communication API model.
      *
      * @param entity the entity
      */
     public void firePreColumn(ColumnEntity entity) {
-        columnEntityPrePersistEvent.fire(new ColumnEntityPrePersist(entity));
+        if (columnEntityPrePersistEventObserved) {
+            columnEntityPrePersistEvent.fire(new ColumnEntityPrePersist(entity));
+        }
     }
 
     /**
@@ -79,7 +120,9 @@ public class ColumnEventPersistManager {
      * @param entity the entity
      */
     public void firePostColumn(ColumnEntity entity) {
-        columnEntityPostPersistEvent.fire(new ColumnEntityPostPersist(entity));
+        if (columnEntityPostPersistEventObserved) {
+            columnEntityPostPersistEvent.fire(new ColumnEntityPostPersist(entity));
+        }
     }
 
     /**
@@ -89,7 +132,9 @@ public class ColumnEventPersistManager {
      * @param <T>    the entity type
      */
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (entityPrePersistEventObserved) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     /**
@@ -99,7 +144,9 @@ public class ColumnEventPersistManager {
      * @param <T>    the entity kind
      */
     public <T> void firePostEntity(T entity) {
-        entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        if (entityPostPersistEventObserved) {
+            entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        }
     }
 
     /**
@@ -109,7 +156,9 @@ public class ColumnEventPersistManager {
      * @param <T>    the entity type
      */
     public <T> void firePreColumnEntity(T entity) {
-        entityColumnPrePersist.fire(new EntityColumnPrePersist(entity));
+        if (entityColumnPrePersistObserved) {
+            entityColumnPrePersist.fire(new EntityColumnPrePersist(entity));
+        }
     }
 
     /**
@@ -119,7 +168,9 @@ public class ColumnEventPersistManager {
      * @param <T>    the entity kind
      */
     public <T> void firePostColumnEntity(T entity) {
-        entityColumnPostPersist.fire(new EntityColumnPostPersist(entity));
+        if (entityColumnPostPersistObserved) {
+            entityColumnPostPersist.fire(new EntityColumnPostPersist(entity));
+        }
     }
 
     /**
@@ -128,7 +179,9 @@ public class ColumnEventPersistManager {
      * @param query the query
      */
     public void firePreQuery(ColumnQuery query) {
-        columnQueryExecute.fire(new ColumnQueryExecute(query));
+        if (columnQueryExecuteObserved) {
+            columnQueryExecute.fire(new ColumnQueryExecute(query));
+        }
     }
 
     /**
@@ -137,6 +190,12 @@ public class ColumnEventPersistManager {
      * @param query the query
      */
     public void firePreDeleteQuery(ColumnDeleteQuery query) {
-        columnDeleteQueryExecute.fire(new ColumnDeleteQueryExecute(query));
+        if (columnDeleteQueryExecuteObserved) {
+            columnDeleteQueryExecute.fire(new ColumnDeleteQueryExecute(query));
+        }
+    }
+
+    private boolean isObserved(Object event) {
+        return !beanManager.resolveObserverMethods(event).isEmpty();
     }
 }
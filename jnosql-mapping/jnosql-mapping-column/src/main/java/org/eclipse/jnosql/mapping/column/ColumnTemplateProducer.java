@@ -19,11 +19,17 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Vetoed;
 import jakarta.inject.Inject;
 import jakarta.nosql.column.ColumnTemplate;
+import org.eclipse.jnosql.communication.column.ColumnEntity;
 import org.eclipse.jnosql.communication.column.ColumnManager;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.EntityCaches;
+import org.eclipse.jnosql.mapping.SecondLevelCache;
+import org.eclipse.jnosql.mapping.UnitOfWork;
+import org.eclipse.jnosql.mapping.UnitOfWorkResolver;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -48,11 +54,17 @@ public class ColumnTemplateProducer implements Function<ColumnManager, JNoSQLCol
     @Inject
     private Converters converters;
 
+    @Inject
+    private SecondLevelCache cache;
+
+    @Inject
+    private UnitOfWorkResolver units;
+
     @Override
     public JNoSQLColumnTemplate apply(ColumnManager manager) {
         Objects.requireNonNull(manager, "manager is required");
         return new ProducerColumnTemplate(converter, columnWorkflow, manager,
-                eventManager, entities, converters);
+                eventManager, entities, converters, cache.get(ColumnEntity.class, manager), units);
     }
 
 
@@ -71,17 +83,24 @@ public class ColumnTemplateProducer implements Function<ColumnManager, JNoSQLCol
 
         private Converters converters;
 
+        private EntityCaches<ColumnEntity> caches;
+
+        private UnitOfWorkResolver units;
+
         ProducerColumnTemplate(ColumnEntityConverter converter, ColumnWorkflow columnWorkflow,
                                ColumnManager manager,
                                ColumnEventPersistManager eventManager,
                                EntitiesMetadata entities,
-                               Converters converters) {
+                               Converters converters,
+                               EntityCaches<ColumnEntity> caches, UnitOfWorkResolver units) {
             this.converter = converter;
             this.columnWorkflow = columnWorkflow;
             this.manager = manager;
             this.eventManager = eventManager;
             this.entities = entities;
             this.converters = converters;
+            this.caches = caches;
+            this.units = units;
         }
 
         ProducerColumnTemplate() {
@@ -116,5 +135,15 @@ public class ColumnTemplateProducer implements Function<ColumnManager, JNoSQLCol
         protected Converters getConverters() {
             return converters;
         }
+
+        @Override
+        protected EntityCaches<ColumnEntity> getCaches() {
+            return caches;
+        }
+
+        @Override
+        protected Optional<UnitOfWork> getUnitOfWork() {
+            return units.current();
+        }
     }
 }
@@ -15,7 +15,11 @@
 package org.eclipse.jnosql.mapping.column;
 
 import org.eclipse.jnosql.communication.column.ColumnEntity;
+import org.eclipse.jnosql.mapping.config.BatchSize;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -34,6 +38,8 @@ import java.util.function.UnaryOperator;
  */
 public abstract class ColumnWorkflow {
 
+    private final int batchSize = BatchSize.get().orElse(Integer.MAX_VALUE);
+
     protected abstract ColumnEventPersistManager getEventManager();
 
 
@@ -50,59 +56,74 @@ public abstract class ColumnWorkflow {
      * ColumnTemplate#update(Object)
      */
     public <T> T flow(T entity, UnaryOperator<ColumnEntity> action) {
-
-        Function<T, T> flow = getFlow(entity, action);
-
-        return flow.apply(entity);
-
+        Objects.requireNonNull(entity, "entity is required");
+        ColumnEventPersistManager eventManager = getEventManager();
+        eventManager.firePreEntity(entity);
+        eventManager.firePreColumnEntity(entity);
+        ColumnEntity column = getConverter().toColumn(entity);
+        eventManager.firePreColumn(column);
+        ColumnEntity result = action.apply(column);
+        eventManager.firePostColumn(result);
+        T updated = getConverter().toEntity(entity, result);
+        eventManager.firePostEntity(updated);
+        eventManager.firePostColumnEntity(updated);
+        return updated;
     }
 
-    private <T> Function<T, T> getFlow(T entity, UnaryOperator<ColumnEntity> action) {
-        UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
-
-        UnaryOperator<T> firePreEntity = t -> {
-            getEventManager().firePreEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePreColumnEntity = t -> {
-            getEventManager().firePreColumnEntity(t);
-            return t;
-        };
-
-        Function<T, ColumnEntity> converterColumn = t -> getConverter().toColumn(t);
-
-        UnaryOperator<ColumnEntity> firePreColumn = t -> {
-            getEventManager().firePreColumn(t);
-            return t;
-        };
-
-        UnaryOperator<ColumnEntity> firePostColumn = t -> {
-            getEventManager().firePostColumn(t);
-            return t;
-        };
-
-        Function<ColumnEntity, T> converterEntity = t -> getConverter().toEntity(entity, t);
-
-        UnaryOperator<T> firePostEntity = t -> {
-            getEventManager().firePostEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePostColumnEntity = t -> {
-            getEventManager().firePostColumnEntity(t);
-            return t;
-        };
+    /**
+     * Executes the workflow to a bulk interaction on the database: it fires the events of each entity, as
+     * {@link ColumnWorkflow#flow(Object, UnaryOperator)} does, but the action receives the columns of up to
+     * {@link org.eclipse.jnosql.mapping.config.MappingConfigurations#BATCH_SIZE} entities at once, or of all of them
+     * when it is not defined, and it should return them in the same order.
+     *
+     * @param entities the entities to be saved
+     * @param action   the alteration to be executed on database to each batch
+     * @param <T>      the entity type
+     * @return after the workflow the entities response, in the same order
+     * @throws NullPointerException  when either entities, an entity or action is null
+     * @throws IllegalStateException when the action returns fewer entities than it has received
+     */
+    public <T> List<T> flowAll(Iterable<T> entities, Function<List<ColumnEntity>, Iterable<ColumnEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+        ColumnEventPersistManager eventManager = getEventManager();
+        List<T> updated = new ArrayList<>();
+        List<T> batch = new ArrayList<>();
+        List<ColumnEntity> columns = new ArrayList<>();
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            eventManager.firePreEntity(entity);
+            eventManager.firePreColumnEntity(entity);
+            ColumnEntity column = getConverter().toColumn(entity);
+            eventManager.firePreColumn(column);
+            batch.add(entity);
+            columns.add(column);
+            if (batch.size() == batchSize) {
+                flow(batch, action.apply(columns), updated);
+                batch = new ArrayList<>();
+                columns = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flow(batch, action.apply(columns), updated);
+        }
+        return updated;
+    }
 
-        return validation
-                .andThen(firePreEntity)
-                .andThen(firePreColumnEntity)
-                .andThen(converterColumn)
-                .andThen(firePreColumn)
-                .andThen(action)
-                .andThen(firePostColumn)
-                .andThen(converterEntity)
-                .andThen(firePostEntity)
-                .andThen(firePostColumnEntity);
+    private <T> void flow(List<T> batch, Iterable<ColumnEntity> responses, List<T> updated) {
+        ColumnEventPersistManager eventManager = getEventManager();
+        Iterator<ColumnEntity> iterator = responses.iterator();
+        for (T entity : batch) {
+            if (!iterator.hasNext()) {
+                throw new IllegalStateException("The database has returned fewer entities than it has received: "
+                        + batch.size());
+            }
+            ColumnEntity response = iterator.next();
+            eventManager.firePostColumn(response);
+            T result = getConverter().toEntity(entity, response);
+            eventManager.firePostEntity(result);
+            eventManager.firePostColumnEntity(result);
+            updated.add(result);
+        }
     }
 }
@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column;
+
+import org.eclipse.jnosql.communication.column.Column;
+import org.eclipse.jnosql.communication.column.ColumnEntity;
+import org.eclipse.jnosql.mapping.AttributeConverter;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.reflection.EntityAccessor;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+import org.eclipse.jnosql.mapping.reflection.GenericFieldMapping;
+import org.eclipse.jnosql.mapping.reflection.InheritanceMetadata;
+import org.eclipse.jnosql.mapping.reflection.MappingType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The immutable plan to write an entity as a {@link ColumnEntity}: it resolves, once by entity, how each field
+ * becomes a column and the {@link AttributeConverter} instances, thus, the conversion reads the fields in a loop
+ * and fills a pre-sized entity without the intermediate {@link ColumnFieldValue} and streams.
+ * When there is an {@link EntityAccessor}, it reads all the fields at once.
+ * The nested entities use the plan of their own type.
+ */
+final class ColumnWritePlan {
+
+    private final String name;
+
+    private final FieldMapping[] fields;
+
+    private final Kind[] kinds;
+
+    private final AttributeConverter<Object, Object>[] converters;
+
+    private final InheritanceMetadata inheritance;
+
+    private final EntityAccessor accessor;
+
+    private ColumnWritePlan(String name, FieldMapping[] fields, Kind[] kinds,
+                            AttributeConverter<Object, Object>[] converters, InheritanceMetadata inheritance,
+                            EntityAccessor accessor) {
+        this.name = name;
+        this.fields = fields;
+        this.kinds = kinds;
+        this.converters = converters;
+        this.inheritance = inheritance;
+        this.accessor = accessor;
+    }
+
+    int size() {
+        return fields.length;
+    }
+
+    ColumnEntity write(Object entity, ColumnEntityConverter converter) {
+        List<Column> columns = new ArrayList<>(fields.length + 1);
+        Object[] values = accessor == null ? null : accessor.read(entity);
+        for (int index = 0; index < fields.length; index++) {
+            FieldMapping field = fields[index];
+            Object value = values == null ? field.read(entity) : values[index];
+            if (value == null) {
+                continue;
+            }
+            switch (kinds[index]) {
+                case EMBEDDED:
+                    columns.addAll(converter.toColumn(value).columns());
+                    break;
+                case ENTITY:
+                    columns.add(Column.of(field.getName(), converter.toColumn(value).columns()));
+                    break;
+                case EMBEDDABLE_COLLECTION:
+                    columns.add(Column.of(field.getName(), toColumns((Iterable<?>) value, converter)));
+                    break;
+                case CONVERTED:
+                    columns.add(Column.of(field.getName(), converters[index].convertToDatabaseColumn(value)));
+                    break;
+                default:
+                    columns.add(Column.of(field.getName(), value));
+            }
+        }
+        if (inheritance != null) {
+            columns.add(Column.of(inheritance.getDiscriminatorColumn(), inheritance.getDiscriminatorValue()));
+        }
+        return ColumnEntity.of(name, columns);
+    }
+
+    private static List<List<Column>> toColumns(Iterable<?> elements, ColumnEntityConverter converter) {
+        List<List<Column>> columns = new ArrayList<>();
+        for (Object element : elements) {
+            columns.add(converter.toColumn(element).columns());
+        }
+        return columns;
+    }
+
+    static ColumnWritePlan of(EntityMetadata mapping, Converters converters) {
+        return of(mapping, converters, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    static ColumnWritePlan of(EntityMetadata mapping, Converters converters, EntityAccessor accessor) {
+        List<FieldMapping> fields = mapping.getFields();
+        int size = fields.size();
+        Kind[] kinds = new Kind[size];
+        AttributeConverter<Object, Object>[] attributeConverters = new AttributeConverter[size];
+        for (int index = 0; index < size; index++) {
+            FieldMapping field = fields.get(index);
+            kinds[index] = Kind.of(field);
+            if (Kind.CONVERTED.equals(kinds[index])) {
+                Optional<Class<? extends AttributeConverter<Object, Object>>> converter = field.getConverter();
+                attributeConverters[index] = converters.get(converter.orElseThrow());
+            }
+        }
+        return new ColumnWritePlan(mapping.getName(), fields.toArray(new FieldMapping[0]), kinds,
+                attributeConverters, mapping.getInheritance().orElse(null), accessor);
+    }
+
+    private enum Kind {
+        EMBEDDED, ENTITY, EMBEDDABLE_COLLECTION, CONVERTED, DEFAULT;
+
+        static Kind of(FieldMapping field) {
+            MappingType type = field.getType();
+            if (MappingType.EMBEDDED.equals(type)) {
+                return EMBEDDED;
+            } else if (MappingType.ENTITY.equals(type)) {
+                return ENTITY;
+            } else if (MappingType.COLLECTION.equals(type) && ((GenericFieldMapping) field).isEmbeddable()) {
+                return EMBEDDABLE_COLLECTION;
+            } else if (field.getConverter().isPresent()) {
+                return CONVERTED;
+            }
+            return DEFAULT;
+        }
+    }
+}
@@ -18,12 +18,19 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Default;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.column.ColumnEntity;
 import org.eclipse.jnosql.communication.column.ColumnManager;
 import org.eclipse.jnosql.mapping.Converters;
 import org.eclipse.jnosql.mapping.Database;
+import org.eclipse.jnosql.mapping.EntityCaches;
 import org.eclipse.jnosql.mapping.DatabaseType;
+import org.eclipse.jnosql.mapping.SecondLevelCache;
+import org.eclipse.jnosql.mapping.UnitOfWork;
+import org.eclipse.jnosql.mapping.UnitOfWorkResolver;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
 
+import java.util.Optional;
+
 /**
  * The default implementation of {@link JNoSQLColumnTemplate}
  */
@@ -44,17 +51,24 @@ class DefaultColumnTemplate extends AbstractColumnTemplate {
 
     private Converters converters;
 
+    private SecondLevelCache cache;
+
+    private UnitOfWorkResolver units;
+
     @Inject
     DefaultColumnTemplate(ColumnEntityConverter converter, Instance<ColumnManager> manager,
                           ColumnWorkflow flow,
                           ColumnEventPersistManager eventManager,
-                          EntitiesMetadata entities, Converters converters) {
+                          EntitiesMetadata entities, Converters converters, SecondLevelCache cache,
+                          UnitOfWorkResolver units) {
         this.converter = converter;
         this.manager = manager;
         this.flow = flow;
         this.eventManager = eventManager;
         this.entities = entities;
         this.converters = converters;
+        this.cache = cache;
+        this.units = units;
     }
 
     DefaultColumnTemplate() {
@@ -91,4 +105,14 @@ class DefaultColumnTemplate extends AbstractColumnTemplate {
         return converters;
     }
 
+    @Override
+    protected EntityCaches<ColumnEntity> getCaches() {
+        return cache.get(ColumnEntity.class, getManager());
+    }
+
+    @Override
+    protected Optional<UnitOfWork> getUnitOfWork() {
+        return units.current();
+    }
+
 }
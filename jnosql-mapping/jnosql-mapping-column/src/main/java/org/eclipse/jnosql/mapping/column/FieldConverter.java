@@ -18,6 +18,7 @@ import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.column.Column;
 import org.eclipse.jnosql.mapping.AttributeConverter;
+import org.eclipse.jnosql.mapping.LazyList;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
 import org.eclipse.jnosql.mapping.reflection.FieldMapping;
 import org.eclipse.jnosql.mapping.reflection.GenericFieldMapping;
@@ -85,8 +86,8 @@ enum FieldConverter {
 
             if (Objects.nonNull(column)) {
                 GenericFieldMapping genericField = (GenericFieldMapping) field;
-                Collection elements = genericField.getCollectionInstance();
                 List<List<Column>> embeddable = (List<List<Column>>) column.get();
+                Collection elements = genericField.getCollectionInstance(embeddable.size());
                 for (List<Column> columnList : embeddable) {
                     Object element = converter.toEntity(genericField.getElementType(), columnList);
                     elements.add(element);
@@ -94,6 +95,18 @@ enum FieldConverter {
                 field.write(instance, elements);
             }
         }
+    }, LAZY_COLLECTION {
+        @Override
+        public <X, Y, T> void convert(T instance, List<Column> columns, Column column, FieldMapping field,
+                                      ColumnEntityConverter converter) {
+
+            if (Objects.nonNull(column)) {
+                GenericFieldMapping genericField = (GenericFieldMapping) field;
+                List<List<Column>> embeddable = (List<List<Column>>) column.get();
+                field.write(instance, LazyList.of(embeddable,
+                        columnList -> converter.toEntity(genericField.getElementType(), columnList)));
+            }
+        }
     }, DEFAULT{
         @Override
         public <X, Y, T> void convert(T instance, List<Column> columns, Column column,
@@ -114,18 +127,27 @@ enum FieldConverter {
     };
 
 
-    static FieldConverter get(FieldMapping field) {
+    /**
+     * Returns the converter of the field, when lazy is true, a {@link List} or {@link Collection} of embeddable entities is read as a
+     * {@link LazyList}
+     */
+    static FieldConverter get(FieldMapping field, boolean lazy) {
         if (MappingType.EMBEDDED.equals(field.getType())) {
             return EMBEDDED;
         } else if (MappingType.ENTITY.equals(field.getType())) {
             return ENTITY;
         } else if (isCollectionEmbeddable(field)) {
-            return COLLECTION;
+            return lazy && isLazy(field) ? LAZY_COLLECTION : COLLECTION;
         } else {
             return DEFAULT;
         }
     }
 
+    private static boolean isLazy(FieldMapping field) {
+        Class<?> type = field.getNativeField().getType();
+        return Collection.class.isAssignableFrom(type) && type.isAssignableFrom(LazyList.class);
+    }
+
     private static boolean isCollectionEmbeddable(FieldMapping field) {
         return MappingType.COLLECTION.equals(field.getType()) && ((GenericFieldMapping) field).isEmbeddable();
     }
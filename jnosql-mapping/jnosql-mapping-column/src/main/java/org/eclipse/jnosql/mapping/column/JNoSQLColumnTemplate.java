@@ -16,10 +16,16 @@
  */
 package org.eclipse.jnosql.mapping.column;
 
+import jakarta.nosql.PreparedStatement;
 import jakarta.nosql.column.ColumnTemplate;
+import org.eclipse.jnosql.communication.Cancellation;
 import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
+import org.eclipse.jnosql.mapping.CacheStatistics;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -47,6 +53,63 @@ public interface JNoSQLColumnTemplate extends ColumnTemplate {
      */
     <T> Stream<T> select(ColumnQuery query);
 
+    /**
+     * Finds entities from query in parallel, the query is split into disjoint ranges by
+     * {@link org.eclipse.jnosql.communication.column.ColumnManager#split(ColumnQuery, int)}
+     * and each entity is converted by the worker thread that fetched it.
+     * The default implementation does not split the query, it returns {@link #select(ColumnQuery)} as a parallel stream.
+     *
+     * @param query       query to figure out entities
+     * @param parallelism the expected number of ranges
+     * @param <T>         the instance type
+     * @return a parallel stream of the entities found by query
+     * @throws NullPointerException     when query is null
+     * @throws IllegalArgumentException when parallelism is not positive
+     */
+    default <T> Stream<T> parallelSelect(ColumnQuery query, int parallelism) {
+        Objects.requireNonNull(query, "query is required");
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("The parallelism must be positive: " + parallelism);
+        }
+        Stream<T> entities = select(query);
+        return entities.parallel();
+    }
+
+    /**
+     * Finds entities from query bound to a {@link Cancellation}; when it is either cancelled or expired,
+     * the stream stops producing entities and the driver cursor is released.
+     * The default implementation binds the stream of {@link #select(ColumnQuery)} through {@link Cancellation#apply(Stream)}.
+     *
+     * @param query        query to figure out entities
+     * @param cancellation the cancellation handle
+     * @param <T>          the instance type
+     * @return entities found by query
+     * @throws NullPointerException when there is a null parameter
+     * @see org.eclipse.jnosql.communication.column.ColumnManager#select(ColumnQuery, Cancellation)
+     */
+    default <T> Stream<T> select(ColumnQuery query, Cancellation cancellation) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(cancellation, "cancellation is required");
+        Stream<T> entities = select(query);
+        return cancellation.apply(entities);
+    }
+
+    /**
+     * Creates a {@link PreparedStatement} from the query with hints, such as
+     * {@link org.eclipse.jnosql.communication.QueryHints#FETCH_SIZE}, that are propagated untouched to the driver.
+     * The default implementation ignores the hints and calls {@link #prepare(String)}.
+     *
+     * @param query the query
+     * @param hints the hints
+     * @return a {@link PreparedStatement} instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    default PreparedStatement prepare(String query, Map<String, Object> hints) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(hints, "hints is required");
+        return prepare(query);
+    }
+
     /**
      * Returns the number of items in the column family that match a specified query.
      * @param query the query
@@ -90,4 +153,14 @@ public interface JNoSQLColumnTemplate extends ColumnTemplate {
      */
     <T> void deleteAll(Class<T> type);
 
+    /**
+     * Returns the statistics of the second-level cache of the entities annotated with
+     * {@link org.eclipse.jnosql.mapping.Cacheable}, such as the hit rate.
+     * The default implementation has no cache, thus, it returns an empty map.
+     *
+     * @return the statistics by entity name
+     */
+    default Map<String, CacheStatistics> cacheStatistics() {
+        return Collections.emptyMap();
+    }
 }
@@ -35,13 +35,20 @@ public final class MappingColumnQuery implements ColumnQuery {
     private final long skip;
     private final ColumnCondition condition;
     private final String columnFamily;
+    private final List<String> columns;
 
     public MappingColumnQuery(List<Sort> sorts, long limit, long skip, ColumnCondition condition, String columnFamily) {
+        this(sorts, limit, skip, condition, columnFamily, emptyList());
+    }
+
+    public MappingColumnQuery(List<Sort> sorts, long limit, long skip, ColumnCondition condition, String columnFamily,
+                              List<String> columns) {
         this.sorts = sorts;
         this.limit = limit;
         this.skip = skip;
         this.condition = condition;
         this.columnFamily = columnFamily;
+        this.columns = columns;
     }
 
     @Override
@@ -66,7 +73,7 @@ public final class MappingColumnQuery implements ColumnQuery {
 
     @Override
     public List<String> columns() {
-        return emptyList();
+        return columns;
     }
 
     @Override
@@ -88,12 +95,13 @@ public final class MappingColumnQuery implements ColumnQuery {
                 && skip == that.skip()
                 && Objects.equals(sorts, that.sorts())
                 && Objects.equals(condition, that.condition().orElse(null))
-                && Objects.equals(columnFamily, that.name());
+                && Objects.equals(columnFamily, that.name())
+                && Objects.equals(columns, that.columns());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(limit, skip, columnFamily, emptyList(), sorts, condition);
+        return Objects.hash(limit, skip, columnFamily, columns, sorts, condition);
     }
 
     @Override
@@ -101,7 +109,7 @@ public final class MappingColumnQuery implements ColumnQuery {
         return  "ArtemisColumnQuery{" + "limit=" + limit +
                 ", skip=" + skip +
                 ", columnFamily='" + columnFamily + '\'' +
-                ", columns=" + emptyList() +
+                ", columns=" + columns +
                 ", sorts=" + sorts +
                 ", condition=" + condition +
                 '}';
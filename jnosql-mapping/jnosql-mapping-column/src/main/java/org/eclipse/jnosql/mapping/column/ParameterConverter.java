@@ -69,8 +69,8 @@ enum ParameterConverter {
                      ConstructorBuilder builder) {
 
             GenericParameterMetaData genericParameter = (GenericParameterMetaData) metaData;
-            Collection elements = genericParameter.getCollectionInstance();
             List<List<Column>> embeddable = (List<List<Column>>) column.get();
+            Collection elements = genericParameter.getCollectionInstance(embeddable.size());
             for (List<Column> columnList : embeddable) {
                 Object element = converter.toEntity(genericParameter.getElementType(), columnList);
                 elements.add(element);
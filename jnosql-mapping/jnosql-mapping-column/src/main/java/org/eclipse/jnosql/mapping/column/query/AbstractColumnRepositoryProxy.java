@@ -24,6 +24,7 @@ import org.eclipse.jnosql.mapping.repository.DynamicQueryMethodReturn;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.Map;
 
 
 /**
@@ -54,7 +55,8 @@ public abstract class AbstractColumnRepositoryProxy<T, K> extends  BaseColumnRep
                 return executeExistsByQuery(getQuery(method, args));
             case FIND_ALL:
                 ColumnQuery queryFindAll = ColumnQuery.select().from(getEntityMetadata().getName()).build();
-                return executeFindByQuery(method, args, typeClass, updateQueryDynamically(args, queryFindAll));
+                return executeFindByQuery(method, args, typeClass,
+                        hints(method, updateQueryDynamically(args, queryFindAll)));
             case DELETE_BY:
                 ColumnDeleteQuery deleteQuery = getDeleteQuery(method, args);
                 getTemplate().delete(deleteQuery);
@@ -62,12 +64,15 @@ public abstract class AbstractColumnRepositoryProxy<T, K> extends  BaseColumnRep
             case OBJECT_METHOD:
                 return method.invoke(this, args);
             case JNOSQL_QUERY:
+                Map<String, Object> hints = getHints(method);
                 DynamicQueryMethodReturn methodReturn = DynamicQueryMethodReturn.builder()
                         .withArgs(args)
                         .withMethod(method)
                         .withTypeClass(typeClass)
-                        .withPrepareConverter(q -> getTemplate().prepare(q))
-                        .withQueryConverter(q -> getTemplate().query(q)).build();
+                        .withPrepareConverter(q -> hints.isEmpty() ? getTemplate().prepare(q)
+                                : getTemplate().prepare(q, hints))
+                        .withQueryConverter(q -> hints.isEmpty() ? getTemplate().query(q)
+                                : getTemplate().prepare(q, hints).result()).build();
                 return methodReturn.execute();
             default:
                 return Void.class;
@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.column.query;
 
 
+import jakarta.data.repository.KeysetAwareSlice;
 import jakarta.data.repository.Limit;
 import jakarta.data.repository.Page;
 import jakarta.data.repository.Pageable;
@@ -32,19 +33,25 @@ import org.eclipse.jnosql.communication.query.SelectQuery;
 import org.eclipse.jnosql.communication.query.method.DeleteMethodProvider;
 import org.eclipse.jnosql.communication.query.method.SelectMethodProvider;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.NoSQLKeysetPage;
 import org.eclipse.jnosql.mapping.NoSQLPage;
 import org.eclipse.jnosql.mapping.column.JNoSQLColumnTemplate;
 import org.eclipse.jnosql.mapping.column.MappingColumnQuery;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.RepositoryReflectionUtils;
 import org.eclipse.jnosql.mapping.repository.DynamicReturn;
+import org.eclipse.jnosql.mapping.repository.Projection;
 import org.eclipse.jnosql.mapping.repository.SpecialParameters;
+import org.eclipse.jnosql.mapping.util.KeysetUtil;
 import org.eclipse.jnosql.mapping.util.ParamsBinder;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -67,6 +74,10 @@ public abstract class BaseColumnRepository<T> {
 
     private ParamsBinder paramsBinder;
 
+    private final Map<Method, Optional<Projection>> projections = new ConcurrentHashMap<>();
+
+    private final Map<Method, Map<String, Object>> hints = new ConcurrentHashMap<>();
+
 
     protected ColumnQuery getQuery(Method method, Object[] args) {
         SelectMethodProvider provider = SelectMethodProvider.INSTANCE;
@@ -75,7 +86,7 @@ public abstract class BaseColumnRepository<T> {
         ColumnQuery query = queryParams.query();
         Params params = queryParams.params();
         getParamsBinder().bind(params, getArgs(args), method);
-        return updateQueryDynamically(getArgs(args), query);
+        return hints(method, updateQueryDynamically(getArgs(args), query));
     }
 
     private static Object[] getArgs(Object[] args) {
@@ -108,6 +119,10 @@ public abstract class BaseColumnRepository<T> {
     }
 
     protected Object executeFindByQuery(Method method, Object[] args, Class<?> typeClass, ColumnQuery query) {
+        Optional<Projection> projection = getProjection(method);
+        if (projection.isPresent()) {
+            return executeFindByProjection(method, args, projection.get(), projection(query, projection.get()));
+        }
         DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
                 .withClassSource(typeClass)
                 .withMethodSource(method)
@@ -116,11 +131,80 @@ public abstract class BaseColumnRepository<T> {
                 .withPagination(DynamicReturn.findPageable(args))
                 .withStreamPagination(streamPagination(query))
                 .withSingleResultPagination(getSingleResult(query))
-                .withPage(getPage(query))
+                .withPage(isKeysetAware(method) ? getKeysetPage(query) : getPage(query))
+                .build();
+        return dynamicReturn.execute();
+    }
+
+    protected Object executeFindByProjection(Method method, Object[] args, Projection projection, ColumnQuery query) {
+        DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
+                .withClassSource(projection.getType())
+                .withMethodSource(method)
+                .withResult(() -> getTemplate().select(query).map(projection::apply))
+                .withSingleResult(() -> getTemplate().singleResult(query).map(projection::apply))
+                .withPagination(DynamicReturn.findPageable(args))
+                .withStreamPagination(p -> getTemplate().select(query).map(projection::apply))
+                .withSingleResultPagination(p -> getTemplate().singleResult(query).map(projection::apply))
+                .withPage(getPage(query, projection))
                 .build();
         return dynamicReturn.execute();
     }
 
+    protected Function<Pageable, Page<Object>> getPage(ColumnQuery query, Projection projection) {
+        return p -> {
+            if (Pageable.Mode.OFFSET.equals(p.mode())) {
+                return NoSQLPage.of(getTemplate().select(query).map(projection::apply)
+                        .collect(toUnmodifiableList()), p);
+            }
+            return keysetPage(query, p).map(projection::apply);
+        };
+    }
+
+    protected Optional<Projection> getProjection(Method method) {
+        return projections.computeIfAbsent(method, m -> Projection.of(m, getEntityMetadata()));
+    }
+
+    /**
+     * Pushes the projection down to the query, thus, the database only returns the projection fields
+     * and the sort fields used by the keyset pagination.
+     *
+     * @param query      the query
+     * @param projection the projection
+     * @return the query with the projection fields
+     */
+    protected ColumnQuery projection(ColumnQuery query, Projection projection) {
+        List<String> columns = new ArrayList<>(projection.getNames());
+        query.sorts().stream()
+                .map(Sort::property)
+                .filter(s -> !columns.contains(s))
+                .forEach(columns::add);
+        ColumnQuery projectionQuery = new MappingColumnQuery(query.sorts(), query.limit(), query.skip(),
+                query.condition().orElse(null), query.name(), columns);
+        if (query.hints().isEmpty()) {
+            return projectionQuery;
+        }
+        return ColumnQuery.withHints(projectionQuery, query.hints());
+    }
+
+    protected Map<String, Object> getHints(Method method) {
+        return hints.computeIfAbsent(method, RepositoryReflectionUtils.INSTANCE::getHints);
+    }
+
+    /**
+     * Appends the hints of the {@link org.eclipse.jnosql.mapping.Hint} annotations of the method to the query
+     *
+     * @param method the repository method
+     * @param query  the query
+     * @return the query with the hints
+     */
+    protected ColumnQuery hints(Method method, ColumnQuery query) {
+        Map<String, Object> methodHints = getHints(method);
+        if (methodHints.isEmpty()) {
+            return query;
+        }
+        return ColumnQuery.withHints(query, methodHints);
+    }
+
     protected Long executeCountByQuery(ColumnQuery query) {
         return getTemplate().count(query);
     }
@@ -132,11 +216,40 @@ public abstract class BaseColumnRepository<T> {
 
     protected Function<Pageable, Page<T>> getPage(ColumnQuery query) {
         return p -> {
+            if (!Pageable.Mode.OFFSET.equals(p.mode())) {
+                return getKeysetPage(query).apply(p);
+            }
             Stream<T> entities = getTemplate().select(query);
             return NoSQLPage.of(entities.collect(toUnmodifiableList()), p);
         };
     }
 
+    protected Function<Pageable, Page<T>> getKeysetPage(ColumnQuery query) {
+        return p -> keysetPage(query, p);
+    }
+
+    private NoSQLKeysetPage<T> keysetPage(ColumnQuery query, Pageable pageable) {
+        List<Sort> sorts = KeysetUtil.sorts(query.sorts(), getEntityMetadata());
+        ColumnQuery keysetQuery = query;
+        if (!sorts.equals(query.sorts())) {
+            List<String> columns = new ArrayList<>(query.columns());
+            if (!columns.isEmpty()) {
+                sorts.stream().map(Sort::property).filter(s -> !columns.contains(s)).forEach(columns::add);
+            }
+            keysetQuery = new MappingColumnQuery(sorts, query.limit(), query.skip(), query.condition().orElse(null),
+                    query.name(), columns);
+            if (!query.hints().isEmpty()) {
+                keysetQuery = ColumnQuery.withHints(keysetQuery, query.hints());
+            }
+        }
+        List<T> entities = getTemplate().<T>select(keysetQuery).collect(toUnmodifiableList());
+        return NoSQLKeysetPage.of(entities, pageable, e -> KeysetUtil.keys(e, sorts, getEntityMetadata()));
+    }
+
+    protected static boolean isKeysetAware(Method method) {
+        return KeysetAwareSlice.class.isAssignableFrom(method.getReturnType());
+    }
+
     protected Function<Pageable, Optional<T>> getSingleResult(ColumnQuery query) {
         return p -> getTemplate().singleResult(query);
     }
@@ -162,7 +275,7 @@ public abstract class BaseColumnRepository<T> {
             return new MappingColumnQuery(sorts, max,
                     skip,
                     query.condition().orElse(null),
-                    query.name());
+                    query.name(), query.columns());
         }
 
         if (limit.isPresent()) {
@@ -171,21 +284,33 @@ public abstract class BaseColumnRepository<T> {
             return new MappingColumnQuery(query.sorts(), max,
                     skip,
                     query.condition().orElse(null),
-                    query.name());
+                    query.name(), query.columns());
         }
 
         return special.pageable().<ColumnQuery>map(p -> {
             long size = p.size();
-            long skip = NoSQLPage.skip(p);
             List<Sort> sorts = query.sorts();
             if (!special.sorts().isEmpty()) {
                 sorts = new ArrayList<>(query.sorts());
                 sorts.addAll(special.sorts());
             }
-            return new MappingColumnQuery(sorts, size, skip,
-                    query.condition().orElse(null), query.name());
+            if (Pageable.Mode.OFFSET.equals(p.mode())) {
+                long skip = NoSQLPage.skip(p);
+                return new MappingColumnQuery(sorts, size, skip,
+                        query.condition().orElse(null), query.name(), query.columns());
+            }
+            return keyset(p, new MappingColumnQuery(KeysetUtil.sorts(sorts, getEntityMetadata()), size, 0,
+                    query.condition().orElse(null), query.name(), query.columns()));
         }).orElse(query);
     }
 
+    protected ColumnQuery keyset(Pageable pageable, ColumnQuery query) {
+        Object[] keys = KeysetUtil.keys(pageable.cursor(), query.sorts(), getEntityMetadata(), getConverters());
+        if (Pageable.Mode.CURSOR_NEXT.equals(pageable.mode())) {
+            return ColumnQuery.afterKeyset(query, keys);
+        }
+        return ColumnQuery.beforeKeyset(query, keys);
+    }
+
 
 }
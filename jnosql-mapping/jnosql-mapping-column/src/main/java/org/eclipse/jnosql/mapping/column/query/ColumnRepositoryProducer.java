@@ -21,11 +21,11 @@ import org.eclipse.jnosql.mapping.Converters;
 import org.eclipse.jnosql.mapping.column.ColumnTemplateProducer;
 import org.eclipse.jnosql.mapping.column.JNoSQLColumnTemplate;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.GeneratedRepositories;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
-import java.lang.reflect.Proxy;
 import java.util.Objects;
 
 /**
@@ -78,8 +78,6 @@ public class ColumnRepositoryProducer {
 
         ColumnRepositoryProxy<T, K> handler = new ColumnRepositoryProxy<>(template,
                 entities, repositoryClass, converters);
-        return (R) Proxy.newProxyInstance(repositoryClass.getClassLoader(),
-                new Class[]{repositoryClass},
-                handler);
+        return (R) GeneratedRepositories.INSTANCE.newInstance(repositoryClass, handler);
     }
 }
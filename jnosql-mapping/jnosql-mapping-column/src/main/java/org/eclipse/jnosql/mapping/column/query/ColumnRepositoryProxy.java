@@ -47,8 +47,8 @@ class ColumnRepositoryProxy<T, K> extends AbstractColumnRepositoryProxy {
         Class<T> typeClass = (Class) ((ParameterizedType) repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0];
         this.entityMetadata = entities.get(typeClass);
-        this.repository = new ColumnRepository(template, entityMetadata);
         this.converters = converters;
+        this.repository = new ColumnRepository(template, entityMetadata, converters);
     }
 
     @Override
@@ -78,9 +78,12 @@ class ColumnRepositoryProxy<T, K> extends AbstractColumnRepositoryProxy {
 
         private final EntityMetadata entityMetadata;
 
-        ColumnRepository(JNoSQLColumnTemplate template, EntityMetadata entityMetadata) {
+        private final Converters converters;
+
+        ColumnRepository(JNoSQLColumnTemplate template, EntityMetadata entityMetadata, Converters converters) {
             this.template = template;
             this.entityMetadata = entityMetadata;
+            this.converters = converters;
         }
 
         @Override
@@ -93,5 +96,10 @@ class ColumnRepositoryProxy<T, K> extends AbstractColumnRepositoryProxy {
             return entityMetadata;
         }
 
+        @Override
+        protected Converters getConverters() {
+            return converters;
+        }
+
     }
 }
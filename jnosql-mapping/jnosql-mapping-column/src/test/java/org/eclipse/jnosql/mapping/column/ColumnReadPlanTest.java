@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column;
+
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.column.Column;
+import org.eclipse.jnosql.mapping.Convert;
+import org.eclipse.jnosql.mapping.column.entities.Person;
+import org.eclipse.jnosql.mapping.column.spi.ColumnExtension;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+@EnableAutoWeld
+@AddPackages(value = {Convert.class, ColumnWorkflow.class})
+@AddPackages(MockProducer.class)
+@AddExtensions({EntityMetadataExtension.class, ColumnExtension.class})
+class ColumnReadPlanTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private ColumnEntityConverter converter;
+
+    private EntityMetadata mapping;
+
+    private ColumnReadPlan plan;
+
+    @BeforeEach
+    public void setUp() {
+        this.mapping = entities.get(Person.class);
+        this.plan = ColumnReadPlan.of(mapping, false);
+    }
+
+    @Test
+    public void shouldIndexFields() {
+        Assertions.assertEquals(mapping.getFields().size(), plan.size());
+        Assertions.assertTrue(plan.indexOf("name") >= 0);
+        Assertions.assertTrue(plan.indexOf("_id") >= 0);
+        Assertions.assertEquals(-1, plan.indexOf("ignore"));
+    }
+
+    @Test
+    public void shouldReadFirstColumnByName() {
+        List<Column> columns = List.of(Column.of("name", "Ada"), Column.of("age", 10),
+                Column.of("name", "Other"), Column.of("unknown", "value"));
+        Person person = plan.read(mapping.<Person>newInstance(), columns, Collections.emptyList(), converter);
+        Assertions.assertEquals("Ada", person.getName());
+        Assertions.assertEquals(10, person.getAge());
+    }
+
+    @Test
+    public void shouldReadProjection() {
+        List<Column> columns = List.of(Column.of("name", "Ada"), Column.of("age", 10));
+        Person person = plan.read(mapping.<Person>newInstance(), columns, List.of("name"), converter);
+        Assertions.assertEquals("Ada", person.getName());
+        Assertions.assertEquals(0, person.getAge());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.column;
+
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.column.Column;
+import org.eclipse.jnosql.communication.column.ColumnEntity;
+import org.eclipse.jnosql.mapping.Convert;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.column.entities.Money;
+import org.eclipse.jnosql.mapping.column.entities.Person;
+import org.eclipse.jnosql.mapping.column.entities.Worker;
+import org.eclipse.jnosql.mapping.column.entities.inheritance.SmallProject;
+import org.eclipse.jnosql.mapping.column.spi.ColumnExtension;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityAccessor;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+@EnableAutoWeld
+@AddPackages(value = {Convert.class, ColumnWorkflow.class})
+@AddPackages(MockProducer.class)
+@AddExtensions({EntityMetadataExtension.class, ColumnExtension.class})
+class ColumnWritePlanTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
+    @Inject
+    private ColumnEntityConverter converter;
+
+    @Test
+    public void shouldSkipNullFields() {
+        ColumnWritePlan plan = ColumnWritePlan.of(entities.get(Person.class), converters);
+        Person person = Person.builder().withName("Ada").withAge().withId(1L).build();
+        ColumnEntity entity = plan.write(person, converter);
+        Assertions.assertEquals("Person", entity.name());
+        Assertions.assertEquals(entities.get(Person.class).getFields().size(), plan.size());
+        Assertions.assertEquals("Ada", entity.find("name").orElseThrow().get());
+        Assertions.assertEquals(10, entity.find("age").orElseThrow().get());
+        Assertions.assertTrue(entity.find("phones").isEmpty());
+    }
+
+    @Test
+    public void shouldConvertAttribute() {
+        ColumnWritePlan plan = ColumnWritePlan.of(entities.get(Worker.class), converters);
+        Worker worker = new Worker();
+        worker.setName("Ada");
+        worker.setSalary(new Money("USD", BigDecimal.TEN));
+        ColumnEntity entity = plan.write(worker, converter);
+        Assertions.assertEquals("USD 10", entity.find("money").orElseThrow().get());
+        Assertions.assertEquals("Ada", entity.find("name").orElseThrow().get());
+        Assertions.assertTrue(entity.find("job").isEmpty());
+    }
+
+    @Test
+    public void shouldAddDiscriminatorColumn() {
+        ColumnWritePlan plan = ColumnWritePlan.of(entities.get(SmallProject.class), converters);
+        SmallProject project = new SmallProject();
+        project.setName("Ada");
+        project.setInvestor("Grace");
+        ColumnEntity entity = plan.write(project, converter);
+        Assertions.assertEquals(Column.of("size", "Small"), entity.find("size").orElseThrow());
+        Assertions.assertEquals("Grace", entity.find("investor").orElseThrow().get());
+    }
+
+    @Test
+    public void shouldWriteAsConverter() {
+        Person person = Person.builder().withName("Ada").withAge().withId(1L).build();
+        ColumnWritePlan plan = ColumnWritePlan.of(entities.get(Person.class), converters);
+        Assertions.assertEquals(converter.toColumn(person), plan.write(person, converter));
+    }
+
+    @Test
+    public void shouldWriteWithAccessor() {
+        Worker worker = new Worker();
+        worker.setName("Ada");
+        worker.setSalary(new Money("USD", BigDecimal.TEN));
+        EntityMetadata mapping = entities.get(Worker.class);
+        ColumnWritePlan plan = ColumnWritePlan.of(mapping, converters, EntityAccessor.of(mapping).orElseThrow());
+        Assertions.assertEquals(converter.toColumn(worker), plan.write(worker, converter));
+    }
+}
@@ -18,11 +18,16 @@ import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.column.Column;
 import org.eclipse.jnosql.communication.column.ColumnEntity;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.LazyList;
+import org.eclipse.jnosql.mapping.Converters;
 import org.eclipse.jnosql.mapping.Convert;
 import org.eclipse.jnosql.mapping.column.spi.ColumnExtension;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
 import org.eclipse.jnosql.mapping.column.entities.Actor;
 import org.eclipse.jnosql.mapping.column.entities.Address;
+import org.eclipse.jnosql.mapping.column.entities.AddressBook;
 import org.eclipse.jnosql.mapping.column.entities.AppointmentBook;
 import org.eclipse.jnosql.mapping.column.entities.Contact;
 import org.eclipse.jnosql.mapping.column.entities.ContactType;
@@ -60,6 +65,8 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -75,6 +82,12 @@ public class DefaultColumnEntityConverterTest {
     @Inject
     private DefaultColumnEntityConverter converter;
 
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
     private Column[] columns;
 
     private final Actor actor = Actor.actorBuilder().withAge()
@@ -150,6 +163,20 @@ public class DefaultColumnEntityConverterTest {
         assertEquals(Collections.singletonMap("JavaZone", 10), actor.getMovieRating());
     }
 
+    @Test
+    public void shouldConvertOnlyProjection() {
+        ColumnEntity entity = ColumnEntity.of("Actor");
+        Stream.of(columns).forEach(entity::add);
+
+        Actor actor = converter.toEntity(entity, asList("name", "age"));
+        assertNotNull(actor);
+        assertEquals("Otavio", actor.getName());
+        assertEquals(10, actor.getAge());
+        assertEquals(0L, actor.getId());
+        assertNull(actor.getPhones());
+        assertNull(actor.getMovieCharacter());
+    }
+
     @Test
     public void shouldConvertColumnEntityToExistEntity() {
         ColumnEntity entity = ColumnEntity.of("Actor");
@@ -302,6 +329,21 @@ public class DefaultColumnEntityConverterTest {
         assertEquals(job.getDescription(), worker1.getJob().getDescription());
     }
 
+    @Test
+    public void shouldConvertEmbeddableWithProjection() {
+        ColumnEntity entity = ColumnEntity.of("Worker");
+        entity.add("name", "Bob");
+        entity.add("description", "Java Developer");
+        entity.add("city", "Sao Paulo");
+        entity.add("money", "BRL 10");
+
+        Worker worker = converter.toEntity(entity, List.of("description", "city"));
+        assertNull(worker.getName());
+        assertNull(worker.getSalary());
+        assertEquals("Java Developer", worker.getJob().getDescription());
+        assertEquals("Sao Paulo", worker.getJob().getCity());
+    }
+
     @Test
     public void shouldConvertEmbeddableLazily() {
         ColumnEntity entity = ColumnEntity.of("Worker");
@@ -361,6 +403,73 @@ public class DefaultColumnEntityConverterTest {
 
     }
 
+    @Test
+    public void shouldConvertFromListEmbeddableLazily() {
+        ColumnEntity entity = ColumnEntity.of("AppointmentBook");
+        entity.add(Column.of("_id", "ids"));
+        List<List<Column>> columns = new ArrayList<>();
+        columns.add(asList(Column.of("contact_name", "Ada"), Column.of("type", ContactType.EMAIL),
+                Column.of("information", "ada@lovelace.com")));
+        columns.add(asList(Column.of("contact_name", "Grace"), Column.of("type", ContactType.PHONE),
+                Column.of("information", "phone")));
+        entity.add(Column.of("contacts", columns));
+
+        AppointmentBook appointmentBook = lazyConverter().toEntity(entity);
+
+        List<Contact> contacts = appointmentBook.getContacts();
+        assertTrue(contacts instanceof LazyList);
+        assertFalse(((LazyList<Contact>) contacts).isLoaded());
+        assertEquals(2, contacts.size());
+        assertEquals("Grace", contacts.get(1).getName());
+        assertFalse(((LazyList<Contact>) contacts).isLoaded());
+        assertEquals("Ada", contacts.get(0).getName());
+        assertTrue(((LazyList<Contact>) contacts).isLoaded());
+
+        ColumnEntity column = lazyConverter().toColumn(appointmentBook);
+        List<List<Column>> values = (List<List<Column>>) column.find("contacts").orElseThrow().get();
+        assertEquals(2, values.size());
+    }
+
+    @Test
+    public void shouldConvertFromCollectionEmbeddableLazily() {
+        ColumnEntity entity = ColumnEntity.of("AddressBook");
+        entity.add(Column.of("_id", "ids"));
+        List<List<Column>> columns = new ArrayList<>();
+        columns.add(asList(Column.of("contact_name", "Ada"), Column.of("type", ContactType.EMAIL),
+                Column.of("information", "ada@lovelace.com")));
+        columns.add(asList(Column.of("contact_name", "Grace"), Column.of("type", ContactType.PHONE),
+                Column.of("information", "phone")));
+        entity.add(Column.of("contacts", columns));
+
+        AddressBook addressBook = lazyConverter().toEntity(entity);
+
+        Collection<Contact> contacts = addressBook.getContacts();
+        assertTrue(contacts instanceof LazyList);
+        assertFalse(((LazyList<Contact>) contacts).isLoaded());
+        assertEquals(2, contacts.size());
+        assertThat(contacts).extracting(Contact::getName).containsExactly("Ada", "Grace");
+        assertTrue(((LazyList<Contact>) contacts).isLoaded());
+    }
+
+    private ColumnEntityConverter lazyConverter() {
+        System.setProperty(MappingConfigurations.LAZY_COLLECTIONS.get(), "true");
+        try {
+            return new ColumnEntityConverter() {
+                @Override
+                protected EntitiesMetadata getEntities() {
+                    return entities;
+                }
+
+                @Override
+                protected Converters getConverters() {
+                    return converters;
+                }
+            };
+        } finally {
+            System.clearProperty(MappingConfigurations.LAZY_COLLECTIONS.get());
+        }
+    }
+
 
     @Test
     public void shouldConvertSubEntity() {
@@ -15,22 +15,30 @@
 package org.eclipse.jnosql.mapping.column;
 
 import jakarta.data.exceptions.NonUniqueResultException;
+import org.eclipse.jnosql.communication.Cancellation;
 import org.eclipse.jnosql.communication.column.Column;
 import org.eclipse.jnosql.communication.column.ColumnCondition;
 import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
 import org.eclipse.jnosql.communication.column.ColumnEntity;
 import org.eclipse.jnosql.communication.column.ColumnManager;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
+import org.eclipse.jnosql.mapping.CacheStatistics;
 import org.eclipse.jnosql.mapping.Convert;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.SecondLevelCache;
+import org.eclipse.jnosql.mapping.UnitOfWork;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
 import jakarta.nosql.PreparedStatement;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.UnitOfWorkResolver;
 import org.eclipse.jnosql.mapping.column.spi.ColumnExtension;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.column.entities.Country;
 import org.eclipse.jnosql.mapping.column.entities.Job;
 import org.eclipse.jnosql.mapping.column.entities.Movie;
 import org.eclipse.jnosql.mapping.column.entities.Person;
+import org.eclipse.jnosql.mapping.column.entities.Vendor;
 
 import org.jboss.weld.junit5.auto.AddExtensions;
 import org.jboss.weld.junit5.auto.AddPackages;
@@ -45,19 +53,27 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.eclipse.jnosql.communication.column.ColumnDeleteQuery.delete;
 import static org.eclipse.jnosql.communication.column.ColumnQuery.select;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @EnableAutoWeld
 @AddPackages(value = {Convert.class, ColumnWorkflow.class})
@@ -88,6 +104,12 @@ public class DefaultColumnTemplateTest {
     @Inject
     private Converters converters;
 
+    @Inject
+    private SecondLevelCache cache;
+
+    @Inject
+    private UnitOfWorkResolver units;
+
     private ColumnManager managerMock;
 
     private DefaultColumnTemplate template;
@@ -105,7 +127,7 @@ public class DefaultColumnTemplateTest {
         Instance<ColumnManager> instance = Mockito.mock(Instance.class);
         Mockito.when(instance.get()).thenReturn(managerMock);
         this.template = new DefaultColumnTemplate(converter, instance, new DefaultColumnWorkflow(columnEventPersistManager, converter),
-                columnEventPersistManager, entities, converters);
+                columnEventPersistManager, entities, converters, cache, units);
     }
 
     @Test
@@ -222,11 +244,12 @@ public class DefaultColumnTemplateTest {
         Duration duration = Duration.ofHours(2);
 
         Mockito.when(managerMock
-                .insert(any(ColumnEntity.class), Mockito.eq(duration)))
-                .thenReturn(columnEntity);
+                .insert(any(Iterable.class), Mockito.eq(duration)))
+                .thenReturn(List.of(columnEntity, columnEntity));
 
         template.insert(Arrays.asList(person, person), duration);
-        verify(managerMock, times(2)).insert(any(ColumnEntity.class), any(Duration.class));
+        verify(managerMock).insert(any(Iterable.class), any(Duration.class));
+        verify(managerMock, never()).insert(any(ColumnEntity.class), any(Duration.class));
     }
 
     @Test
@@ -235,11 +258,13 @@ public class DefaultColumnTemplateTest {
         columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .insert(any(ColumnEntity.class)))
-                .thenReturn(columnEntity);
+                .insert(any(Iterable.class)))
+                .thenReturn(List.of(columnEntity, columnEntity));
 
-        template.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(ColumnEntity.class));
+        Iterable<Person> people = template.insert(Arrays.asList(person, person));
+        assertEquals(2, StreamSupport.stream(people.spliterator(), false).count());
+        verify(managerMock).insert(any(Iterable.class));
+        verify(managerMock, never()).insert(any(ColumnEntity.class));
     }
 
     @Test
@@ -248,11 +273,76 @@ public class DefaultColumnTemplateTest {
         columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .update(any(ColumnEntity.class)))
-                .thenReturn(columnEntity);
+                .update(any(Iterable.class)))
+                .thenReturn(List.of(columnEntity, columnEntity));
 
         template.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(ColumnEntity.class));
+        verify(managerMock).update(any(Iterable.class));
+        verify(managerMock, never()).update(any(ColumnEntity.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldInsertEntitiesInBatches() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.insert(any(Iterable.class))).thenAnswer(a -> a.getArgument(0));
+
+        System.setProperty(MappingConfigurations.BATCH_SIZE.get(), "2");
+        try {
+            Instance<ColumnManager> instance = Mockito.mock(Instance.class);
+            when(instance.get()).thenReturn(managerMock);
+            template = new DefaultColumnTemplate(converter, instance, new DefaultColumnWorkflow(columnEventPersistManager, converter),
+                    columnEventPersistManager, entities, converters, cache, units);
+        } finally {
+            System.clearProperty(MappingConfigurations.BATCH_SIZE.get());
+        }
+
+        Iterable<Person> people = template.insert(Arrays.asList(person, person, person));
+        assertEquals(3, StreamSupport.stream(people.spliterator(), false).count());
+        ArgumentCaptor<Iterable<ColumnEntity>> batches = ArgumentCaptor.forClass(Iterable.class);
+        verify(managerMock, times(2)).insert(batches.capture());
+        assertEquals(2, ((List<ColumnEntity>) batches.getAllValues().get(0)).size());
+        assertEquals(1, ((List<ColumnEntity>) batches.getAllValues().get(1)).size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldUpdateEntitiesInBatches() {
+        Mockito.when(managerMock.update(any(Iterable.class))).thenAnswer(a -> a.getArgument(0));
+
+        System.setProperty(MappingConfigurations.BATCH_SIZE.get(), "2");
+        try {
+            Instance<ColumnManager> instance = Mockito.mock(Instance.class);
+            when(instance.get()).thenReturn(managerMock);
+            template = new DefaultColumnTemplate(converter, instance, new DefaultColumnWorkflow(columnEventPersistManager, converter),
+                    columnEventPersistManager, entities, converters, cache, units);
+        } finally {
+            System.clearProperty(MappingConfigurations.BATCH_SIZE.get());
+        }
+
+        template.update(Arrays.asList(person, person, person));
+        ArgumentCaptor<Iterable<ColumnEntity>> batches = ArgumentCaptor.forClass(Iterable.class);
+        verify(managerMock, times(2)).update(batches.capture());
+        assertEquals(2, ((List<ColumnEntity>) batches.getAllValues().get(0)).size());
+        assertEquals(1, ((List<ColumnEntity>) batches.getAllValues().get(1)).size());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenBatchSizeIsInvalid() {
+        System.setProperty(MappingConfigurations.BATCH_SIZE.get(), "two");
+        try {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> new DefaultColumnWorkflow(columnEventPersistManager, converter));
+        } finally {
+            System.clearProperty(MappingConfigurations.BATCH_SIZE.get());
+        }
+    }
+
+    @Test
+    public void shouldReturnErrorWhenBatchReturnsFewerEntities() {
+        Mockito.when(managerMock.insert(any(Iterable.class))).thenReturn(List.of());
+        Assertions.assertThrows(IllegalStateException.class, () -> template.insert(Arrays.asList(person, person)));
     }
 
     @Test
@@ -284,6 +374,48 @@ public class DefaultColumnTemplateTest {
         verify(managerMock).exists(query);
     }
 
+    @Test
+    public void shouldParallelSelect() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        ColumnQuery query = select().from("Person").build();
+        Mockito.when(managerMock.split(query, 4)).thenReturn(List.of(query, query));
+        Mockito.when(managerMock.parallelSelect(query, 4)).thenCallRealMethod();
+        Mockito.when(managerMock.select(query)).thenAnswer(a -> Stream.of(entity));
+
+        List<Person> people = template.<Person>parallelSelect(query, 4).collect(Collectors.toList());
+        assertEquals(2, people.size());
+        verify(managerMock, times(2)).select(query);
+    }
+
+    @Test
+    public void shouldSelectWithCancellation() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        ColumnQuery query = select().from("Person").build();
+        Mockito.when(managerMock.select(query)).thenAnswer(a -> Stream.of(entity));
+        Mockito.when(managerMock.select(Mockito.eq(query), any(Cancellation.class))).thenCallRealMethod();
+
+        Cancellation cancellation = Cancellation.create();
+        List<Person> people = template.<Person>select(query, cancellation).collect(Collectors.toList());
+        assertEquals(1, people.size());
+        cancellation.cancel();
+        Assertions.assertThrows(CancellationException.class, () -> template.select(query, cancellation));
+    }
+
+    @Test
+    public void shouldSelectWithQueryTimeout() {
+        ColumnQuery query = select().from("Person").timeout(Duration.ofSeconds(10)).build();
+        Mockito.when(managerMock.select(query)).thenAnswer(a -> Stream.empty());
+        Mockito.when(managerMock.select(Mockito.eq(query), any(Cancellation.class))).thenCallRealMethod();
+        Mockito.when(managerMock.count(Mockito.eq(query), any(Cancellation.class))).thenReturn(10L);
+
+        assertEquals(0, template.select(query).count());
+        assertEquals(10L, template.count(query));
+        verify(managerMock).select(Mockito.eq(query), any(Cancellation.class));
+        verify(managerMock).count(Mockito.eq(query), any(Cancellation.class));
+    }
+
     @Test
     public void shouldReturnSingleResult() {
         ColumnEntity columnEntity = ColumnEntity.of("Person");
@@ -423,4 +555,238 @@ public class DefaultColumnTemplateTest {
         template.deleteAll(Person.class);
         verify(managerMock).delete(delete().from("Person").build());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldFindFromIdentityMap() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        entity.add("_id", 19L);
+        when(managerMock.select(any(ColumnQuery.class))).thenAnswer(a -> Stream.of(entity));
+        when(managerMock.update(any(ColumnEntity.class))).thenAnswer(a -> a.getArgument(0));
+
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            Person person = template.find(Person.class, 19L).orElseThrow();
+            assertSame(person, template.find(Person.class, 19L).orElseThrow());
+            verify(managerMock, times(1)).select(any(ColumnQuery.class));
+
+            template.update(person);
+            template.find(Person.class, 19L).orElseThrow();
+            verify(managerMock, times(2)).select(any(ColumnQuery.class));
+        }
+        template.find(Person.class, 19L).orElseThrow();
+        verify(managerMock, times(3)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldReturnSameInstanceAtSelect() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        entity.add("_id", 19L);
+        when(managerMock.select(any(ColumnQuery.class))).thenAnswer(a -> Stream.of(entity));
+        ColumnQuery query = select().from("Person").build();
+
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            Person person = template.<Person>select(query).findFirst().orElseThrow();
+            assertSame(person, template.<Person>select(query).findFirst().orElseThrow());
+            assertSame(person, template.find(Person.class, 19L).orElseThrow());
+
+            template.delete(ColumnDeleteQuery.delete().from("Person").build());
+            assertNotSame(person, template.find(Person.class, 19L).orElseThrow());
+        }
+        assertNotSame(template.<Person>select(query).findFirst().orElseThrow(),
+                template.<Person>select(query).findFirst().orElseThrow());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldUpdateOnlyChangedColumnsWhenTracking() {
+        DefaultColumnTemplate template = trackingTemplate();
+        when(managerMock.select(any(ColumnQuery.class))).thenReturn(Stream.of(vendor()));
+        when(managerMock.update(any(ColumnEntity.class), any(Set.class))).thenAnswer(a -> a.getArgument(0));
+
+        Vendor vendor = template.find(Vendor.class, "apple").orElseThrow();
+        template.update(vendor);
+        verify(managerMock, never()).update(any(ColumnEntity.class));
+        verify(managerMock, never()).update(any(ColumnEntity.class), any(Set.class));
+
+        vendor.setPrefixes(Set.of("a", "b"));
+        template.update(vendor);
+        verify(managerMock).update(any(ColumnEntity.class), eq(Set.of("prefixes")));
+
+        template.update(vendor);
+        verify(managerMock, times(1)).update(any(ColumnEntity.class), any(Set.class));
+        verify(managerMock, never()).update(any(ColumnEntity.class));
+    }
+
+    @Test
+    public void shouldUpdateWholeEntityWhenColumnIsRemoved() {
+        DefaultColumnTemplate template = trackingTemplate();
+        when(managerMock.select(any(ColumnQuery.class))).thenReturn(Stream.of(vendor()));
+        when(managerMock.update(any(ColumnEntity.class))).thenAnswer(a -> a.getArgument(0));
+
+        Vendor vendor = template.find(Vendor.class, "apple").orElseThrow();
+        vendor.setPrefixes(null);
+        template.update(vendor);
+        verify(managerMock).update(captor.capture());
+        assertFalse(captor.getValue().find("prefixes").isPresent());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldCompareTrackedEntityWithConverterValues() {
+        DefaultColumnTemplate template = trackingTemplate();
+        ColumnEntity entity = ColumnEntity.of("vendors", List.of(Column.of("_id", "apple"),
+                Column.of("prefixes", List.of("a"))));
+        when(managerMock.select(any(ColumnQuery.class))).thenReturn(Stream.of(entity));
+        when(managerMock.update(any(ColumnEntity.class), any(Set.class))).thenAnswer(a -> a.getArgument(0));
+
+        Vendor vendor = template.find(Vendor.class, "apple").orElseThrow();
+        template.update(vendor);
+        verify(managerMock, never()).update(any(ColumnEntity.class));
+        verify(managerMock, never()).update(any(ColumnEntity.class), any(Set.class));
+
+        vendor.setPrefixes(Set.of("a", "b"));
+        template.update(vendor);
+        verify(managerMock).update(any(ColumnEntity.class), eq(Set.of("prefixes")));
+        verify(managerMock, never()).update(any(ColumnEntity.class));
+    }
+
+    @Test
+    public void shouldUpdateWholeEntityWhenItIsNotTracked() {
+        DefaultColumnTemplate template = trackingTemplate();
+        when(managerMock.update(any(ColumnEntity.class))).thenAnswer(a -> a.getArgument(0));
+        Vendor vendor = new Vendor("apple");
+        template.update(vendor);
+        verify(managerMock).update(any(ColumnEntity.class));
+    }
+
+    @Test
+    public void shouldFindFromSecondLevelCache() {
+        when(managerMock.select(any(ColumnQuery.class))).thenAnswer(a -> Stream.of(country()));
+
+        Country country = template.find(Country.class, "br").orElseThrow();
+        Country cached = template.find(Country.class, "br").orElseThrow();
+        verify(managerMock, times(1)).select(any(ColumnQuery.class));
+        assertNotSame(country, cached);
+        assertEquals("Brazil", cached.getName());
+
+        CacheStatistics statistics = template.cacheStatistics().get("Country");
+        assertEquals(1L, statistics.getHits());
+        assertEquals(1L, statistics.getMisses());
+        assertEquals(0.5D, statistics.getHitRate());
+    }
+
+    @Test
+    public void shouldCacheSelectResults() {
+        when(managerMock.select(any(ColumnQuery.class))).thenAnswer(a -> Stream.of(country()));
+
+        template.<Country>select(select().from("Country").build()).forEach(c -> { });
+        template.find(Country.class, "br").orElseThrow();
+        verify(managerMock, times(1)).select(any(ColumnQuery.class));
+
+        template.<Country>select(select("name").from("Country").build()).forEach(c -> { });
+        assertEquals(1L, template.cacheStatistics().get("Country").getSize());
+    }
+
+    @Test
+    public void shouldInvalidateCacheAtUpdate() {
+        when(managerMock.select(any(ColumnQuery.class))).thenAnswer(a -> Stream.of(country()));
+        when(managerMock.update(any(ColumnEntity.class))).thenAnswer(a -> a.getArgument(0));
+
+        Country country = template.find(Country.class, "br").orElseThrow();
+        country.setName("Brasil");
+        template.update(country);
+        template.find(Country.class, "br").orElseThrow();
+        verify(managerMock, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldEvictCacheAtDelete() {
+        when(managerMock.select(any(ColumnQuery.class))).thenAnswer(a -> Stream.of(country()));
+
+        template.find(Country.class, "br").orElseThrow();
+        template.delete(Country.class, "br");
+        template.find(Country.class, "br").orElseThrow();
+        verify(managerMock, times(2)).select(any(ColumnQuery.class));
+
+        template.deleteAll(Country.class);
+        template.find(Country.class, "br").orElseThrow();
+        verify(managerMock, times(3)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldShareCacheBetweenTemplates() {
+        when(managerMock.select(any(ColumnQuery.class))).thenAnswer(a -> Stream.of(country()));
+        Instance<ColumnManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(managerMock);
+        DefaultColumnTemplate other = new DefaultColumnTemplate(converter, instance, new DefaultColumnWorkflow(columnEventPersistManager, converter),
+                columnEventPersistManager,
+                entities, converters, cache, units);
+
+        template.find(Country.class, "br").orElseThrow();
+        other.find(Country.class, "br").orElseThrow();
+        verify(managerMock, times(1)).select(any(ColumnQuery.class));
+
+        other.delete(Country.class, "br");
+        template.find(Country.class, "br").orElseThrow();
+        verify(managerMock, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldIsolateCacheBetweenManagers() {
+        when(managerMock.select(any(ColumnQuery.class))).thenAnswer(a -> Stream.of(country()));
+        ColumnManager otherManager = Mockito.mock(ColumnManager.class);
+        when(otherManager.select(any(ColumnQuery.class))).thenAnswer(a -> Stream.empty());
+        Instance<ColumnManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(otherManager);
+        DefaultColumnTemplate other = new DefaultColumnTemplate(converter, instance, new DefaultColumnWorkflow(columnEventPersistManager, converter),
+                columnEventPersistManager,
+                entities, converters, cache, units);
+
+        template.find(Country.class, "br").orElseThrow();
+        assertTrue(other.find(Country.class, "br").isEmpty());
+        verify(managerMock, times(1)).select(any(ColumnQuery.class));
+        verify(otherManager, times(1)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldNotCacheWhenWriteHappensDuringSelect() {
+        when(managerMock.select(any(ColumnQuery.class))).thenAnswer(a -> Stream.of(country()));
+
+        Stream<Country> countries = template.select(select().from("Country").build());
+        template.delete(Country.class, "br");
+        countries.forEach(c -> { });
+        template.find(Country.class, "br").orElseThrow();
+        verify(managerMock, times(2)).select(any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldNotCacheWhenEntityIsNotCacheable() {
+        when(managerMock.select(any(ColumnQuery.class))).thenAnswer(a -> Stream.of(vendor()));
+
+        template.find(Vendor.class, "apple").orElseThrow();
+        template.find(Vendor.class, "apple").orElseThrow();
+        verify(managerMock, times(2)).select(any(ColumnQuery.class));
+        assertTrue(template.cacheStatistics().isEmpty());
+    }
+
+    private ColumnEntity country() {
+        return ColumnEntity.of("Country", List.of(Column.of("_id", "br"), Column.of("name", "Brazil")));
+    }
+
+    private ColumnEntity vendor() {
+        return ColumnEntity.of("vendors", List.of(Column.of("_id", "apple"), Column.of("prefixes", Set.of("a"))));
+    }
+
+    private DefaultColumnTemplate trackingTemplate() {
+        System.setProperty(MappingConfigurations.CHANGE_TRACKING.get(), "true");
+        try {
+            Instance<ColumnManager> instance = Mockito.mock(Instance.class);
+            when(instance.get()).thenReturn(managerMock);
+            return new DefaultColumnTemplate(converter, instance, new DefaultColumnWorkflow(columnEventPersistManager, converter),
+                    columnEventPersistManager, entities, converters, cache, units);
+        } finally {
+            System.clearProperty(MappingConfigurations.CHANGE_TRACKING.get());
+        }
+    }
+}
@@ -21,6 +21,8 @@ import org.eclipse.jnosql.communication.column.ColumnManager;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
 import org.eclipse.jnosql.mapping.Convert;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.SecondLevelCache;
+import org.eclipse.jnosql.mapping.UnitOfWorkResolver;
 import org.eclipse.jnosql.mapping.column.spi.ColumnExtension;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
 import org.eclipse.jnosql.mapping.column.entities.Address;
@@ -63,6 +65,12 @@ public class MapperSelectTest {
     @Inject
     private Converters converters;
 
+    @Inject
+    private SecondLevelCache cache;
+
+    @Inject
+    private UnitOfWorkResolver units;
+
     private ColumnManager managerMock;
 
     private DefaultColumnTemplate template;
@@ -78,7 +86,7 @@ public class MapperSelectTest {
         when(instance.get()).thenReturn(managerMock);
         DefaultColumnWorkflow workflow = new DefaultColumnWorkflow(persistManager, converter);
         this.template = new DefaultColumnTemplate(converter, instance, workflow,
-                persistManager, entities, converters);
+                persistManager, entities, converters, cache, units);
     }
 
 
@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.mapping.column.query;
 
+import jakarta.data.repository.Pageable;
 import jakarta.data.repository.PageableRepository;
 import jakarta.data.repository.Param;
 import jakarta.data.repository.Query;
@@ -21,6 +22,7 @@ import jakarta.data.repository.Sort;
 import jakarta.inject.Inject;
 import jakarta.nosql.PreparedStatement;
 import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.column.Column;
@@ -29,6 +31,7 @@ import org.eclipse.jnosql.communication.column.ColumnDeleteQuery;
 import org.eclipse.jnosql.communication.column.ColumnQuery;
 import org.eclipse.jnosql.mapping.Convert;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.Hint;
 import org.eclipse.jnosql.mapping.column.ColumnWorkflow;
 import org.eclipse.jnosql.mapping.column.JNoSQLColumnTemplate;
 import org.eclipse.jnosql.mapping.column.MockProducer;
@@ -52,6 +55,7 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
@@ -210,6 +214,62 @@ public class ColumnRepositoryProxyTest {
 
     }
 
+    @Test
+    public void shouldAppendIdToKeysetSorts() {
+        when(template.select(any(ColumnQuery.class))).thenReturn(Stream.empty());
+
+        personRepository.findAll(Pageable.ofSize(2).sortBy(Sort.asc("name")).afterKeyset("Ada", 10L));
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertThat(query.sorts()).containsExactly(Sort.asc("name"), Sort.asc("_id"));
+        assertEquals(Condition.OR, query.condition().orElseThrow().condition());
+    }
+
+    @Test
+    public void shouldFindByProjection() {
+        Person ada = Person.builder()
+                .withAge(20).withName("Ada").build();
+
+        when(template.select(any(ColumnQuery.class)))
+                .thenReturn(Stream.of(ada));
+
+        List<PersonName> names = personRepository.findByAgeGreaterThanEqual(20);
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertThat(query.columns()).containsExactly("name", "age");
+        assertThat(names).hasSize(1);
+        PersonName name = names.get(0);
+        assertEquals("Ada", name.getName());
+        assertEquals(20, name.getAge());
+    }
+
+    @Test
+    public void shouldFindByHints() {
+        when(template.select(any(ColumnQuery.class)))
+                .thenReturn(Stream.empty());
+
+        personRepository.findByPhones("123");
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertThat(query.hints()).containsExactly(Map.entry(QueryHints.FETCH_SIZE, "100"),
+                Map.entry(QueryHints.READ_CONSISTENCY, "QUORUM"));
+        assertTrue(query.condition().isPresent());
+    }
+
+    @Test
+    public void shouldQueryWithHints() {
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        when(statement.result()).thenReturn(Stream.empty());
+        when(template.prepare(Mockito.anyString(), Mockito.anyMap())).thenReturn(statement);
+
+        personRepository.findByHintedQuery();
+        verify(template).prepare("select * from Person", Map.of(QueryHints.FETCH_SIZE, "100"));
+        verify(template, Mockito.never()).query(Mockito.anyString());
+    }
+
     @Test
     public void shouldFindByAgeANDName() {
         Person ada = Person.builder()
@@ -684,8 +744,25 @@ public class ColumnRepositoryProxyTest {
         assertEquals("Poliana", column.get());
     }
 
+    interface PersonName {
+
+        String getName();
+
+        int getAge();
+    }
+
     interface PersonRepository extends PageableRepository<Person, Long> {
 
+        List<PersonName> findByAgeGreaterThanEqual(Integer age);
+
+        @Hint(name = QueryHints.FETCH_SIZE, value = "100")
+        @Hint(name = QueryHints.READ_CONSISTENCY, value = "QUORUM")
+        List<Person> findByPhones(String phone);
+
+        @Hint(name = QueryHints.FETCH_SIZE, value = "100")
+        @Query("select * from Person")
+        List<Person> findByHintedQuery();
+
         List<Person> findByActiveTrue();
 
         List<Person> findByActiveFalse();
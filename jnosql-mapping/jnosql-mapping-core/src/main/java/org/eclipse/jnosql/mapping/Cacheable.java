@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Specifies that the entity is kept at the second-level cache of the document and column templates: the entities
+ * found by id or by a query are kept by id, as they were read from the database, and the template's own writes
+ * invalidate them. It fits read-mostly entities, since the changes made by other processes are only seen when the
+ * entry expires, ten minutes by default.
+ *
+ * <pre>
+ *   &#064;Entity
+ *   &#064;Cacheable(size = 500, ttl = 10, unit = ChronoUnit.MINUTES)
+ *   public class Country { ... }
+ * </pre>
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Cacheable {
+
+    /**
+     * The maximum number of entities kept, when it is full, the least recently used entity is evicted.
+     *
+     * @return the maximum number of entities
+     */
+    int size() default 1000;
+
+    /**
+     * The time to live of an entity at the cache, zero means it does not expire, thus, it should be explicit.
+     *
+     * @return the time to live
+     */
+    long ttl() default 10;
+
+    /**
+     * The unit of the {@link Cacheable#ttl()}
+     *
+     * @return the time unit
+     */
+    ChronoUnit unit() default ChronoUnit.MINUTES;
+}
@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Keeps a snapshot of the entities, as they were loaded from the database, thus, a template can check which
+ * fields have changed before an update. The entities are held by identity and weakly, so an entity that is no longer
+ * used by the application is released with its snapshot.
+ *
+ * @param <S> the snapshot type
+ */
+public final class ChangeTracker<S> {
+
+    private final Map<Key, S> snapshots = new HashMap<>();
+
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    /**
+     * Keeps the snapshot of the entity, replacing the previous one
+     *
+     * @param entity   the entity
+     * @param snapshot the snapshot
+     * @throws NullPointerException when there is a null parameter
+     */
+    public synchronized void track(Object entity, S snapshot) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(snapshot, "snapshot is required");
+        expunge();
+        snapshots.put(new Key(entity, queue), snapshot);
+    }
+
+    /**
+     * Returns the snapshot of the entity
+     *
+     * @param entity the entity
+     * @return the snapshot or {@link Optional#empty()} when the entity is not tracked
+     * @throws NullPointerException when entity is null
+     */
+    public synchronized Optional<S> get(Object entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        expunge();
+        return Optional.ofNullable(snapshots.get(new Key(entity, null)));
+    }
+
+    /**
+     * Stops tracking the entity
+     *
+     * @param entity the entity
+     * @throws NullPointerException when entity is null
+     */
+    public synchronized void remove(Object entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        snapshots.remove(new Key(entity, null));
+        expunge();
+    }
+
+    /**
+     * @return the number of entities tracked
+     */
+    public synchronized int size() {
+        expunge();
+        return snapshots.size();
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeTracker{" +
+                "size=" + size() +
+                '}';
+    }
+
+    private void expunge() {
+        for (Reference<?> reference = queue.poll(); reference != null; reference = queue.poll()) {
+            snapshots.remove(reference);
+        }
+    }
+
+    /**
+     * Checks if the change tracking is enabled at {@link MicroProfileSettings}
+     *
+     * @return true when {@link MappingConfigurations#CHANGE_TRACKING} is true
+     */
+    public static boolean isEnabled() {
+        return isEnabled(MicroProfileSettings.INSTANCE);
+    }
+
+    /**
+     * Checks if the change tracking is enabled at the settings
+     *
+     * @param settings the settings
+     * @return true when {@link MappingConfigurations#CHANGE_TRACKING} is true
+     * @throws NullPointerException when settings is null
+     */
+    public static boolean isEnabled(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        return settings.get(MappingConfigurations.CHANGE_TRACKING, String.class)
+                .map(String::trim).map(Boolean::parseBoolean).orElse(false);
+    }
+
+    private static final class Key extends WeakReference<Object> {
+
+        private final int hash;
+
+        private Key(Object entity, ReferenceQueue<Object> queue) {
+            super(entity, queue);
+            this.hash = System.identityHashCode(entity);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Object entity = get();
+            return entity != null && entity == ((Key) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -15,18 +15,27 @@
 package org.eclipse.jnosql.mapping;
 
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
 import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.inject.Inject;
 
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Logger;
 
 /**
  * The {@link Convert} collection, this instance will generate/create an instance.
+ * The instance is resolved once by converter class: it keeps the client proxy of a normal scoped bean, thus, the
+ * scope still applies, and the instance itself of either a {@link Dependent} bean or a class that is not a bean.
+ * Therefore, those converters are shared, and they should be thread-safe.
  */
 @ApplicationScoped
 public class Converters {
@@ -39,6 +48,10 @@ public class Converters {
     @Inject
     private InstanceProducer instanceProducer;
 
+    private final Map<Class<?>, Object> converters = new ConcurrentHashMap<>();
+
+    private final List<CreationalContext<?>> dependents = new CopyOnWriteArrayList<>();
+
     /**
      * Returns a converter instance where it might use scope from CDI.
      *
@@ -50,7 +63,21 @@ public class Converters {
      */
     public <X, Y> AttributeConverter<X, Y> get(Class<? extends AttributeConverter<X, Y>> converterClass) {
         Objects.requireNonNull(converterClass, "The converterClass is required");
-        return getInstance(converterClass);
+        Object converter = converters.get(converterClass);
+        if (converter == null) {
+            converter = getInstance(converterClass);
+        }
+        return (AttributeConverter<X, Y>) converter;
+    }
+
+    /**
+     * Releases the {@link Dependent} converters
+     */
+    @PreDestroy
+    void destroy() {
+        converters.clear();
+        dependents.forEach(CreationalContext::release);
+        dependents.clear();
     }
 
     private <T> T getInstance(Class<T> entity) {
@@ -58,14 +85,29 @@ public class Converters {
         if (iterator.hasNext()) {
             Bean<T> bean = (Bean<T>) iterator.next();
             CreationalContext<T> ctx = beanManager.createCreationalContext(bean);
-            return (T) beanManager.getReference(bean, entity, ctx);
+            T instance = (T) beanManager.getReference(bean, entity, ctx);
+            return cache(entity, instance, Dependent.class.equals(bean.getScope()) ? ctx : null);
         } else {
             LOGGER.info("The entity type: " + entity + " not found on CDI context, creating by constructor");
-            return instanceProducer.create(entity);
+            return cache(entity, instanceProducer.create(entity), null);
         }
 
     }
 
+    private <T> T cache(Class<T> entity, T instance, CreationalContext<T> ctx) {
+        Object current = converters.putIfAbsent(entity, instance);
+        if (current != null) {
+            if (ctx != null) {
+                ctx.release();
+            }
+            return (T) current;
+        }
+        if (ctx != null) {
+            dependents.add(ctx);
+        }
+        return instance;
+    }
+
     @Override
     public String toString() {
         return "DefaultConverters{" +
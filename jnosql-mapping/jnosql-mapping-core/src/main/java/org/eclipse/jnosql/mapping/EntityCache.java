@@ -0,0 +1,201 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded cache of the entities of a name, by id, that keeps the communication representation, thus, the template
+ * converts it again at each hit and the cached value is never changed by the application. When it is full, it evicts
+ * the least recently used entity, and the entities expire after the time to live, when there is one.
+ * Each removal starts a new generation, thus, a reader that takes the {@link EntityCache#generation()} before reading
+ * the database does not keep a row that a concurrent write has already invalidated.
+ *
+ * @param <V> the communication representation, e.g., a DocumentEntity
+ */
+public final class EntityCache<V> {
+
+    private final String name;
+
+    private final int size;
+
+    private final long ttl;
+
+    private final LongSupplier clock;
+
+    private final Map<Object, Entry<V>> entries;
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    private final AtomicLong generation;
+
+    EntityCache(String name, int size, Duration ttl, LongSupplier clock) {
+        this(name, size, ttl, clock, new AtomicLong());
+    }
+
+    EntityCache(String name, int size, Duration ttl, LongSupplier clock, AtomicLong generation) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The cache size should be positive, size: " + size);
+        }
+        this.name = name;
+        this.size = size;
+        this.ttl = ttl.isZero() || ttl.isNegative() ? 0L : ttl.toNanos();
+        this.clock = clock;
+        this.generation = generation;
+        this.entries = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry<V>> eldest) {
+                if (size() > EntityCache.this.size) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return the entity name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the entity with the id
+     *
+     * @param id the id
+     * @return the entity or {@link Optional#empty()} when it is either not cached or expired
+     * @throws NullPointerException when id is null
+     */
+    public synchronized Optional<V> get(Object id) {
+        Objects.requireNonNull(id, "id is required");
+        Entry<V> entry = entries.get(id);
+        if (entry != null && entry.isExpired(clock.getAsLong())) {
+            entries.remove(id);
+            evictions++;
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return Optional.empty();
+        }
+        hits++;
+        return Optional.of(entry.value);
+    }
+
+    /**
+     * Keeps the entity with the id
+     *
+     * @param id    the id
+     * @param value the entity
+     * @throws NullPointerException when there is a null parameter
+     */
+    public synchronized void put(Object id, V value) {
+        Objects.requireNonNull(id, "id is required");
+        Objects.requireNonNull(value, "value is required");
+        long expiration = ttl == 0L ? 0L : clock.getAsLong() + ttl;
+        entries.put(id, new Entry<>(value, expiration));
+    }
+
+    /**
+     * Keeps the entity with the id only when there was no removal since the generation was taken, e.g., before
+     * reading the entity from the database.
+     *
+     * @param id         the id
+     * @param value      the entity
+     * @param generation the {@link EntityCache#generation()} taken before reading the entity
+     * @return true when the entity was kept
+     * @throws NullPointerException when there is a null parameter
+     */
+    public synchronized boolean put(Object id, V value, long generation) {
+        Objects.requireNonNull(id, "id is required");
+        Objects.requireNonNull(value, "value is required");
+        if (this.generation.get() != generation) {
+            return false;
+        }
+        put(id, value);
+        return true;
+    }
+
+    /**
+     * @return the current generation, it changes at each removal
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Removes the entity with the id
+     *
+     * @param id the id
+     * @throws NullPointerException when id is null
+     */
+    public synchronized void remove(Object id) {
+        Objects.requireNonNull(id, "id is required");
+        generation.incrementAndGet();
+        entries.remove(id);
+    }
+
+    /**
+     * Removes all the entities
+     */
+    public synchronized void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * @return the statistics of this cache
+     */
+    public synchronized CacheStatistics statistics() {
+        return new CacheStatistics(hits, misses, evictions, entries.size());
+    }
+
+    @Override
+    public String toString() {
+        return "EntityCache{" +
+                "name='" + name + '\'' +
+                ", size=" + size +
+                ", ttl=" + ttl +
+                '}';
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+
+        private final long expiration;
+
+        private Entry(V value, long expiration) {
+            this.value = value;
+            this.expiration = expiration;
+        }
+
+        private boolean isExpired(long now) {
+            return expiration != 0L && now - expiration >= 0;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * The second-level caches, one {@link EntityCache} per entity name, created to the entities annotated
+ * with {@link Cacheable}. The entities that share a name, such as an inheritance, share the cache, bounded by the
+ * first {@link Cacheable} found. The caches share the generation, thus, any removal, even of a name that has no cache
+ * yet, changes it. The templates share the caches of the application through {@link SecondLevelCache}.
+ *
+ * @param <V> the communication representation, e.g., a DocumentEntity
+ */
+public final class EntityCaches<V> {
+
+    private final Map<Class<?>, Optional<EntityCache<V>>> types = new ConcurrentHashMap<>();
+
+    private final Map<String, EntityCache<V>> caches = new ConcurrentHashMap<>();
+
+    private final LongSupplier clock;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Creates the caches using {@link System#nanoTime()} to the time to live
+     */
+    public EntityCaches() {
+        this(System::nanoTime);
+    }
+
+    EntityCaches(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cache of the entity
+     *
+     * @param metadata the entity metadata
+     * @return the cache or {@link Optional#empty()} when the entity is not annotated with {@link Cacheable}
+     * @throws NullPointerException when metadata is null
+     */
+    public Optional<EntityCache<V>> get(EntityMetadata metadata) {
+        Objects.requireNonNull(metadata, "metadata is required");
+        return types.computeIfAbsent(metadata.getType(), type -> {
+            Cacheable cacheable = type.getAnnotation(Cacheable.class);
+            if (cacheable == null) {
+                return Optional.empty();
+            }
+            return Optional.of(caches.computeIfAbsent(metadata.getName(), name -> new EntityCache<>(name,
+                    cacheable.size(), Duration.of(cacheable.ttl(), cacheable.unit()), clock, generation)));
+        });
+    }
+
+    /**
+     * Returns the generation shared by the caches, to take before reading the entities from the database
+     *
+     * @return the {@link EntityCache#generation()}
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Removes all the entities with the name
+     *
+     * @param name the entity name
+     * @throws NullPointerException when name is null
+     */
+    public void evict(String name) {
+        Objects.requireNonNull(name, "name is required");
+        generation.incrementAndGet();
+        EntityCache<V> cache = caches.get(name);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Removes all the entities of all the caches
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        caches.values().forEach(EntityCache::clear);
+    }
+
+    /**
+     * @return the statistics of each cache by entity name
+     */
+    public Map<String, CacheStatistics> statistics() {
+        Map<String, CacheStatistics> statistics = new TreeMap<>();
+        caches.forEach((name, cache) -> statistics.put(name, cache.statistics()));
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    @Override
+    public String toString() {
+        return "EntityCaches{" +
+                "caches=" + caches.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines a hint of the query of a repository method, such as
+ * {@link org.eclipse.jnosql.communication.QueryHints#FETCH_SIZE}. The hint is propagated untouched to the driver,
+ * either from a query method or from a method with the {@link jakarta.data.repository.Query} annotation.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Repeatable(Hints.class)
+public @interface Hint {
+    /**
+     * The hint name
+     *
+     * @return the hint name
+     */
+    String name();
+
+    /**
+     * The hint value
+     *
+     * @return the hint value
+     */
+    String value();
+}
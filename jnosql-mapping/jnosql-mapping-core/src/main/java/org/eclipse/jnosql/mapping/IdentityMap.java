@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The entities already loaded by a template at a {@link UnitOfWork}, by the entity name and id, thus, loading the
+ * same entity again returns the same instance without reaching the database. The id is the value sent to the
+ * database, so the template should convert it the same way at the reads and the writes.
+ * It is thread-safe, as a {@link UnitOfWork} can be reached from the threads of a parallel query.
+ */
+public final class IdentityMap {
+
+    private final Map<String, Map<Object, Object>> entities = new ConcurrentHashMap<>();
+
+    IdentityMap() {
+    }
+
+    /**
+     * Returns the entity loaded with the name and id
+     *
+     * @param name the entity name
+     * @param id   the id
+     * @param type the entity type
+     * @param <T>  the entity type
+     * @return the entity or {@link Optional#empty()} when there is no entity loaded or it is not an instance of type
+     * @throws NullPointerException when there is a null parameter
+     */
+    public <T> Optional<T> get(String name, Object id, Class<T> type) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(id, "id is required");
+        Objects.requireNonNull(type, "type is required");
+        Map<Object, Object> ids = entities.get(name);
+        if (ids == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(ids.get(id)).filter(type::isInstance).map(type::cast);
+    }
+
+    /**
+     * Keeps the entity loaded, when there is already an entity with the same name and id, it returns that one
+     *
+     * @param name   the entity name
+     * @param id     the id
+     * @param entity the entity loaded
+     * @param <T>    the entity type
+     * @return the entity at the identity map
+     * @throws NullPointerException when there is a null parameter
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T putIfAbsent(String name, Object id, T entity) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(id, "id is required");
+        Objects.requireNonNull(entity, "entity is required");
+        Map<Object, Object> ids = entities.computeIfAbsent(name, k -> new ConcurrentHashMap<>());
+        return (T) ids.compute(id, (k, current) -> current != null && entity.getClass().isInstance(current)
+                ? current : entity);
+    }
+
+    /**
+     * Removes the entity with the name and id
+     *
+     * @param name the entity name
+     * @param id   the id
+     * @throws NullPointerException when there is a null parameter
+     */
+    public void remove(String name, Object id) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(id, "id is required");
+        Map<Object, Object> ids = entities.get(name);
+        if (ids != null) {
+            ids.remove(id);
+        }
+    }
+
+    /**
+     * Removes all the entities with the name
+     *
+     * @param name the entity name
+     * @throws NullPointerException when name is null
+     */
+    public void evict(String name) {
+        Objects.requireNonNull(name, "name is required");
+        entities.remove(name);
+    }
+
+    /**
+     * Removes all the entities
+     */
+    public void clear() {
+        entities.clear();
+    }
+
+    /**
+     * @return the number of entities loaded
+     */
+    public int size() {
+        return entities.values().stream().mapToInt(Map::size).sum();
+    }
+
+    @Override
+    public String toString() {
+        return "IdentityMap{" +
+                "entities=" + entities.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * A list that keeps the values as they came from the database and converts each one on first access, thus, an entity
+ * with a large collection of embeddable entities is loaded without converting the elements that are never read.
+ * The list is modifiable and the converted elements are kept. Since {@link #set(int, Object)} and
+ * {@link #remove(int)} return the previous element, they convert it as well; only the values that are never reached
+ * by any of these methods stay unconverted.
+ * It is not thread-safe, as an {@link ArrayList}: even a read changes the list, because {@link #get(int)} stores the
+ * converted element, thus, a list shared between threads requires an external synchronization.
+ *
+ * @param <T> the element type
+ */
+public final class LazyList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final List<Object> elements;
+
+    private final Function<Object, T> converter;
+
+    private int pending;
+
+    private LazyList(List<Object> elements, Function<Object, T> converter) {
+        this.elements = elements;
+        this.converter = converter;
+        this.pending = elements.size();
+    }
+
+    @Override
+    public T get(int index) {
+        return load(index, elements.get(index));
+    }
+
+    @Override
+    public T set(int index, T element) {
+        T previous = get(index);
+        elements.set(index, element);
+        return previous;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        elements.add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public T remove(int index) {
+        T previous = get(index);
+        elements.remove(index);
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        elements.clear();
+        pending = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * @return true when all the elements were converted
+     */
+    public boolean isLoaded() {
+        return pending == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T load(int index, Object element) {
+        if (element instanceof Pending) {
+            T value = converter.apply(((Pending) element).value);
+            elements.set(index, value);
+            pending--;
+            return value;
+        }
+        return (T) element;
+    }
+
+    @Override
+    public String toString() {
+        return "LazyList{" +
+                "size=" + elements.size() +
+                ", pending=" + pending +
+                '}';
+    }
+
+    /**
+     * Creates a list that converts the values on first access
+     *
+     * @param values    the values from the database
+     * @param converter the converter of a value to an element
+     * @param <T>       the element type
+     * @param <R>       the value type
+     * @return a {@link LazyList} instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> LazyList<T> of(List<R> values, Function<R, T> converter) {
+        Objects.requireNonNull(values, "values is required");
+        Objects.requireNonNull(converter, "converter is required");
+        List<Object> elements = new ArrayList<>(values.size());
+        for (R value : values) {
+            elements.add(new Pending(value));
+        }
+        return new LazyList<>(elements, (Function<Object, T>) converter);
+    }
+
+    /**
+     * Checks if the lazy collections are enabled at {@link MicroProfileSettings}
+     *
+     * @return true when {@link MappingConfigurations#LAZY_COLLECTIONS} is true
+     */
+    public static boolean isEnabled() {
+        return isEnabled(MicroProfileSettings.INSTANCE);
+    }
+
+    /**
+     * Checks if the lazy collections are enabled at the settings
+     *
+     * @param settings the settings
+     * @return true when {@link MappingConfigurations#LAZY_COLLECTIONS} is true
+     * @throws NullPointerException when settings is null
+     */
+    public static boolean isEnabled(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        return settings.get(MappingConfigurations.LAZY_COLLECTIONS, String.class)
+                .map(String::trim).map(Boolean::parseBoolean).orElse(false);
+    }
+
+    private static final class Pending {
+
+        private final Object value;
+
+        private Pending(Object value) {
+            this.value = value;
+        }
+    }
+}
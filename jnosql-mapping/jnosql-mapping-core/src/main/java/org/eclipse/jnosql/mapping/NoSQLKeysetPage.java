@@ -0,0 +1,199 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import jakarta.data.repository.KeysetAwarePage;
+import jakarta.data.repository.Pageable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A JNoSQL implementation of {@link KeysetAwarePage}, where each element has a {@link Pageable.Cursor}
+ * with the values of the sorts, so the next and previous pages are fetched from the keyset instead of skipping.
+ *
+ * @param <T> the entity type
+ */
+public final class NoSQLKeysetPage<T> implements KeysetAwarePage<T> {
+
+    private final List<T> entities;
+
+    private final Pageable pageable;
+
+    private final List<Pageable.Cursor> cursors;
+
+    private NoSQLKeysetPage(List<T> entities, Pageable pageable, List<Pageable.Cursor> cursors) {
+        this.entities = entities;
+        this.pageable = pageable;
+        this.cursors = cursors;
+    }
+
+    @Override
+    public long totalElements() {
+        throw new UnsupportedOperationException("JNoSQL has no support for this feature yet");
+    }
+
+    @Override
+    public long totalPages() {
+        throw new UnsupportedOperationException("JNoSQL has no support for this feature yet");
+    }
+
+    @Override
+    public List<T> content() {
+        return Collections.unmodifiableList(entities);
+    }
+
+    @Override
+    public boolean hasContent() {
+        return !this.entities.isEmpty();
+    }
+
+    @Override
+    public int numberOfElements() {
+        return this.entities.size();
+    }
+
+    @Override
+    public Pageable pageable() {
+        return this.pageable;
+    }
+
+    @Override
+    public Pageable.Cursor getKeysetCursor(int index) {
+        if (index < 0 || index >= cursors.size()) {
+            throw new IllegalArgumentException("There is no element at the index: " + index
+                    + " the page size is: " + cursors.size());
+        }
+        return this.cursors.get(index);
+    }
+
+    /**
+     * Returns the {@link Pageable} of the elements after the last element of this page,
+     * or null when this page has no content.
+     *
+     * @return the next {@link Pageable} or null
+     */
+    @Override
+    public Pageable nextPageable() {
+        if (cursors.isEmpty()) {
+            return null;
+        }
+        return this.pageable.afterKeysetCursor(cursors.get(cursors.size() - 1));
+    }
+
+    /**
+     * Returns the {@link Pageable} of the elements before the first element of this page,
+     * or null when this page has no content.
+     *
+     * @return the previous {@link Pageable} or null
+     */
+    @Override
+    public Pageable previousPageable() {
+        if (cursors.isEmpty()) {
+            return null;
+        }
+        return this.pageable.beforeKeysetCursor(cursors.get(0));
+    }
+
+    /**
+     * Returns a page with the elements converted by the mapper, keeping the keyset cursors of this page.
+     *
+     * @param mapper the mapper
+     * @param <R>    the new element type
+     * @return a {@link NoSQLKeysetPage} with the converted elements
+     * @throws NullPointerException when mapper is null
+     */
+    public <R> NoSQLKeysetPage<R> map(Function<T, R> mapper) {
+        Objects.requireNonNull(mapper, "mapper is required");
+        List<R> elements = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            elements.add(mapper.apply(entity));
+        }
+        return new NoSQLKeysetPage<>(elements, pageable, cursors);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return this.entities.iterator();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        NoSQLKeysetPage<?> that = (NoSQLKeysetPage<?>) o;
+        return Objects.equals(entities, that.entities) && Objects.equals(pageable, that.pageable)
+                && Objects.equals(cursors, that.cursors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entities, pageable, cursors);
+    }
+
+    @Override
+    public String toString() {
+        return "NoSQLKeysetPage{" +
+                "entities=" + entities +
+                ", pageable=" + pageable +
+                ", cursors=" + cursors +
+                '}';
+    }
+
+    /**
+     * Creates a {@link KeysetAwarePage} implementation from entities, a pageable and the function that
+     * extracts the keyset, the values of the sorts, of each entity.
+     * When the pageable is {@link Pageable.Mode#CURSOR_PREVIOUS} the entities are expected in the query order,
+     * thus, reversed, and they will be reversed back to the pageable order.
+     *
+     * @param entities the entities
+     * @param pageable the pageable
+     * @param keyset   the function that returns the keyset of an entity
+     * @param <T>      the entity type
+     * @return a {@link NoSQLKeysetPage} instance
+     * @throws NullPointerException     when there is a null parameter
+     * @throws IllegalArgumentException when an entity has a null value at the keyset, which the keyset pagination
+     *                                  does not support
+     */
+    public static <T> NoSQLKeysetPage<T> of(List<T> entities, Pageable pageable, Function<T, Object[]> keyset) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(pageable, "pageable is required");
+        Objects.requireNonNull(keyset, "keyset is required");
+        List<T> elements = new ArrayList<>(entities);
+        if (Pageable.Mode.CURSOR_PREVIOUS.equals(pageable.mode())) {
+            Collections.reverse(elements);
+        }
+        List<Pageable.Cursor> cursors = new ArrayList<>(elements.size());
+        for (T entity : elements) {
+            Object[] keys = keyset.apply(entity);
+            for (int index = 0; index < keys.length; index++) {
+                if (keys[index] == null) {
+                    throw new IllegalArgumentException("The keyset pagination does not support a null value at the"
+                            + " sort of the index: " + index + ", entity: " + entity);
+                }
+            }
+            cursors.add(pageable.afterKeyset(keys).cursor());
+        }
+        return new NoSQLKeysetPage<>(elements, pageable, cursors);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * Keeps the {@link UnitOfWork} of a CDI request, when
+ * {@link org.eclipse.jnosql.mapping.config.MappingConfigurations#IDENTITY_MAP} is true. The unit of work lives at
+ * the request context instead of the thread, so it is not left behind when the request ends at another thread, and
+ * it is closed when the container destroys the request context.
+ */
+@RequestScoped
+class RequestUnitOfWork {
+
+    private UnitOfWork unitOfWork;
+
+    /**
+     * Returns the unit of work of the request, it begins at the first call
+     *
+     * @return the {@link UnitOfWork} of the request
+     */
+    UnitOfWork get() {
+        if (unitOfWork == null) {
+            unitOfWork = UnitOfWork.create();
+        }
+        return unitOfWork;
+    }
+
+    @PreDestroy
+    void close() {
+        if (unitOfWork != null) {
+            unitOfWork.close();
+            unitOfWork = null;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The second-level cache of the application: the templates of a communication representation, e.g., the document
+ * ones, share the same {@link EntityCaches} per database, thus, a write of a template invalidates the entities read
+ * by the others on the same database, and templates on different databases never read each other entities.
+ * The database is held weakly, so the caches of a discarded manager go away with it.
+ */
+@ApplicationScoped
+public class SecondLevelCache {
+
+    private final Map<Class<?>, Map<Object, EntityCaches<?>>> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the caches of the communication representation at the database
+     *
+     * @param type     the communication representation, e.g., DocumentEntity
+     * @param database the database the entities come from, e.g., the DocumentManager
+     * @param <V>      the communication representation type
+     * @return the {@link EntityCaches} shared by the templates of the database
+     * @throws NullPointerException when there are null parameters
+     */
+    @SuppressWarnings("unchecked")
+    public <V> EntityCaches<V> get(Class<V> type, Object database) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(database, "database is required");
+        Map<Object, EntityCaches<?>> databases = caches.computeIfAbsent(type,
+                t -> Collections.synchronizedMap(new WeakHashMap<>()));
+        return (EntityCaches<V>) databases.computeIfAbsent(database, d -> new EntityCaches<>());
+    }
+
+    @Override
+    public String toString() {
+        return "SecondLevelCache{" +
+                "caches=" + caches.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A unit of work bound to the current thread, while it is open, the templates keep the entities they load at an
+ * {@link IdentityMap}, one per template, thus, finding the same entity by id again does not reach the database.
+ * The template's own writes invalidate the entities they change.
+ * It begins either explicitly, at a try-with-resources, or at each CDI request when
+ * {@link MappingConfigurations#IDENTITY_MAP} is true; the explicit one takes precedence over the request one, and
+ * the templates resolve both through the {@link UnitOfWorkResolver} of their container.
+ * The identity maps are thread-safe, so a unit of work can be shared with the threads of a parallel query.
+ * <pre>{@code
+ * try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+ *     Optional<Person> person = template.find(Person.class, id);
+ *     Optional<Person> same = template.find(Person.class, id);
+ * }
+ * }</pre>
+ */
+public final class UnitOfWork implements AutoCloseable {
+
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    private final UnitOfWork previous;
+
+    private volatile boolean closed;
+
+    private final Map<Object, IdentityMap> identityMaps = new ConcurrentHashMap<>();
+
+    private UnitOfWork(UnitOfWork previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Returns the identity map of the owner, usually, a template
+     *
+     * @param owner the owner
+     * @return the {@link IdentityMap} of the owner
+     * @throws NullPointerException when owner is null
+     */
+    public IdentityMap identityMap(Object owner) {
+        Objects.requireNonNull(owner, "owner is required");
+        return identityMaps.computeIfAbsent(owner, k -> new IdentityMap());
+    }
+
+    /**
+     * Removes all the entities of all the identity maps
+     */
+    public void clear() {
+        identityMaps.values().forEach(IdentityMap::clear);
+    }
+
+    /**
+     * Ends the unit of work. When it is the current one, the closest previous one still open, if any, becomes the
+     * current again; when it is closed out of order, it is skipped once the ones begun after it are closed.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (CURRENT.get() == this) {
+            UnitOfWork open = previous;
+            while (open != null && open.closed) {
+                open = open.previous;
+            }
+            if (open == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(open);
+            }
+        }
+        identityMaps.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "UnitOfWork{" +
+                "identityMaps=" + identityMaps.size() +
+                '}';
+    }
+
+    /**
+     * Begins a unit of work at the current thread, when there is already one, it is nested until this one is closed.
+     *
+     * @return a new {@link UnitOfWork}
+     */
+    public static UnitOfWork begin() {
+        UnitOfWork unitOfWork = new UnitOfWork(CURRENT.get());
+        CURRENT.set(unitOfWork);
+        return unitOfWork;
+    }
+
+    /**
+     * Returns the unit of work begun at the current thread, the one of the current CDI request is resolved by the
+     * {@link UnitOfWorkResolver}
+     *
+     * @return the {@link UnitOfWork} or {@link Optional#empty()} when there is none
+     */
+    public static Optional<UnitOfWork> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Creates a unit of work that is not bound to the current thread
+     */
+    static UnitOfWork create() {
+        return new UnitOfWork(null);
+    }
+
+    /**
+     * Checks if a unit of work begins at each CDI request at {@link MicroProfileSettings}
+     *
+     * @return true when {@link MappingConfigurations#IDENTITY_MAP} is true
+     */
+    public static boolean isEnabled() {
+        return isEnabled(MicroProfileSettings.INSTANCE);
+    }
+
+    /**
+     * Checks if a unit of work begins at each CDI request at the settings
+     *
+     * @param settings the settings
+     * @return true when {@link MappingConfigurations#IDENTITY_MAP} is true
+     * @throws NullPointerException when settings is null
+     */
+    public static boolean isEnabled(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        return settings.get(MappingConfigurations.IDENTITY_MAP, String.class)
+                .map(String::trim).map(Boolean::parseBoolean).orElse(false);
+    }
+}
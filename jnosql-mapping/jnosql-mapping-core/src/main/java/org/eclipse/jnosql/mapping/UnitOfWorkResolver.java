@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.ContextNotActiveException;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.inject.Inject;
+
+import java.util.Optional;
+
+/**
+ * Resolves the {@link UnitOfWork} of the templates of a CDI container: the one begun at the current thread, otherwise,
+ * the {@link RequestUnitOfWork} of the current request, when
+ * {@link org.eclipse.jnosql.mapping.config.MappingConfigurations#IDENTITY_MAP} is true.
+ * The request fallback belongs to the container that injects it, thus, two containers at the same JVM do not share it.
+ */
+@ApplicationScoped
+public class UnitOfWorkResolver {
+
+    private final boolean enabled = UnitOfWork.isEnabled();
+
+    @Inject
+    private BeanManager beanManager;
+
+    @Inject
+    private RequestUnitOfWork request;
+
+    /**
+     * Returns the unit of work of the current thread, otherwise, the one of the current CDI request, if any
+     *
+     * @return the {@link UnitOfWork} or {@link Optional#empty()} when there is none
+     */
+    public Optional<UnitOfWork> current() {
+        Optional<UnitOfWork> current = UnitOfWork.current();
+        if (current.isPresent() || !enabled) {
+            return current;
+        }
+        try {
+            if (!beanManager.getContext(RequestScoped.class).isActive()) {
+                return Optional.empty();
+            }
+        } catch (ContextNotActiveException exception) {
+            return Optional.empty();
+        }
+        return Optional.of(request.get());
+    }
+}
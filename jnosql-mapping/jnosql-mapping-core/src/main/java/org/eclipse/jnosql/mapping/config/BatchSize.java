@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.config;
+
+import org.eclipse.jnosql.communication.Settings;
+
+import java.util.Objects;
+import java.util.OptionalInt;
+
+/**
+ * Reads the batch size of the template bulk writes from {@link MappingConfigurations#BATCH_SIZE}.
+ */
+public final class BatchSize {
+
+    private BatchSize() {
+    }
+
+    /**
+     * Returns the batch size from {@link MicroProfileSettings}
+     *
+     * @return the batch size or {@link OptionalInt#empty()} when it is not defined
+     * @throws IllegalArgumentException when the value is not a positive number
+     */
+    public static OptionalInt get() {
+        return get(MicroProfileSettings.INSTANCE);
+    }
+
+    /**
+     * Returns the batch size from the settings
+     *
+     * @param settings the settings
+     * @return the batch size or {@link OptionalInt#empty()} when it is not defined
+     * @throws NullPointerException     when settings is null
+     * @throws IllegalArgumentException when the value is not a positive number
+     */
+    public static OptionalInt get(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        return settings.get(MappingConfigurations.BATCH_SIZE, String.class)
+                .map(String::trim)
+                .filter(v -> !v.isEmpty())
+                .map(v -> OptionalInt.of(parse(v)))
+                .orElse(OptionalInt.empty());
+    }
+
+    private static int parse(String value) {
+        try {
+            int size = Integer.parseInt(value);
+            if (size <= 0) {
+                throw new IllegalArgumentException("The batch size should be positive, size: " + value);
+            }
+            return size;
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("The batch size is not a number: " + value, exception);
+        }
+    }
+}
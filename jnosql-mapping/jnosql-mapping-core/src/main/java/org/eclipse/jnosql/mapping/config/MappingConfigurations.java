@@ -55,7 +55,58 @@ public enum MappingConfigurations implements Supplier<String> {
     /**
      * Activate the automatic transaction at Graph database. By default it is true.
      */
-    GRAPH_TRANSACTION_AUTOMATIC("jnosql.graph.transaction.automatic");
+    GRAPH_TRANSACTION_AUTOMATIC("jnosql.graph.transaction.automatic"),
+    /**
+     * Define the default timeout of the queries at the templates, either as an ISO-8601 duration, e.g. PT5S,
+     * or as milliseconds. By default, there is no timeout.
+     */
+    QUERY_TIMEOUT("jnosql.query.timeout"),
+    /**
+     * Define the maximum number of entities that the templates send to the manager at each call of a bulk write,
+     * e.g. insert(Iterable), update(Iterable), it should be a positive number. By default, a bulk write sends all the
+     * entities at a single call.
+     */
+    BATCH_SIZE("jnosql.batch.size"),
+    /**
+     * Enable the entities index, META-INF/jnosql/entities.idx, generated by the annotation processor. When it is
+     * enabled and there is an index at the classpath, the classpath is not scanned, thus, the indexes must cover all
+     * the entities, embeddables and repositories of the application. By default it is false.
+     */
+    SCANNER_INDEX("jnosql.scanner.index"),
+    /**
+     * Define the packages, separated by comma, that the classpath scanning looks for entities, embeddables and
+     * repositories, including their sub-packages. By default, it scans the whole classpath.
+     */
+    SCANNER_PACKAGES("jnosql.scanner.packages"),
+    /**
+     * Enable the accessors generated, at bootstrap, to each entity, thus, when the converters turn an entity into a
+     * document, a column entity or a vertex, they read its fields through a single composed method handle instead of
+     * one call per field. It does not change how an entity is read from the database. When an entity cannot have an
+     * accessor, it uses the fields. By default it is false.
+     */
+    CONVERTER_GENERATED("jnosql.converter.generated"),
+    /**
+     * Enable the change tracking at the document and column templates: the templates keep a snapshot of the
+     * entities they load and, on update, send only the changed documents or columns. By default it is false.
+     */
+    CHANGE_TRACKING("jnosql.change.tracking"),
+    /**
+     * Begin a {@link org.eclipse.jnosql.mapping.UnitOfWork}, thus an identity map, at each CDI request, so the
+     * templates return the entities already loaded at the request instead of reaching the database. By default it is
+     * false.
+     */
+    IDENTITY_MAP("jnosql.identity.map"),
+    /**
+     * Enable the lazy collections of embeddable entities at the document and column converters: a {@link java.util.List}
+     * or {@link java.util.Collection} field keeps the values from the database and converts each element on first access, see
+     * {@link org.eclipse.jnosql.mapping.LazyList}. By default it is false.
+     */
+    LAZY_COLLECTIONS("jnosql.lazy.collections"),
+    /**
+     * Validate, at the validation module, the entities again after the database returns them at a write. The
+     * entities are always validated before the write. By default it is false.
+     */
+    VALIDATION_POST_PERSIST("jnosql.validation.post.persist");
 
 
     private final String value;
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.config;
+
+import org.eclipse.jnosql.communication.Settings;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Reads the default query timeout from {@link MappingConfigurations#QUERY_TIMEOUT}.
+ */
+public final class QueryTimeout {
+
+    private QueryTimeout() {
+    }
+
+    /**
+     * Returns the default query timeout from {@link MicroProfileSettings}
+     *
+     * @return the timeout or {@link Optional#empty()} when it is not defined
+     * @throws IllegalArgumentException when the value is neither a duration nor milliseconds
+     */
+    public static Optional<Duration> get() {
+        return get(MicroProfileSettings.INSTANCE);
+    }
+
+    /**
+     * Returns the default query timeout from the settings
+     *
+     * @param settings the settings
+     * @return the timeout or {@link Optional#empty()} when it is not defined
+     * @throws NullPointerException     when settings is null
+     * @throws IllegalArgumentException when the value is neither a duration nor milliseconds
+     */
+    public static Optional<Duration> get(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        return settings.get(MappingConfigurations.QUERY_TIMEOUT, String.class)
+                .map(String::trim)
+                .filter(v -> !v.isEmpty())
+                .map(QueryTimeout::parse);
+    }
+
+    private static Duration parse(String value) {
+        try {
+            Duration timeout = value.chars().allMatch(Character::isDigit) ?
+                    Duration.ofMillis(Long.parseLong(value)) : Duration.parse(value);
+            if (timeout.isZero() || timeout.isNegative()) {
+                throw new IllegalArgumentException("The query timeout should be positive, timeout: " + value);
+            }
+            return timeout;
+        } catch (DateTimeParseException | NumberFormatException exception) {
+            throw new IllegalArgumentException("The query timeout is neither a duration nor milliseconds: "
+                    + value, exception);
+        }
+    }
+}
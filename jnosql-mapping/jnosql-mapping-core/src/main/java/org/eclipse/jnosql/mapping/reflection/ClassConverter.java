@@ -19,11 +19,14 @@ import jakarta.inject.Inject;
 import org.eclipse.jnosql.mapping.Convert;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -63,13 +66,45 @@ class ClassConverter {
     }
 
     public EntityMetadata create(Class<?> entity) {
-
+        Optional<GeneratedEntityMetadata> generated = GeneratedEntities.INSTANCE.get(entity);
+        if (generated.isPresent()) {
+            try {
+                return create(entity, generated.get());
+            } catch (NoSuchFieldException exception) {
+                LOGGER.log(Level.WARNING, "The generated metadata does not match the entity " + entity.getName()
+                        + ", using reflection instead", exception);
+            }
+        }
         long start = System.currentTimeMillis();
         String entityName = reflections.getEntityName(entity);
 
         List<FieldMapping> fields = reflections.getFields(entity)
                 .stream().map(this::to).collect(toList());
+        InstanceSupplier instanceSupplier = instanceSupplierFactory.apply(reflections.getConstructor(entity));
+        EntityMetadata mapping = create(entity, entityName, fields, instanceSupplier);
+
+        long end = System.currentTimeMillis() - start;
+        LOGGER.finest(String.format("Scanned the entity %s loaded with time of %d ms", entity.getName(), end));
+        return mapping;
+    }
+
+    EntityMetadata create(Class<?> entity, GeneratedEntityMetadata generated) throws NoSuchFieldException {
+        List<FieldMapping> fields = new ArrayList<>(generated.fields().size());
+        for (GeneratedFieldMetadata field : generated.fields()) {
+            Field nativeField = field.getDeclaringClass().getDeclaredField(field.getFieldName());
+            reflections.makeAccessible(nativeField);
+            FieldReader reader = field.getReader().orElseGet(() -> readerFactory.apply(nativeField));
+            FieldWriter writer = field.getWriter().orElseGet(() -> writerFactory.apply(nativeField));
+            fields.add(to(nativeField, field.getName(), field.isId(), reader, writer));
+        }
+        InstanceSupplier instanceSupplier = generated.instanceSupplier()
+                .orElseGet(() -> instanceSupplierFactory.apply(reflections.getConstructor(entity)));
+        LOGGER.finest(() -> "Loaded the entity " + entity.getName() + " from the generated metadata");
+        return create(entity, generated.name(), fields, instanceSupplier);
+    }
 
+    private EntityMetadata create(Class<?> entity, String entityName, List<FieldMapping> fields,
+                                  InstanceSupplier instanceSupplier) {
         List<String> fieldsName = fields.stream().map(FieldMapping::getName).collect(toList());
 
         Map<String, NativeMapping> nativeFieldGroupByJavaField =
@@ -79,11 +114,10 @@ class ClassConverter {
                 .collect(collectingAndThen(toMap(FieldMapping::getName,
                         Function.identity()), Collections::unmodifiableMap));
 
-        InstanceSupplier instanceSupplier = instanceSupplierFactory.apply(reflections.getConstructor(entity));
         InheritanceMetadata inheritance = reflections.getInheritance(entity).orElse(null);
         boolean hasInheritanceAnnotation = reflections.hasInheritanceAnnotation(entity);
 
-        EntityMetadata mapping = DefaultEntityMetadata.builder().name(entityName)
+        return DefaultEntityMetadata.builder().name(entityName)
                 .type(entity)
                 .fields(fields)
                 .fieldsName(fieldsName)
@@ -94,10 +128,6 @@ class ClassConverter {
                 .hasInheritanceAnnotation(hasInheritanceAnnotation)
                 .constructor(constructorMetadataBuilder.build(entity))
                 .build();
-
-        long end = System.currentTimeMillis() - start;
-        LOGGER.finest(String.format("Scanned the entity %s loaded with time of %d ms", entity.getName(), end));
-        return mapping;
     }
 
     private Map<String, NativeMapping> getNativeFieldGroupByJavaField(List<FieldMapping> fields,
@@ -183,16 +213,20 @@ class ClassConverter {
 
 
     private FieldMapping to(Field field) {
-        MappingType mappingType = MappingType.of(field);
         reflections.makeAccessible(field);
-        Convert convert = field.getAnnotation(Convert.class);
         boolean id = reflections.isIdField(field);
         String columnName = id ? reflections.getIdName(field) : reflections.getColumnName(field);
+        return to(field, columnName, id, readerFactory.apply(field), writerFactory.apply(field));
+    }
+
+    private FieldMapping to(Field field, String columnName, boolean id, FieldReader reader, FieldWriter writer) {
+        MappingType mappingType = MappingType.of(field);
+        Convert convert = field.getAnnotation(Convert.class);
 
         FieldMappingBuilder builder = new FieldMappingBuilder().withName(columnName)
                 .withField(field).withType(mappingType).withId(id)
-                .withReader(readerFactory.apply(field))
-                .withWriter(writerFactory.apply(field));
+                .withReader(reader)
+                .withWriter(writer);
 
         if (nonNull(convert)) {
             builder.withConverter(convert.value());
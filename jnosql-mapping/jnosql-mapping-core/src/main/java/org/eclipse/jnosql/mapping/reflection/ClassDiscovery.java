@@ -0,0 +1,189 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+import jakarta.data.repository.DataRepository;
+import jakarta.data.repository.Repository;
+import jakarta.nosql.Entity;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.mapping.Embeddable;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Finds the entities, embeddables and repositories either from the index generated at build time,
+ * {@link ClassDiscovery#INDEX}, or scanning the classpath annotations.
+ * The index has one class per line with the kind as prefix: entity=, embeddable= or repository=.
+ */
+final class ClassDiscovery {
+
+    static final String INDEX = "META-INF/jnosql/entities.idx";
+
+    static final String ENTITY = "entity";
+
+    static final String EMBEDDABLE = "embeddable";
+
+    static final String REPOSITORY = "repository";
+
+    private static final Logger LOGGER = Logger.getLogger(ClassDiscovery.class.getName());
+
+    private final Set<Class<?>> entities = new HashSet<>();
+
+    private final Set<Class<?>> embeddables = new HashSet<>();
+
+    private final Set<Class<?>> repositories = new HashSet<>();
+
+    private ClassDiscovery() {
+    }
+
+    Set<Class<?>> getEntities() {
+        return entities;
+    }
+
+    Set<Class<?>> getEmbeddables() {
+        return embeddables;
+    }
+
+    Set<Class<?>> getRepositories() {
+        return repositories;
+    }
+
+    /**
+     * Finds the classes following the settings: it uses the index when it is explicitly enabled and there is an
+     * index at the classpath, otherwise, it scans the configured packages. The index is opt-in because an index
+     * that comes from a dependency does not cover the application classes.
+     *
+     * @param settings the settings
+     * @param loader   the class loader
+     * @return the classes found
+     * @throws NullPointerException when there is a null parameter
+     */
+    static ClassDiscovery of(Settings settings, ClassLoader loader) {
+        Objects.requireNonNull(settings, "settings is required");
+        Objects.requireNonNull(loader, "loader is required");
+        boolean indexEnabled = settings.get(MappingConfigurations.SCANNER_INDEX, String.class)
+                .map(String::trim).map(Boolean::parseBoolean).orElse(false);
+        if (indexEnabled) {
+            Optional<ClassDiscovery> index = index(loader);
+            if (index.isPresent()) {
+                return index.get();
+            }
+        }
+        List<String> packages = settings.get(MappingConfigurations.SCANNER_PACKAGES, String.class)
+                .map(p -> Stream.of(p.split(",")).map(String::trim).filter(s -> !s.isEmpty())
+                        .collect(Collectors.toList()))
+                .orElse(Collections.emptyList());
+        return scan(packages);
+    }
+
+    /**
+     * Loads the classes from all the indexes at the classpath
+     *
+     * @param loader the class loader
+     * @return the classes or {@link Optional#empty()} when there is no index
+     */
+    static Optional<ClassDiscovery> index(ClassLoader loader) {
+        try {
+            Enumeration<URL> resources = loader.getResources(INDEX);
+            if (!resources.hasMoreElements()) {
+                return Optional.empty();
+            }
+            ClassDiscovery discovery = new ClassDiscovery();
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                LOGGER.fine(() -> "Loading the entities index: " + resource);
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(),
+                        StandardCharsets.UTF_8))) {
+                    reader.lines().map(String::trim).filter(l -> !l.isEmpty() && !l.startsWith("#"))
+                            .forEach(l -> discovery.add(l, loader));
+                }
+            }
+            return Optional.of(discovery);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("There is an issue reading the entities index", exception);
+        }
+    }
+
+    /**
+     * Scans the classpath annotations, without reading the fields and methods information
+     *
+     * @param packages the packages to scan, when it is empty, it scans the whole classpath
+     * @return the classes found
+     */
+    static ClassDiscovery scan(List<String> packages) {
+        ClassDiscovery discovery = new ClassDiscovery();
+        ClassGraph classGraph = new ClassGraph().enableClassInfo().enableAnnotationInfo();
+        if (!packages.isEmpty()) {
+            classGraph.acceptPackages(packages.toArray(String[]::new));
+        }
+        try (ScanResult result = classGraph.scan()) {
+            discovery.entities.addAll(result.getClassesWithAnnotation(Entity.class).loadClasses());
+            discovery.embeddables.addAll(result.getClassesWithAnnotation(Embeddable.class).loadClasses());
+            discovery.repositories.addAll(result.getClassesWithAnnotation(Repository.class)
+                    .getInterfaces().loadClasses(DataRepository.class));
+        }
+        return discovery;
+    }
+
+    private void add(String line, ClassLoader loader) {
+        int separator = line.indexOf('=');
+        if (separator < 0) {
+            LOGGER.warning("Ignoring the invalid line at the entities index: " + line);
+            return;
+        }
+        String kind = line.substring(0, separator).trim();
+        String className = line.substring(separator + 1).trim();
+        try {
+            Class<?> type = Class.forName(className, false, loader);
+            switch (kind) {
+                case ENTITY:
+                    entities.add(type);
+                    return;
+                case EMBEDDABLE:
+                    embeddables.add(type);
+                    return;
+                case REPOSITORY:
+                    if (type.isInterface() && DataRepository.class.isAssignableFrom(type)) {
+                        repositories.add(type);
+                    }
+                    return;
+                default:
+                    LOGGER.warning("Ignoring the unknown kind at the entities index: " + line);
+            }
+        } catch (ClassNotFoundException | LinkageError exception) {
+            LOGGER.log(Level.WARNING, "Ignoring the class at the entities index that was not found: " + className,
+                    exception);
+        }
+    }
+}
@@ -29,7 +29,7 @@ enum ClassOperationFactory implements Supplier<ClassOperation> {
 
     private final Reflections reflections = new Reflections();
 
-    private final ClassOperation reflection = new ReflectionClassOperation(reflections);
+    private final ClassOperation methodHandle = new MethodHandleClassOperation(reflections);
 
     public Reflections getReflections() {
         return reflections;
@@ -50,7 +50,7 @@ enum ClassOperationFactory implements Supplier<ClassOperation> {
             return operation;
         } else {
             LOGGER.info("ClassOperation does not found, using the default implementation");
-            return reflection;
+            return methodHandle;
         }
 
     }
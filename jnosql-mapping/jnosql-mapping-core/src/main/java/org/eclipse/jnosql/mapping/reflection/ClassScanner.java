@@ -14,19 +14,18 @@
  */
 package org.eclipse.jnosql.mapping.reflection;
 
-import io.github.classgraph.ClassGraph;
-import io.github.classgraph.ScanResult;
 import jakarta.data.repository.CrudRepository;
 import jakarta.data.repository.DataRepository;
 import jakarta.data.repository.PageableRepository;
-import jakarta.data.repository.Repository;
 import jakarta.nosql.Entity;
 import org.eclipse.jnosql.mapping.Embeddable;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
 
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -55,12 +54,12 @@ public enum ClassScanner {
 
         Logger logger = Logger.getLogger(ClassScanner.class.getName());
         logger.fine("Starting scan class to find entities, embeddable and repositories.");
-        try (ScanResult result = new ClassGraph().enableAllInfo().scan()) {
-            this.entities.addAll(result.getClassesWithAnnotation(Entity.class).loadClasses());
-            embeddables.addAll(result.getClassesWithAnnotation(Embeddable.class).loadClasses());
-            this.repositores.addAll(result.getClassesWithAnnotation(Repository.class)
-                    .getInterfaces().loadClasses(DataRepository.class));
-        }
+        ClassLoader loader = Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+                .orElse(ClassScanner.class.getClassLoader());
+        ClassDiscovery discovery = ClassDiscovery.of(MicroProfileSettings.INSTANCE, loader);
+        this.entities.addAll(discovery.getEntities());
+        this.embeddables.addAll(discovery.getEmbeddables());
+        this.repositores.addAll(discovery.getRepositories());
         logger.fine(String.format("Finished the class scan with entities %d, embeddables %d and repositories: %d"
                 , entities.size(), embeddables.size(), repositores.size()));
 
@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.nosql.Entity;
+import org.eclipse.jnosql.communication.ValueReader;
+import org.eclipse.jnosql.mapping.Embeddable;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.ServiceLoader;
+
+/**
+ * The collection of either a field or a constructor parameter resolved once, when the metadata is built: the
+ * {@link CollectionSupplier}, the element type and if the element is an entity or embeddable.
+ * When the elements are numbers, it also resolves the {@link ValueReader}, thus, it reads the values straight into
+ * a pre-sized collection, from either an {@link Iterable} or a primitive array, without looking for the readers at
+ * each element.
+ */
+final class CollectionMetadata {
+
+    private final Class<?> type;
+
+    private final Class<?> elementType;
+
+    private final boolean embeddable;
+
+    private final CollectionSupplier<?> supplier;
+
+    private final ValueReader reader;
+
+    private CollectionMetadata(Class<?> type, Class<?> elementType, boolean embeddable, CollectionSupplier<?> supplier,
+                               ValueReader reader) {
+        this.type = type;
+        this.elementType = elementType;
+        this.embeddable = embeddable;
+        this.supplier = supplier;
+        this.reader = reader;
+    }
+
+    Class<?> getElementType() {
+        return elementType;
+    }
+
+    boolean isEmbeddable() {
+        return embeddable;
+    }
+
+    /**
+     * @return true when it reads the numbers without the {@link org.eclipse.jnosql.communication.TypeReferenceReader}
+     */
+    boolean isNumeric() {
+        return reader != null;
+    }
+
+    Collection<?> newInstance() {
+        return supplier().get();
+    }
+
+    Collection<?> newInstance(int size) {
+        return supplier().get(size);
+    }
+
+    /**
+     * Reads the numbers into a new collection, the value is either an {@link Iterable}, a primitive array or a
+     * single element
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Collection<?> read(Object value) {
+        if (value instanceof Collection) {
+            Collection<?> elements = (Collection<?>) value;
+            Collection collection = newInstance(elements.size());
+            for (Object element : elements) {
+                collection.add(element(element));
+            }
+            return collection;
+        } else if (value instanceof Iterable) {
+            Collection collection = newInstance();
+            for (Object element : (Iterable<?>) value) {
+                collection.add(element(element));
+            }
+            return collection;
+        } else if (value != null && value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            Collection collection = newInstance(length);
+            for (int index = 0; index < length; index++) {
+                collection.add(element(Array.get(value, index)));
+            }
+            return collection;
+        }
+        Collection collection = newInstance(1);
+        collection.add(element(value));
+        return collection;
+    }
+
+    private CollectionSupplier<?> supplier() {
+        if (supplier == null) {
+            throw new UnsupportedOperationException("This collection is not supported yet: " + type);
+        }
+        return supplier;
+    }
+
+    private Object element(Object value) {
+        if (elementType.isInstance(value)) {
+            return value;
+        }
+        return reader.read(elementType, value);
+    }
+
+    static CollectionMetadata of(Class<?> type, Type genericType) {
+        Class<?> elementType = elementType(genericType);
+        boolean embeddable = elementType != null && (elementType.getAnnotation(Embeddable.class) != null
+                || elementType.getAnnotation(Entity.class) != null);
+        CollectionSupplier<?> supplier = ServiceLoader.load(CollectionSupplier.class)
+                .stream()
+                .map(ServiceLoader.Provider::get)
+                .map(c -> (CollectionSupplier<?>) c)
+                .filter(c -> c.test(type))
+                .findFirst()
+                .orElse(null);
+        ValueReader reader = null;
+        if (supplier != null && elementType != null && Number.class.isAssignableFrom(elementType)) {
+            reader = ServiceLoader.load(ValueReader.class)
+                    .stream()
+                    .map(ServiceLoader.Provider::get)
+                    .filter(r -> r.test(elementType))
+                    .findFirst()
+                    .orElse(null);
+        }
+        return new CollectionMetadata(type, elementType, embeddable, supplier, reader);
+    }
+
+    private static Class<?> elementType(Type genericType) {
+        if (genericType instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+            if (arguments.length == 1 && arguments[0] instanceof Class) {
+                return (Class<?>) arguments[0];
+            }
+        }
+        return null;
+    }
+}
@@ -25,4 +25,14 @@ import java.util.function.Supplier;
  * @param <T> the collection instance
  */
 public interface CollectionSupplier<T extends Collection<?>> extends Supplier<T>, Predicate<Class<?>> {
+
+    /**
+     * Creates the collection instance sized to hold the elements, by default, it ignores the size.
+     *
+     * @param size the expected number of elements
+     * @return a new collection instance
+     */
+    default T get(int size) {
+        return get();
+    }
 }
@@ -15,15 +15,7 @@
 package org.eclipse.jnosql.mapping.reflection;
 
 
-import jakarta.data.exceptions.MappingException;
-import jakarta.enterprise.event.Event;
-import jakarta.enterprise.inject.Instance;
-import jakarta.enterprise.inject.spi.CDI;
-import jakarta.enterprise.util.TypeLiteral;
-
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -32,12 +24,15 @@ import java.util.Objects;
  */
 public final class ConstructorBuilder {
 
-    private final List<Object> values = new ArrayList<>();
+    private final Object[] values;
 
     private final ConstructorMetadata metadata;
 
+    private int size;
+
     private ConstructorBuilder(ConstructorMetadata metadata) {
         this.metadata = metadata;
+        this.values = new Object[metadata.getParameters().size()];
     }
 
 
@@ -45,27 +40,35 @@ public final class ConstructorBuilder {
         return this.metadata.getParameters();
     }
 
+    /**
+     * Adds the value of the next parameter
+     *
+     * @param value the value
+     * @throws IllegalStateException when all the parameters were already added
+     */
     public void add(Object value) {
-        this.values.add(value);
+        this.values[next()] = value;
     }
 
+    /**
+     * Skips the next parameter, it keeps the null value
+     *
+     * @throws IllegalStateException when all the parameters were already added
+     */
     public void addEmptyParameter() {
-        this.values.add(null);
+        next();
     }
 
     public <T> T build() {
-        Constructor<?> constructor = metadata.getConstructor();
-
-        try {
-            Instance<Event<ConstructorEvent>> instance = CDI.current().select(new TypeLiteral<>() {
-            });
-            Event<ConstructorEvent> event = instance.get();
-            event.fire(ConstructorEvent.of(constructor, values.toArray()));
-            return (T) constructor.newInstance(values.toArray());
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            throw new MappingException("There is an issue to create a new instance of this class" +
-                    " using this constructor: " + constructor, e);
+        return (T) metadata.getPlan().newInstance(values);
+    }
+
+    private int next() {
+        if (size == values.length) {
+            throw new IllegalStateException("The constructor has " + values.length
+                    + " parameters, and all of them were already added: " + metadata);
         }
+        return size++;
     }
 
     @Override
@@ -77,18 +80,18 @@ public final class ConstructorBuilder {
             return false;
         }
         ConstructorBuilder that = (ConstructorBuilder) o;
-        return Objects.equals(values, that.values) && Objects.equals(metadata, that.metadata);
+        return Arrays.equals(values, that.values) && Objects.equals(metadata, that.metadata);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(values, metadata);
+        return 31 * Arrays.hashCode(values) + Objects.hashCode(metadata);
     }
 
     @Override
     public String toString() {
         return "ConstructorBuilder{" +
-                "values=" + values +
+                "values=" + Arrays.toString(values) +
                 ", metadata=" + metadata +
                 '}';
     }
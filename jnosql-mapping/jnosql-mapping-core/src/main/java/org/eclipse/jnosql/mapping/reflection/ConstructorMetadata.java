@@ -15,7 +15,9 @@
 package org.eclipse.jnosql.mapping.reflection;
 
 import java.lang.reflect.Constructor;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -25,10 +27,16 @@ public final class ConstructorMetadata {
 
     private final Constructor<?> constructor;
     private final List<ParameterMetaData> parameters;
+    private final Map<String, Integer> indexes;
+    private volatile ConstructorPlan plan;
 
     ConstructorMetadata(Constructor<?> constructor, List<ParameterMetaData> parameters) {
         this.constructor = constructor;
         this.parameters = parameters;
+        this.indexes = new HashMap<>();
+        for (int index = parameters.size() - 1; index >= 0; index--) {
+            indexes.put(parameters.get(index).getName(), index);
+        }
     }
 
     public List<ParameterMetaData> getParameters() {
@@ -43,6 +51,25 @@ public final class ConstructorMetadata {
         return parameters.isEmpty();
     }
 
+    /**
+     * Returns the position of the first parameter with the name
+     *
+     * @param name the parameter name
+     * @return the position or -1 when there is no parameter with the name
+     */
+    public int indexOf(String name) {
+        return indexes.getOrDefault(name, -1);
+    }
+
+    ConstructorPlan getPlan() {
+        ConstructorPlan constructorPlan = this.plan;
+        if (constructorPlan == null) {
+            constructorPlan = ConstructorPlan.of(constructor);
+            this.plan = constructorPlan;
+        }
+        return constructorPlan;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.CDI;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The precompiled instantiation of a {@link ConstructorMetadata}: a {@link MethodHandle} that receives the parameters
+ * as an array and the {@link ConstructorEvent} resolved once, which is null when there is no observer.
+ * It is created at the first instance, because the event needs the CDI container.
+ */
+final class ConstructorPlan {
+
+    private static final Logger LOGGER = Logger.getLogger(ConstructorPlan.class.getName());
+
+    private static final MethodType TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final Constructor<?> constructor;
+
+    private final MethodHandle invoker;
+
+    private final Event<ConstructorEvent> event;
+
+    private ConstructorPlan(Constructor<?> constructor, MethodHandle invoker, Event<ConstructorEvent> event) {
+        this.constructor = constructor;
+        this.invoker = invoker;
+        this.event = event;
+    }
+
+    Object newInstance(Object[] values) {
+        if (event != null) {
+            event.fire(ConstructorEvent.of(constructor, values.clone()));
+        }
+        if (invoker == null) {
+            try {
+                return constructor.newInstance(values);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw error(e);
+            }
+        }
+        try {
+            return (Object) invoker.invokeExact(values);
+        } catch (Throwable e) {
+            throw error(e);
+        }
+    }
+
+    private MappingException error(Throwable exception) {
+        return new MappingException("There is an issue to create a new instance of this class" +
+                " using this constructor: " + constructor, exception);
+    }
+
+    static ConstructorPlan of(Constructor<?> constructor) {
+        return new ConstructorPlan(constructor, invoker(constructor), event(constructor));
+    }
+
+    private static MethodHandle invoker(Constructor<?> constructor) {
+        try {
+            return MethodHandles.privateLookupIn(constructor.getDeclaringClass(), MethodHandles.lookup())
+                    .unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(TYPE);
+        } catch (IllegalAccessException | RuntimeException exception) {
+            LOGGER.log(Level.FINEST, "The constructor is not accessible from a MethodHandle, using reflection: "
+                    + constructor, exception);
+            return null;
+        }
+    }
+
+    private static Event<ConstructorEvent> event(Constructor<?> constructor) {
+        BeanManager beanManager = CDI.current().getBeanManager();
+        if (beanManager.resolveObserverMethods(ConstructorEvent.of(constructor, new Object[0])).isEmpty()) {
+            return null;
+        }
+        return beanManager.getEvent().select(ConstructorEvent.class);
+    }
+}
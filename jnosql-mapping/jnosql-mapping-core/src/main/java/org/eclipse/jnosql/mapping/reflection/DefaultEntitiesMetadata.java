@@ -17,14 +17,28 @@ package org.eclipse.jnosql.mapping.reflection;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
-
+import org.eclipse.jnosql.mapping.AttributeConverter;
+import org.eclipse.jnosql.mapping.Converters;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * The default implementation of {@link EntityMetadata}.
@@ -33,6 +47,8 @@ import java.util.stream.Collectors;
 @ApplicationScoped
 class DefaultEntitiesMetadata implements EntitiesMetadata {
 
+    private static final Logger LOGGER = Logger.getLogger(DefaultEntitiesMetadata.class.getName());
+
     private Map<String, EntityMetadata> mappings;
 
     private Map<Class<?>, EntityMetadata> classes;
@@ -41,6 +57,13 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
 
     private Map<String, EntityMetadata> findByClassName;
 
+    private Map<String, EntityMetadata> findByName;
+
+    private Map<Class<?>, Map<String, InheritanceMetadata>> findByParent;
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private volatile boolean warm;
 
     @Inject
     private ClassConverter classConverter;
@@ -48,12 +71,17 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
     @Inject
     private EntityMetadataExtension extension;
 
+    @Inject
+    private Converters converters;
+
     @PostConstruct
     public void init() {
         mappings = new ConcurrentHashMap<>();
         classes = new ConcurrentHashMap<>();
         findBySimpleName = new ConcurrentHashMap<>();
         findByClassName = new ConcurrentHashMap<>();
+        findByName = new ConcurrentHashMap<>();
+        findByParent = new ConcurrentHashMap<>();
 
         classes.putAll(extension.getClasses());
         mappings.putAll(extension.getMappings());
@@ -61,13 +89,28 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
             Class<?> type = r.getType();
             findBySimpleName.put(type.getSimpleName(), r);
             findByClassName.put(type.getName(), r);
+            findByName.putIfAbsent(key(r.getName()), r);
         });
+        classes.values().forEach(this::addInheritance);
+    }
+
+    /**
+     * Creates this instance and resolves the converters of the entities at the application startup instead of at
+     * the first request.
+     *
+     * @param event the application scope initialization
+     */
+    void startup(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        classes.values().forEach(this::resolveConverters);
+        warm = true;
+        LOGGER.fine(() -> "The entities metadata is loaded with " + classes.size() + " classes");
     }
 
     void load(Class<?> classEntity) {
         EntityMetadata entityMetadata = classConverter.create(classEntity);
         if (entityMetadata.hasEntityName()) {
             mappings.put(classEntity.getName(), entityMetadata);
+            findByName.putIfAbsent(key(entityMetadata.getName()), entityMetadata);
         }
         findBySimpleName.put(classEntity.getSimpleName(), entityMetadata);
         findByClassName.put(classEntity.getName(), entityMetadata);
@@ -77,8 +120,15 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
     public EntityMetadata get(Class<?> classEntity) {
         EntityMetadata entityMetadata = classes.get(classEntity);
         if (entityMetadata == null) {
+            if (warm) {
+                long total = misses.incrementAndGet();
+                LOGGER.fine(() -> "The metadata of " + classEntity.getName() + " is created by reflection after the warm-up, "
+                        + total + " misses so far");
+            }
             entityMetadata = classConverter.create(classEntity);
-            classes.put(classEntity, entityMetadata);
+            if (classes.putIfAbsent(classEntity, entityMetadata) == null) {
+                addInheritance(entityMetadata);
+            }
             return this.get(classEntity);
         }
         return entityMetadata;
@@ -87,16 +137,17 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
     @Override
     public Map<String, InheritanceMetadata> findByParentGroupByDiscriminatorValue(Class<?> parent) {
         Objects.requireNonNull(parent, "parent is required");
-        return this.classes.values().stream()
-                .flatMap(c -> c.getInheritance().stream())
-                .filter(p -> p.isParent(parent))
-                .collect(Collectors.toMap(InheritanceMetadata::getDiscriminatorValue, Function.identity()));
+        return findByParent.getOrDefault(parent, Collections.emptyMap());
     }
 
     @Override
     public EntityMetadata findByName(String name) {
-        return mappings.keySet().stream()
-                .map(k -> mappings.get(k))
+        Objects.requireNonNull(name, "name is required");
+        EntityMetadata entityMetadata = findByName.get(key(name));
+        if (entityMetadata != null) {
+            return entityMetadata;
+        }
+        return mappings.values().stream()
                 .filter(r -> r.getName().equalsIgnoreCase(name)).findFirst()
                 .orElseThrow(() -> new ClassInformationNotFoundException("There is not entity found with the name: " + name));
     }
@@ -113,6 +164,66 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
         return Optional.ofNullable(findByClassName.get(name));
     }
 
+    @Override
+    public void warmUp() {
+        warmUp(List.copyOf(classes.keySet()));
+    }
+
+    @Override
+    public void warmUp(Collection<Class<?>> types) {
+        Objects.requireNonNull(types, "types is required");
+        Set<Class<?>> pending = new HashSet<>(types);
+        while (!pending.isEmpty()) {
+            List<EntityMetadata> loaded = ParallelMetadata.map(pending, this::get);
+            loaded.forEach(this::resolveConverters);
+            pending = loaded.stream().flatMap(e -> NestedTypes.of(e).stream())
+                    .filter(type -> !classes.containsKey(type))
+                    .collect(Collectors.toSet());
+        }
+        warm = true;
+    }
+
+    /**
+     * Returns how many times {@link #get(Class)} created a metadata by reflection after the warm-up, thus, a class
+     * that neither the bootstrap nor {@link #warmUp(Collection)} loaded.
+     *
+     * @return the number of misses after the warm-up
+     */
+    long misses() {
+        return misses.get();
+    }
+
+    /**
+     * Adds the entity to its parent group, it replaces the group instead of changing it, thus, a reader never
+     * sees a group in the middle of a change.
+     */
+    private void addInheritance(EntityMetadata entityMetadata) {
+        entityMetadata.getInheritance().ifPresent(inheritance ->
+                findByParent.compute(inheritance.getParent(), (parent, group) -> {
+                    Map<String, InheritanceMetadata> values = group == null ? new HashMap<>() : new HashMap<>(group);
+                    values.put(inheritance.getDiscriminatorValue(), inheritance);
+                    return Collections.unmodifiableMap(values);
+                }));
+    }
+
+    private void resolveConverters(EntityMetadata entityMetadata) {
+        Stream<Optional<Class<? extends AttributeConverter<Object, Object>>>> fields = entityMetadata.getFields()
+                .stream().map(FieldMapping::getConverter);
+        Stream<Optional<Class<? extends AttributeConverter<Object, Object>>>> parameters = entityMetadata
+                .getConstructor().getParameters().stream().map(ParameterMetaData::getConverter);
+        Stream.concat(fields, parameters).flatMap(Optional::stream).forEach(converter -> {
+            try {
+                converters.get(converter);
+            } catch (RuntimeException exception) {
+                LOGGER.log(Level.FINE, exception, () -> "The converter " + converter + " is resolved at the first use");
+            }
+        });
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.US);
+    }
+
     @Override
     public String toString() {
         return "DefaultEntitiesMetadata{" + "mappings-size=" + mappings.size() +
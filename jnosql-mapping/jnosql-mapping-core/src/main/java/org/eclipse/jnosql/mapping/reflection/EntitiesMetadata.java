@@ -15,7 +15,9 @@
 package org.eclipse.jnosql.mapping.reflection;
 
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -71,4 +73,25 @@ public interface EntitiesMetadata {
      */
     Optional<EntityMetadata> findByClassName(String name);
 
+    /**
+     * Loads the metadata of all the entities and embeddables found, including the nested types at either the fields
+     * or the constructor parameters, and their converters, thus, the first request does not create any metadata.
+     * The bootstrap already calls it, it is useful after loading classes that were not scanned.
+     * The default implementation does nothing, because this interface does not know the scanned classes.
+     */
+    default void warmUp() {
+    }
+
+    /**
+     * Loads the metadata of the classes in parallel, including their nested types and converters.
+     * The default implementation calls {@link EntitiesMetadata#get(Class)} to each class sequentially.
+     *
+     * @param types the classes
+     * @throws NullPointerException when types is null
+     */
+    default void warmUp(Collection<Class<?>> types) {
+        Objects.requireNonNull(types, "types is required");
+        types.forEach(this::get);
+    }
+
 }
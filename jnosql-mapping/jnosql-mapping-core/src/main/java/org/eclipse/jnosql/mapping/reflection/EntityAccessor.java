@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The accessor generated, at bootstrap, to an entity: it reads all the fields at once into an array, following the
+ * order of {@link EntityMetadata#getFields()}.
+ * It is a single {@link MethodHandle} composed of the getter of each field, which the JVM spins into a dedicated
+ * class and compiles as straight-line field access, instead of dispatching through each {@link FieldMapping}.
+ * It covers only the write side, when a converter turns an entity into a document, a column entity or a vertex;
+ * the read side still sets each field through {@link FieldMapping}.
+ * It is optional, enabled by {@link MappingConfigurations#CONVERTER_GENERATED}, and the converters fall back to
+ * the {@link FieldMapping} path when the entity cannot have an accessor.
+ */
+public final class EntityAccessor {
+
+    private static final Logger LOGGER = Logger.getLogger(EntityAccessor.class.getName());
+
+    /**
+     * The limit of the composed handle, a method handle has at most 255 parameters.
+     */
+    private static final int MAX_FIELDS = 250;
+
+    private static final MethodType READER = MethodType.methodType(Object[].class, Object.class);
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private final Class<?> type;
+
+    private final int size;
+
+    private final MethodHandle reader;
+
+    private EntityAccessor(Class<?> type, int size, MethodHandle reader) {
+        this.type = type;
+        this.size = size;
+        this.reader = reader;
+    }
+
+    /**
+     * @return the number of fields
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Reads the values of all the fields
+     *
+     * @param entity the entity instance
+     * @return the values at the order of {@link EntityMetadata#getFields()}
+     */
+    public Object[] read(Object entity) {
+        try {
+            return (Object[]) reader.invokeExact(entity);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable exception) {
+            throw new IllegalStateException("There is an issue reading the fields of " + type, exception);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EntityAccessor{" +
+                "type=" + type +
+                ", size=" + size +
+                '}';
+    }
+
+    /**
+     * Checks if the generated accessors are enabled at {@link MicroProfileSettings}
+     *
+     * @return true when {@link MappingConfigurations#CONVERTER_GENERATED} is true
+     */
+    public static boolean isEnabled() {
+        return isEnabled(MicroProfileSettings.INSTANCE);
+    }
+
+    /**
+     * Checks if the generated accessors are enabled at the settings
+     *
+     * @param settings the settings
+     * @return true when {@link MappingConfigurations#CONVERTER_GENERATED} is true
+     * @throws NullPointerException when settings is null
+     */
+    public static boolean isEnabled(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        return settings.get(MappingConfigurations.CONVERTER_GENERATED, String.class)
+                .map(String::trim).map(Boolean::parseBoolean).orElse(false);
+    }
+
+    /**
+     * Generates the accessor of the entity
+     *
+     * @param mapping the entity metadata
+     * @return the accessor or {@link Optional#empty()} when a field is not accessible from a {@link MethodHandle}
+     * @throws NullPointerException when mapping is null
+     */
+    public static Optional<EntityAccessor> of(EntityMetadata mapping) {
+        Objects.requireNonNull(mapping, "mapping is required");
+        List<FieldMapping> fields = mapping.getFields();
+        if (fields.size() > MAX_FIELDS) {
+            return Optional.empty();
+        }
+        try {
+            MethodHandle[] getters = new MethodHandle[fields.size()];
+            for (int index = 0; index < fields.size(); index++) {
+                Field field = fields.get(index).getNativeField();
+                if (field == null || Modifier.isStatic(field.getModifiers())) {
+                    return Optional.empty();
+                }
+                getters[index] = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                        .unreflectGetter(field).asType(GETTER);
+            }
+            MethodHandle collector = MethodHandles.identity(Object[].class)
+                    .asCollector(Object[].class, fields.size());
+            MethodHandle reader = MethodHandles.permuteArguments(
+                    MethodHandles.filterArguments(collector, 0, getters), READER, new int[fields.size()]);
+            return Optional.of(new EntityAccessor(mapping.getType(), fields.size(), reader));
+        } catch (IllegalAccessException | RuntimeException exception) {
+            LOGGER.log(Level.FINE, "The entity cannot have a generated accessor, using the fields: "
+                    + mapping.getType(), exception);
+            return Optional.empty();
+        }
+    }
+}
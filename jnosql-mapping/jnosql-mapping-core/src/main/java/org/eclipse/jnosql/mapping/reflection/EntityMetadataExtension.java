@@ -21,9 +21,15 @@ import jakarta.enterprise.inject.spi.BeforeBeanDiscovery;
 import jakarta.enterprise.inject.spi.Extension;
 import jakarta.nosql.Entity;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 /**
  * This class is a CDI extension to load all class that has {@link Entity} annotation.
@@ -49,20 +55,43 @@ public class EntityMetadataExtension implements Extension {
         LOGGER.fine("Starting the scanning process for Entity and Embeddable annotations: ");
 
         ClassScanner scanner = ClassScanner.INSTANCE;
-        for (Class<?> entity : scanner.entities()) {
-                EntityMetadata entityMetadata = converter.create(entity);
-                if (entityMetadata.hasEntityName()) {
-                    mappings.put(entityMetadata.getName(), entityMetadata);
-                }
-                classes.put(entity, entityMetadata);
-            }
-            for (Class<?> embeddable : scanner.embeddables()) {
-                EntityMetadata entityMetadata = converter.create(embeddable);
-                classes.put(embeddable, entityMetadata);
+        for (EntityMetadata entityMetadata : ParallelMetadata.map(scanner.entities(), converter::create)) {
+            if (entityMetadata.hasEntityName()) {
+                mappings.put(entityMetadata.getName(), entityMetadata);
             }
+            classes.put(entityMetadata.getType(), entityMetadata);
+        }
+        ParallelMetadata.map(scanner.embeddables(), converter::create)
+                .forEach(embeddable -> classes.put(embeddable.getType(), embeddable));
+        loadNestedTypes(classes.values());
         LOGGER.fine("Finishing the scanning with total of " + classes.size() + " scanned.");
     }
 
+    private void loadNestedTypes(Collection<EntityMetadata> entities) {
+        Set<Class<?>> nested = entities.stream()
+                .flatMap(e -> NestedTypes.of(e).stream())
+                .filter(type -> !classes.containsKey(type))
+                .collect(Collectors.toSet());
+        if (nested.isEmpty()) {
+            return;
+        }
+        List<EntityMetadata> created = ParallelMetadata.map(nested, this::create).stream()
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+        loadNestedTypes(created);
+    }
+
+    private Optional<EntityMetadata> create(Class<?> type) {
+        try {
+            EntityMetadata entityMetadata = converter.create(type);
+            classes.put(type, entityMetadata);
+            return Optional.of(entityMetadata);
+        } catch (RuntimeException exception) {
+            LOGGER.log(Level.FINE, "It was not possible to load the nested type " + type + " at bootstrap", exception);
+            return Optional.empty();
+        }
+    }
+
 
     /**
      * Returns the mappings loaded in CDI startup
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Loads the {@link GeneratedEntityMetadata} registered by the annotation processor, grouped by the entity class.
+ */
+enum GeneratedEntities {
+
+    INSTANCE;
+
+    private final Map<Class<?>, GeneratedEntityMetadata> entities;
+
+    GeneratedEntities() {
+        Logger logger = Logger.getLogger(GeneratedEntities.class.getName());
+        Map<Class<?>, GeneratedEntityMetadata> generated = new HashMap<>();
+        Iterator<GeneratedEntityMetadata> iterator = ServiceLoader.load(GeneratedEntityMetadata.class).iterator();
+        while (hasNext(iterator, logger)) {
+            try {
+                GeneratedEntityMetadata metadata = iterator.next();
+                generated.put(metadata.type(), metadata);
+            } catch (ServiceConfigurationError | LinkageError exception) {
+                logger.log(Level.WARNING, "Ignoring the generated entity metadata, using reflection instead", exception);
+            }
+        }
+        logger.fine(() -> "Generated entity metadata found: " + generated.size());
+        this.entities = Collections.unmodifiableMap(generated);
+    }
+
+    /**
+     * Returns the generated metadata of the class
+     *
+     * @param type the entity class
+     * @return the generated metadata or {@link Optional#empty()}
+     */
+    Optional<GeneratedEntityMetadata> get(Class<?> type) {
+        return Optional.ofNullable(entities.get(type));
+    }
+
+    private static boolean hasNext(Iterator<GeneratedEntityMetadata> iterator, Logger logger) {
+        try {
+            return iterator.hasNext();
+        } catch (ServiceConfigurationError exception) {
+            logger.log(Level.WARNING, "Error loading the generated entity metadata", exception);
+            return false;
+        }
+    }
+}
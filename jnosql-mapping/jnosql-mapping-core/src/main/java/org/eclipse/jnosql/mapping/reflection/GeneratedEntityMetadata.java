@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The entity metadata generated at compile time by the jnosql-mapping-processor annotation processor.
+ * The implementations are registered with {@link java.util.ServiceLoader}, and the {@link EntitiesMetadata}
+ * uses them before reading the annotations with reflection, thus, the entity name, the column names and the
+ * field accessors come as direct calls.
+ */
+public interface GeneratedEntityMetadata {
+
+    /**
+     * The entity or embeddable class
+     *
+     * @return the class
+     */
+    Class<?> type();
+
+    /**
+     * The entity name, it follows the same rules of the {@link jakarta.nosql.Entity} annotation.
+     *
+     * @return the entity name
+     */
+    String name();
+
+    /**
+     * The supplier that creates a new instance with the default constructor
+     *
+     * @return the supplier or {@link Optional#empty()} when the constructor is not accessible from the generated code
+     */
+    Optional<InstanceSupplier> instanceSupplier();
+
+    /**
+     * The fields annotated with either {@link jakarta.nosql.Column} or {@link jakarta.nosql.Id} in the same order of
+     * the reflection, including the fields of a mapped superclass.
+     *
+     * @return the fields
+     */
+    List<GeneratedFieldMetadata> fields();
+}
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The field metadata generated at compile time.
+ *
+ * @see GeneratedEntityMetadata
+ */
+public final class GeneratedFieldMetadata {
+
+    private final Class<?> declaringClass;
+
+    private final String fieldName;
+
+    private final String name;
+
+    private final boolean id;
+
+    private final FieldReader reader;
+
+    private final FieldWriter writer;
+
+    private GeneratedFieldMetadata(Class<?> declaringClass, String fieldName, String name, boolean id,
+                                   FieldReader reader, FieldWriter writer) {
+        this.declaringClass = declaringClass;
+        this.fieldName = fieldName;
+        this.name = name;
+        this.id = id;
+        this.reader = reader;
+        this.writer = writer;
+    }
+
+    /**
+     * The class that declares the field
+     *
+     * @return the declaring class
+     */
+    public Class<?> getDeclaringClass() {
+        return declaringClass;
+    }
+
+    /**
+     * The Java field name
+     *
+     * @return the field name
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * The column name, the value either of {@link jakarta.nosql.Column} or {@link jakarta.nosql.Id}
+     * otherwise the field name
+     *
+     * @return the column name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks if the field is annotated with {@link jakarta.nosql.Id}
+     *
+     * @return true when the field is the id
+     */
+    public boolean isId() {
+        return id;
+    }
+
+    /**
+     * The generated reader
+     *
+     * @return the reader or {@link Optional#empty()} when the field is not accessible from the generated code
+     */
+    public Optional<FieldReader> getReader() {
+        return Optional.ofNullable(reader);
+    }
+
+    /**
+     * The generated writer
+     *
+     * @return the writer or {@link Optional#empty()} when the field is not accessible from the generated code
+     */
+    public Optional<FieldWriter> getWriter() {
+        return Optional.ofNullable(writer);
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedFieldMetadata{" +
+                "declaringClass=" + declaringClass +
+                ", fieldName='" + fieldName + '\'' +
+                ", name='" + name + '\'' +
+                ", id=" + id +
+                '}';
+    }
+
+    /**
+     * Creates a {@link GeneratedFieldMetadata} instance
+     *
+     * @param declaringClass the class that declares the field
+     * @param fieldName      the Java field name
+     * @param name           the column name
+     * @param id             if it is the id field
+     * @param reader         the reader, it might be null
+     * @param writer         the writer, it might be null
+     * @return a new {@link GeneratedFieldMetadata} instance
+     * @throws NullPointerException when either declaringClass, fieldName or name is null
+     */
+    public static GeneratedFieldMetadata of(Class<?> declaringClass, String fieldName, String name, boolean id,
+                                            FieldReader reader, FieldWriter writer) {
+        Objects.requireNonNull(declaringClass, "declaringClass is required");
+        Objects.requireNonNull(fieldName, "fieldName is required");
+        Objects.requireNonNull(name, "name is required");
+        return new GeneratedFieldMetadata(declaringClass, fieldName, name, id, reader, writer);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Creates the repository implementations: it uses the {@link GeneratedRepository} registered by the annotation
+ * processor when there is one to the repository, otherwise, a {@link Proxy}.
+ */
+public enum GeneratedRepositories {
+
+    INSTANCE;
+
+    private final Map<Class<?>, GeneratedRepository> repositories;
+
+    GeneratedRepositories() {
+        Logger logger = Logger.getLogger(GeneratedRepositories.class.getName());
+        Map<Class<?>, GeneratedRepository> generated = new HashMap<>();
+        Iterator<GeneratedRepository> iterator = ServiceLoader.load(GeneratedRepository.class).iterator();
+        while (hasNext(iterator, logger)) {
+            try {
+                GeneratedRepository repository = iterator.next();
+                generated.put(repository.type(), repository);
+            } catch (ServiceConfigurationError | LinkageError exception) {
+                logger.log(Level.WARNING, "Ignoring the generated repository, using a proxy instead", exception);
+            }
+        }
+        logger.fine(() -> "Generated repositories found: " + generated.size());
+        this.repositories = Collections.unmodifiableMap(generated);
+    }
+
+    /**
+     * Returns the generated repository of the interface
+     *
+     * @param type the repository interface
+     * @return the generated repository or {@link Optional#empty()}
+     */
+    public Optional<GeneratedRepository> get(Class<?> type) {
+        return Optional.ofNullable(repositories.get(type));
+    }
+
+    /**
+     * Creates the repository implementation that calls the handler
+     *
+     * @param type    the repository interface
+     * @param handler the handler
+     * @param <T>     the repository type
+     * @return the generated implementation, when there is one, otherwise, a {@link Proxy}
+     * @throws NullPointerException when there is null parameter
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T newInstance(Class<T> type, InvocationHandler handler) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(handler, "handler is required");
+        GeneratedRepository repository = repositories.get(type);
+        if (repository != null) {
+            return (T) repository.newInstance(handler);
+        }
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, handler);
+    }
+
+    private static boolean hasNext(Iterator<GeneratedRepository> iterator, Logger logger) {
+        try {
+            return iterator.hasNext();
+        } catch (ServiceConfigurationError exception) {
+            logger.log(Level.WARNING, "Error loading the generated repositories", exception);
+            return false;
+        }
+    }
+}
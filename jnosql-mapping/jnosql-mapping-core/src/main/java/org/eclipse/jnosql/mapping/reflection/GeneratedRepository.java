@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.lang.reflect.InvocationHandler;
+
+/**
+ * The factory of a repository implementation generated at compile time by the jnosql-mapping-processor annotation
+ * processor. The implementations are registered with {@link java.util.ServiceLoader}, and the repository beans use
+ * them instead of a {@link java.lang.reflect.Proxy}, see {@link GeneratedRepositories}.
+ */
+public interface GeneratedRepository {
+
+    /**
+     * The repository interface
+     *
+     * @return the interface
+     */
+    Class<?> type();
+
+    /**
+     * Creates the repository implementation, each abstract method of the repository calls the handler with the
+     * same arguments that a {@link java.lang.reflect.Proxy} would use.
+     *
+     * @param handler the handler
+     * @return the repository implementation
+     */
+    Object newInstance(InvocationHandler handler);
+}
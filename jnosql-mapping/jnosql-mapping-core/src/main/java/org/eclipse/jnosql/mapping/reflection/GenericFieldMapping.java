@@ -15,31 +15,33 @@
 package org.eclipse.jnosql.mapping.reflection;
 
 
-import jakarta.nosql.Entity;
 import org.eclipse.jnosql.communication.TypeSupplier;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.mapping.AttributeConverter;
-import org.eclipse.jnosql.mapping.Embeddable;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
-import java.util.ServiceLoader;
 
 public class GenericFieldMapping extends AbstractFieldMapping {
 
     private final TypeSupplier<?> typeSupplier;
 
+    private final CollectionMetadata collection;
+
     GenericFieldMapping(MappingType type, Field field, String name, TypeSupplier<?> typeSupplier,
                         Class<? extends AttributeConverter<?, ?>> converter, FieldReader reader, FieldWriter writer) {
         super(type, field, name, converter, reader, writer);
         this.typeSupplier = typeSupplier;
+        this.collection = CollectionMetadata.of(field.getType(), field.getGenericType());
     }
 
     @Override
     public Object getValue(Value value) {
+        if (collection.isNumeric()) {
+            return collection.read(value.get());
+        }
         if(value.get() instanceof Iterable) {
             return value.get(typeSupplier);
         } else {
@@ -73,40 +75,26 @@ public class GenericFieldMapping extends AbstractFieldMapping {
     }
 
     public boolean isEmbeddable() {
-        return isEmbeddableField() || isEntityField();
-    }
-
-    private boolean isEntityField() {
-        return hasFieldAnnotation(Entity.class);
-    }
-
-    private boolean isEmbeddableField() {
-        return hasFieldAnnotation(Embeddable.class);
-    }
-
-    private boolean hasFieldAnnotation(Class<?> annotation) {
-        return ((Class) ((ParameterizedType) getNativeField()
-                .getGenericType())
-                .getActualTypeArguments()[0])
-                .getAnnotation(annotation) != null;
+        return collection.isEmbeddable();
     }
 
     public Class<?> getElementType() {
-        return (Class) ((ParameterizedType) getNativeField()
-                .getGenericType())
-                .getActualTypeArguments()[0];
+        return collection.getElementType();
     }
 
     public Collection<?> getCollectionInstance() {
-        Class<?> type = getNativeField().getType();
-        final CollectionSupplier supplier =  ServiceLoader.load(CollectionSupplier.class)
-                .stream()
-                .map(ServiceLoader.Provider::get)
-                .map(CollectionSupplier.class::cast)
-                .filter(c -> c.test(type))
-                .findFirst()
-                .orElseThrow(() -> new UnsupportedOperationException("This collection is not supported yet: " + type));
-        return (Collection<?>) supplier.get();
+        return collection.newInstance();
+    }
+
+    /**
+     * Creates the collection instance sized to hold the elements
+     *
+     * @param size the expected number of elements
+     * @return a new collection instance
+     * @throws UnsupportedOperationException when the collection type is not supported
+     */
+    public Collection<?> getCollectionInstance(int size) {
+        return collection.newInstance(size);
     }
 
     @Override
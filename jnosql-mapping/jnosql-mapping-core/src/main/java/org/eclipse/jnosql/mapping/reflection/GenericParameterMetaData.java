@@ -17,19 +17,20 @@ package org.eclipse.jnosql.mapping.reflection;
 import org.eclipse.jnosql.communication.TypeSupplier;
 import org.eclipse.jnosql.mapping.AttributeConverter;
 
-import java.lang.reflect.ParameterizedType;
 import java.util.Collection;
-import java.util.ServiceLoader;
 
 public final class GenericParameterMetaData extends DefaultParameterMetaData implements ParameterMetaData {
 
     private final TypeSupplier<?> typeSupplier;
 
+    private final CollectionMetadata collection;
+
     GenericParameterMetaData(String name, Class<?> type, boolean id,
                              Class<? extends AttributeConverter<?, ?>> converter,
                              MappingType mappingType, TypeSupplier<?> typeSupplier) {
         super(name, type, id, converter, mappingType);
         this.typeSupplier = typeSupplier;
+        this.collection = CollectionMetadata.of(type, typeSupplier.get());
     }
 
     public TypeSupplier<?> getTypeSupplier() {
@@ -37,19 +38,21 @@ public final class GenericParameterMetaData extends DefaultParameterMetaData imp
     }
 
     public Class<?> getElementType() {
-        return (Class<?>) ((ParameterizedType) typeSupplier.get()).getActualTypeArguments()[0];
+        return collection.getElementType();
     }
 
     public Collection<?> getCollectionInstance() {
-        Class<?> type =  getType();
-        final CollectionSupplier supplier = ServiceLoader.load(CollectionSupplier.class)
-                .stream()
-                .map(ServiceLoader.Provider::get)
-                .map(CollectionSupplier.class::cast)
-                .filter(c -> c.test(type))
-                .findFirst()
-                .orElseThrow(() -> new UnsupportedOperationException("This collection is not supported yet: " + type));
-        return (Collection<?>) supplier.get();
+        return collection.newInstance();
     }
 
+    /**
+     * Creates the collection instance sized to hold the elements
+     *
+     * @param size the expected number of elements
+     * @return a new collection instance
+     * @throws UnsupportedOperationException when the collection type is not supported
+     */
+    public Collection<?> getCollectionInstance(int size) {
+        return collection.newInstance(size);
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+
+/**
+ * An implementation of {@link ClassOperation} that creates the operations with {@link java.lang.invoke.MethodHandle},
+ * thus, the JIT can inline the field access as a direct call. When the class is not accessible from this module,
+ * it falls back to the {@link ReflectionClassOperation} operations.
+ */
+class MethodHandleClassOperation implements ClassOperation {
+
+    private final MethodHandleInstanceSupplierFactory supplierFactory;
+
+    private final MethodHandleFieldWriterFactory writerFactory;
+
+    private final MethodHandleFieldReaderFactory readerFactory;
+
+    MethodHandleClassOperation(Reflections reflections) {
+        supplierFactory = new MethodHandleInstanceSupplierFactory(new ReflectionInstanceSupplierFactory(reflections));
+        writerFactory = new MethodHandleFieldWriterFactory(new ReflectionFieldWriterFactory(reflections));
+        readerFactory = new MethodHandleFieldReaderFactory(new ReflectionFieldReaderFactory(reflections));
+    }
+
+    @Override
+    public InstanceSupplierFactory getInstanceSupplierFactory() {
+        return supplierFactory;
+    }
+
+    @Override
+    public FieldWriterFactory getFieldWriterFactory() {
+        return writerFactory;
+    }
+
+    @Override
+    public FieldReaderFactory getFieldReaderFactory() {
+        return readerFactory;
+    }
+}
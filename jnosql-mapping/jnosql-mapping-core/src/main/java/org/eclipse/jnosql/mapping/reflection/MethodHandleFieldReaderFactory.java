@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link FieldReaderFactory} that reads the field through a getter {@link MethodHandle} found by
+ * {@link MethodHandles#privateLookupIn(Class, MethodHandles.Lookup)}. When the field is not accessible or cannot be
+ * linked, e.g. a {@link LinkageError}, it falls back to reflection.
+ */
+class MethodHandleFieldReaderFactory implements FieldReaderFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleFieldReaderFactory.class.getName());
+
+    private static final MethodType TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final FieldReaderFactory fallback;
+
+    MethodHandleFieldReaderFactory(FieldReaderFactory fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public FieldReader apply(Field field) {
+        Objects.requireNonNull(field, "field is required");
+        if (Modifier.isStatic(field.getModifiers())) {
+            return fallback.apply(field);
+        }
+        try {
+            MethodHandle getter = MethodHandles.privateLookupIn(field.getDeclaringClass(), LOOKUP)
+                    .unreflectGetter(field).asType(TYPE);
+            return new MethodHandleFieldReader(getter);
+        } catch (IllegalAccessException | RuntimeException | LinkageError exception) {
+            LOGGER.log(Level.FINEST, "The field is not accessible from a MethodHandle, using reflection: " + field,
+                    exception);
+            return fallback.apply(field);
+        }
+    }
+
+    private static final class MethodHandleFieldReader implements FieldReader {
+
+        private final MethodHandle getter;
+
+        private MethodHandleFieldReader(MethodHandle getter) {
+            this.getter = getter;
+        }
+
+        @Override
+        public Object read(Object bean) {
+            try {
+                return (Object) getter.invokeExact(bean);
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable exception) {
+                throw new IllegalStateException("There is an issue with returning value from this field.", exception);
+            }
+        }
+    }
+}
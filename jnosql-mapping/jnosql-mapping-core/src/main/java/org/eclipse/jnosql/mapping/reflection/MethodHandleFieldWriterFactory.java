@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link FieldWriterFactory} that writes the field through a setter {@link MethodHandle} found by
+ * {@link MethodHandles#privateLookupIn(Class, MethodHandles.Lookup)}. The final fields keep the reflection writer, as
+ * the fields that are not accessible or cannot be linked, e.g. a {@link LinkageError}.
+ */
+class MethodHandleFieldWriterFactory implements FieldWriterFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleFieldWriterFactory.class.getName());
+
+    private static final MethodType TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final FieldWriterFactory fallback;
+
+    MethodHandleFieldWriterFactory(FieldWriterFactory fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public FieldWriter apply(Field field) {
+        Objects.requireNonNull(field, "field is required");
+        int modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) {
+            return fallback.apply(field);
+        }
+        try {
+            MethodHandle setter = MethodHandles.privateLookupIn(field.getDeclaringClass(), LOOKUP)
+                    .unreflectSetter(field).asType(TYPE);
+            return new MethodHandleFieldWriter(setter);
+        } catch (IllegalAccessException | RuntimeException | LinkageError exception) {
+            LOGGER.log(Level.FINEST, "The field is not accessible from a MethodHandle, using reflection: " + field,
+                    exception);
+            return fallback.apply(field);
+        }
+    }
+
+    private static final class MethodHandleFieldWriter implements FieldWriter {
+
+        private final MethodHandle setter;
+
+        private MethodHandleFieldWriter(MethodHandle setter) {
+            this.setter = setter;
+        }
+
+        @Override
+        public void write(Object bean, Object value) {
+            try {
+                setter.invokeExact(bean, value);
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable exception) {
+                throw new IllegalStateException("There is an issue with setting value from this field.", exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link InstanceSupplierFactory} that links the default constructor to an {@link InstanceSupplier} with
+ * {@link LambdaMetafactory}, so the creation is a plain constructor call. When the metafactory cannot define the
+ * lambda at the entity class, it uses the constructor {@link MethodHandle}, and then reflection as the last option.
+ * A {@link LinkageError} at the creation, e.g. when the entity class cannot be loaded or accessed from the lambda,
+ * falls back to reflection as well.
+ */
+class MethodHandleInstanceSupplierFactory implements InstanceSupplierFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleInstanceSupplierFactory.class.getName());
+
+    private static final MethodType SUPPLIER_TYPE = MethodType.methodType(InstanceSupplier.class);
+
+    private static final MethodType GET_TYPE = MethodType.methodType(Object.class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final InstanceSupplierFactory fallback;
+
+    MethodHandleInstanceSupplierFactory(InstanceSupplierFactory fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public InstanceSupplier apply(Constructor<?> constructor) {
+        Objects.requireNonNull(constructor, "constructor is required");
+        if (constructor.getParameterCount() != 0) {
+            return fallback.apply(constructor);
+        }
+        Class<?> type = constructor.getDeclaringClass();
+        MethodHandle handle;
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(type, LOOKUP);
+            handle = lookup.unreflectConstructor(constructor);
+        } catch (IllegalAccessException | RuntimeException | LinkageError exception) {
+            LOGGER.log(Level.FINEST, "The constructor is not accessible from a MethodHandle, using reflection: "
+                    + constructor, exception);
+            return fallback.apply(constructor);
+        }
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get", SUPPLIER_TYPE, GET_TYPE, handle,
+                    MethodType.methodType(type));
+            return (InstanceSupplier) site.getTarget().invokeExact();
+        } catch (LinkageError exception) {
+            LOGGER.log(Level.FINEST, "The lambda cannot be linked to the entity, using reflection: " + constructor,
+                    exception);
+            return fallback.apply(constructor);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable exception) {
+            LOGGER.log(Level.FINEST, "The lambda cannot be defined at the entity, using the MethodHandle: "
+                    + constructor, exception);
+            return new MethodHandleInstanceSupplier(handle.asType(GET_TYPE));
+        }
+    }
+
+    private static final class MethodHandleInstanceSupplier implements InstanceSupplier {
+
+        private final MethodHandle constructor;
+
+        private MethodHandleInstanceSupplier(MethodHandle constructor) {
+            this.constructor = constructor;
+        }
+
+        @Override
+        public Object get() {
+            try {
+                return (Object) constructor.invokeExact();
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable exception) {
+                throw new IllegalStateException("There is an issue to creating an entity from this constructor",
+                        exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.nosql.Entity;
+import org.eclipse.jnosql.mapping.Embeddable;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Finds the classes that an entity metadata refers to and that also need metadata: the entity and embedded fields,
+ * the collections of entities or embeddables, and the same types at the constructor parameters.
+ */
+final class NestedTypes {
+
+    private NestedTypes() {
+    }
+
+    static Set<Class<?>> of(EntityMetadata metadata) {
+        Set<Class<?>> types = new HashSet<>();
+        for (FieldMapping field : metadata.getFields()) {
+            add(types, field.getType(), field.getNativeField().getType(), field.getNativeField().getGenericType());
+        }
+        ConstructorMetadata constructor = metadata.getConstructor();
+        if (constructor != null) {
+            for (ParameterMetaData parameter : constructor.getParameters()) {
+                Type genericType = parameter instanceof GenericParameterMetaData ?
+                        ((GenericParameterMetaData) parameter).getTypeSupplier().get() : parameter.getType();
+                add(types, parameter.getParamType(), parameter.getType(), genericType);
+            }
+        }
+        return types;
+    }
+
+    private static void add(Set<Class<?>> types, MappingType mappingType, Class<?> type, Type genericType) {
+        switch (mappingType) {
+            case ENTITY:
+            case EMBEDDED:
+                types.add(type);
+                return;
+            case COLLECTION:
+                elementType(genericType).filter(NestedTypes::isMapped).ifPresent(types::add);
+                return;
+            default:
+        }
+    }
+
+    private static Optional<Class<?>> elementType(Type type) {
+        if (type instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (arguments.length == 1 && arguments[0] instanceof Class) {
+                return Optional.of((Class<?>) arguments[0]);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isMapped(Class<?> type) {
+        return type.getAnnotation(Entity.class) != null || type.getAnnotation(Embeddable.class) != null;
+    }
+}
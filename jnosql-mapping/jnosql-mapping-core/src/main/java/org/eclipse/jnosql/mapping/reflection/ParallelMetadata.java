@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates the metadata of several classes in parallel. The tasks run in a dedicated pool whose threads carry the
+ * context class loader of the caller, instead of the common pool, because the metadata creation loads services,
+ * e.g. the {@link GeneratedEntityMetadata} and the collection suppliers, with that class loader.
+ */
+final class ParallelMetadata {
+
+    private ParallelMetadata() {
+    }
+
+    /**
+     * Applies the mapper to each item in parallel
+     *
+     * @param items  the items
+     * @param mapper the mapper
+     * @param <T>    the item type
+     * @param <R>    the result type
+     * @return the results
+     */
+    static <T, R> List<R> map(Collection<T> items, Function<T, R> mapper) {
+        if (items.size() <= 1) {
+            return items.stream().map(mapper).collect(Collectors.toList());
+        }
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), p -> {
+            ForkJoinWorkerThread thread = new ForkJoinWorkerThread(p) {
+            };
+            thread.setContextClassLoader(loader);
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+        try {
+            return pool.submit(() -> items.parallelStream().map(mapper).collect(Collectors.toList())).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -18,10 +18,13 @@ package org.eclipse.jnosql.mapping.reflection;
 
 import jakarta.data.repository.Param;
 import jakarta.data.repository.Query;
+import org.eclipse.jnosql.mapping.Hint;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -64,6 +67,24 @@ public enum RepositoryReflectionUtils {
         return method.getAnnotation(Query.class).value();
     }
 
+    /**
+     * Returns the hints from the {@link Hint} annotations, keeping the declaration order
+     *
+     * @param method the method
+     * @return the hints or an empty {@link Map} when there is no hint
+     */
+    public Map<String, Object> getHints(Method method) {
+        Hint[] hints = method.getAnnotationsByType(Hint.class);
+        if (hints.length == 0) {
+            return Collections.emptyMap();
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Hint hint : hints) {
+            values.put(hint.name(), hint.value());
+        }
+        return Collections.unmodifiableMap(values);
+    }
+
 
 
 
@@ -35,4 +35,9 @@ public class ListSupplier implements CollectionSupplier<ArrayList<?>> {
     public ArrayList<?> get() {
         return new ArrayList<>();
     }
+
+    @Override
+    public ArrayList<?> get(int size) {
+        return new ArrayList<>(size);
+    }
 }
@@ -34,4 +34,9 @@ public class SetSupplier implements CollectionSupplier<HashSet<?>> {
     public HashSet<?> get() {
         return new HashSet<>();
     }
+
+    @Override
+    public HashSet<?> get(int size) {
+        return new HashSet<>(Math.max((int) (size / .75f) + 1, 16));
+    }
 }
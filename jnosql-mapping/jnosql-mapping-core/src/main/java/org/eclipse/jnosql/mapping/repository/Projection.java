@@ -0,0 +1,276 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.repository;
+
+import org.eclipse.jnosql.mapping.DynamicQueryException;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+import org.eclipse.jnosql.mapping.reflection.MappingType;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The projection of a repository method, when the method returns either an interface or a record
+ * with a subset of the entity properties instead of the entity itself.
+ * E.g.: {@code List<PersonName> findByAge(int age)}, where PersonName has just the name property.
+ * The projection provides the fields names to push down to the query, thus, the database only returns those fields,
+ * and it creates the projection instance from an entity.
+ */
+public final class Projection {
+
+    private static final String RECORD = "java.lang.Record";
+
+    private static final List<String> WRAPPERS = List.of("java.", "jakarta.data.", "jakarta.nosql.");
+
+    private final Class<?> type;
+
+    private final Map<String, FieldMapping> properties;
+
+    private final Constructor<?> constructor;
+
+    private final List<String> names;
+
+    private Projection(Class<?> type, Map<String, FieldMapping> properties, Constructor<?> constructor,
+                       EntityMetadata metadata) {
+        this.type = type;
+        this.properties = properties;
+        this.constructor = constructor;
+        this.names = names(properties, metadata);
+    }
+
+    /**
+     * The projection type
+     *
+     * @return the projection type
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * The fields names at the database of the projection properties, an embedded property has the names of its
+     * fields, once they are flattened at the entity.
+     *
+     * @return the fields names
+     */
+    public List<String> getNames() {
+        return names;
+    }
+
+    /**
+     * Creates the projection instance from the entity
+     *
+     * @param entity the entity
+     * @param <T>    the projection type
+     * @return the projection instance
+     * @throws NullPointerException when entity is null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T apply(Object entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        Map<String, Object> values = new LinkedHashMap<>(properties.size());
+        properties.forEach((property, field) -> values.put(property, field.read(entity)));
+        if (constructor != null) {
+            try {
+                return (T) constructor.newInstance(values.values().toArray());
+            } catch (ReflectiveOperationException exception) {
+                throw new DynamicQueryException("There is an issue to create the projection: " + type
+                        + " " + exception.getMessage());
+            }
+        }
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                new ProjectionHandler(type, values));
+    }
+
+    @Override
+    public String toString() {
+        return "Projection{" +
+                "type=" + type +
+                ", properties=" + properties.keySet() +
+                '}';
+    }
+
+    /**
+     * Finds the projection of a repository method. It returns {@link Optional#empty()} when the method returns
+     * the entity, a type from either Java, Jakarta Data or Jakarta NoSQL, such as {@code Page} or {@code Slice},
+     * or any other type that is neither an interface nor a record.
+     *
+     * @param method   the repository method
+     * @param metadata the entity metadata
+     * @return the projection or {@link Optional#empty()}
+     * @throws NullPointerException  when there is a null parameter
+     * @throws DynamicQueryException when the projection has a property that does not exist at the entity or
+     *                               an abstract method with parameters
+     */
+    public static Optional<Projection> of(Method method, EntityMetadata metadata) {
+        Objects.requireNonNull(method, "method is required");
+        Objects.requireNonNull(metadata, "metadata is required");
+        Class<?> type = elementType(method);
+        if (type.isAssignableFrom(metadata.getType()) || WRAPPERS.stream().anyMatch(type.getName()::startsWith)) {
+            return Optional.empty();
+        }
+        if (isRecord(type)) {
+            return Optional.of(ofRecord(type, metadata));
+        } else if (type.isInterface()) {
+            return Optional.of(ofInterface(type, metadata));
+        }
+        return Optional.empty();
+    }
+
+    private static Projection ofRecord(Class<?> type, EntityMetadata metadata) {
+        Map<String, FieldMapping> properties = new LinkedHashMap<>();
+        List<Class<?>> parameters = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                properties.put(field.getName(), property(type, field.getName(), metadata));
+                parameters.add(field.getType());
+            }
+        }
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor(parameters.toArray(Class<?>[]::new));
+            constructor.setAccessible(true);
+            return new Projection(type, properties, constructor, metadata);
+        } catch (NoSuchMethodException exception) {
+            throw new DynamicQueryException("There is no canonical constructor at the projection: " + type);
+        }
+    }
+
+    private static Projection ofInterface(Class<?> type, EntityMetadata metadata) {
+        Map<String, FieldMapping> properties = new LinkedHashMap<>();
+        for (Method method : type.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers()) || isObjectMethod(method)) {
+                continue;
+            }
+            if (method.getParameterCount() > 0) {
+                throw new DynamicQueryException("The projection " + type + " has the method " + method.getName()
+                        + " with parameters, a projection only supports the entity properties and default methods");
+            }
+            properties.put(method.getName(), property(type, propertyName(method, metadata), metadata));
+        }
+        return new Projection(type, properties, null, metadata);
+    }
+
+    private static boolean isObjectMethod(Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+
+    private static List<String> names(Map<String, FieldMapping> properties, EntityMetadata metadata) {
+        List<String> names = new ArrayList<>(properties.size());
+        for (FieldMapping field : properties.values()) {
+            if (MappingType.EMBEDDED.equals(field.getType())) {
+                Collections.addAll(names, metadata.getColumnField(field.getFieldName()).split(","));
+            } else {
+                names.add(field.getName());
+            }
+        }
+        return names.stream().distinct().collect(Collectors.toUnmodifiableList());
+    }
+
+    private static String propertyName(Method method, EntityMetadata metadata) {
+        String name = method.getName();
+        if (metadata.getFieldMapping(name).isPresent()) {
+            return name;
+        }
+        int prefix = name.startsWith("get") ? 3 : name.startsWith("is") ? 2 : 0;
+        if (prefix > 0 && name.length() > prefix) {
+            return Character.toLowerCase(name.charAt(prefix)) + name.substring(prefix + 1);
+        }
+        return name;
+    }
+
+    private static FieldMapping property(Class<?> type, String name, EntityMetadata metadata) {
+        return metadata.getFieldMapping(name).orElseThrow(() ->
+                new DynamicQueryException("The projection " + type + " has the property " + name
+                        + " that does not exist at the entity: " + metadata.getType()));
+    }
+
+    private static Class<?> elementType(Method method) {
+        Type type = method.getGenericReturnType();
+        if (type instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (arguments.length == 1 && arguments[0] instanceof Class) {
+                return (Class<?>) arguments[0];
+            }
+        }
+        return method.getReturnType();
+    }
+
+    private static boolean isRecord(Class<?> type) {
+        return type.getSuperclass() != null && RECORD.equals(type.getSuperclass().getName());
+    }
+
+    private static final class ProjectionHandler implements InvocationHandler {
+
+        private final Class<?> type;
+
+        private final Map<String, Object> values;
+
+        private ProjectionHandler(Class<?> type, Map<String, Object> values) {
+            this.type = type;
+            this.values = values;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (method.getParameterCount() == 0 && values.containsKey(name)) {
+                return values.get(name);
+            } else if (method.isDefault()) {
+                Class<?> declaring = method.getDeclaringClass();
+                return MethodHandles.privateLookupIn(declaring, MethodHandles.lookup())
+                        .unreflectSpecial(method, declaring)
+                        .bindTo(proxy)
+                        .invokeWithArguments(args == null ? new Object[0] : args);
+            }
+            switch (name) {
+                case "equals":
+                    return proxy == args[0] || (args[0] != null && Proxy.isProxyClass(args[0].getClass())
+                            && Proxy.getInvocationHandler(args[0]) instanceof ProjectionHandler
+                            && equals((ProjectionHandler) Proxy.getInvocationHandler(args[0])));
+                case "hashCode":
+                    return Objects.hash(type, values);
+                case "toString":
+                    return type.getSimpleName() + values;
+                default:
+                    throw new UnsupportedOperationException("The projection does not support the method: " + method);
+            }
+        }
+
+        private boolean equals(ProjectionHandler other) {
+            return type.equals(other.type) && values.equals(other.values);
+        }
+    }
+}
@@ -14,6 +14,8 @@
  */
 package org.eclipse.jnosql.mapping.repository.returns;
 
+import jakarta.data.repository.KeysetAwarePage;
+import jakarta.data.repository.KeysetAwareSlice;
 import jakarta.data.repository.Page;
 import jakarta.data.repository.Slice;
 import org.eclipse.jnosql.mapping.DynamicQueryException;
@@ -37,6 +39,7 @@ public class PageRepositoryReturn extends AbstractRepositoryReturn {
 
     @Override
     public boolean isCompatible(Class<?> entity, Class<?> returnType) {
-        return Page.class.equals(returnType) || Slice.class.equals(returnType);
+        return Page.class.equals(returnType) || Slice.class.equals(returnType)
+                || KeysetAwarePage.class.equals(returnType) || KeysetAwareSlice.class.equals(returnType);
     }
 }
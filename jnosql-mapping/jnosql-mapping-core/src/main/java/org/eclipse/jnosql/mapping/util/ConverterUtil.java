@@ -27,6 +27,7 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
 public final class ConverterUtil {
@@ -78,6 +79,33 @@ public final class ConverterUtil {
                 .orElse(value);
     }
 
+    /**
+     * Creates a function that converts the values of the field with {@link FieldMapping} to database format, as
+     * {@link ConverterUtil#getValue(Object, Converters, FieldMapping)} does, but it resolves the
+     * {@link AttributeConverter} of the field once, thus, it fits the fields whose values are converted several times.
+     *
+     * @param converters the converter
+     * @param field      the field
+     * @return the function that converts a value of the field
+     */
+    public static UnaryOperator<Object> getConverter(Converters converters, FieldMapping field) {
+        Field nativeField = field.getNativeField();
+        Optional<AttributeConverter<Object, Object>> converter = field.<Object, Object, AttributeConverter<Object, Object>>getConverter()
+                .map(converters::get);
+        if (converter.isEmpty()) {
+            return value -> nativeField.getType().equals(value.getClass()) ? value : getSupplier(value, nativeField).get();
+        }
+        AttributeConverter<Object, Object> attributeConverter = converter.get();
+        Type nativeType = getGenericInterface(attributeConverter).getActualTypeArguments()[1];
+        return value -> {
+            Object converted = nativeType.equals(value.getClass()) ? value : attributeConverter.convertToDatabaseColumn(value);
+            if (converted == null && !nativeField.getType().equals(value.getClass())) {
+                return getSupplier(value, nativeField).get();
+            }
+            return converted == null ? value : converted;
+        };
+    }
+
     private static Supplier<Object> getSupplier(Object value, Field nativeField) {
         return () -> {
             if (Iterable.class.isAssignableFrom(nativeField.getType())) {
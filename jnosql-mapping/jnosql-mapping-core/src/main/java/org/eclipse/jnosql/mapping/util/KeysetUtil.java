@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.util;
+
+import jakarta.data.repository.Pageable;
+import jakarta.data.repository.Sort;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.DynamicQueryException;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Utilitarian class to the keyset pagination, where the {@link Pageable.Cursor} has the values of the sorts
+ * of an element instead of the page number.
+ */
+public final class KeysetUtil {
+
+    private KeysetUtil() {
+    }
+
+    /**
+     * Returns the sorts that define the keyset. It appends the id ascending, unless the sorts have it already,
+     * thus, every entity has a unique keyset and the entities that share the sort values are neither skipped nor
+     * repeated across the pages. When the entity has no id, the sorts must identify an entity uniquely.
+     *
+     * @param sorts   the sorts of the query
+     * @param mapping the entity metadata
+     * @return the sorts that define the keyset
+     * @throws NullPointerException when there is a null parameter
+     * @throws DynamicQueryException when there is no sort and the entity has no id
+     */
+    public static List<Sort> sorts(List<Sort> sorts, EntityMetadata mapping) {
+        Objects.requireNonNull(sorts, "sorts is required");
+        Objects.requireNonNull(mapping, "mapping is required");
+        Optional<FieldMapping> id = mapping.getId();
+        if (id.isEmpty()) {
+            if (sorts.isEmpty()) {
+                throw new DynamicQueryException("The keyset pagination requires either sort or id at the entity: "
+                        + mapping.getType());
+            }
+            return sorts;
+        }
+        String name = id.get().getName();
+        String fieldName = id.get().getFieldName();
+        if (sorts.stream().map(Sort::property).anyMatch(p -> p.equals(name) || p.equals(fieldName))) {
+            return sorts;
+        }
+        List<Sort> keyset = new ArrayList<>(sorts);
+        keyset.add(Sort.asc(name));
+        return Collections.unmodifiableList(keyset);
+    }
+
+    /**
+     * Converts the {@link Pageable.Cursor} values to the database format, following the sorts order.
+     *
+     * @param cursor     the cursor
+     * @param sorts      the sorts that define the keyset
+     * @param mapping    the entity metadata
+     * @param converters the converters
+     * @return the keyset values to the database
+     * @throws NullPointerException  when there is a null parameter
+     * @throws DynamicQueryException when the cursor size does not match the sorts or there is a case-insensitive sort
+     */
+    public static Object[] keys(Pageable.Cursor cursor, List<Sort> sorts, EntityMetadata mapping,
+                                Converters converters) {
+        Objects.requireNonNull(cursor, "cursor is required");
+        Objects.requireNonNull(sorts, "sorts is required");
+        Objects.requireNonNull(mapping, "mapping is required");
+        Objects.requireNonNull(converters, "converters is required");
+        if (cursor.size() != sorts.size()) {
+            throw new DynamicQueryException("The cursor size should match the sorts, cursor: " + cursor
+                    + " sorts: " + sorts);
+        }
+        for (Sort sort : sorts) {
+            if (sort.ignoreCase()) {
+                throw new DynamicQueryException("The keyset pagination does not support a case-insensitive sort: "
+                        + sort);
+            }
+        }
+        Object[] keys = new Object[sorts.size()];
+        for (int index = 0; index < keys.length; index++) {
+            Object value = cursor.getKeysetElement(index);
+            Optional<FieldMapping> field = field(sorts.get(index), mapping);
+            keys[index] = field.isPresent() && value != null ? ConverterUtil.getValue(value, converters, field.get())
+                    : value;
+        }
+        return keys;
+    }
+
+    /**
+     * Reads the keyset values, the values of the sorts, from an entity
+     *
+     * @param entity  the entity
+     * @param sorts   the sorts that define the keyset
+     * @param mapping the entity metadata
+     * @return the keyset values of the entity
+     * @throws NullPointerException  when there is a null parameter
+     * @throws DynamicQueryException when a sort is not a field of the entity
+     */
+    public static Object[] keys(Object entity, List<Sort> sorts, EntityMetadata mapping) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(sorts, "sorts is required");
+        Objects.requireNonNull(mapping, "mapping is required");
+        Object[] keys = new Object[sorts.size()];
+        for (int index = 0; index < keys.length; index++) {
+            Sort sort = sorts.get(index);
+            FieldMapping field = field(sort, mapping).orElseThrow(() ->
+                    new DynamicQueryException("The sort " + sort.property() + " is not a field at the entity: "
+                            + mapping.getType()));
+            keys[index] = field.read(entity);
+        }
+        return keys;
+    }
+
+    private static Optional<FieldMapping> field(Sort sort, EntityMetadata mapping) {
+        Optional<FieldMapping> field = mapping.getFieldMapping(sort.property());
+        if (field.isPresent()) {
+            return field;
+        }
+        return Optional.ofNullable(mapping.getFieldsGroupByName().get(sort.property()));
+    }
+}
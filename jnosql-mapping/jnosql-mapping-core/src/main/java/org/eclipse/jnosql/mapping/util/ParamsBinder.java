@@ -23,11 +23,16 @@ import org.eclipse.jnosql.mapping.reflection.FieldMapping;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
 
 /**
  * A Binder class, that will apply values in the {@link Params} instance to a dynamic query.
+ * At the first call of each method, it resolves the field and the converter of every parameter, so the next calls
+ * only convert and bind the args.
  */
 public class ParamsBinder {
 
@@ -35,6 +40,8 @@ public class ParamsBinder {
 
     private final Converters converters;
 
+    private final Map<Method, Binding> bindings = new ConcurrentHashMap<>();
+
     /**
      * Creates a ParamsBinder instance
      *
@@ -66,31 +73,48 @@ public class ParamsBinder {
             throw new DynamicQueryException("The number of parameters in a query is bigger than the number of " +
                     "parameters in the method: " + method);
         }
-        for (int index = 0; index < names.size(); index++) {
-            String name = names.get(index);
-            int lastIndex = name.lastIndexOf('_') == -1 ? name.length() : name.lastIndexOf('_');
-            String fieldName = name.substring(0, lastIndex);
-            Optional<FieldMapping> field = this.mapping.getFields().stream()
-                    .filter(f -> f.getName().equals(fieldName)).findFirst();
-
-            Object value = getValue(args, index, field);
-            params.bind(name, value);
+        Binding binding = bindings.get(method);
+        if (binding == null || !binding.names.equals(names)) {
+            binding = new Binding(names);
+            bindings.put(method, binding);
+        }
+        for (int index = 0; index < binding.names.size(); index++) {
+            params.bind(binding.names.get(index), binding.getValue(index, args[index]));
         }
     }
 
-    private Object getValue(Object[] args, int index, Optional<FieldMapping> field) {
-        Object value = args[index];
-        if (field.isPresent()) {
+    private final class Binding {
+
+        private final List<String> names;
+
+        private final List<UnaryOperator<Object>> converters;
+
+        private Binding(List<String> names) {
+            this.names = List.copyOf(names);
+            this.converters = new ArrayList<>(names.size());
+            for (String name : names) {
+                int lastIndex = name.lastIndexOf('_') == -1 ? name.length() : name.lastIndexOf('_');
+                String fieldName = name.substring(0, lastIndex);
+                Optional<FieldMapping> field = mapping.getFields().stream()
+                        .filter(f -> f.getName().equals(fieldName)).findFirst();
+                this.converters.add(field.map(f -> ConverterUtil.getConverter(ParamsBinder.this.converters, f))
+                        .orElse(null));
+            }
+        }
+
+        private Object getValue(int index, Object value) {
+            UnaryOperator<Object> converter = converters.get(index);
+            if (converter == null) {
+                return value;
+            }
             if (value instanceof Iterable) {
                 List<Object> values = new ArrayList<>();
                 for (Object item : Iterable.class.cast(value)) {
-                    values.add(ConverterUtil.getValue(item, converters, field.get()));
+                    values.add(converter.apply(item));
                 }
                 return values;
             }
-            return ConverterUtil.getValue(value, converters, field.get());
-        } else {
-            return value;
+            return converter.apply(value);
         }
     }
 }
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+class ChangeTrackerTest {
+
+    private final ChangeTracker<String> tracker = new ChangeTracker<>();
+
+    @Test
+    public void shouldReturnErrorWhenNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> tracker.track(null, "snapshot"));
+        Assertions.assertThrows(NullPointerException.class, () -> tracker.track("entity", null));
+        Assertions.assertThrows(NullPointerException.class, () -> tracker.get(null));
+        Assertions.assertThrows(NullPointerException.class, () -> tracker.remove(null));
+        Assertions.assertThrows(NullPointerException.class, () -> ChangeTracker.isEnabled(null));
+    }
+
+    @Test
+    public void shouldTrack() {
+        Object entity = new Object();
+        Assertions.assertTrue(tracker.get(entity).isEmpty());
+        tracker.track(entity, "first");
+        Assertions.assertEquals("first", tracker.get(entity).orElseThrow());
+        tracker.track(entity, "second");
+        Assertions.assertEquals("second", tracker.get(entity).orElseThrow());
+        Assertions.assertEquals(1, tracker.size());
+        tracker.remove(entity);
+        Assertions.assertTrue(tracker.get(entity).isEmpty());
+        Assertions.assertEquals(0, tracker.size());
+    }
+
+    @Test
+    public void shouldTrackByIdentity() {
+        List<String> first = List.of("value");
+        List<String> second = List.of("value");
+        tracker.track(first, "first");
+        Assertions.assertEquals(first, second);
+        Assertions.assertTrue(tracker.get(second).isEmpty());
+        tracker.track(second, "second");
+        Assertions.assertEquals("first", tracker.get(first).orElseThrow());
+        Assertions.assertEquals("second", tracker.get(second).orElseThrow());
+        Assertions.assertEquals(2, tracker.size());
+    }
+
+    @Test
+    public void shouldCheckIfItIsEnabled() {
+        Assertions.assertFalse(ChangeTracker.isEnabled(Settings.of(Collections.emptyMap())));
+        Assertions.assertTrue(ChangeTracker.isEnabled(Settings.of(Map.of(MappingConfigurations.CHANGE_TRACKING.get(),
+                "true"))));
+        Assertions.assertFalse(ChangeTracker.isEnabled(Settings.of(Map.of(MappingConfigurations.CHANGE_TRACKING.get(),
+                "false"))));
+    }
+}
@@ -50,4 +50,21 @@ class ConvertersTest {
         Assertions.assertEquals("Text", text);
     }
 
+    @Test
+    public void shouldCacheNormalScopedConverter() {
+        Assertions.assertSame(converters.get(MyConverter.class), converters.get(MyConverter.class));
+    }
+
+    @Test
+    public void shouldCacheDependentConverter() {
+        AttributeConverter<String, String> attributeConverter = converters.get(DependentConverter.class);
+        Assertions.assertNotNull(attributeConverter.convertToDatabaseColumn("Text"));
+        Assertions.assertSame(attributeConverter, converters.get(DependentConverter.class));
+    }
+
+    @Test
+    public void shouldCacheConverterNotUsingInjections() {
+        Assertions.assertSame(converters.get(VetedConverter.class), converters.get(VetedConverter.class));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+class EntityCacheTest {
+
+    private AtomicLong clock;
+
+    @BeforeEach
+    public void setUp() {
+        this.clock = new AtomicLong();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSizeIsNotPositive() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new EntityCache<>("Person", 0, Duration.ZERO, clock::get));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenNull() {
+        EntityCache<String> cache = new EntityCache<>("Person", 10, Duration.ZERO, clock::get);
+        Assertions.assertThrows(NullPointerException.class, () -> cache.get(null));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.put(null, "Ada"));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.put(1L, null));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.remove(null));
+    }
+
+    @Test
+    public void shouldPutAndGet() {
+        EntityCache<String> cache = new EntityCache<>("Person", 10, Duration.ZERO, clock::get);
+        cache.put(1L, "Ada");
+        Assertions.assertEquals("Ada", cache.get(1L).orElseThrow());
+        Assertions.assertTrue(cache.get(2L).isEmpty());
+        cache.remove(1L);
+        Assertions.assertTrue(cache.get(1L).isEmpty());
+        Assertions.assertEquals("Person", cache.getName());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        EntityCache<String> cache = new EntityCache<>("Person", 2, Duration.ZERO, clock::get);
+        cache.put(1L, "Ada");
+        cache.put(2L, "Grace");
+        cache.get(1L);
+        cache.put(3L, "Margaret");
+        Assertions.assertTrue(cache.get(2L).isEmpty());
+        Assertions.assertEquals("Ada", cache.get(1L).orElseThrow());
+        Assertions.assertEquals("Margaret", cache.get(3L).orElseThrow());
+        CacheStatistics statistics = cache.statistics();
+        Assertions.assertEquals(1L, statistics.getEvictions());
+        Assertions.assertEquals(2L, statistics.getSize());
+    }
+
+    @Test
+    public void shouldExpire() {
+        EntityCache<String> cache = new EntityCache<>("Person", 10, Duration.ofSeconds(1), clock::get);
+        cache.put(1L, "Ada");
+        clock.set(Duration.ofMillis(999).toNanos());
+        Assertions.assertTrue(cache.get(1L).isPresent());
+        clock.set(Duration.ofSeconds(1).toNanos());
+        Assertions.assertTrue(cache.get(1L).isEmpty());
+        CacheStatistics statistics = cache.statistics();
+        Assertions.assertEquals(1L, statistics.getEvictions());
+        Assertions.assertEquals(0L, statistics.getSize());
+    }
+
+    @Test
+    public void shouldReturnHitRate() {
+        EntityCache<String> cache = new EntityCache<>("Person", 10, Duration.ZERO, clock::get);
+        Assertions.assertEquals(0D, cache.statistics().getHitRate());
+        cache.put(1L, "Ada");
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+        CacheStatistics statistics = cache.statistics();
+        Assertions.assertEquals(3L, statistics.getHits());
+        Assertions.assertEquals(1L, statistics.getMisses());
+        Assertions.assertEquals(0.75D, statistics.getHitRate());
+    }
+
+    @Test
+    public void shouldClear() {
+        EntityCache<String> cache = new EntityCache<>("Person", 10, Duration.ZERO, clock::get);
+        cache.put(1L, "Ada");
+        cache.put(2L, "Grace");
+        cache.clear();
+        Assertions.assertEquals(0L, cache.statistics().getSize());
+    }
+
+    @Test
+    public void shouldNotPutWhenGenerationHasChanged() {
+        EntityCache<String> cache = new EntityCache<>("Person", 10, Duration.ZERO, clock::get);
+        long generation = cache.generation();
+        cache.remove(1L);
+        Assertions.assertFalse(cache.put(1L, "Ada", generation));
+        Assertions.assertTrue(cache.get(1L).isEmpty());
+        Assertions.assertTrue(cache.put(1L, "Ada", cache.generation()));
+        Assertions.assertEquals("Ada", cache.get(1L).orElseThrow());
+    }
+}
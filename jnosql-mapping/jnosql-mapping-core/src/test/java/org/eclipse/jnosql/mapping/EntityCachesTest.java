@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.test.entities.Person;
+import org.eclipse.jnosql.mapping.test.entities.Vendor;
+import org.eclipse.jnosql.mapping.test.entities.inheritance.LargeProject;
+import org.eclipse.jnosql.mapping.test.entities.inheritance.SmallProject;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+@EnableAutoWeld
+@AddPackages(value = Convert.class)
+@AddPackages(value = VetedConverter.class)
+@AddExtensions(EntityMetadataExtension.class)
+class EntityCachesTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    private EntityCaches<String> caches;
+
+    @BeforeEach
+    public void setUp() {
+        this.caches = new EntityCaches<>();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> caches.get(null));
+        Assertions.assertThrows(NullPointerException.class, () -> caches.evict(null));
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenIsNotCacheable() {
+        Assertions.assertTrue(caches.get(entities.get(Person.class)).isEmpty());
+        Assertions.assertTrue(caches.statistics().isEmpty());
+    }
+
+    @Test
+    public void shouldReturnCache() {
+        EntityCache<String> cache = caches.get(entities.get(Vendor.class)).orElseThrow();
+        Assertions.assertEquals("vendors", cache.getName());
+        Assertions.assertSame(cache, caches.get(entities.get(Vendor.class)).orElseThrow());
+    }
+
+    @Test
+    public void shouldShareCacheByName() {
+        EntityCache<String> small = caches.get(entities.get(SmallProject.class)).orElseThrow();
+        EntityCache<String> large = caches.get(entities.get(LargeProject.class)).orElseThrow();
+        Assertions.assertSame(small, large);
+    }
+
+    @Test
+    public void shouldEvict() {
+        EntityCache<String> vendors = caches.get(entities.get(Vendor.class)).orElseThrow();
+        EntityCache<String> projects = caches.get(entities.get(SmallProject.class)).orElseThrow();
+        vendors.put("apple", "Apple");
+        projects.put("jnosql", "JNoSQL");
+        caches.evict("vendors");
+        Assertions.assertTrue(vendors.get("apple").isEmpty());
+        Assertions.assertTrue(projects.get("jnosql").isPresent());
+        caches.clear();
+        Assertions.assertTrue(projects.get("jnosql").isEmpty());
+    }
+
+    @Test
+    public void shouldReturnStatistics() {
+        EntityCache<String> vendors = caches.get(entities.get(Vendor.class)).orElseThrow();
+        vendors.put("apple", "Apple");
+        vendors.get("apple");
+        Map<String, CacheStatistics> statistics = caches.statistics();
+        Assertions.assertEquals(1, statistics.size());
+        Assertions.assertEquals(1L, statistics.get("vendors").getHits());
+        Assertions.assertEquals(1D, statistics.get("vendors").getHitRate());
+    }
+
+    @Test
+    public void shouldShareGeneration() {
+        long generation = caches.generation();
+        caches.evict("vendors");
+        Assertions.assertNotEquals(generation, caches.generation());
+        EntityCache<String> vendors = caches.get(entities.get(Vendor.class)).orElseThrow();
+        EntityCache<String> projects = caches.get(entities.get(SmallProject.class)).orElseThrow();
+        generation = caches.generation();
+        vendors.remove("apple");
+        Assertions.assertEquals(caches.generation(), projects.generation());
+        Assertions.assertFalse(projects.put("jnosql", "JNoSQL", generation));
+    }
+}
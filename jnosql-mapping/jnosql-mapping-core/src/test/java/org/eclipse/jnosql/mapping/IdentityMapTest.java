@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class IdentityMapTest {
+
+    private IdentityMap identityMap;
+
+    @BeforeEach
+    public void setUp() {
+        this.identityMap = new IdentityMap();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> identityMap.get(null, 1L, String.class));
+        Assertions.assertThrows(NullPointerException.class, () -> identityMap.get("Person", null, String.class));
+        Assertions.assertThrows(NullPointerException.class, () -> identityMap.get("Person", 1L, null));
+        Assertions.assertThrows(NullPointerException.class, () -> identityMap.putIfAbsent("Person", 1L, null));
+        Assertions.assertThrows(NullPointerException.class, () -> identityMap.remove("Person", null));
+        Assertions.assertThrows(NullPointerException.class, () -> identityMap.evict(null));
+    }
+
+    @Test
+    public void shouldPutIfAbsent() {
+        String first = new String("Ada");
+        String second = new String("Ada");
+        Assertions.assertSame(first, identityMap.putIfAbsent("Person", 1L, first));
+        Assertions.assertSame(first, identityMap.putIfAbsent("Person", 1L, second));
+        Assertions.assertSame(first, identityMap.get("Person", 1L, String.class).orElseThrow());
+        Assertions.assertTrue(identityMap.get("Person", 2L, String.class).isEmpty());
+        Assertions.assertTrue(identityMap.get("Animal", 1L, String.class).isEmpty());
+        Assertions.assertEquals(1, identityMap.size());
+    }
+
+    @Test
+    public void shouldFilterByType() {
+        identityMap.putIfAbsent("Person", 1L, "Ada");
+        Assertions.assertTrue(identityMap.get("Person", 1L, Integer.class).isEmpty());
+        Assertions.assertEquals(10, identityMap.putIfAbsent("Person", 1L, 10));
+        Assertions.assertEquals(10, identityMap.get("Person", 1L, Integer.class).orElseThrow());
+    }
+
+    @Test
+    public void shouldRemove() {
+        identityMap.putIfAbsent("Person", 1L, "Ada");
+        identityMap.putIfAbsent("Person", 2L, "Grace");
+        identityMap.putIfAbsent("Animal", 1L, "Lion");
+        identityMap.remove("Person", 1L);
+        Assertions.assertTrue(identityMap.get("Person", 1L, String.class).isEmpty());
+        Assertions.assertEquals(2, identityMap.size());
+        identityMap.evict("Person");
+        Assertions.assertTrue(identityMap.get("Person", 2L, String.class).isEmpty());
+        Assertions.assertEquals(1, identityMap.size());
+        identityMap.clear();
+        Assertions.assertEquals(0, identityMap.size());
+    }
+
+    @Test
+    public void shouldKeepOneEntityWhenPutInParallel() {
+        Set<Object> entities = IntStream.range(0, 1_000).parallel()
+                .mapToObj(i -> identityMap.putIfAbsent("Person", 1L, new StringBuilder("Ada")))
+                .collect(Collectors.toCollection(() -> Collections.newSetFromMap(new IdentityHashMap<>())));
+        Assertions.assertEquals(1, entities.size());
+        Assertions.assertEquals(1, identityMap.size());
+    }
+}
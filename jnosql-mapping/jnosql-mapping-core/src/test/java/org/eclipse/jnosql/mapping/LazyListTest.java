@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class LazyListTest {
+
+    private AtomicInteger conversions;
+
+    private LazyList<String> list;
+
+    @BeforeEach
+    public void setUp() {
+        this.conversions = new AtomicInteger();
+        this.list = LazyList.of(List.of(1, 2, 3), v -> {
+            conversions.incrementAndGet();
+            return "value " + v;
+        });
+    }
+
+    @Test
+    public void shouldReturnErrorWhenNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> LazyList.of(null, v -> v));
+        Assertions.assertThrows(NullPointerException.class, () -> LazyList.of(List.of(), null));
+    }
+
+    @Test
+    public void shouldConvertOnFirstAccess() {
+        Assertions.assertEquals(3, list.size());
+        Assertions.assertEquals(0, conversions.get());
+        Assertions.assertEquals("value 2", list.get(1));
+        Assertions.assertEquals("value 2", list.get(1));
+        Assertions.assertEquals(1, conversions.get());
+        Assertions.assertFalse(list.isLoaded());
+        Assertions.assertEquals(List.of("value 1", "value 2", "value 3"), new ArrayList<>(list));
+        Assertions.assertEquals(3, conversions.get());
+        Assertions.assertTrue(list.isLoaded());
+    }
+
+    @Test
+    public void shouldModify() {
+        list.add("value 4");
+        Assertions.assertEquals("value 1", list.set(0, "first"));
+        Assertions.assertEquals("value 3", list.remove(2));
+        Assertions.assertEquals(List.of("first", "value 2", "value 4"), list);
+        list.clear();
+        Assertions.assertTrue(list.isEmpty());
+        Assertions.assertTrue(list.isLoaded());
+    }
+
+    @Test
+    public void shouldNotConvertReplacedValues() {
+        list.removeIf(v -> v.endsWith("1"));
+        Assertions.assertEquals(3, conversions.get());
+        LazyList<String> other = LazyList.of(List.of(1, 2), v -> {
+            conversions.incrementAndGet();
+            return "value " + v;
+        });
+        other.clear();
+        other.add("value");
+        Assertions.assertEquals(List.of("value"), other);
+        Assertions.assertEquals(3, conversions.get());
+    }
+
+    @Test
+    public void shouldFailFastWhenModifiedAtIteration() {
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+        list.add("value 4");
+        Assertions.assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    public void shouldBeDisabledByDefault() {
+        Assertions.assertFalse(LazyList.isEnabled(Settings.of(Collections.emptyMap())));
+        Assertions.assertTrue(LazyList.isEnabled(Settings.of(Map.of(MappingConfigurations.LAZY_COLLECTIONS.get(), "true"))));
+        Assertions.assertFalse(LazyList.isEnabled(Settings.of(Map.of(MappingConfigurations.LAZY_COLLECTIONS.get(), "false"))));
+    }
+}
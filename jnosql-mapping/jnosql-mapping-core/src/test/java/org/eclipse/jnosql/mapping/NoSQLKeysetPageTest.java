@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import jakarta.data.repository.KeysetAwarePage;
+import jakarta.data.repository.Pageable;
+import org.eclipse.jnosql.mapping.test.entities.Person;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NoSQLKeysetPageTest {
+
+    private final Function<Person, Object[]> keyset = p -> new Object[]{p.getName()};
+
+    @Test
+    public void shouldReturnErrorWhenNull() {
+        Assertions.assertThrows(NullPointerException.class, () ->
+                NoSQLKeysetPage.of(Collections.emptyList(), null, keyset));
+        Assertions.assertThrows(NullPointerException.class, () ->
+                NoSQLKeysetPage.of(null, Pageable.ofSize(2), keyset));
+        Assertions.assertThrows(NullPointerException.class, () ->
+                NoSQLKeysetPage.<Person>of(Collections.emptyList(), Pageable.ofSize(2), null));
+    }
+
+    @Test
+    public void shouldReturnCursor() {
+        KeysetAwarePage<Person> page = NoSQLKeysetPage.of(people(), Pageable.ofSize(2), keyset);
+        Assertions.assertEquals(2, page.numberOfElements());
+        Assertions.assertEquals("Ada", page.getKeysetCursor(0).getKeysetElement(0));
+        Assertions.assertEquals("Otavio", page.getKeysetCursor(1).getKeysetElement(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> page.getKeysetCursor(2));
+    }
+
+    @Test
+    public void shouldReturnNextPageable() {
+        KeysetAwarePage<Person> page = NoSQLKeysetPage.of(people(), Pageable.ofSize(2), keyset);
+        Pageable next = page.nextPageable();
+        Assertions.assertEquals(Pageable.Mode.CURSOR_NEXT, next.mode());
+        Assertions.assertEquals(2, next.size());
+        Assertions.assertEquals("Otavio", next.cursor().getKeysetElement(0));
+    }
+
+    @Test
+    public void shouldMapKeepingCursors() {
+        NoSQLKeysetPage<String> page = NoSQLKeysetPage.of(people(), Pageable.ofSize(2), keyset)
+                .map(Person::getName);
+        assertThat(page.content()).containsExactly("Ada", "Otavio");
+        Assertions.assertEquals("Otavio", page.getKeysetCursor(1).getKeysetElement(0));
+        Assertions.assertEquals("Otavio", page.nextPageable().cursor().getKeysetElement(0));
+    }
+
+    @Test
+    public void shouldReturnPreviousPageable() {
+        KeysetAwarePage<Person> page = NoSQLKeysetPage.of(people(), Pageable.ofSize(2), keyset);
+        Pageable previous = page.previousPageable();
+        Assertions.assertEquals(Pageable.Mode.CURSOR_PREVIOUS, previous.mode());
+        Assertions.assertEquals("Ada", previous.cursor().getKeysetElement(0));
+    }
+
+    @Test
+    public void shouldReverseWhenPrevious() {
+        List<Person> reversed = Arrays.asList(Person.builder().withName("Otavio").build(),
+                Person.builder().withName("Ada").build());
+        KeysetAwarePage<Person> page = NoSQLKeysetPage.of(reversed,
+                Pageable.ofSize(2).beforeKeyset("Poliana"), keyset);
+        assertThat(page.content()).extracting(Person::getName).containsExactly("Ada", "Otavio");
+    }
+
+    @Test
+    public void shouldReturnNullWhenEmpty() {
+        KeysetAwarePage<Person> page = NoSQLKeysetPage.of(Collections.emptyList(), Pageable.ofSize(2), keyset);
+        Assertions.assertFalse(page.hasContent());
+        Assertions.assertNull(page.nextPageable());
+        Assertions.assertNull(page.previousPageable());
+    }
+
+    @Test
+    public void shouldReturnUnsupportedOperation() {
+        KeysetAwarePage<Person> page = NoSQLKeysetPage.of(people(), Pageable.ofSize(2), keyset);
+        Assertions.assertThrows(UnsupportedOperationException.class, page::totalPages);
+        Assertions.assertThrows(UnsupportedOperationException.class, page::totalElements);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenKeysetHasNull() {
+        List<Person> people = Arrays.asList(Person.builder().withName("Ada").build(), Person.builder().build());
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+                NoSQLKeysetPage.of(people, Pageable.ofSize(2), keyset));
+    }
+
+    @Test
+    public void shouldCompareCursors() {
+        NoSQLKeysetPage<Person> page = NoSQLKeysetPage.of(people(), Pageable.ofSize(2), keyset);
+        Assertions.assertEquals(page, NoSQLKeysetPage.of(people(), Pageable.ofSize(2), keyset));
+        Assertions.assertEquals(page.hashCode(), NoSQLKeysetPage.of(people(), Pageable.ofSize(2), keyset).hashCode());
+        NoSQLKeysetPage<Person> other = NoSQLKeysetPage.of(people(), Pageable.ofSize(2),
+                p -> new Object[]{p.getName(), p.getAge()});
+        Assertions.assertNotEquals(page, other);
+    }
+
+    private List<Person> people() {
+        return Arrays.asList(Person.builder().withName("Ada").build(),
+                Person.builder().withName("Otavio").build());
+    }
+}
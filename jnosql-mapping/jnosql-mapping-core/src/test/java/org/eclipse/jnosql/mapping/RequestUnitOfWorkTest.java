@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
+import org.jboss.weld.junit5.auto.ActivateScopes;
+import org.jboss.weld.junit5.auto.AddBeanClasses;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+@EnableAutoWeld
+@AddBeanClasses({RequestUnitOfWork.class, UnitOfWorkResolver.class})
+@ActivateScopes(RequestScoped.class)
+class RequestUnitOfWorkTest {
+
+    @Inject
+    private UnitOfWorkResolver resolver;
+
+    @BeforeAll
+    public static void enable() {
+        System.setProperty(MappingConfigurations.IDENTITY_MAP.get(), "true");
+    }
+
+    @AfterAll
+    public static void disable() {
+        System.clearProperty(MappingConfigurations.IDENTITY_MAP.get());
+    }
+
+    @Test
+    public void shouldReturnRequestUnitOfWork() {
+        UnitOfWork unitOfWork = resolver.current().orElseThrow();
+        Assertions.assertSame(unitOfWork, resolver.current().orElseThrow());
+        Assertions.assertTrue(UnitOfWork.current().isEmpty());
+    }
+
+    @Test
+    public void shouldPreferThreadUnitOfWork() {
+        UnitOfWork request = resolver.current().orElseThrow();
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            Assertions.assertSame(unitOfWork, resolver.current().orElseThrow());
+        }
+        Assertions.assertSame(request, resolver.current().orElseThrow());
+    }
+
+    @Test
+    public void shouldReturnRequestUnitOfWorkAtOtherThread() throws InterruptedException {
+        UnitOfWork unitOfWork = resolver.current().orElseThrow();
+        boolean[] empty = new boolean[1];
+        Thread thread = new Thread(() -> empty[0] = UnitOfWork.current().isEmpty());
+        thread.start();
+        thread.join();
+        Assertions.assertTrue(empty[0]);
+        Assertions.assertSame(unitOfWork, resolver.current().orElseThrow());
+    }
+}
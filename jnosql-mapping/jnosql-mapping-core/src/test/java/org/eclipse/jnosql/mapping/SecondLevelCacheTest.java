@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+@EnableAutoWeld
+@AddPackages(value = Convert.class)
+@AddPackages(value = VetedConverter.class)
+@AddExtensions(EntityMetadataExtension.class)
+class SecondLevelCacheTest {
+
+    @Inject
+    private SecondLevelCache cache;
+
+    @Inject
+    private SecondLevelCache other;
+
+    @Test
+    public void shouldReturnErrorWhenNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> cache.get(null, "database"));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.get(String.class, null));
+    }
+
+    @Test
+    public void shouldShareCaches() {
+        EntityCaches<String> caches = cache.get(String.class, "database");
+        Assertions.assertSame(caches, other.get(String.class, "database"));
+        Assertions.assertNotSame(caches, cache.get(Integer.class, "database"));
+    }
+
+    @Test
+    public void shouldIsolateDatabases() {
+        EntityCaches<String> caches = cache.get(String.class, "database");
+        Assertions.assertNotSame(caches, cache.get(String.class, "other"));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+class UnitOfWorkTest {
+
+    @Test
+    public void shouldBeginAndClose() {
+        Assertions.assertTrue(UnitOfWork.current().isEmpty());
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            Assertions.assertSame(unitOfWork, UnitOfWork.current().orElseThrow());
+        }
+        Assertions.assertTrue(UnitOfWork.current().isEmpty());
+    }
+
+    @Test
+    public void shouldNest() {
+        try (UnitOfWork outer = UnitOfWork.begin()) {
+            try (UnitOfWork inner = UnitOfWork.begin()) {
+                Assertions.assertSame(inner, UnitOfWork.current().orElseThrow());
+            }
+            Assertions.assertSame(outer, UnitOfWork.current().orElseThrow());
+        }
+        Assertions.assertTrue(UnitOfWork.current().isEmpty());
+    }
+
+    @Test
+    public void shouldReturnIdentityMapByOwner() {
+        Object owner = new Object();
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            IdentityMap identityMap = unitOfWork.identityMap(owner);
+            Assertions.assertSame(identityMap, unitOfWork.identityMap(owner));
+            Assertions.assertNotSame(identityMap, unitOfWork.identityMap(new Object()));
+            identityMap.putIfAbsent("Person", 1L, "Ada");
+            unitOfWork.clear();
+            Assertions.assertEquals(0, identityMap.size());
+            Assertions.assertThrows(NullPointerException.class, () -> unitOfWork.identityMap(null));
+        }
+    }
+
+    @Test
+    public void shouldBindToCurrentThread() throws InterruptedException {
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            boolean[] empty = new boolean[1];
+            Thread thread = new Thread(() -> empty[0] = UnitOfWork.current().isEmpty());
+            thread.start();
+            thread.join();
+            Assertions.assertTrue(empty[0]);
+        }
+    }
+
+    @Test
+    public void shouldRestorePreviousWhenClosedOutOfOrder() {
+        UnitOfWork outer = UnitOfWork.begin();
+        UnitOfWork middle = UnitOfWork.begin();
+        UnitOfWork inner = UnitOfWork.begin();
+        middle.close();
+        Assertions.assertSame(inner, UnitOfWork.current().orElseThrow());
+        inner.close();
+        Assertions.assertSame(outer, UnitOfWork.current().orElseThrow());
+        outer.close();
+        Assertions.assertTrue(UnitOfWork.current().isEmpty());
+    }
+
+    @Test
+    public void shouldCloseRequestUnitOfWork() {
+        RequestUnitOfWork request = new RequestUnitOfWork();
+        UnitOfWork unitOfWork = request.get();
+        unitOfWork.identityMap(this).putIfAbsent("Person", 1L, "Ada");
+        Assertions.assertSame(unitOfWork, request.get());
+        request.close();
+        Assertions.assertEquals(0, unitOfWork.identityMap(this).size());
+        Assertions.assertNotSame(unitOfWork, request.get());
+        Assertions.assertTrue(UnitOfWork.current().isEmpty());
+    }
+
+    @Test
+    public void shouldCheckIfItIsEnabled() {
+        Assertions.assertThrows(NullPointerException.class, () -> UnitOfWork.isEnabled(null));
+        Assertions.assertFalse(UnitOfWork.isEnabled(Settings.of(Collections.emptyMap())));
+        Assertions.assertTrue(UnitOfWork.isEnabled(Settings.of(Map.of(MappingConfigurations.IDENTITY_MAP.get(),
+                "true"))));
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.config;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchSizeTest {
+
+    @Test
+    public void shouldReturnEmptyWhenThereIsNoBatchSize() {
+        assertTrue(BatchSize.get(Settings.of(Collections.emptyMap())).isEmpty());
+        assertTrue(BatchSize.get().isEmpty());
+    }
+
+    @Test
+    public void shouldReturnBatchSize() {
+        Settings settings = Settings.of(Map.of(MappingConfigurations.BATCH_SIZE.get(), " 100"));
+        assertEquals(100, BatchSize.get(settings).getAsInt());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenBatchSizeIsInvalid() {
+        assertThrows(NullPointerException.class, () -> BatchSize.get(null));
+        assertThrows(IllegalArgumentException.class, () -> BatchSize.get(
+                Settings.of(Map.of(MappingConfigurations.BATCH_SIZE.get(), "hundred"))));
+        assertThrows(IllegalArgumentException.class, () -> BatchSize.get(
+                Settings.of(Map.of(MappingConfigurations.BATCH_SIZE.get(), "0"))));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.config;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryTimeoutTest {
+
+    @Test
+    public void shouldReturnEmptyWhenThereIsNoTimeout() {
+        assertTrue(QueryTimeout.get(Settings.of(Collections.emptyMap())).isEmpty());
+        assertTrue(QueryTimeout.get().isEmpty());
+    }
+
+    @Test
+    public void shouldReturnDuration() {
+        Settings settings = Settings.of(Map.of(MappingConfigurations.QUERY_TIMEOUT.get(), "PT5S"));
+        assertEquals(Duration.ofSeconds(5), QueryTimeout.get(settings).orElseThrow());
+    }
+
+    @Test
+    public void shouldReturnMillis() {
+        Settings settings = Settings.of(Map.of(MappingConfigurations.QUERY_TIMEOUT.get(), "250"));
+        assertEquals(Duration.ofMillis(250), QueryTimeout.get(settings).orElseThrow());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTimeoutIsInvalid() {
+        assertThrows(NullPointerException.class, () -> QueryTimeout.get(null));
+        assertThrows(IllegalArgumentException.class, () -> QueryTimeout.get(
+                Settings.of(Map.of(MappingConfigurations.QUERY_TIMEOUT.get(), "five seconds"))));
+        assertThrows(IllegalArgumentException.class, () -> QueryTimeout.get(
+                Settings.of(Map.of(MappingConfigurations.QUERY_TIMEOUT.get(), "0"))));
+    }
+}
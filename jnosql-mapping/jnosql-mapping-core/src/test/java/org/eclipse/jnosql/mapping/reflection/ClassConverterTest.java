@@ -22,6 +22,7 @@ import org.eclipse.jnosql.mapping.test.entities.Director;
 import org.eclipse.jnosql.mapping.test.entities.Machine;
 import org.eclipse.jnosql.mapping.test.entities.NoConstructorEntity;
 import org.eclipse.jnosql.mapping.test.entities.Person;
+import org.eclipse.jnosql.mapping.test.entities.Ticket;
 import org.eclipse.jnosql.mapping.test.entities.User;
 import org.eclipse.jnosql.mapping.test.entities.Worker;
 import org.eclipse.jnosql.mapping.test.entities.constructor.Computer;
@@ -205,4 +206,23 @@ public class ClassConverterTest {
         assertEquals(5, constructor.getParameters().size());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldCreateEntityMetadataFromGeneratedMetadata() {
+        assertTrue(GeneratedEntities.INSTANCE.get(Ticket.class).isPresent());
+        assertFalse(GeneratedEntities.INSTANCE.get(Person.class).isPresent());
+        EntityMetadata entityMetadata = classConverter.create(Ticket.class);
+
+        assertEquals("tickets", entityMetadata.getName());
+        assertThat(entityMetadata.getFieldsName()).containsExactly("_id", "seat_number", "note");
+        assertTrue(entityMetadata.getId().isPresent());
+
+        Ticket ticket = entityMetadata.newInstance();
+        entityMetadata.getFieldMapping("id").orElseThrow().write(ticket, "ticket");
+        entityMetadata.getFieldMapping("seat").orElseThrow().write(ticket, 12);
+        entityMetadata.getFieldMapping("note").orElseThrow().write(ticket, "window");
+        assertEquals("ticket", ticket.getId());
+        assertEquals(12, ticket.getSeat());
+        assertEquals("window", ticket.getNote());
+        assertEquals(12, entityMetadata.getFieldMapping("seat").orElseThrow().read(ticket));
+    }
+}
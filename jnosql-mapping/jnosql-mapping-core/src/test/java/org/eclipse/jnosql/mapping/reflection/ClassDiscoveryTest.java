@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.test.entities.Job;
+import org.eclipse.jnosql.mapping.test.entities.Person;
+import org.eclipse.jnosql.mapping.test.entities.PersonRepository;
+import org.eclipse.jnosql.mapping.test.entities.inheritance.Notification;
+import org.eclipse.jnosql.mapping.test.entities.inheritance.Project;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassDiscoveryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void shouldReturnErrorWhenNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> ClassDiscovery.of(null, loader()));
+        Assertions.assertThrows(NullPointerException.class, () -> ClassDiscovery.of(Settings.of(), null));
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenThereIsNoIndex() {
+        Assertions.assertTrue(ClassDiscovery.index(loader()).isEmpty());
+    }
+
+    @Test
+    public void shouldLoadIndex() throws IOException {
+        try (URLClassLoader loader = index("# generated\n"
+                + "entity=" + Person.class.getName() + "\n"
+                + "embeddable=" + Job.class.getName() + "\n"
+                + "repository=" + PersonRepository.class.getName() + "\n"
+                + "repository=" + Person.class.getName() + "\n"
+                + "entity=org.eclipse.jnosql.NotFound\n"
+                + "invalid\n")) {
+            Settings settings = Settings.builder().put(MappingConfigurations.SCANNER_INDEX, "true").build();
+            ClassDiscovery discovery = ClassDiscovery.of(settings, loader);
+            assertThat(discovery.getEntities()).containsExactly(Person.class);
+            assertThat(discovery.getEmbeddables()).containsExactly(Job.class);
+            assertThat(discovery.getRepositories()).containsExactly(PersonRepository.class);
+        }
+    }
+
+    @Test
+    public void shouldScanWhenIndexIsDisabled() throws IOException {
+        try (URLClassLoader loader = index("entity=" + Person.class.getName() + "\n")) {
+            Settings settings = Settings.builder().put(MappingConfigurations.SCANNER_INDEX, "false")
+                    .put(MappingConfigurations.SCANNER_PACKAGES, Project.class.getPackageName())
+                    .build();
+            ClassDiscovery discovery = ClassDiscovery.of(settings, loader);
+            assertThat(discovery.getEntities()).contains(Project.class, Notification.class)
+                    .doesNotContain(Person.class);
+        }
+    }
+
+    @Test
+    public void shouldScanByDefaultWhenThereIsIndex() throws IOException {
+        try (URLClassLoader loader = index("entity=" + Person.class.getName() + "\n")) {
+            Settings settings = Settings.builder().put(MappingConfigurations.SCANNER_PACKAGES,
+                    Project.class.getPackageName()).build();
+            ClassDiscovery discovery = ClassDiscovery.of(settings, loader);
+            assertThat(discovery.getEntities()).contains(Project.class, Notification.class)
+                    .doesNotContain(Person.class);
+        }
+    }
+
+    @Test
+    public void shouldScanPackages() {
+        ClassDiscovery discovery = ClassDiscovery.scan(List.of(Project.class.getPackageName()));
+        assertThat(discovery.getEntities()).contains(Project.class, Notification.class)
+                .allMatch(c -> c.getPackageName().equals(Project.class.getPackageName()));
+        assertThat(discovery.getRepositories()).isEmpty();
+    }
+
+    private ClassLoader loader() {
+        return getClass().getClassLoader();
+    }
+
+    private URLClassLoader index(String content) throws IOException {
+        Path index = directory.resolve(ClassDiscovery.INDEX);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, content);
+        return new URLClassLoader(new URL[]{directory.toUri().toURL()}, loader());
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.Convert;
+import org.eclipse.jnosql.mapping.VetedConverter;
+import org.eclipse.jnosql.mapping.test.entities.Money;
+import org.eclipse.jnosql.mapping.test.entities.constructor.Computer;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+@EnableAutoWeld
+@AddPackages(value = Convert.class)
+@AddPackages(value = VetedConverter.class)
+@AddExtensions(EntityMetadataExtension.class)
+class ConstructorBuilderTest {
+
+    private static final List<ConstructorEvent> EVENTS = new ArrayList<>();
+
+    @Inject
+    private Reflections reflections;
+
+    private ConstructorMetadata metadata;
+
+    @BeforeEach
+    public void setUp() {
+        this.metadata = new ConstructorMetadataBuilder(reflections).build(Computer.class);
+        EVENTS.clear();
+    }
+
+    void observe(@Observes ConstructorEvent event) {
+        EVENTS.add(event);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenMetadataIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> ConstructorBuilder.of(null));
+    }
+
+    @Test
+    public void shouldReturnIndexOfParameter() {
+        Assertions.assertEquals(0, metadata.indexOf("_id"));
+        Assertions.assertEquals(4, metadata.indexOf("price"));
+        Assertions.assertEquals(-1, metadata.indexOf("unknown"));
+    }
+
+    @Test
+    public void shouldBuild() {
+        Money price = new Money("USD", BigDecimal.TEN);
+        ConstructorBuilder builder = ConstructorBuilder.of(metadata);
+        builder.add(10L);
+        builder.add("Dell");
+        builder.add(2);
+        builder.addEmptyParameter();
+        builder.add(price);
+
+        Computer computer = builder.build();
+        Assertions.assertEquals(10L, computer.getId());
+        Assertions.assertEquals("Dell", computer.getName());
+        Assertions.assertEquals(2, computer.getAge());
+        Assertions.assertNull(computer.getModel());
+        Assertions.assertEquals(price, computer.getPrice());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenAddsMoreThanParameters() {
+        ConstructorBuilder builder = ConstructorBuilder.of(metadata);
+        builder.add(10L);
+        builder.add("Dell");
+        builder.add(2);
+        builder.add("Inspiron");
+        builder.addEmptyParameter();
+        Assertions.assertThrows(IllegalStateException.class, () -> builder.add("extra"));
+        Assertions.assertThrows(IllegalStateException.class, builder::addEmptyParameter);
+    }
+
+    @Test
+    public void shouldFireEventWhenThereIsObserver() {
+        ConstructorBuilder builder = ConstructorBuilder.of(metadata);
+        builder.add(10L);
+        builder.add("Dell");
+        builder.add(2);
+        builder.add("Inspiron");
+        builder.addEmptyParameter();
+        builder.build();
+
+        Assertions.assertEquals(1, EVENTS.size());
+        Assertions.assertEquals(metadata.getConstructor(), EVENTS.get(0).getConstructor());
+        Assertions.assertArrayEquals(new Object[]{10L, "Dell", 2, "Inspiron", null}, EVENTS.get(0).getParams());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenPrimitiveParameterIsEmpty() {
+        ConstructorBuilder builder = ConstructorBuilder.of(metadata);
+        builder.add(10L);
+        builder.add("Dell");
+        builder.addEmptyParameter();
+        builder.add("Inspiron");
+        builder.addEmptyParameter();
+
+        Assertions.assertThrows(MappingException.class, builder::build);
+    }
+}
@@ -14,8 +14,14 @@
  */
 package org.eclipse.jnosql.mapping.reflection;
 
+import jakarta.nosql.Column;
+import jakarta.nosql.Id;
 import org.eclipse.jnosql.mapping.Convert;
+import org.eclipse.jnosql.mapping.DiscriminatorValue;
+import org.eclipse.jnosql.mapping.Inheritance;
 import org.eclipse.jnosql.mapping.VetedConverter;
+import org.eclipse.jnosql.mapping.test.entities.Address;
+import org.eclipse.jnosql.mapping.test.entities.Job;
 import org.eclipse.jnosql.mapping.test.entities.Person;
 import org.eclipse.jnosql.mapping.test.entities.Vendor;
 import org.eclipse.jnosql.mapping.test.entities.inheritance.EmailNotification;
@@ -32,7 +38,9 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import jakarta.inject.Inject;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @EnableAutoWeld
 @AddPackages(value = Convert.class)
@@ -62,6 +70,23 @@ class DefaultEntitiesMetadataTest {
         Assertions.assertNotNull(mapping);
         Assertions.assertEquals(Vendor.class, mapping.getType());
     }
+
+    @Test
+    public void shouldFindByNameIgnoreCase() {
+        Assertions.assertEquals(Person.class, this.mappings.findByName("PERSON").getType());
+        Assertions.assertEquals(Person.class, this.mappings.findByName("person").getType());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenFindByNameIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> this.mappings.findByName(null));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenFindByNameIsNotFound() {
+        Assertions.assertThrows(ClassInformationNotFoundException.class, () -> this.mappings.findByName("unknown"));
+    }
+
     @Test
     public void shouldFindBySimpleName(){
         this.mappings.load(Person.class);
@@ -130,4 +155,83 @@ class DefaultEntitiesMetadataTest {
         Assertions.assertNotNull(group.get("Large"));
         Assertions.assertNotNull(group.get("Project"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReturnEmptyGroupWhenThereIsNoInheritance() {
+        Assertions.assertTrue(this.mappings.findByParentGroupByDiscriminatorValue(Person.class).isEmpty());
+    }
+
+    @Test
+    public void shouldUpdateGroupWhenLoadsLazily() {
+        Assertions.assertTrue(this.mappings.findByParentGroupByDiscriminatorValue(Shape.class).isEmpty());
+        this.mappings.get(Circle.class);
+
+        Map<String, InheritanceMetadata> group = this.mappings.findByParentGroupByDiscriminatorValue(Shape.class);
+        Assertions.assertEquals(1, group.size());
+        Assertions.assertEquals(Circle.class, group.get("Circle").getEntity());
+
+        this.mappings.get(Shape.class);
+        Assertions.assertEquals(2, this.mappings.findByParentGroupByDiscriminatorValue(Shape.class).size());
+        Assertions.assertEquals(1, group.size());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenWarmUpIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> this.mappings.warmUp(null));
+    }
+
+    @Test
+    public void shouldWarmUp() {
+        this.mappings.warmUp();
+        Assertions.assertSame(this.mappings.get(Person.class), this.mappings.get(Person.class));
+    }
+
+    @Test
+    public void shouldWarmUpNestedTypes() {
+        this.mappings.warmUp(List.of(Office.class));
+
+        EntityMetadata office = this.mappings.get(Office.class);
+        Assertions.assertSame(office, this.mappings.get(Office.class));
+        Assertions.assertEquals(Set.of(Job.class, Address.class), NestedTypes.of(office));
+        Assertions.assertEquals(Job.class, this.mappings.get(Job.class).getType());
+    }
+
+    @Test
+    public void shouldCountMissesAfterWarmUp() {
+        this.mappings.warmUp(List.of(Person.class));
+        long misses = this.mappings.misses();
+
+        this.mappings.get(Person.class);
+        Assertions.assertEquals(misses, this.mappings.misses());
+
+        this.mappings.get(Circle.class);
+        this.mappings.get(Circle.class);
+        Assertions.assertEquals(misses + 1, this.mappings.misses());
+    }
+
+    @Inheritance
+    static class Shape {
+
+        @Id
+        private String id;
+    }
+
+    @DiscriminatorValue("Circle")
+    static class Circle extends Shape {
+
+        @Column
+        private int radius;
+    }
+
+    static class Office {
+
+        @Column
+        private String name;
+
+        @Column
+        private Job job;
+
+        @Column
+        private List<Address> addresses;
+    }
+}
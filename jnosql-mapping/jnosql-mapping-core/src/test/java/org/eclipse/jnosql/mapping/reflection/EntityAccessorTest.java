@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.mapping.Convert;
+import org.eclipse.jnosql.mapping.VetedConverter;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.test.entities.Person;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@EnableAutoWeld
+@AddPackages(value = Convert.class)
+@AddPackages(value = VetedConverter.class)
+@AddExtensions(EntityMetadataExtension.class)
+class EntityAccessorTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    private EntityMetadata mapping;
+
+    private EntityAccessor accessor;
+
+    @BeforeEach
+    public void setUp() {
+        this.mapping = entities.get(Person.class);
+        this.accessor = EntityAccessor.of(mapping).orElseThrow();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> EntityAccessor.of(null));
+        Assertions.assertThrows(NullPointerException.class, () -> EntityAccessor.isEnabled(null));
+    }
+
+    @Test
+    public void shouldReadFields() {
+        Person person = Person.builder().withId(10L).withName("Ada").withAge(20).build();
+        Object[] values = accessor.read(person);
+        Assertions.assertEquals(mapping.getFields().size(), accessor.size());
+        Assertions.assertEquals(accessor.size(), values.length);
+        Assertions.assertEquals(10L, values[indexOf("id")]);
+        Assertions.assertEquals("Ada", values[indexOf("name")]);
+        Assertions.assertEquals(20, values[indexOf("age")]);
+        Assertions.assertNull(values[indexOf("phones")]);
+    }
+
+    @Test
+    public void shouldBeDisabledByDefault() {
+        Assertions.assertFalse(EntityAccessor.isEnabled(Settings.of(Collections.emptyMap())));
+        Assertions.assertTrue(EntityAccessor.isEnabled(Settings.of(Map.of(MappingConfigurations.CONVERTER_GENERATED.get(),
+                "true"))));
+        Assertions.assertFalse(EntityAccessor.isEnabled(Settings.of(Map.of(MappingConfigurations.CONVERTER_GENERATED.get(),
+                "false"))));
+    }
+
+    private int indexOf(String name) {
+        List<FieldMapping> fields = mapping.getFields();
+        for (int index = 0; index < fields.size(); index++) {
+            if (fields.get(index).getFieldName().equals(name)) {
+                return index;
+            }
+        }
+        throw new IllegalArgumentException("There is no field " + name);
+    }
+}
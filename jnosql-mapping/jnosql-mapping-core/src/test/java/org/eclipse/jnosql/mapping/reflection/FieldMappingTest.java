@@ -16,6 +16,7 @@ package org.eclipse.jnosql.mapping.reflection;
 
 
 import jakarta.nosql.Column;
+import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.mapping.Convert;
 import org.eclipse.jnosql.mapping.Embeddable;
 import org.eclipse.jnosql.mapping.VetedConverter;
@@ -25,15 +26,21 @@ import org.jboss.weld.junit5.auto.EnableAutoWeld;
 import org.junit.jupiter.api.Test;
 
 import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.eclipse.jnosql.mapping.reflection.MappingType.COLLECTION;
 import static org.eclipse.jnosql.mapping.reflection.MappingType.DEFAULT;
 import static org.eclipse.jnosql.mapping.reflection.MappingType.EMBEDDED;
 import static org.eclipse.jnosql.mapping.reflection.MappingType.MAP;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @EnableAutoWeld
 @AddPackages(value = Convert.class)
@@ -143,6 +150,33 @@ public class FieldMappingTest {
         assertEquals(forClass.barClass, barClass.read(forClass));
     }
 
+    @Test
+    public void shouldReturnCollectionInstance() {
+        EntityMetadata entityMetadata = classConverter.create(ForClass.class);
+        GenericFieldMapping list = (GenericFieldMapping) entityMetadata.getFieldMapping("list").get();
+        GenericFieldMapping bars = (GenericFieldMapping) entityMetadata.getFieldMapping("bars").get();
+
+        assertEquals(String.class, list.getElementType());
+        assertFalse(list.isEmbeddable());
+        assertEquals(BarClass.class, bars.getElementType());
+        assertTrue(bars.isEmbeddable());
+        assertTrue(list.getCollectionInstance() instanceof ArrayList);
+        assertTrue(list.getCollectionInstance(10) instanceof ArrayList);
+        assertTrue(list.getCollectionInstance(10).isEmpty());
+    }
+
+    @Test
+    public void shouldReadNumbers() {
+        EntityMetadata entityMetadata = classConverter.create(ForClass.class);
+        FieldMapping numbers = entityMetadata.getFieldMapping("numbers").get();
+
+        Collection<?> values = (Collection<?>) numbers.getValue(Value.of(List.of("1", 2, 3L)));
+        assertTrue(values instanceof HashSet);
+        assertEquals(Set.of(1L, 2L, 3L), values);
+        assertEquals(Set.of(1L, 2L), numbers.getValue(Value.of(new int[]{1, 2})));
+        assertEquals(Set.of(4L), numbers.getValue(Value.of(4)));
+    }
+
 
     public static class ForClass {
 
@@ -158,6 +192,12 @@ public class FieldMappingTest {
 
         @Column
         private BarClass barClass;
+
+        @Column
+        private Set<Long> numbers;
+
+        @Column
+        private List<BarClass> bars;
     }
 
     @Embeddable
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeneratedRepositoriesTest {
+
+    @Test
+    public void shouldReturnErrorWhenThereIsNullParameter() {
+        InvocationHandler handler = (proxy, method, args) -> null;
+        assertThrows(NullPointerException.class, () -> GeneratedRepositories.INSTANCE.newInstance(null, handler));
+        assertThrows(NullPointerException.class, () -> GeneratedRepositories.INSTANCE.newInstance(Supplier.class, null));
+    }
+
+    @Test
+    public void shouldCreateProxyWhenThereIsNoGeneratedRepository() {
+        assertTrue(GeneratedRepositories.INSTANCE.get(Supplier.class).isEmpty());
+        Supplier<?> supplier = GeneratedRepositories.INSTANCE.newInstance(Supplier.class, (proxy, method, args) -> "value");
+        assertTrue(Proxy.isProxyClass(supplier.getClass()));
+        assertEquals("value", supplier.get());
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.jnosql.mapping.test.entities.Person;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.singletonList;
+
+class MethodHandleFieldReaderFactoryTest {
+
+    private final MethodHandleFieldReaderFactory readerFactory =
+            new MethodHandleFieldReaderFactory(new ReflectionFieldReaderFactory(new Reflections()));
+
+    @Test
+    public void shouldReturnErrorWhenNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> readerFactory.apply(null));
+    }
+
+    @Test
+    public void shouldRead() throws NoSuchFieldException {
+        Person person = Person.builder().withId(10L).withAge(10).withName("Ada")
+                .withPhones(singletonList("234234324")).build();
+
+        Assertions.assertEquals(10L, readerFactory.apply(Person.class.getDeclaredField("id")).read(person));
+        Assertions.assertEquals("Ada", readerFactory.apply(Person.class.getDeclaredField("name")).read(person));
+        Assertions.assertEquals(10, readerFactory.apply(Person.class.getDeclaredField("age")).read(person));
+        Assertions.assertEquals(singletonList("234234324"),
+                readerFactory.apply(Person.class.getDeclaredField("phones")).read(person));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenBeanIsInvalid() throws NoSuchFieldException {
+        FieldReader reader = readerFactory.apply(Person.class.getDeclaredField("name"));
+        Assertions.assertThrows(ClassCastException.class, () -> reader.read("not a person"));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.jnosql.mapping.test.entities.Person;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static java.util.Collections.singletonList;
+
+class MethodHandleFieldWriterFactoryTest {
+
+    private final MethodHandleFieldWriterFactory writerFactory =
+            new MethodHandleFieldWriterFactory(new ReflectionFieldWriterFactory(new Reflections()));
+
+    @Test
+    public void shouldReturnErrorWhenNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> writerFactory.apply(null));
+    }
+
+    @Test
+    public void shouldWrite() throws NoSuchFieldException {
+        Person person = Person.builder().build();
+
+        writerFactory.apply(Person.class.getDeclaredField("id")).write(person, 10L);
+        writerFactory.apply(Person.class.getDeclaredField("name")).write(person, "Ada");
+        writerFactory.apply(Person.class.getDeclaredField("age")).write(person, 10);
+        writerFactory.apply(Person.class.getDeclaredField("phones")).write(person, singletonList("234234324"));
+
+        Assertions.assertEquals(10L, person.getId());
+        Assertions.assertEquals("Ada", person.getName());
+        Assertions.assertEquals(10, person.getAge());
+        Assertions.assertEquals(singletonList("234234324"), person.getPhones());
+    }
+
+    @Test
+    public void shouldWriteFinalField() throws NoSuchFieldException {
+        Field field = Immutable.class.getDeclaredField("name");
+        field.setAccessible(true);
+        Immutable immutable = new Immutable();
+        writerFactory.apply(field).write(immutable, "Ada");
+        Assertions.assertEquals("Ada", immutable.name);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenValueIsInvalid() throws NoSuchFieldException {
+        Person person = Person.builder().withName("Ada").build();
+        FieldWriter writer = writerFactory.apply(Person.class.getDeclaredField("name"));
+        Assertions.assertThrows(ClassCastException.class, () -> writer.write(person, 10));
+        Assertions.assertEquals("Ada", person.getName());
+    }
+
+    private static class Immutable {
+
+        private final String name = null;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.jnosql.mapping.test.entities.Person;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MethodHandleInstanceSupplierFactoryTest {
+
+    private final MethodHandleInstanceSupplierFactory supplierFactory =
+            new MethodHandleInstanceSupplierFactory(new ReflectionInstanceSupplierFactory(new Reflections()));
+
+    @Test
+    public void shouldReturnErrorWhenNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> supplierFactory.apply(null));
+    }
+
+    @Test
+    public void shouldNewInstance() throws NoSuchMethodException {
+        InstanceSupplier supplier = supplierFactory.apply(Person.class.getDeclaredConstructor());
+        Object first = supplier.get();
+        Object second = supplier.get();
+        assertEquals(Person.class, first.getClass());
+        Assertions.assertNotSame(first, second);
+    }
+
+    @Test
+    public void shouldNewInstanceFromPrivateConstructor() throws NoSuchMethodException {
+        InstanceSupplier supplier = supplierFactory.apply(Hidden.class.getDeclaredConstructor());
+        assertEquals(Hidden.class, supplier.get().getClass());
+    }
+
+    private static class Hidden {
+
+        private Hidden() {
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParallelMetadataTest {
+
+    @Test
+    public void shouldMapInOrder() {
+        List<Integer> items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        assertEquals(items.stream().map(i -> i * 2).collect(Collectors.toList()), ParallelMetadata.map(items, i -> i * 2));
+    }
+
+    @Test
+    public void shouldUseContextClassLoaderOfCaller() throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[0], previous)) {
+            thread.setContextClassLoader(loader);
+            List<Integer> items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+            List<ClassLoader> loaders = ParallelMetadata.map(items, i -> Thread.currentThread().getContextClassLoader());
+            assertThat(loaders).containsOnly(loader);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    @Test
+    public void shouldPropagateError() {
+        List<Integer> items = List.of(1, 2, 3);
+        assertThrows(IllegalStateException.class, () -> ParallelMetadata.map(items, i -> {
+            throw new IllegalStateException("error");
+        }));
+    }
+}
@@ -48,4 +48,12 @@ class ListSupplierTest {
         Assertions.assertTrue(collection instanceof ArrayList);
     }
 
+    @Test
+    public void shouldGetWithSize() {
+        final Collection<?> collection = this.supplier.get(100);
+        Assertions.assertNotNull(collection);
+        Assertions.assertTrue(collection instanceof ArrayList);
+        Assertions.assertTrue(collection.isEmpty());
+    }
+
 }
\ No newline at end of file
@@ -46,4 +46,12 @@ class SetSupplierTest {
         Assertions.assertTrue(collection instanceof HashSet);
     }
 
+    @Test
+    public void shouldGetWithSize() {
+        final Collection<?> collection = this.supplier.get(100);
+        Assertions.assertNotNull(collection);
+        Assertions.assertTrue(collection instanceof HashSet);
+        Assertions.assertTrue(collection.isEmpty());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,228 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.repository;
+
+import jakarta.data.repository.KeysetAwarePage;
+import jakarta.data.repository.Page;
+import jakarta.data.repository.Slice;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.Convert;
+import org.eclipse.jnosql.mapping.DynamicQueryException;
+import org.eclipse.jnosql.mapping.VetedConverter;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.test.entities.Job;
+import org.eclipse.jnosql.mapping.test.entities.Person;
+import org.eclipse.jnosql.mapping.test.entities.Worker;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableAutoWeld
+@AddPackages(value = Convert.class)
+@AddPackages(value = VetedConverter.class)
+@AddExtensions(EntityMetadataExtension.class)
+class ProjectionTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    private EntityMetadata metadata;
+
+    @BeforeEach
+    public void setUp() {
+        this.metadata = entities.get(Person.class);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenNull() throws NoSuchMethodException {
+        Assertions.assertThrows(NullPointerException.class, () -> Projection.of(null, metadata));
+        Assertions.assertThrows(NullPointerException.class, () ->
+                Projection.of(PersonRepository.class.getMethod("findByName", String.class), null));
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenReturnsEntity() throws NoSuchMethodException {
+        Assertions.assertTrue(Projection.of(PersonRepository.class.getMethod("findByName", String.class),
+                metadata).isEmpty());
+        Assertions.assertTrue(Projection.of(PersonRepository.class.getMethod("findByAge", Integer.class),
+                metadata).isEmpty());
+        Assertions.assertTrue(Projection.of(PersonRepository.class.getMethod("countByAge", Integer.class),
+                metadata).isEmpty());
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenReturnsWrapper() throws NoSuchMethodException {
+        Assertions.assertTrue(Projection.of(PersonRepository.class.getMethod("findByAge", Long.class),
+                metadata).isEmpty());
+        Assertions.assertTrue(Projection.of(PersonRepository.class.getMethod("findByAge", Short.class),
+                metadata).isEmpty());
+        Assertions.assertTrue(Projection.of(PersonRepository.class.getMethod("findByName", Integer.class),
+                metadata).isEmpty());
+    }
+
+    @Test
+    public void shouldReturnInterfaceProjection() throws NoSuchMethodException {
+        Optional<Projection> projection = Projection.of(PersonRepository.class
+                .getMethod("findByPhones", String.class), metadata);
+        Assertions.assertTrue(projection.isPresent());
+        Assertions.assertEquals(PersonName.class, projection.get().getType());
+        assertThat(projection.get().getNames()).containsExactlyInAnyOrder("name", "age");
+    }
+
+    @Test
+    public void shouldCreateInterfaceProjection() throws NoSuchMethodException {
+        Projection projection = Projection.of(PersonRepository.class.getMethod("findByPhones", String.class),
+                metadata).orElseThrow();
+        Person person = Person.builder().withName("Ada").withAge(10).withId(1L).build();
+        PersonName name = projection.apply(person);
+        Assertions.assertEquals("Ada", name.getName());
+        Assertions.assertEquals(10, name.age());
+        Assertions.assertEquals("Ada:10", name.describe());
+        Assertions.assertEquals(name, projection.apply(person));
+        Assertions.assertEquals(name.hashCode(), projection.<PersonName>apply(person).hashCode());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenPropertyDoesNotExist() throws NoSuchMethodException {
+        Assertions.assertThrows(DynamicQueryException.class, () ->
+                Projection.of(PersonRepository.class.getMethod("findByIgnore", String.class), metadata));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenMethodHasParameters() throws NoSuchMethodException {
+        Assertions.assertThrows(DynamicQueryException.class, () ->
+                Projection.of(PersonRepository.class.getMethod("findByName", Long.class), metadata));
+    }
+
+    @Test
+    public void shouldHandleObjectMethods() throws NoSuchMethodException {
+        Projection projection = Projection.of(PersonRepository.class.getMethod("findByPhones", Integer.class),
+                metadata).orElseThrow();
+        assertThat(projection.getNames()).containsExactly("name");
+        Person person = Person.builder().withName("Ada").withAge(10).withId(1L).build();
+        PersonDescription description = projection.apply(person);
+        Assertions.assertEquals("Ada", description.name());
+        Assertions.assertEquals("PersonDescription{name=Ada}", description.toString());
+        Assertions.assertEquals(description, projection.apply(person));
+        Assertions.assertEquals(description.hashCode(), projection.<PersonDescription>apply(person).hashCode());
+    }
+
+    @Test
+    public void shouldNotBeEqualWhenProjectionTypeIsDifferent() throws NoSuchMethodException {
+        Person person = Person.builder().withName("Ada").withAge(10).withId(1L).build();
+        Object name = Projection.of(PersonRepository.class.getMethod("findByPhones", Integer.class), metadata)
+                .orElseThrow().apply(person);
+        Object other = Projection.of(PersonRepository.class.getMethod("findByPhones", Long.class), metadata)
+                .orElseThrow().apply(person);
+        Assertions.assertNotEquals(name, other);
+    }
+
+    @Test
+    public void shouldReturnEmbeddedNames() throws NoSuchMethodException {
+        Projection projection = Projection.of(WorkerRepository.class.getMethod("findByName", String.class),
+                entities.get(Worker.class)).orElseThrow();
+        assertThat(projection.getNames()).containsExactlyInAnyOrder("name", "description", "city");
+    }
+
+    public interface PersonName {
+
+        String getName();
+
+        int age();
+
+        default String describe() {
+            return getName() + ':' + age();
+        }
+    }
+
+    public interface PersonInvalid {
+
+        String getAddress();
+    }
+
+    public interface PersonDescription {
+
+        String name();
+
+        @Override
+        String toString();
+
+        @Override
+        boolean equals(Object other);
+
+        @Override
+        int hashCode();
+    }
+
+    public interface PersonOtherDescription {
+
+        String name();
+    }
+
+    public interface PersonParameter {
+
+        String name(String prefix);
+    }
+
+    public interface WorkerJob {
+
+        String getName();
+
+        Job getJob();
+    }
+
+    interface WorkerRepository {
+
+        List<WorkerJob> findByName(String name);
+    }
+
+    interface PersonRepository {
+
+        Person findByName(String name);
+
+        List<Person> findByAge(Integer age);
+
+        long countByAge(Integer age);
+
+        List<PersonName> findByPhones(String phone);
+
+        Optional<PersonInvalid> findByIgnore(String ignore);
+
+        List<PersonDescription> findByPhones(Integer phone);
+
+        List<PersonOtherDescription> findByPhones(Long phone);
+
+        List<PersonParameter> findByName(Long name);
+
+        @SuppressWarnings("rawtypes")
+        Page findByAge(Long age);
+
+        @SuppressWarnings("rawtypes")
+        Slice findByAge(Short age);
+
+        @SuppressWarnings("rawtypes")
+        KeysetAwarePage findByName(Integer name);
+    }
+}
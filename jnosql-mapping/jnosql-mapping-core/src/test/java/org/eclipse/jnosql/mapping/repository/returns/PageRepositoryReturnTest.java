@@ -14,6 +14,8 @@
  */
 package org.eclipse.jnosql.mapping.repository.returns;
 
+import jakarta.data.repository.KeysetAwarePage;
+import jakarta.data.repository.KeysetAwareSlice;
 import jakarta.data.repository.Page;
 import jakarta.data.repository.Pageable;
 import jakarta.data.repository.Slice;
@@ -48,6 +50,8 @@ class PageRepositoryReturnTest {
     public void shouldReturnIsCompatible() {
         Assertions.assertTrue(repositoryReturn.isCompatible(Person.class, Page.class));
         Assertions.assertTrue(repositoryReturn.isCompatible(Person.class, Slice.class));
+        Assertions.assertTrue(repositoryReturn.isCompatible(Person.class, KeysetAwarePage.class));
+        Assertions.assertTrue(repositoryReturn.isCompatible(Person.class, KeysetAwareSlice.class));
         assertFalse(repositoryReturn.isCompatible(Object.class, Person.class));
         assertFalse(repositoryReturn.isCompatible(Person.class, Object.class));
     }
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.test.entities;
+
+@javax.annotation.processing.Generated("org.eclipse.jnosql.mapping.processor.EntityProcessor")
+@SuppressWarnings({"unchecked", "rawtypes"})
+public final class Ticket_JNoSQLEntityMetadata implements org.eclipse.jnosql.mapping.reflection.GeneratedEntityMetadata {
+
+    private static final java.util.List<org.eclipse.jnosql.mapping.reflection.GeneratedFieldMetadata> FIELDS = java.util.List.of(
+        org.eclipse.jnosql.mapping.reflection.GeneratedFieldMetadata.of(org.eclipse.jnosql.mapping.test.entities.Ticket.class, "id", "_id", true,
+            bean -> ((org.eclipse.jnosql.mapping.test.entities.Ticket) bean).id,
+            (bean, value) -> ((org.eclipse.jnosql.mapping.test.entities.Ticket) bean).id = (java.lang.String) value),
+        org.eclipse.jnosql.mapping.reflection.GeneratedFieldMetadata.of(org.eclipse.jnosql.mapping.test.entities.Ticket.class, "seat", "seat_number", false,
+            bean -> ((org.eclipse.jnosql.mapping.test.entities.Ticket) bean).getSeat(),
+            (bean, value) -> {
+                if (value != null) {
+                    ((org.eclipse.jnosql.mapping.test.entities.Ticket) bean).setSeat((java.lang.Integer) value);
+                }
+            }),
+        org.eclipse.jnosql.mapping.reflection.GeneratedFieldMetadata.of(org.eclipse.jnosql.mapping.test.entities.Ticket.class, "note", "note", false,
+            bean -> ((org.eclipse.jnosql.mapping.test.entities.Ticket) bean).getNote(),
+            null));
+
+    @Override
+    public Class<?> type() {
+        return org.eclipse.jnosql.mapping.test.entities.Ticket.class;
+    }
+
+    @Override
+    public String name() {
+        return "tickets";
+    }
+
+    @Override
+    public java.util.Optional<org.eclipse.jnosql.mapping.reflection.InstanceSupplier> instanceSupplier() {
+        return java.util.Optional.of(org.eclipse.jnosql.mapping.test.entities.Ticket::new);
+    }
+
+    @Override
+    public java.util.List<org.eclipse.jnosql.mapping.reflection.GeneratedFieldMetadata> fields() {
+        return FIELDS;
+    }
+}
@@ -17,10 +17,12 @@ package org.eclipse.jnosql.mapping.test.entities;
 import jakarta.nosql.Column;
 import jakarta.nosql.Entity;
 import jakarta.nosql.Id;
+import org.eclipse.jnosql.mapping.Cacheable;
 
 import java.util.Collections;
 import java.util.Set;
 
+@Cacheable
 @Entity("vendors")
 public class Vendor {
 
@@ -30,6 +30,7 @@ import org.junit.jupiter.api.Test;
 
 import jakarta.inject.Inject;
 import java.math.BigDecimal;
+import java.util.function.UnaryOperator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -70,4 +71,20 @@ public class ConverterUtilTest {
         Object converted = ConverterUtil.getValue(value, mapping, "salary", converters);
         assertEquals("BRL 10", converted);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldConvertWithConverter() {
+        EntityMetadata mapping = mappings.get(Person.class);
+        UnaryOperator<Object> converter = ConverterUtil.getConverter(converters, mapping.getFieldMapping("id").orElseThrow());
+        assertEquals(100L, converter.apply("100"));
+        assertEquals(10_000L, converter.apply(10_000L));
+    }
+
+    @Test
+    public void shouldUseAttributeConvertWithConverter() {
+        EntityMetadata mapping = mappings.get(Worker.class);
+        UnaryOperator<Object> converter = ConverterUtil.getConverter(converters, mapping.getFieldMapping("salary").orElseThrow());
+        assertEquals("BRL 10", converter.apply(new Money("BRL", BigDecimal.TEN)));
+        assertEquals("USD 1", converter.apply(new Money("USD", BigDecimal.ONE)));
+    }
+}
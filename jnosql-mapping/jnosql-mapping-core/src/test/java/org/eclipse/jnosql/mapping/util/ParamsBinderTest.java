@@ -156,6 +156,33 @@ class ParamsBinderTest {
         Assertions.assertEquals(Arrays.asList(1, 2), param);
     }
 
+    @Test
+    public void shouldReuseBindingAtTheSameMethod() {
+        Method method = PersonRepository.class.getDeclaredMethods()[2];
+        for (long age = 1; age <= 3; age++) {
+            Params params = Params.newParams();
+            Value value = params.add("age_1212");
+            binder.bind(params, new Object[]{age}, method);
+            Assertions.assertEquals((int) age, value.get());
+        }
+    }
+
+    @Test
+    public void shouldRebindWhenParametersChange() {
+        Method method = PersonRepository.class.getDeclaredMethods()[2];
+        Params params = Params.newParams();
+        Value age = params.add("age_1212");
+        binder.bind(params, new Object[]{1L}, method);
+        Assertions.assertEquals(1, age.get());
+
+        Params other = Params.newParams();
+        Value name = other.add("name");
+        Value otherAge = other.add("age");
+        binder.bind(other, new Object[]{"otavio", 2L}, method);
+        Assertions.assertEquals("otavio", name.get());
+        Assertions.assertEquals(2, otherAge.get());
+    }
+
 
     interface PersonRepository extends CrudRepository<Person, Long> {
 
@@ -18,23 +18,37 @@ package org.eclipse.jnosql.mapping.document;
 import jakarta.data.exceptions.NonUniqueResultException;
 import jakarta.nosql.PreparedStatement;
 import jakarta.nosql.QueryMapper;
+import org.eclipse.jnosql.communication.Cancellation;
+import org.eclipse.jnosql.communication.document.Document;
 import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.communication.document.DocumentManager;
 import org.eclipse.jnosql.communication.document.DocumentObserverParser;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
 import org.eclipse.jnosql.communication.document.DocumentQueryParser;
+import org.eclipse.jnosql.mapping.CacheStatistics;
+import org.eclipse.jnosql.mapping.ChangeTracker;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.EntityCache;
+import org.eclipse.jnosql.mapping.EntityCaches;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.IdentityMap;
+import org.eclipse.jnosql.mapping.SecondLevelCache;
+import org.eclipse.jnosql.mapping.UnitOfWork;
+import org.eclipse.jnosql.mapping.config.QueryTimeout;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
 import org.eclipse.jnosql.mapping.reflection.FieldMapping;
 import org.eclipse.jnosql.mapping.util.ConverterUtil;
 
 import java.time.Duration;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -64,10 +78,30 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
 
     protected abstract Converters getConverters();
 
+    /**
+     * Returns the second-level caches of the entities annotated with {@link org.eclipse.jnosql.mapping.Cacheable}, by
+     * default, they are kept at this template; the templates of the container share the ones of the application per
+     * manager, thus, templates on different databases do not read each other entities.
+     *
+     * @return the caches
+     * @see SecondLevelCache
+     */
+    protected EntityCaches<DocumentEntity> getCaches() {
+        return caches;
+    }
+
     private final UnaryOperator<DocumentEntity> insert = e -> getManager().insert(e);
 
     private final UnaryOperator<DocumentEntity> update = e -> getManager().update(e);
 
+    private final boolean tracking = ChangeTracker.isEnabled();
+
+    private final Duration defaultTimeout = QueryTimeout.get().orElse(null);
+
+    private final ChangeTracker<DocumentEntity> tracker = new ChangeTracker<>();
+
+    private final EntityCaches<DocumentEntity> caches = new EntityCaches<>();
+
     private DocumentObserverParser columnQueryParser;
 
 
@@ -81,7 +115,7 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
     @Override
     public <T> T insert(T entity) {
         requireNonNull(entity, "entity is required");
-        return getWorkflow().flow(entity, insert);
+        return invalidate(getWorkflow().flow(entity, insert));
     }
 
 
@@ -89,42 +123,47 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
     public <T> T insert(T entity, Duration ttl) {
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
-        return getWorkflow().flow(entity, e -> getManager().insert(e, ttl));
+        return invalidate(getWorkflow().flow(entity, e -> getManager().insert(e, ttl)));
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities) {
-        requireNonNull(entities, "entity is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        requireNonNull(entities, "entities is required");
+        return invalidate(getWorkflow().flowAll(entities, e -> getManager().insert(e)));
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
         requireNonNull(entities, "entities is required");
         requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(e -> insert(e, ttl))
-                .collect(Collectors.toList());
+        return invalidate(getWorkflow().flowAll(entities, e -> getManager().insert(e, ttl)));
     }
 
     @Override
     public <T> T update(T entity) {
         requireNonNull(entity, "entity is required");
-        return getWorkflow().flow(entity, update);
+        if (tracking) {
+            return invalidate(getWorkflow().flow(entity, e -> update(entity, e)));
+        }
+        return invalidate(getWorkflow().flow(entity, update));
     }
 
     @Override
     public <T> Iterable<T> update(Iterable<T> entities) {
         requireNonNull(entities, "entity is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        if (tracking) {
+            return StreamSupport.stream(entities.spliterator(), false)
+                    .map(this::update).collect(Collectors.toList());
+        }
+        return invalidate(getWorkflow().flowAll(entities, getManager()::update));
     }
 
     @Override
     public void delete(DocumentDeleteQuery query) {
         requireNonNull(query, "query is required");
         getEventManager().firePreDeleteQuery(query);
+        identityMap().ifPresent(m -> m.evict(query.name()));
+        getCaches().evict(query.name());
         getManager().delete(query);
     }
 
@@ -134,6 +173,31 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
         return executeQuery(query);
     }
 
+    @Override
+    public <T> Stream<T> parallelSelect(DocumentQuery query, int parallelism) {
+        requireNonNull(query, "query is required");
+        getEventManager().firePreQuery(query);
+        Stream<DocumentEntity> entities = getManager().parallelSelect(query, parallelism);
+        Function<DocumentEntity, T> function = e -> track(getConverter().toEntity(e, query.documents()));
+        return entities.map(function).peek(getEventManager()::firePostEntity);
+    }
+
+    @Override
+    public <T> Stream<T> select(DocumentQuery query, Cancellation cancellation) {
+        requireNonNull(query, "query is required");
+        requireNonNull(cancellation, "cancellation is required");
+        getEventManager().firePreQuery(query);
+        boolean entire = query.documents().isEmpty();
+        long generation = entire ? getCaches().generation() : 0L;
+        Stream<DocumentEntity> entities = getManager().select(query, cancellation);
+        Optional<IdentityMap> identityMap = entire ? identityMap() : Optional.empty();
+        Function<DocumentEntity, T> function = e -> {
+            T loaded = cache(entire, generation, e, getConverter().toEntity(e, query.documents()));
+            return track(loaded, identity(identityMap, loaded));
+        };
+        return entities.map(function).peek(getEventManager()::firePostEntity);
+    }
+
     @Override
     public boolean exists(DocumentQuery query) {
         return getManager().exists(query);
@@ -141,7 +205,13 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
 
     @Override
     public long count(DocumentQuery query) {
-        return getManager().count(query);
+        Optional<Duration> timeout = timeout(query);
+        if (timeout.isEmpty()) {
+            return getManager().count(query);
+        }
+        try (Cancellation cancellation = Cancellation.of(timeout.get())) {
+            return getManager().count(query, cancellation);
+        }
     }
 
     @Override
@@ -168,6 +238,17 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
                 .orElseThrow(() -> IdNotFoundException.newInstance(type));
 
         Object value = ConverterUtil.getValue(id, entityMetadata, idField.getFieldName(), getConverters());
+        Optional<T> entity = identityMap().flatMap(m -> m.get(entityMetadata.getName(), value, type));
+        if (entity.isPresent()) {
+            return entity;
+        }
+        Optional<DocumentEntity> cached = getCaches().get(entityMetadata).flatMap(c -> c.get(value));
+        if (cached.isPresent()) {
+            T loaded = getConverter().toEntity(cached.get());
+            T hit = track(loaded, identity(identityMap(), loaded));
+            getEventManager().firePostEntity(hit);
+            return Optional.of(hit);
+        }
         DocumentQuery query = DocumentQuery.select().from(entityMetadata.getName())
                 .where(idField.getName()).eq(value).build();
 
@@ -193,7 +274,11 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
     @Override
     public <T> Stream<T> query(String query) {
         requireNonNull(query, "query is required");
-        return PARSER.query(query, getManager(), getObserver()).map(c -> (T) getConverter().toEntity(c));
+        if (!isSelect(query)) {
+            identityMap().ifPresent(IdentityMap::clear);
+            getCaches().clear();
+        }
+        return PARSER.query(query, getManager(), getObserver()).map(c -> this.<T>track(getConverter().toEntity(c)));
     }
 
     @Override
@@ -213,7 +298,25 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
 
     @Override
     public PreparedStatement prepare(String query) {
-        return new DocumentPreparedStatement(PARSER.prepare(query, getManager(), getObserver()), getConverter());
+        org.eclipse.jnosql.communication.document.DocumentPreparedStatement statement =
+                PARSER.prepare(query, getManager(), getObserver());
+        if (defaultTimeout != null) {
+            statement.timeout(defaultTimeout);
+        }
+        return new DocumentPreparedStatement(statement, getConverter());
+    }
+
+    @Override
+    public PreparedStatement prepare(String query, Map<String, Object> hints) {
+        requireNonNull(query, "query is required");
+        requireNonNull(hints, "hints is required");
+        org.eclipse.jnosql.communication.document.DocumentPreparedStatement statement =
+                PARSER.prepare(query, getManager(), getObserver());
+        if (defaultTimeout != null) {
+            statement.timeout(defaultTimeout);
+        }
+        hints.forEach(statement::hint);
+        return new DocumentPreparedStatement(statement, getConverter());
     }
 
 
@@ -231,11 +334,144 @@ public abstract class AbstractDocumentTemplate implements JNoSQLDocumentTemplate
     private <T> Stream<T> executeQuery(DocumentQuery query) {
         requireNonNull(query, "query is required");
         getEventManager().firePreQuery(query);
-        Stream<DocumentEntity> entities = getManager().select(query);
-        Function<DocumentEntity, T> function = e -> getConverter().toEntity(e);
+        boolean entire = query.documents().isEmpty();
+        long generation = entire ? getCaches().generation() : 0L;
+        Optional<Duration> timeout = timeout(query);
+        Stream<DocumentEntity> entities = timeout
+                .map(t -> Cancellation.stream(t, c -> getManager().select(query, c)))
+                .orElseGet(() -> getManager().select(query));
+        Optional<IdentityMap> identityMap = entire ? identityMap() : Optional.empty();
+        Function<DocumentEntity, T> function = e -> {
+            T loaded = cache(entire, generation, e, getConverter().toEntity(e, query.documents()));
+            return track(loaded, identity(identityMap, loaded));
+        };
         return entities.map(function).peek(getEventManager()::firePostEntity);
     }
 
+    @Override
+    public Map<String, CacheStatistics> cacheStatistics() {
+        return getCaches().statistics();
+    }
+
+    /**
+     * Returns the {@link UnitOfWork} of the current thread, the templates of a CDI container override it to also
+     * resolve the one of the current request.
+     *
+     * @return the {@link UnitOfWork} or {@link Optional#empty()} when there is none
+     */
+    protected Optional<UnitOfWork> getUnitOfWork() {
+        return UnitOfWork.current();
+    }
+
+    private Optional<IdentityMap> identityMap() {
+        return getUnitOfWork().map(u -> u.identityMap(this));
+    }
+
+    /**
+     * Returns the entity already loaded at the {@link UnitOfWork} with the same id, if any, otherwise it keeps the
+     * entity at the identity map
+     */
+    private <T> T identity(Optional<IdentityMap> identityMap, T entity) {
+        if (identityMap.isEmpty()) {
+            return entity;
+        }
+        EntityMetadata metadata = getEntities().get(entity.getClass());
+        return id(metadata, entity).map(id -> identityMap.get().putIfAbsent(metadata.getName(), id, entity))
+                .orElse(entity);
+    }
+
+    /**
+     * Keeps the document entity at the second-level cache, when the entity is {@link org.eclipse.jnosql.mapping.Cacheable}
+     * and the query has read the entire entity, unless a write has invalidated the cache since the generation was taken
+     */
+    private <T> T cache(boolean entire, long generation, DocumentEntity document, T entity) {
+        if (entire) {
+            EntityMetadata metadata = getEntities().get(entity.getClass());
+            getCaches().get(metadata).ifPresent(c -> id(metadata, entity).ifPresent(id -> c.put(id, document.copy(), generation)));
+        }
+        return entity;
+    }
+
+    private <T> List<T> invalidate(List<T> entities) {
+        entities.forEach(this::invalidate);
+        return entities;
+    }
+
+    private <T> T invalidate(T entity) {
+        EntityMetadata metadata = getEntities().get(entity.getClass());
+        Optional<IdentityMap> identityMap = identityMap();
+        Optional<EntityCache<DocumentEntity>> cache = getCaches().get(metadata);
+        if (identityMap.isPresent() || cache.isPresent()) {
+            id(metadata, entity).ifPresent(id -> {
+                identityMap.ifPresent(m -> m.remove(metadata.getName(), id));
+                cache.ifPresent(c -> c.remove(id));
+            });
+        }
+        return entity;
+    }
+
+    private static boolean isSelect(String query) {
+        return query.stripLeading().regionMatches(true, 0, "select", 0, 6);
+    }
+
+    private Optional<Object> id(EntityMetadata metadata, Object entity) {
+        return metadata.getId().flatMap(id -> Optional.ofNullable(id.read(entity))
+                .map(value -> ConverterUtil.getValue(value, metadata, id.getFieldName(), getConverters())));
+    }
+
+    private <T> T track(T entity) {
+        return track(entity, entity);
+    }
+
+    /**
+     * Keeps the snapshot of the loaded entity for the entity returned to the caller, which is either the same
+     * instance or the one already at the identity map. The snapshot comes from the converter, as the documents of an
+     * update do, thus, both sides of the comparison have the same value types.
+     */
+    private <T> T track(Object loaded, T entity) {
+        if (tracking) {
+            tracker.track(entity, getConverter().toDocument(loaded));
+        }
+        return entity;
+    }
+
+    /**
+     * Sends only the documents that have changed since the entity was loaded; when there is no change, it does not
+     * reach the database, and when a document was removed, it updates the whole entity.
+     */
+    private DocumentEntity update(Object entity, DocumentEntity document) {
+        Optional<Set<String>> changes = tracker.get(entity).flatMap(snapshot -> changes(snapshot, document));
+        DocumentEntity updated;
+        if (changes.isEmpty()) {
+            updated = getManager().update(document);
+        } else if (changes.get().isEmpty()) {
+            updated = document;
+        } else {
+            updated = getManager().update(document, changes.get());
+        }
+        tracker.track(entity, document.copy());
+        return updated;
+    }
+
+    private static Optional<Set<String>> changes(DocumentEntity snapshot, DocumentEntity document) {
+        for (String name : snapshot.getDocumentNames()) {
+            if (!document.contains(name)) {
+                return Optional.empty();
+            }
+        }
+        Set<String> changes = new HashSet<>();
+        for (Document current : document.documents()) {
+            if (snapshot.find(current.name()).filter(current::equals).isEmpty()) {
+                changes.add(current.name());
+            }
+        }
+        return Optional.of(changes);
+    }
+
+    private Optional<Duration> timeout(DocumentQuery query) {
+        return query.timeout().or(() -> Optional.ofNullable(defaultTimeout));
+    }
+
     @Override
     public <T> QueryMapper.MapperFrom select(Class<T> type) {
         Objects.requireNonNull(type, "type is required");
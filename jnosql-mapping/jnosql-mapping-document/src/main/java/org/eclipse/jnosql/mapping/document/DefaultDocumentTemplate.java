@@ -18,12 +18,19 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Default;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.communication.document.DocumentManager;
 import org.eclipse.jnosql.mapping.Converters;
 import org.eclipse.jnosql.mapping.Database;
+import org.eclipse.jnosql.mapping.EntityCaches;
 import org.eclipse.jnosql.mapping.DatabaseType;
+import org.eclipse.jnosql.mapping.SecondLevelCache;
+import org.eclipse.jnosql.mapping.UnitOfWork;
+import org.eclipse.jnosql.mapping.UnitOfWorkResolver;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
 
+import java.util.Optional;
+
 /**
  * The default implementation of DocumentTemplate
  */
@@ -44,16 +51,23 @@ class DefaultDocumentTemplate extends AbstractDocumentTemplate {
 
     private Converters converters;
 
+    private SecondLevelCache cache;
+
+    private UnitOfWorkResolver units;
+
     @Inject
     DefaultDocumentTemplate(DocumentEntityConverter converter, Instance<DocumentManager> manager,
                             DocumentWorkflow workflow, DocumentEventPersistManager persistManager,
-                            EntitiesMetadata entities, Converters converters) {
+                            EntitiesMetadata entities, Converters converters, SecondLevelCache cache,
+                            UnitOfWorkResolver units) {
         this.converter = converter;
         this.manager = manager;
         this.workflow = workflow;
         this.persistManager = persistManager;
         this.entities = entities;
         this.converters = converters;
+        this.cache = cache;
+        this.units = units;
     }
 
     DefaultDocumentTemplate() {
@@ -89,5 +103,15 @@ class DefaultDocumentTemplate extends AbstractDocumentTemplate {
         return converters;
     }
 
+    @Override
+    protected EntityCaches<DocumentEntity> getCaches() {
+        return cache.get(DocumentEntity.class, getManager());
+    }
+
+    @Override
+    protected Optional<UnitOfWork> getUnitOfWork() {
+        return units.current();
+    }
+
 
 }
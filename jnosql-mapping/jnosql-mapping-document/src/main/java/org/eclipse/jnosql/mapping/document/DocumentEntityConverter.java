@@ -18,26 +18,24 @@ import jakarta.data.exceptions.MappingException;
 import org.eclipse.jnosql.communication.document.Document;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.LazyList;
 import org.eclipse.jnosql.mapping.reflection.ConstructorBuilder;
 import org.eclipse.jnosql.mapping.reflection.ConstructorMetadata;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityAccessor;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
 import org.eclipse.jnosql.mapping.reflection.FieldMapping;
-import org.eclipse.jnosql.mapping.reflection.FieldValue;
 import org.eclipse.jnosql.mapping.reflection.InheritanceMetadata;
-import org.eclipse.jnosql.mapping.reflection.MappingType;
 import org.eclipse.jnosql.mapping.reflection.ParameterMetaData;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
-import static org.eclipse.jnosql.mapping.reflection.MappingType.EMBEDDED;
 import static org.eclipse.jnosql.mapping.reflection.MappingType.ENTITY;
 
 /**
@@ -45,6 +43,14 @@ import static org.eclipse.jnosql.mapping.reflection.MappingType.ENTITY;
  */
 public abstract class DocumentEntityConverter {
 
+    private final Map<Class<?>, DocumentReadPlan> readPlans = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, DocumentWritePlan> writePlans = new ConcurrentHashMap<>();
+
+    private final boolean generated = EntityAccessor.isEnabled();
+
+    private final boolean lazy = LazyList.isEnabled();
+
     protected abstract EntitiesMetadata getEntities();
 
     protected abstract Converters getConverters();
@@ -58,18 +64,9 @@ public abstract class DocumentEntityConverter {
      */
     public DocumentEntity toDocument(Object entity) {
         requireNonNull(entity, "entity is required");
-        EntityMetadata mapping = getEntities().get(entity.getClass());
-        DocumentEntity communication = DocumentEntity.of(mapping.getName());
-        mapping.getFields().stream()
-                .map(f -> to(f, entity))
-                .filter(FieldValue::isNotEmpty)
-                .map(f -> f.toDocument(this, getConverters()))
-                .flatMap(List::stream)
-                .forEach(communication::add);
-
-        mapping.getInheritance().ifPresent(i -> communication.add(i.getDiscriminatorColumn(), i.getDiscriminatorValue()));
-        return communication;
-
+        DocumentWritePlan plan = writePlans.computeIfAbsent(entity.getClass(),
+                type -> DocumentWritePlan.of(getEntities().get(type), getConverters(), accessor(type)));
+        return plan.write(entity, this);
     }
 
     /**
@@ -116,15 +113,32 @@ public abstract class DocumentEntityConverter {
      * @throws NullPointerException when entity is null
      */
     public <T> T toEntity(DocumentEntity entity) {
+        return toEntity(entity, Collections.emptyList());
+    }
+
+    /**
+     * Similar to {@link DocumentEntityConverter#toEntity(DocumentEntity)}, but it only touches the
+     * fields of the projection, e.g. {@link org.eclipse.jnosql.communication.document.DocumentQuery#documents()},
+     * instead of walking through all the fields of the entity.
+     * When the projection is empty, it converts all the fields.
+     *
+     * @param entity     the {@link DocumentEntity} to be converted
+     * @param projection the documents names of the projection
+     * @param <T>        the entity type
+     * @return the instance from {@link DocumentEntity}
+     * @throws NullPointerException when there is a null parameter
+     */
+    public <T> T toEntity(DocumentEntity entity, List<String> projection) {
         requireNonNull(entity, "entity is required");
+        requireNonNull(projection, "projection is required");
         EntityMetadata mapping = getEntities().findByName(entity.name());
         if (mapping.isInheritance()) {
-            return mapInheritanceEntity(entity, mapping.getType());
+            return mapInheritanceEntity(entity, mapping.getType(), projection);
         }
         ConstructorMetadata constructor = mapping.getConstructor();
         if (constructor.isDefault()) {
             T instance = mapping.newInstance();
-            return convertEntity(entity.documents(), mapping, instance);
+            return convertEntity(entity.documents(), mapping, instance, projection);
         } else {
             return convertEntityByConstructor(entity.documents(), mapping);
         }
@@ -152,7 +166,7 @@ public abstract class DocumentEntityConverter {
         return k -> {
             Optional<Document> document = documents.stream().filter(c -> c.name().equals(k)).findFirst();
             FieldMapping field = fieldsGroupByName.get(k);
-            FieldConverter fieldConverter = FieldConverter.get(field);
+            FieldConverter fieldConverter = FieldConverter.get(field, lazy);
             if (ENTITY.equals(field.getType())) {
                 document.ifPresent(d -> fieldConverter.convert(entity,
                         null, d, field, this));
@@ -163,20 +177,29 @@ public abstract class DocumentEntityConverter {
     }
 
     private <T> T convertEntityByConstructor(List<Document> documents, EntityMetadata mapping) {
-        ConstructorBuilder builder = ConstructorBuilder.of(mapping.getConstructor());
-        for (ParameterMetaData parameter : builder.getParameters()) {
-            Optional<Document> document = documents.stream()
-                    .filter(c -> c.name().equals(parameter.getName()))
-                    .findFirst();
-            document.ifPresentOrElse(c -> {
+        ConstructorMetadata constructor = mapping.getConstructor();
+        ConstructorBuilder builder = ConstructorBuilder.of(constructor);
+        List<ParameterMetaData> parameters = builder.getParameters();
+        Document[] values = new Document[parameters.size()];
+        for (Document document : documents) {
+            int index = constructor.indexOf(document.name());
+            if (index >= 0 && values[index] == null) {
+                values[index] = document;
+            }
+        }
+        for (int index = 0; index < values.length; index++) {
+            ParameterMetaData parameter = parameters.get(index);
+            if (values[index] == null) {
+                builder.addEmptyParameter();
+            } else {
                 ParameterConverter converter = ParameterConverter.of(parameter);
-                converter.convert(this, c, parameter, builder);
-            }, builder::addEmptyParameter);
+                converter.convert(this, values[index], parameter, builder);
+            }
         }
         return builder.build();
     }
 
-    private <T> T mapInheritanceEntity(DocumentEntity entity, Class<?> type) {
+    private <T> T mapInheritanceEntity(DocumentEntity entity, Class<?> type, List<String> projection) {
         Map<String, InheritanceMetadata> group = getEntities()
                 .findByParentGroupByDiscriminatorValue(type);
 
@@ -203,26 +226,20 @@ public abstract class DocumentEntityConverter {
         ConstructorMetadata constructor = mapping.getConstructor();
         if (constructor.isDefault()) {
             T instance = mapping.newInstance();
-            return convertEntity(entity.documents(), mapping, instance);
+            return convertEntity(entity.documents(), mapping, instance, projection);
         } else {
             return convertEntityByConstructor(entity.documents(), mapping);
         }
     }
 
     private <T> T convertEntity(List<Document> documents, EntityMetadata mapping, T instance) {
-        final Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
-        final List<String> names = documents.stream().map(Document::name).sorted().collect(Collectors.toList());
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            MappingType type = fieldsGroupByName.get(k).getType();
-            return EMBEDDED.equals(type) || ENTITY.equals(type);
-        };
-
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, documents, fieldsGroupByName));
+        return convertEntity(documents, mapping, instance, Collections.emptyList());
+    }
 
-        return instance;
+    private <T> T convertEntity(List<Document> documents, EntityMetadata mapping, T instance,
+                                List<String> projection) {
+        DocumentReadPlan plan = readPlans.computeIfAbsent(mapping.getType(), k -> DocumentReadPlan.of(mapping, lazy));
+        return plan.read(instance, documents, projection, this);
     }
 
     private <T> T inheritanceToEntity(List<Document> documents, EntityMetadata mapping) {
@@ -257,9 +274,11 @@ public abstract class DocumentEntityConverter {
         return convertEntity(documents, inheritanceMetadata, instance);
     }
 
-    private DocumentFieldValue to(FieldMapping field, Object entityInstance) {
-        Object value = field.read(entityInstance);
-        return DefaultDocumentFieldValue.of(value, field);
+    private EntityAccessor accessor(Class<?> type) {
+        if (!generated) {
+            return null;
+        }
+        return EntityAccessor.of(getEntities().get(type)).orElse(null);
     }
 
 }
@@ -18,8 +18,10 @@ package org.eclipse.jnosql.mapping.document;
 import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
 import org.eclipse.jnosql.mapping.EntityPostPersist;
@@ -55,13 +57,52 @@ public class DocumentEventPersistManager {
     @Inject
     private Event<DocumentDeleteQueryExecute> documentDeleteQueryExecute;
 
+    @Inject
+    private BeanManager beanManager;
+
+    private boolean documentEntityPrePersistEventObserved = true;
+
+    private boolean documentEntityPostPersistEventObserved = true;
+
+    private boolean entityPrePersistEventObserved = true;
+
+    private boolean entityPostPersistEventObserved = true;
+
+    private boolean entityDocumentPrePersistObserved = true;
+
+    private boolean entityDocumentPostPersistObserved = true;
+
+    private boolean documentQueryExecuteObserved = true;
+
+    private boolean documentDeleteQueryExecuteObserved = true;
+
+    /**
+     * Resolves, once, which events have observers, thus, the events without observers are neither created nor
+     * fired.
+     */
+    @PostConstruct
+    void init() {
+        DocumentEntity entity = DocumentEntity.of("observer");
+        Object object = new Object();
+        this.documentEntityPrePersistEventObserved = isObserved(new DocumentEntityPrePersist(entity));
+        this.documentEntityPostPersistEventObserved = isObserved(new DocumentEntityPostPersist(entity));
+        this.entityPrePersistEventObserved = isObserved(EntityPrePersist.of(object));
+        this.entityPostPersistEventObserved = isObserved(EntityPostPersist.of(object));
+        this.entityDocumentPrePersistObserved = isObserved(new EntityDocumentPrePersist(object));
+        this.entityDocumentPostPersistObserved = isObserved(new EntityDocumentPostPersist(object));
+        this.documentQueryExecuteObserved = isObserved(new DocumentQueryExecute(DocumentQuery.select().from("observer").build()));
+        this.documentDeleteQueryExecuteObserved = isObserved(new DocumentDeleteQueryExecute(DocumentDeleteQuery.delete().from("observer").build()));
+    }
+
     /**
      * Fire an event after the conversion of the entity to communication API model.
      *
      * @param entity the entity
      */
     public void firePreDocument(DocumentEntity entity) {
-        documentEntityPrePersistEvent.fire(new DocumentEntityPrePersist(entity));
+        if (documentEntityPrePersistEventObserved) {
+            documentEntityPrePersistEvent.fire(new DocumentEntityPrePersist(entity));
+        }
     }
 
     /**
@@ -70,7 +111,9 @@ public class DocumentEventPersistManager {
      * @param entity the entity
      */
     public void firePostDocument(DocumentEntity entity) {
-        documentEntityPostPersistEvent.fire(new DocumentEntityPostPersist(entity));
+        if (documentEntityPostPersistEventObserved) {
+            documentEntityPostPersistEvent.fire(new DocumentEntityPostPersist(entity));
+        }
     }
 
     /**
@@ -81,7 +124,9 @@ public class DocumentEventPersistManager {
      * @param <T>    the entity kind
      */
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (entityPrePersistEventObserved) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     /**
@@ -92,7 +137,9 @@ public class DocumentEventPersistManager {
      * @param <T>    the entity kind
      */
     public <T> void firePostEntity(T entity) {
-        entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        if (entityPostPersistEventObserved) {
+            entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        }
     }
 
     /**
@@ -102,7 +149,9 @@ public class DocumentEventPersistManager {
      * @param <T>    the entity type
      */
     public <T> void firePreDocumentEntity(T entity) {
-        entityDocumentPrePersist.fire(new EntityDocumentPrePersist(entity));
+        if (entityDocumentPrePersistObserved) {
+            entityDocumentPrePersist.fire(new EntityDocumentPrePersist(entity));
+        }
     }
 
     /**
@@ -112,7 +161,9 @@ public class DocumentEventPersistManager {
      * @param <T>    the entity kind
      */
     public <T> void firePostDocumentEntity(T entity) {
-        entityDocumentPostPersist.fire(new EntityDocumentPostPersist(entity));
+        if (entityDocumentPostPersistObserved) {
+            entityDocumentPostPersist.fire(new EntityDocumentPostPersist(entity));
+        }
     }
 
     /**
@@ -121,7 +172,9 @@ public class DocumentEventPersistManager {
      * @param query the query
      */
     public void firePreQuery(DocumentQuery query) {
-        documentQueryExecute.fire(new DocumentQueryExecute(query));
+        if (documentQueryExecuteObserved) {
+            documentQueryExecute.fire(new DocumentQueryExecute(query));
+        }
     }
 
     /**
@@ -130,6 +183,12 @@ public class DocumentEventPersistManager {
      * @param query the query
      */
     public void firePreDeleteQuery(DocumentDeleteQuery query) {
-        documentDeleteQueryExecute.fire(new DocumentDeleteQueryExecute(query));
+        if (documentDeleteQueryExecuteObserved) {
+            documentDeleteQueryExecute.fire(new DocumentDeleteQueryExecute(query));
+        }
+    }
+
+    private boolean isObserved(Object event) {
+        return !beanManager.resolveObserverMethods(event).isEmpty();
     }
 }
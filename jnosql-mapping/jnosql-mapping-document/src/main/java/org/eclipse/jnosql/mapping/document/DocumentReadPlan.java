@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.document;
+
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+import org.eclipse.jnosql.mapping.reflection.MappingType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The immutable plan to read the documents into an entity: it resolves, once by entity, the field and the
+ * {@link FieldConverter} by document name, thus, the conversion goes through the documents once using a hash index
+ * instead of searching the documents for each field.
+ * The nested entities use the plan of their own type. The documents of the embedded fields are flattened at the
+ * entity, thus, a projection resolves their names to the embedded field.
+ */
+final class DocumentReadPlan {
+
+    private final Map<String, Integer> indexes;
+
+    private final Map<String, Integer> embedded;
+
+    private final FieldMapping[] fields;
+
+    private final FieldConverter[] converters;
+
+    private DocumentReadPlan(Map<String, Integer> indexes, Map<String, Integer> embedded, FieldMapping[] fields,
+                           FieldConverter[] converters) {
+        this.indexes = indexes;
+        this.embedded = embedded;
+        this.fields = fields;
+        this.converters = converters;
+    }
+
+    /**
+     * Returns the position of the field with the document name
+     *
+     * @param name the document name
+     * @return the position or -1 when the entity does not have this field
+     */
+    int indexOf(String name) {
+        return indexes.getOrDefault(name, -1);
+    }
+
+    int size() {
+        return fields.length;
+    }
+
+    /**
+     * Writes the documents at the instance, when the projection is not empty, it only writes the fields of the
+     * projection.
+     */
+    <T> T read(T instance, List<Document> documents, List<String> projection, DocumentEntityConverter converter) {
+        Document[] values = new Document[fields.length];
+        for (Document document : documents) {
+            int index = indexOf(document.name());
+            if (index >= 0 && values[index] == null) {
+                values[index] = document;
+            }
+        }
+        if (projection.isEmpty()) {
+            for (int index = 0; index < fields.length; index++) {
+                read(instance, documents, values[index], index, converter);
+            }
+        } else {
+            projection.stream()
+                    .map(DocumentReadPlan::root)
+                    .mapToInt(this::projectionIndexOf)
+                    .filter(index -> index >= 0)
+                    .distinct()
+                    .forEach(index -> read(instance, documents, values[index], index, converter));
+        }
+        return instance;
+    }
+
+    private <T> void read(T instance, List<Document> documents, Document document, int index,
+                          DocumentEntityConverter converter) {
+        FieldMapping field = fields[index];
+        if (MappingType.EMBEDDED.equals(field.getType())) {
+            converters[index].convert(instance, documents, document, field, converter);
+        } else if (document != null) {
+            List<Document> elements = MappingType.ENTITY.equals(field.getType()) ? null : documents;
+            converters[index].convert(instance, elements, document, field, converter);
+        }
+    }
+
+    private int projectionIndexOf(String name) {
+        int index = indexOf(name);
+        return index >= 0 ? index : embedded.getOrDefault(name, -1);
+    }
+
+    private static String root(String name) {
+        int index = name.indexOf('.');
+        return index < 0 ? name : name.substring(0, index);
+    }
+
+    static DocumentReadPlan of(EntityMetadata mapping, boolean lazy) {
+        Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
+        Map<String, Integer> indexes = new HashMap<>();
+        Map<String, Integer> embedded = new HashMap<>();
+        FieldMapping[] fields = new FieldMapping[fieldsGroupByName.size()];
+        FieldConverter[] converters = new FieldConverter[fieldsGroupByName.size()];
+        int index = 0;
+        for (Map.Entry<String, FieldMapping> entry : fieldsGroupByName.entrySet()) {
+            indexes.put(entry.getKey(), index);
+            fields[index] = entry.getValue();
+            converters[index] = FieldConverter.get(entry.getValue(), lazy);
+            if (MappingType.EMBEDDED.equals(entry.getValue().getType())) {
+                for (String name : mapping.getColumnField(entry.getValue().getFieldName()).split(",")) {
+                    embedded.putIfAbsent(root(name), index);
+                }
+            }
+            index++;
+        }
+        return new DocumentReadPlan(indexes, embedded, fields, converters);
+    }
+}
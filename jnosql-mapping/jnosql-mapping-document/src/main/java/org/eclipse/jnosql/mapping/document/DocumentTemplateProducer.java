@@ -15,8 +15,13 @@
 package org.eclipse.jnosql.mapping.document;
 
 
+import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.communication.document.DocumentManager;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.EntityCaches;
+import org.eclipse.jnosql.mapping.SecondLevelCache;
+import org.eclipse.jnosql.mapping.UnitOfWork;
+import org.eclipse.jnosql.mapping.UnitOfWorkResolver;
 import jakarta.nosql.document.DocumentTemplate;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
 
@@ -24,6 +29,7 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Vetoed;
 import jakarta.inject.Inject;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * The producer of {@link DocumentTemplate}
@@ -47,6 +53,12 @@ public class DocumentTemplateProducer  {
     @Inject
     private Converters converters;
 
+    @Inject
+    private SecondLevelCache cache;
+
+    @Inject
+    private UnitOfWorkResolver units;
+
 
     /**
      * creates a {@link DocumentManager}
@@ -58,7 +70,7 @@ public class DocumentTemplateProducer  {
     public JNoSQLDocumentTemplate get(DocumentManager manager) {
         Objects.requireNonNull(manager, "manager is required");
         return new ProducerDocumentTemplate(converter, manager, workflow,
-                persistManager, entities, converters);
+                persistManager, entities, converters, cache.get(DocumentEntity.class, manager), units);
     }
 
     @Vetoed
@@ -75,16 +87,24 @@ public class DocumentTemplateProducer  {
         private Converters converters;
 
         private EntitiesMetadata entities;
+
+        private EntityCaches<DocumentEntity> caches;
+
+        private UnitOfWorkResolver units;
+
         ProducerDocumentTemplate(DocumentEntityConverter converter, DocumentManager manager,
                                  DocumentWorkflow workflow,
                                  DocumentEventPersistManager persistManager,
-                                 EntitiesMetadata entities, Converters converters) {
+                                 EntitiesMetadata entities, Converters converters,
+                                 EntityCaches<DocumentEntity> caches, UnitOfWorkResolver units) {
             this.converter = converter;
             this.manager = manager;
             this.workflow = workflow;
             this.persistManager = persistManager;
             this.entities = entities;
             this.converters = converters;
+            this.caches = caches;
+            this.units = units;
         }
 
         ProducerDocumentTemplate() {
@@ -119,5 +139,15 @@ public class DocumentTemplateProducer  {
         protected Converters getConverters() {
             return converters;
         }
+
+        @Override
+        protected EntityCaches<DocumentEntity> getCaches() {
+            return caches;
+        }
+
+        @Override
+        protected Optional<UnitOfWork> getUnitOfWork() {
+            return units.current();
+        }
     }
 }
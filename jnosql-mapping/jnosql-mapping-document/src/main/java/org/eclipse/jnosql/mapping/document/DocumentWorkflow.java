@@ -15,8 +15,12 @@
 package org.eclipse.jnosql.mapping.document;
 
 import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.mapping.config.BatchSize;
 
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -35,6 +39,8 @@ import java.util.function.UnaryOperator;
  */
 public abstract class DocumentWorkflow {
 
+    private final int batchSize = BatchSize.get().orElse(Integer.MAX_VALUE);
+
     protected abstract DocumentEventPersistManager getEventManager();
 
 
@@ -50,61 +56,74 @@ public abstract class DocumentWorkflow {
      */
 
     public <T> T flow(T entity, UnaryOperator<DocumentEntity> action) {
-
-        Function<T, T> flow = getFlow(entity, action);
-
-        return flow.apply(entity);
-
+        Objects.requireNonNull(entity, "entity is required");
+        DocumentEventPersistManager eventManager = getEventManager();
+        eventManager.firePreEntity(entity);
+        eventManager.firePreDocumentEntity(entity);
+        DocumentEntity document = getConverter().toDocument(entity);
+        eventManager.firePreDocument(document);
+        DocumentEntity result = action.apply(document);
+        eventManager.firePostDocument(result);
+        T updated = getConverter().toEntity(entity, result);
+        eventManager.firePostEntity(updated);
+        eventManager.firePostDocumentEntity(updated);
+        return updated;
     }
 
-    private <T> Function<T, T> getFlow(T entity, UnaryOperator<DocumentEntity> action) {
-        UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
-
-        UnaryOperator<T> firePreEntity = t -> {
-            getEventManager().firePreEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePreDocumentEntity = t -> {
-            getEventManager().firePreDocumentEntity(t);
-            return t;
-        };
-
-
-        Function<T, DocumentEntity> converterDocument = t -> getConverter().toDocument(t);
-
-        UnaryOperator<DocumentEntity> firePreDocument = t -> {
-            getEventManager().firePreDocument(t);
-            return t;
-        };
-
-        UnaryOperator<DocumentEntity> firePostDocument = t -> {
-            getEventManager().firePostDocument(t);
-            return t;
-        };
-
-        Function<DocumentEntity, T> converterEntity = t -> getConverter().toEntity(entity, t);
-
-        UnaryOperator<T> firePostEntity = t -> {
-            getEventManager().firePostEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePostDocumentEntity = t -> {
-            getEventManager().firePostDocumentEntity(t);
-            return t;
-        };
-
+    /**
+     * Executes the workflow to a bulk interaction on the database: it fires the events of each entity, as
+     * {@link DocumentWorkflow#flow(Object, UnaryOperator)} does, but the action receives the documents of up to
+     * {@link org.eclipse.jnosql.mapping.config.MappingConfigurations#BATCH_SIZE} entities at once, or of all of them
+     * when it is not defined, and it should return them in the same order.
+     *
+     * @param entities the entities to be saved
+     * @param action   the alteration to be executed on database to each batch
+     * @param <T>      the entity type
+     * @return after the workflow the entities response, in the same order
+     * @throws NullPointerException  when either entities, an entity or action is null
+     * @throws IllegalStateException when the action returns fewer entities than it has received
+     */
+    public <T> List<T> flowAll(Iterable<T> entities, Function<List<DocumentEntity>, Iterable<DocumentEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+        DocumentEventPersistManager eventManager = getEventManager();
+        List<T> updated = new ArrayList<>();
+        List<T> batch = new ArrayList<>();
+        List<DocumentEntity> documents = new ArrayList<>();
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            eventManager.firePreEntity(entity);
+            eventManager.firePreDocumentEntity(entity);
+            DocumentEntity document = getConverter().toDocument(entity);
+            eventManager.firePreDocument(document);
+            batch.add(entity);
+            documents.add(document);
+            if (batch.size() == batchSize) {
+                flow(batch, action.apply(documents), updated);
+                batch = new ArrayList<>();
+                documents = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flow(batch, action.apply(documents), updated);
+        }
+        return updated;
+    }
 
-        return validation
-                .andThen(firePreEntity)
-                .andThen(firePreDocumentEntity)
-                .andThen(converterDocument)
-                .andThen(firePreDocument)
-                .andThen(action)
-                .andThen(firePostDocument)
-                .andThen(converterEntity)
-                .andThen(firePostEntity)
-                .andThen(firePostDocumentEntity);
+    private <T> void flow(List<T> batch, Iterable<DocumentEntity> responses, List<T> updated) {
+        DocumentEventPersistManager eventManager = getEventManager();
+        Iterator<DocumentEntity> iterator = responses.iterator();
+        for (T entity : batch) {
+            if (!iterator.hasNext()) {
+                throw new IllegalStateException("The database has returned fewer entities than it has received: "
+                        + batch.size());
+            }
+            DocumentEntity response = iterator.next();
+            eventManager.firePostDocument(response);
+            T result = getConverter().toEntity(entity, response);
+            eventManager.firePostEntity(result);
+            eventManager.firePostDocumentEntity(result);
+            updated.add(result);
+        }
     }
-}
\ No newline at end of file
+}
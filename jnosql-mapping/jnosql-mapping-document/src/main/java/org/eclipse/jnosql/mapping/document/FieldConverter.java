@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.document;
 
 import org.eclipse.jnosql.mapping.AttributeConverter;
+import org.eclipse.jnosql.mapping.LazyList;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.document.Document;
@@ -87,8 +88,8 @@ enum FieldConverter {
 
             if (Objects.nonNull(document)) {
                 GenericFieldMapping genericField = (GenericFieldMapping) field;
-                Collection collection = genericField.getCollectionInstance();
                 List<List<Document>> embeddable = (List<List<Document>>) document.get();
+                Collection collection = genericField.getCollectionInstance(embeddable.size());
                 for (List<Document> documentList : embeddable) {
                     Object element = converter.toEntity(genericField.getElementType(), documentList);
                     collection.add(element);
@@ -96,6 +97,18 @@ enum FieldConverter {
                 field.write(instance, collection);
             }
         }
+    }, LAZY_COLLECTION {
+        @Override
+        public <X, Y, T> void convert(T instance, List<Document> documents, Document document, FieldMapping field,
+                                      DocumentEntityConverter converter) {
+
+            if (Objects.nonNull(document)) {
+                GenericFieldMapping genericField = (GenericFieldMapping) field;
+                List<List<Document>> embeddable = (List<List<Document>>) document.get();
+                field.write(instance, LazyList.of(embeddable,
+                        documentList -> converter.toEntity(genericField.getElementType(), documentList)));
+            }
+        }
     }, DEFAULT {
         @Override
         public <X, Y, T> void convert(T instance, List<Document> documents, Document document,
@@ -126,18 +139,27 @@ enum FieldConverter {
         convert(instance, null, document, field, converter);
     }
 
-    static FieldConverter get(FieldMapping field) {
+    /**
+     * Returns the converter of the field, when lazy is true, a {@link List} or {@link Collection} of embeddable entities is read as a
+     * {@link LazyList}
+     */
+    static FieldConverter get(FieldMapping field, boolean lazy) {
         if (MappingType.EMBEDDED.equals(field.getType())) {
             return EMBEDDED;
         } else if (MappingType.ENTITY.equals(field.getType())) {
             return ENTITY;
         } else if (isCollectionEmbeddable(field)) {
-            return COLLECTION;
+            return lazy && isLazy(field) ? LAZY_COLLECTION : COLLECTION;
         } else {
             return DEFAULT;
         }
     }
 
+    private static boolean isLazy(FieldMapping field) {
+        Class<?> type = field.getNativeField().getType();
+        return Collection.class.isAssignableFrom(type) && type.isAssignableFrom(LazyList.class);
+    }
+
     private static boolean isCollectionEmbeddable(FieldMapping field) {
         return MappingType.COLLECTION.equals(field.getType()) && ((GenericFieldMapping) field).isEmbeddable();
     }
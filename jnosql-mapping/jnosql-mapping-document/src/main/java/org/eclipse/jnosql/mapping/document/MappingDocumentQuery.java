@@ -32,15 +32,22 @@ public final class MappingDocumentQuery implements DocumentQuery {
     private final long skip;
     private final DocumentCondition condition;
     private final String documentCollection;
+    private final List<String> documents;
 
     public MappingDocumentQuery(List<Sort> sorts, long limit, long skip, DocumentCondition condition,
                                 String documentCollection) {
+        this(sorts, limit, skip, condition, documentCollection, Collections.emptyList());
+    }
+
+    public MappingDocumentQuery(List<Sort> sorts, long limit, long skip, DocumentCondition condition,
+                                String documentCollection, List<String> documents) {
 
         this.sorts = sorts;
         this.limit = limit;
         this.skip = skip;
         this.condition = condition;
         this.documentCollection = documentCollection;
+        this.documents = documents;
     }
 
     @Override
@@ -70,7 +77,7 @@ public final class MappingDocumentQuery implements DocumentQuery {
 
     @Override
     public List<String> documents() {
-        return Collections.emptyList();
+        return documents;
     }
 
     @Override
@@ -86,12 +93,13 @@ public final class MappingDocumentQuery implements DocumentQuery {
                 skip == that.skip() &&
                 Objects.equals(sorts, that.sorts()) &&
                 Objects.equals(condition, that.condition().orElse(null)) &&
-                Objects.equals(documentCollection, that.name());
+                Objects.equals(documentCollection, that.name()) &&
+                Objects.equals(documents, that.documents());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(limit, skip, documentCollection, condition, sorts, Collections.emptyList());
+        return Objects.hash(limit, skip, documentCollection, condition, sorts, documents);
     }
 
     @Override
@@ -101,7 +109,7 @@ public final class MappingDocumentQuery implements DocumentQuery {
                 ", documentCollection='" + documentCollection + '\'' +
                 ", condition=" + condition +
                 ", sorts=" + sorts +
-                ", documents=" + Collections.emptyList() +
+                ", documents=" + documents +
                 '}';
     }
 }
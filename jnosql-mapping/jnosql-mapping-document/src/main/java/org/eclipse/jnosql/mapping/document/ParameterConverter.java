@@ -70,8 +70,8 @@ enum ParameterConverter {
                      ConstructorBuilder builder) {
 
             GenericParameterMetaData genericParameter = (GenericParameterMetaData) metaData;
-            Collection elements = genericParameter.getCollectionInstance();
             List<List<Document>> embeddable = (List<List<Document>>) document.get();
+            Collection elements = genericParameter.getCollectionInstance(embeddable.size());
             for (List<Document> columnList : embeddable) {
                 Object element = converter.toEntity(genericParameter.getElementType(), columnList);
                 elements.add(element);
@@ -17,12 +17,17 @@ package org.eclipse.jnosql.mapping.document.query;
 import jakarta.data.repository.Page;
 import jakarta.data.repository.Pageable;
 import jakarta.data.repository.PageableRepository;
+import jakarta.data.repository.Sort;
+import jakarta.enterprise.inject.spi.CDI;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.NoSQLKeysetPage;
 import org.eclipse.jnosql.mapping.NoSQLPage;
 import org.eclipse.jnosql.mapping.document.JNoSQLDocumentTemplate;
 import org.eclipse.jnosql.mapping.document.MappingDocumentQuery;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
 import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+import org.eclipse.jnosql.mapping.util.KeysetUtil;
 
 import java.util.List;
 import java.util.Objects;
@@ -47,6 +52,15 @@ public abstract class AbstractDocumentRepository<T, K> implements PageableReposi
 
     protected abstract EntityMetadata getEntityMetadata();
 
+    /**
+     * Returns the converters to the keyset values of a cursor, by default, the ones of the CDI container.
+     *
+     * @return the {@link Converters}
+     */
+    protected Converters getConverters() {
+        return CDI.current().select(Converters.class).get();
+    }
+
     @Override
     public <S extends T> S save(S entity) {
         Objects.requireNonNull(entity, "Entity is required");
@@ -111,6 +125,9 @@ public abstract class AbstractDocumentRepository<T, K> implements PageableReposi
     public Page findAll(Pageable pageable) {
         Objects.requireNonNull(pageable, "pageable is required");
         EntityMetadata metadata = getEntityMetadata();
+        if (!Pageable.Mode.OFFSET.equals(pageable.mode())) {
+            return findAllByKeyset(pageable, metadata);
+        }
         DocumentQuery query = new MappingDocumentQuery(pageable.sorts(),
                 pageable.size(), NoSQLPage.skip(pageable)
                 , null ,metadata.getName());
@@ -119,6 +136,19 @@ public abstract class AbstractDocumentRepository<T, K> implements PageableReposi
         return NoSQLPage.of(entities, pageable);
     }
 
+    private Page findAllByKeyset(Pageable pageable, EntityMetadata metadata) {
+        List<Sort> sorts = KeysetUtil.sorts(pageable.sorts(), metadata);
+        DocumentQuery query = new MappingDocumentQuery(sorts, pageable.size(), 0, null, metadata.getName());
+        Object[] keys = KeysetUtil.keys(pageable.cursor(), sorts, metadata, getConverters());
+        if (Pageable.Mode.CURSOR_NEXT.equals(pageable.mode())) {
+            query = DocumentQuery.afterKeyset(query, keys);
+        } else {
+            query = DocumentQuery.beforeKeyset(query, keys);
+        }
+        List<Object> entities = getTemplate().select(query).collect(Collectors.toUnmodifiableList());
+        return NoSQLKeysetPage.of(entities, pageable, e -> KeysetUtil.keys(e, sorts, metadata));
+    }
+
     @Override
     public Stream findAll() {
         return getTemplate().findAll(getType());
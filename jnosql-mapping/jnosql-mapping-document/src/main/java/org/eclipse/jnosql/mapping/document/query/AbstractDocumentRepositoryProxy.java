@@ -23,6 +23,7 @@ import org.eclipse.jnosql.mapping.repository.DynamicQueryMethodReturn;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.Map;
 
 import static org.eclipse.jnosql.communication.document.DocumentQuery.select;
 
@@ -53,7 +54,8 @@ public abstract class AbstractDocumentRepositoryProxy<T> extends BaseDocumentRep
                 return executeExistsByQuery(getQuery(method, args));
             case FIND_ALL:
                 DocumentQuery queryFindAll = select().from(getEntityMetadata().getName()).build();
-                return executeFindByQuery(method, args, typeClass, updateQueryDynamically(args, queryFindAll));
+                return executeFindByQuery(method, args, typeClass,
+                        hints(method, updateQueryDynamically(args, queryFindAll)));
             case DELETE_BY:
                 DocumentDeleteQuery documentDeleteQuery = getDeleteQuery(method, args);
                 getTemplate().delete(documentDeleteQuery);
@@ -61,12 +63,15 @@ public abstract class AbstractDocumentRepositoryProxy<T> extends BaseDocumentRep
             case OBJECT_METHOD:
                 return method.invoke(this, args);
             case JNOSQL_QUERY:
+                Map<String, Object> hints = getHints(method);
                 DynamicQueryMethodReturn methodReturn = DynamicQueryMethodReturn.builder()
                         .withArgs(args)
                         .withMethod(method)
                         .withTypeClass(typeClass)
-                        .withPrepareConverter(q -> getTemplate().prepare(q))
-                        .withQueryConverter(q -> getTemplate().query(q)).build();
+                        .withPrepareConverter(q -> hints.isEmpty() ? getTemplate().prepare(q)
+                                : getTemplate().prepare(q, hints))
+                        .withQueryConverter(q -> hints.isEmpty() ? getTemplate().query(q)
+                                : getTemplate().prepare(q, hints).result()).build();
                 return methodReturn.execute();
             default:
                 return Void.class;
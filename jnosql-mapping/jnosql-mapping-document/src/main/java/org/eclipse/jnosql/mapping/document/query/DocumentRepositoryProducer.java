@@ -22,8 +22,8 @@ import org.eclipse.jnosql.mapping.Converters;
 import org.eclipse.jnosql.mapping.document.DocumentTemplateProducer;
 import org.eclipse.jnosql.mapping.document.JNoSQLDocumentTemplate;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.GeneratedRepositories;
 
-import java.lang.reflect.Proxy;
 import java.util.Objects;
 
 
@@ -77,8 +77,6 @@ public class DocumentRepositoryProducer {
 
         DocumentRepositoryProxy<R> handler = new DocumentRepositoryProxy<>(template,
                 entities, repositoryClass, converters);
-        return (R) Proxy.newProxyInstance(repositoryClass.getClassLoader(),
-                new Class[]{repositoryClass},
-                handler);
+        return (R) GeneratedRepositories.INSTANCE.newInstance(repositoryClass, handler);
     }
 }
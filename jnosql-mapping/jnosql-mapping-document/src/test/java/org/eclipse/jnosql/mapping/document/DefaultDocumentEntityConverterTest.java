@@ -18,11 +18,16 @@ import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.document.Document;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.LazyList;
+import org.eclipse.jnosql.mapping.Converters;
 import org.eclipse.jnosql.mapping.Convert;
 import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
 import org.eclipse.jnosql.mapping.test.entities.Actor;
 import org.eclipse.jnosql.mapping.test.entities.Address;
+import org.eclipse.jnosql.mapping.test.entities.AddressBook;
 import org.eclipse.jnosql.mapping.test.entities.AppointmentBook;
 import org.eclipse.jnosql.mapping.test.entities.Contact;
 import org.eclipse.jnosql.mapping.test.entities.ContactType;
@@ -59,6 +64,8 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -73,6 +80,12 @@ public class DefaultDocumentEntityConverterTest {
     @Inject
     private DefaultDocumentEntityConverter converter;
 
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
     private Document[] documents;
 
     private final Actor actor = Actor.actorBuilder().withAge()
@@ -151,6 +164,20 @@ public class DefaultDocumentEntityConverterTest {
         assertEquals(Collections.singletonMap("JavaZone", 10), actor.getMovieRating());
     }
 
+    @Test
+    public void shouldConvertOnlyProjection() {
+        DocumentEntity entity = DocumentEntity.of("Actor");
+        Stream.of(documents).forEach(entity::add);
+
+        Actor actor = converter.toEntity(entity, asList("name", "age"));
+        assertNotNull(actor);
+        assertEquals("Otavio", actor.getName());
+        assertEquals(10, actor.getAge());
+        assertEquals(0L, actor.getId());
+        assertNull(actor.getPhones());
+        assertNull(actor.getMovieCharacter());
+    }
+
     @Test
     public void shouldReturnErrorWhenToEntityIsNull() {
         DocumentEntity entity = DocumentEntity.of("Actor");
@@ -304,6 +331,21 @@ public class DefaultDocumentEntityConverterTest {
         assertEquals(job.getDescription(), worker1.getJob().getDescription());
     }
 
+    @Test
+    public void shouldConvertEmbeddableWithProjection() {
+        DocumentEntity entity = DocumentEntity.of("Worker");
+        entity.add("name", "Bob");
+        entity.add("description", "Java Developer");
+        entity.add("city", "Sao Paulo");
+        entity.add("money", "BRL 10");
+
+        Worker worker = converter.toEntity(entity, List.of("description", "city"));
+        assertNull(worker.getName());
+        assertNull(worker.getSalary());
+        assertEquals("Java Developer", worker.getJob().getDescription());
+        assertEquals("Sao Paulo", worker.getJob().getCity());
+    }
+
     @Test
     public void shouldConvertEmbeddableLazily() {
         DocumentEntity entity = DocumentEntity.of("Worker");
@@ -362,6 +404,73 @@ public class DefaultDocumentEntityConverterTest {
 
     }
 
+    @Test
+    public void shouldConvertFromListEmbeddableLazily() {
+        DocumentEntity entity = DocumentEntity.of("AppointmentBook");
+        entity.add(Document.of("_id", "ids"));
+        List<List<Document>> documents = new ArrayList<>();
+        documents.add(asList(Document.of("contact_name", "Ada"), Document.of("type", ContactType.EMAIL),
+                Document.of("information", "ada@lovelace.com")));
+        documents.add(asList(Document.of("contact_name", "Grace"), Document.of("type", ContactType.PHONE),
+                Document.of("information", "phone")));
+        entity.add(Document.of("contacts", documents));
+
+        AppointmentBook appointmentBook = lazyConverter().toEntity(entity);
+
+        List<Contact> contacts = appointmentBook.getContacts();
+        assertTrue(contacts instanceof LazyList);
+        assertFalse(((LazyList<Contact>) contacts).isLoaded());
+        assertEquals(2, contacts.size());
+        assertEquals("Grace", contacts.get(1).getName());
+        assertFalse(((LazyList<Contact>) contacts).isLoaded());
+        assertEquals("Ada", contacts.get(0).getName());
+        assertTrue(((LazyList<Contact>) contacts).isLoaded());
+
+        DocumentEntity document = lazyConverter().toDocument(appointmentBook);
+        List<List<Document>> values = (List<List<Document>>) document.find("contacts").orElseThrow().get();
+        assertEquals(2, values.size());
+    }
+
+    @Test
+    public void shouldConvertFromCollectionEmbeddableLazily() {
+        DocumentEntity entity = DocumentEntity.of("AddressBook");
+        entity.add(Document.of("_id", "ids"));
+        List<List<Document>> documents = new ArrayList<>();
+        documents.add(asList(Document.of("contact_name", "Ada"), Document.of("type", ContactType.EMAIL),
+                Document.of("information", "ada@lovelace.com")));
+        documents.add(asList(Document.of("contact_name", "Grace"), Document.of("type", ContactType.PHONE),
+                Document.of("information", "phone")));
+        entity.add(Document.of("contacts", documents));
+
+        AddressBook addressBook = lazyConverter().toEntity(entity);
+
+        Collection<Contact> contacts = addressBook.getContacts();
+        assertTrue(contacts instanceof LazyList);
+        assertFalse(((LazyList<Contact>) contacts).isLoaded());
+        assertEquals(2, contacts.size());
+        assertThat(contacts).extracting(Contact::getName).containsExactly("Ada", "Grace");
+        assertTrue(((LazyList<Contact>) contacts).isLoaded());
+    }
+
+    private DocumentEntityConverter lazyConverter() {
+        System.setProperty(MappingConfigurations.LAZY_COLLECTIONS.get(), "true");
+        try {
+            return new DocumentEntityConverter() {
+                @Override
+                protected EntitiesMetadata getEntities() {
+                    return entities;
+                }
+
+                @Override
+                protected Converters getConverters() {
+                    return converters;
+                }
+            };
+        } finally {
+            System.clearProperty(MappingConfigurations.LAZY_COLLECTIONS.get());
+        }
+    }
+
 
     @Test
     public void shouldConvertSubEntity() {
@@ -16,6 +16,7 @@ package org.eclipse.jnosql.mapping.document;
 
 import jakarta.data.exceptions.NonUniqueResultException;
 import jakarta.nosql.PreparedStatement;
+import org.eclipse.jnosql.communication.Cancellation;
 import org.eclipse.jnosql.communication.document.Document;
 
 import org.eclipse.jnosql.communication.document.DocumentManager;
@@ -23,15 +24,22 @@ import org.eclipse.jnosql.communication.document.DocumentCondition;
 import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
 import org.eclipse.jnosql.communication.document.DocumentEntity;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.eclipse.jnosql.mapping.CacheStatistics;
 import org.eclipse.jnosql.mapping.Convert;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.SecondLevelCache;
+import org.eclipse.jnosql.mapping.UnitOfWork;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.UnitOfWorkResolver;
 import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.test.entities.Country;
 import org.eclipse.jnosql.mapping.test.entities.Job;
 import org.eclipse.jnosql.mapping.test.entities.Movie;
 import org.eclipse.jnosql.mapping.test.entities.Person;
+import org.eclipse.jnosql.mapping.test.entities.Vendor;
 
 import org.jboss.weld.junit5.auto.AddExtensions;
 import org.jboss.weld.junit5.auto.AddPackages;
@@ -46,17 +54,24 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.eclipse.jnosql.communication.document.DocumentDeleteQuery.delete;
 import static org.eclipse.jnosql.communication.document.DocumentQuery.select;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -92,6 +107,12 @@ public class DefaultDocumentTemplateTest {
     @Inject
     private Converters converters;
 
+    @Inject
+    private SecondLevelCache cache;
+
+    @Inject
+    private UnitOfWorkResolver units;
+
     private DocumentManager managerMock;
 
     private DefaultDocumentTemplate template;
@@ -109,7 +130,7 @@ public class DefaultDocumentTemplateTest {
         when(instance.get()).thenReturn(managerMock);
         DefaultDocumentWorkflow workflow = new DefaultDocumentWorkflow(documentEventPersistManager, converter);
         this.template = new DefaultDocumentTemplate(converter, instance, workflow,
-                documentEventPersistManager, entities, converters);
+                documentEventPersistManager, entities, converters, cache, units);
     }
 
     @Test
@@ -229,11 +250,12 @@ public class DefaultDocumentTemplateTest {
         Duration duration = Duration.ofHours(2);
 
         Mockito.when(managerMock
-                .insert(any(DocumentEntity.class), Mockito.eq(duration)))
-                .thenReturn(documentEntity);
+                .insert(any(Iterable.class), Mockito.eq(duration)))
+                .thenReturn(List.of(documentEntity, documentEntity));
 
         template.insert(Arrays.asList(person, person), duration);
-        verify(managerMock, times(2)).insert(any(DocumentEntity.class), any(Duration.class));
+        verify(managerMock).insert(any(Iterable.class), any(Duration.class));
+        verify(managerMock, never()).insert(any(DocumentEntity.class), any(Duration.class));
     }
 
     @Test
@@ -242,11 +264,13 @@ public class DefaultDocumentTemplateTest {
         documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .insert(any(DocumentEntity.class)))
-                .thenReturn(documentEntity);
+                .insert(any(Iterable.class)))
+                .thenReturn(List.of(documentEntity, documentEntity));
 
-        template.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(DocumentEntity.class));
+        Iterable<Person> people = template.insert(Arrays.asList(person, person));
+        assertEquals(2, StreamSupport.stream(people.spliterator(), false).count());
+        verify(managerMock).insert(any(Iterable.class));
+        verify(managerMock, never()).insert(any(DocumentEntity.class));
     }
 
     @Test
@@ -255,11 +279,76 @@ public class DefaultDocumentTemplateTest {
         documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .update(any(DocumentEntity.class)))
-                .thenReturn(documentEntity);
+                .update(any(Iterable.class)))
+                .thenReturn(List.of(documentEntity, documentEntity));
 
         template.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(DocumentEntity.class));
+        verify(managerMock).update(any(Iterable.class));
+        verify(managerMock, never()).update(any(DocumentEntity.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldInsertEntitiesInBatches() {
+        DocumentEntity documentEntity = DocumentEntity.of("Person");
+        documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        Mockito.when(managerMock.insert(any(Iterable.class))).thenAnswer(a -> a.getArgument(0));
+
+        System.setProperty(MappingConfigurations.BATCH_SIZE.get(), "2");
+        try {
+            Instance<DocumentManager> instance = Mockito.mock(Instance.class);
+            when(instance.get()).thenReturn(managerMock);
+            template = new DefaultDocumentTemplate(converter, instance, new DefaultDocumentWorkflow(documentEventPersistManager, converter),
+                    documentEventPersistManager, entities, converters, cache, units);
+        } finally {
+            System.clearProperty(MappingConfigurations.BATCH_SIZE.get());
+        }
+
+        Iterable<Person> people = template.insert(Arrays.asList(person, person, person));
+        assertEquals(3, StreamSupport.stream(people.spliterator(), false).count());
+        ArgumentCaptor<Iterable<DocumentEntity>> batches = ArgumentCaptor.forClass(Iterable.class);
+        verify(managerMock, times(2)).insert(batches.capture());
+        assertEquals(2, ((List<DocumentEntity>) batches.getAllValues().get(0)).size());
+        assertEquals(1, ((List<DocumentEntity>) batches.getAllValues().get(1)).size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldUpdateEntitiesInBatches() {
+        Mockito.when(managerMock.update(any(Iterable.class))).thenAnswer(a -> a.getArgument(0));
+
+        System.setProperty(MappingConfigurations.BATCH_SIZE.get(), "2");
+        try {
+            Instance<DocumentManager> instance = Mockito.mock(Instance.class);
+            when(instance.get()).thenReturn(managerMock);
+            template = new DefaultDocumentTemplate(converter, instance, new DefaultDocumentWorkflow(documentEventPersistManager, converter),
+                    documentEventPersistManager, entities, converters, cache, units);
+        } finally {
+            System.clearProperty(MappingConfigurations.BATCH_SIZE.get());
+        }
+
+        template.update(Arrays.asList(person, person, person));
+        ArgumentCaptor<Iterable<DocumentEntity>> batches = ArgumentCaptor.forClass(Iterable.class);
+        verify(managerMock, times(2)).update(batches.capture());
+        assertEquals(2, ((List<DocumentEntity>) batches.getAllValues().get(0)).size());
+        assertEquals(1, ((List<DocumentEntity>) batches.getAllValues().get(1)).size());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenBatchSizeIsInvalid() {
+        System.setProperty(MappingConfigurations.BATCH_SIZE.get(), "two");
+        try {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> new DefaultDocumentWorkflow(documentEventPersistManager, converter));
+        } finally {
+            System.clearProperty(MappingConfigurations.BATCH_SIZE.get());
+        }
+    }
+
+    @Test
+    public void shouldReturnErrorWhenBatchReturnsFewerEntities() {
+        Mockito.when(managerMock.insert(any(Iterable.class))).thenReturn(List.of());
+        Assertions.assertThrows(IllegalStateException.class, () -> template.insert(Arrays.asList(person, person)));
     }
 
 
@@ -293,6 +382,48 @@ public class DefaultDocumentTemplateTest {
         verify(managerMock).count(query);
     }
 
+    @Test
+    public void shouldParallelSelect() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        DocumentQuery query = select().from("Person").build();
+        Mockito.when(managerMock.split(query, 4)).thenReturn(List.of(query, query));
+        Mockito.when(managerMock.parallelSelect(query, 4)).thenCallRealMethod();
+        Mockito.when(managerMock.select(query)).thenAnswer(a -> Stream.of(entity));
+
+        List<Person> people = template.<Person>parallelSelect(query, 4).collect(Collectors.toList());
+        assertEquals(2, people.size());
+        verify(managerMock, times(2)).select(query);
+    }
+
+    @Test
+    public void shouldSelectWithCancellation() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        DocumentQuery query = select().from("Person").build();
+        Mockito.when(managerMock.select(query)).thenAnswer(a -> Stream.of(entity));
+        Mockito.when(managerMock.select(Mockito.eq(query), any(Cancellation.class))).thenCallRealMethod();
+
+        Cancellation cancellation = Cancellation.create();
+        List<Person> people = template.<Person>select(query, cancellation).collect(Collectors.toList());
+        assertEquals(1, people.size());
+        cancellation.cancel();
+        Assertions.assertThrows(CancellationException.class, () -> template.select(query, cancellation));
+    }
+
+    @Test
+    public void shouldSelectWithQueryTimeout() {
+        DocumentQuery query = select().from("Person").timeout(Duration.ofSeconds(10)).build();
+        Mockito.when(managerMock.select(query)).thenAnswer(a -> Stream.empty());
+        Mockito.when(managerMock.select(Mockito.eq(query), any(Cancellation.class))).thenCallRealMethod();
+        Mockito.when(managerMock.count(Mockito.eq(query), any(Cancellation.class))).thenReturn(10L);
+
+        assertEquals(0, template.select(query).count());
+        assertEquals(10L, template.count(query));
+        verify(managerMock).select(Mockito.eq(query), any(Cancellation.class));
+        verify(managerMock).count(Mockito.eq(query), any(Cancellation.class));
+    }
+
     @Test
     public void shouldReturnSingleResult() {
         DocumentEntity documentEntity = DocumentEntity.of("Person");
@@ -430,5 +561,237 @@ public class DefaultDocumentTemplateTest {
         verify(managerMock).delete(delete().from("Person").build());
     }
 
+    @Test
+    public void shouldFindFromIdentityMap() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        entity.add("_id", 19L);
+        when(managerMock.select(any(DocumentQuery.class))).thenAnswer(a -> Stream.of(entity));
+        when(managerMock.update(any(DocumentEntity.class))).thenAnswer(a -> a.getArgument(0));
+
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            Person person = template.find(Person.class, 19L).orElseThrow();
+            assertSame(person, template.find(Person.class, 19L).orElseThrow());
+            verify(managerMock, times(1)).select(any(DocumentQuery.class));
+
+            template.update(person);
+            template.find(Person.class, 19L).orElseThrow();
+            verify(managerMock, times(2)).select(any(DocumentQuery.class));
+        }
+        template.find(Person.class, 19L).orElseThrow();
+        verify(managerMock, times(3)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldReturnSameInstanceAtSelect() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        entity.add("_id", 19L);
+        when(managerMock.select(any(DocumentQuery.class))).thenAnswer(a -> Stream.of(entity));
+        DocumentQuery query = select().from("Person").build();
+
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            Person person = template.<Person>select(query).findFirst().orElseThrow();
+            assertSame(person, template.<Person>select(query).findFirst().orElseThrow());
+            assertSame(person, template.find(Person.class, 19L).orElseThrow());
+
+            template.delete(DocumentDeleteQuery.delete().from("Person").build());
+            assertNotSame(person, template.find(Person.class, 19L).orElseThrow());
+        }
+        assertNotSame(template.<Person>select(query).findFirst().orElseThrow(),
+                template.<Person>select(query).findFirst().orElseThrow());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldUpdateOnlyChangedDocumentsWhenTracking() {
+        DefaultDocumentTemplate template = trackingTemplate();
+        when(managerMock.select(any(DocumentQuery.class))).thenReturn(Stream.of(vendor()));
+        when(managerMock.update(any(DocumentEntity.class), any(Set.class))).thenAnswer(a -> a.getArgument(0));
+
+        Vendor vendor = template.find(Vendor.class, "apple").orElseThrow();
+        template.update(vendor);
+        verify(managerMock, never()).update(any(DocumentEntity.class));
+        verify(managerMock, never()).update(any(DocumentEntity.class), any(Set.class));
+
+        vendor.setPrefixes(Set.of("a", "b"));
+        template.update(vendor);
+        verify(managerMock).update(any(DocumentEntity.class), eq(Set.of("prefixes")));
+
+        template.update(vendor);
+        verify(managerMock, times(1)).update(any(DocumentEntity.class), any(Set.class));
+        verify(managerMock, never()).update(any(DocumentEntity.class));
+    }
+
+    @Test
+    public void shouldUpdateWholeEntityWhenDocumentIsRemoved() {
+        DefaultDocumentTemplate template = trackingTemplate();
+        when(managerMock.select(any(DocumentQuery.class))).thenReturn(Stream.of(vendor()));
+        when(managerMock.update(any(DocumentEntity.class))).thenAnswer(a -> a.getArgument(0));
+
+        Vendor vendor = template.find(Vendor.class, "apple").orElseThrow();
+        vendor.setPrefixes(null);
+        template.update(vendor);
+        verify(managerMock).update(captor.capture());
+        assertFalse(captor.getValue().find("prefixes").isPresent());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldCompareTrackedEntityWithConverterValues() {
+        DefaultDocumentTemplate template = trackingTemplate();
+        DocumentEntity entity = DocumentEntity.of("vendors", List.of(Document.of("_id", "apple"),
+                Document.of("prefixes", List.of("a"))));
+        when(managerMock.select(any(DocumentQuery.class))).thenReturn(Stream.of(entity));
+        when(managerMock.update(any(DocumentEntity.class), any(Set.class))).thenAnswer(a -> a.getArgument(0));
+
+        Vendor vendor = template.find(Vendor.class, "apple").orElseThrow();
+        template.update(vendor);
+        verify(managerMock, never()).update(any(DocumentEntity.class));
+        verify(managerMock, never()).update(any(DocumentEntity.class), any(Set.class));
+
+        vendor.setPrefixes(Set.of("a", "b"));
+        template.update(vendor);
+        verify(managerMock).update(any(DocumentEntity.class), eq(Set.of("prefixes")));
+        verify(managerMock, never()).update(any(DocumentEntity.class));
+    }
+
+    @Test
+    public void shouldUpdateWholeEntityWhenItIsNotTracked() {
+        DefaultDocumentTemplate template = trackingTemplate();
+        when(managerMock.update(any(DocumentEntity.class))).thenAnswer(a -> a.getArgument(0));
+        Vendor vendor = new Vendor("apple");
+        template.update(vendor);
+        verify(managerMock).update(any(DocumentEntity.class));
+    }
+
+    @Test
+    public void shouldFindFromSecondLevelCache() {
+        when(managerMock.select(any(DocumentQuery.class))).thenAnswer(a -> Stream.of(country()));
+
+        Country country = template.find(Country.class, "br").orElseThrow();
+        Country cached = template.find(Country.class, "br").orElseThrow();
+        verify(managerMock, times(1)).select(any(DocumentQuery.class));
+        assertNotSame(country, cached);
+        assertEquals("Brazil", cached.getName());
+
+        CacheStatistics statistics = template.cacheStatistics().get("Country");
+        assertEquals(1L, statistics.getHits());
+        assertEquals(1L, statistics.getMisses());
+        assertEquals(0.5D, statistics.getHitRate());
+    }
+
+    @Test
+    public void shouldCacheSelectResults() {
+        when(managerMock.select(any(DocumentQuery.class))).thenAnswer(a -> Stream.of(country()));
+
+        template.<Country>select(select().from("Country").build()).forEach(c -> { });
+        template.find(Country.class, "br").orElseThrow();
+        verify(managerMock, times(1)).select(any(DocumentQuery.class));
+
+        template.<Country>select(select("name").from("Country").build()).forEach(c -> { });
+        assertEquals(1L, template.cacheStatistics().get("Country").getSize());
+    }
+
+    @Test
+    public void shouldInvalidateCacheAtUpdate() {
+        when(managerMock.select(any(DocumentQuery.class))).thenAnswer(a -> Stream.of(country()));
+        when(managerMock.update(any(DocumentEntity.class))).thenAnswer(a -> a.getArgument(0));
+
+        Country country = template.find(Country.class, "br").orElseThrow();
+        country.setName("Brasil");
+        template.update(country);
+        template.find(Country.class, "br").orElseThrow();
+        verify(managerMock, times(2)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldEvictCacheAtDelete() {
+        when(managerMock.select(any(DocumentQuery.class))).thenAnswer(a -> Stream.of(country()));
+
+        template.find(Country.class, "br").orElseThrow();
+        template.delete(Country.class, "br");
+        template.find(Country.class, "br").orElseThrow();
+        verify(managerMock, times(2)).select(any(DocumentQuery.class));
+
+        template.deleteAll(Country.class);
+        template.find(Country.class, "br").orElseThrow();
+        verify(managerMock, times(3)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldShareCacheBetweenTemplates() {
+        when(managerMock.select(any(DocumentQuery.class))).thenAnswer(a -> Stream.of(country()));
+        Instance<DocumentManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(managerMock);
+        DefaultDocumentTemplate other = new DefaultDocumentTemplate(converter, instance, new DefaultDocumentWorkflow(documentEventPersistManager, converter),
+                documentEventPersistManager,
+                entities, converters, cache, units);
+
+        template.find(Country.class, "br").orElseThrow();
+        other.find(Country.class, "br").orElseThrow();
+        verify(managerMock, times(1)).select(any(DocumentQuery.class));
+
+        other.delete(Country.class, "br");
+        template.find(Country.class, "br").orElseThrow();
+        verify(managerMock, times(2)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldIsolateCacheBetweenManagers() {
+        when(managerMock.select(any(DocumentQuery.class))).thenAnswer(a -> Stream.of(country()));
+        DocumentManager otherManager = Mockito.mock(DocumentManager.class);
+        when(otherManager.select(any(DocumentQuery.class))).thenAnswer(a -> Stream.empty());
+        Instance<DocumentManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(otherManager);
+        DefaultDocumentTemplate other = new DefaultDocumentTemplate(converter, instance, new DefaultDocumentWorkflow(documentEventPersistManager, converter),
+                documentEventPersistManager,
+                entities, converters, cache, units);
+
+        template.find(Country.class, "br").orElseThrow();
+        assertTrue(other.find(Country.class, "br").isEmpty());
+        verify(managerMock, times(1)).select(any(DocumentQuery.class));
+        verify(otherManager, times(1)).select(any(DocumentQuery.class));
+    }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldNotCacheWhenWriteHappensDuringSelect() {
+        when(managerMock.select(any(DocumentQuery.class))).thenAnswer(a -> Stream.of(country()));
+
+        Stream<Country> countries = template.select(select().from("Country").build());
+        template.delete(Country.class, "br");
+        countries.forEach(c -> { });
+        template.find(Country.class, "br").orElseThrow();
+        verify(managerMock, times(2)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldNotCacheWhenEntityIsNotCacheable() {
+        when(managerMock.select(any(DocumentQuery.class))).thenAnswer(a -> Stream.of(vendor()));
+
+        template.find(Vendor.class, "apple").orElseThrow();
+        template.find(Vendor.class, "apple").orElseThrow();
+        verify(managerMock, times(2)).select(any(DocumentQuery.class));
+        assertTrue(template.cacheStatistics().isEmpty());
+    }
+
+    private DocumentEntity country() {
+        return DocumentEntity.of("Country", List.of(Document.of("_id", "br"), Document.of("name", "Brazil")));
+    }
+
+    private DocumentEntity vendor() {
+        return DocumentEntity.of("vendors", List.of(Document.of("_id", "apple"), Document.of("prefixes", Set.of("a"))));
+    }
+
+    private DefaultDocumentTemplate trackingTemplate() {
+        System.setProperty(MappingConfigurations.CHANGE_TRACKING.get(), "true");
+        try {
+            Instance<DocumentManager> instance = Mockito.mock(Instance.class);
+            when(instance.get()).thenReturn(managerMock);
+            return new DefaultDocumentTemplate(converter, instance, new DefaultDocumentWorkflow(documentEventPersistManager, converter),
+                    documentEventPersistManager, entities, converters, cache, units);
+        } finally {
+            System.clearProperty(MappingConfigurations.CHANGE_TRACKING.get());
+        }
+    }
+}
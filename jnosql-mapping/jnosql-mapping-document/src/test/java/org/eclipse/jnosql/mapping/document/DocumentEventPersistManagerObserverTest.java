@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.document;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.communication.document.DocumentQuery;
+import org.eclipse.jnosql.mapping.Convert;
+import org.eclipse.jnosql.mapping.EntityPrePersist;
+import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.jboss.weld.junit5.auto.AddBeanClasses;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnableAutoWeld
+@AddPackages(value = {Convert.class, DocumentWorkflow.class})
+@AddPackages(MockProducer.class)
+@AddBeanClasses(DocumentEventPersistManagerObserverTest.EntityPrePersistObserver.class)
+@AddExtensions({EntityMetadataExtension.class, DocumentExtension.class})
+class DocumentEventPersistManagerObserverTest {
+
+    @Inject
+    private DocumentEventPersistManager subject;
+
+    @Inject
+    private EntityPrePersistObserver observer;
+
+    @BeforeEach
+    public void setUp() {
+        observer.clear();
+    }
+
+    @Test
+    public void shouldFireObservedEvents() {
+        subject.firePreEntity("entity");
+        assertEquals(List.of("entity"), observer.getEvents());
+    }
+
+    @Test
+    public void shouldNotNotifyTheOtherEvents() {
+        subject.firePreDocument(DocumentEntity.of("entity"));
+        subject.firePostDocument(DocumentEntity.of("entity"));
+        subject.firePostEntity("entity");
+        subject.firePreDocumentEntity("entity");
+        subject.firePostDocumentEntity("entity");
+        subject.firePreQuery(DocumentQuery.select().from("entity").build());
+        assertEquals(List.of(), observer.getEvents());
+    }
+
+    @ApplicationScoped
+    static class EntityPrePersistObserver {
+
+        private final List<Object> events = new ArrayList<>();
+
+        void observe(@Observes EntityPrePersist event) {
+            events.add(event.get());
+        }
+
+        List<Object> getEvents() {
+            return events;
+        }
+
+        void clear() {
+            events.clear();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.document;
+
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.document.Document;
+import org.eclipse.jnosql.communication.document.DocumentEntity;
+import org.eclipse.jnosql.mapping.Convert;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityAccessor;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.test.entities.Money;
+import org.eclipse.jnosql.mapping.test.entities.Person;
+import org.eclipse.jnosql.mapping.test.entities.Worker;
+import org.eclipse.jnosql.mapping.test.entities.inheritance.SmallProject;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+@EnableAutoWeld
+@AddPackages(value = {Convert.class, DocumentWorkflow.class})
+@AddPackages(MockProducer.class)
+@AddExtensions({EntityMetadataExtension.class, DocumentExtension.class})
+class DocumentWritePlanTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
+    @Inject
+    private DocumentEntityConverter converter;
+
+    @Test
+    public void shouldSkipNullFields() {
+        DocumentWritePlan plan = DocumentWritePlan.of(entities.get(Person.class), converters);
+        Person person = Person.builder().withName("Ada").withAge(10).withId(1L).build();
+        DocumentEntity entity = plan.write(person, converter);
+        Assertions.assertEquals("Person", entity.name());
+        Assertions.assertEquals(entities.get(Person.class).getFields().size(), plan.size());
+        Assertions.assertEquals("Ada", entity.find("name").orElseThrow().get());
+        Assertions.assertEquals(10, entity.find("age").orElseThrow().get());
+        Assertions.assertTrue(entity.find("phones").isEmpty());
+    }
+
+    @Test
+    public void shouldConvertAttribute() {
+        DocumentWritePlan plan = DocumentWritePlan.of(entities.get(Worker.class), converters);
+        Worker worker = new Worker();
+        worker.setName("Ada");
+        worker.setSalary(new Money("USD", BigDecimal.TEN));
+        DocumentEntity entity = plan.write(worker, converter);
+        Assertions.assertEquals("USD 10", entity.find("money").orElseThrow().get());
+        Assertions.assertEquals("Ada", entity.find("name").orElseThrow().get());
+        Assertions.assertTrue(entity.find("job").isEmpty());
+    }
+
+    @Test
+    public void shouldAddDiscriminatorColumn() {
+        DocumentWritePlan plan = DocumentWritePlan.of(entities.get(SmallProject.class), converters);
+        SmallProject project = new SmallProject();
+        project.setName("Ada");
+        project.setInvestor("Grace");
+        DocumentEntity entity = plan.write(project, converter);
+        Assertions.assertEquals(Document.of("size", "Small"), entity.find("size").orElseThrow());
+        Assertions.assertEquals("Grace", entity.find("investor").orElseThrow().get());
+    }
+
+    @Test
+    public void shouldWriteAsConverter() {
+        Person person = Person.builder().withName("Ada").withAge(10).withId(1L).build();
+        DocumentWritePlan plan = DocumentWritePlan.of(entities.get(Person.class), converters);
+        Assertions.assertEquals(converter.toDocument(person), plan.write(person, converter));
+    }
+
+    @Test
+    public void shouldWriteWithAccessor() {
+        Worker worker = new Worker();
+        worker.setName("Ada");
+        worker.setSalary(new Money("USD", BigDecimal.TEN));
+        EntityMetadata mapping = entities.get(Worker.class);
+        DocumentWritePlan plan = DocumentWritePlan.of(mapping, converters, EntityAccessor.of(mapping).orElseThrow());
+        Assertions.assertEquals(converter.toDocument(worker), plan.write(worker, converter));
+    }
+}
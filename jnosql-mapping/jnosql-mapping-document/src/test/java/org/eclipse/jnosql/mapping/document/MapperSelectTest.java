@@ -21,6 +21,8 @@ import org.eclipse.jnosql.communication.document.DocumentManager;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
 import org.eclipse.jnosql.mapping.Convert;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.SecondLevelCache;
+import org.eclipse.jnosql.mapping.UnitOfWorkResolver;
 import org.eclipse.jnosql.mapping.document.spi.DocumentExtension;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
 import org.eclipse.jnosql.mapping.test.entities.Address;
@@ -63,6 +65,12 @@ public class MapperSelectTest {
     @Inject
     private Converters converters;
 
+    @Inject
+    private SecondLevelCache cache;
+
+    @Inject
+    private UnitOfWorkResolver units;
+
     private DocumentManager managerMock;
 
     private DefaultDocumentTemplate template;
@@ -78,7 +86,7 @@ public class MapperSelectTest {
         when(instance.get()).thenReturn(managerMock);
         DefaultDocumentWorkflow workflow = new DefaultDocumentWorkflow(persistManager, converter);
         this.template = new DefaultDocumentTemplate(converter, instance, workflow,
-                persistManager, entities, converters);
+                persistManager, entities, converters, cache, units);
     }
 
 
@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.mapping.document.query;
 
+import jakarta.data.repository.Pageable;
 import jakarta.data.repository.PageableRepository;
 import jakarta.data.repository.Param;
 import jakarta.data.repository.Query;
@@ -21,6 +22,7 @@ import jakarta.data.repository.Sort;
 import jakarta.inject.Inject;
 import jakarta.nosql.PreparedStatement;
 import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryHints;
 import org.eclipse.jnosql.communication.TypeReference;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.document.Document;
@@ -29,6 +31,7 @@ import org.eclipse.jnosql.communication.document.DocumentDeleteQuery;
 import org.eclipse.jnosql.communication.document.DocumentQuery;
 import org.eclipse.jnosql.mapping.Convert;
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.Hint;
 import org.eclipse.jnosql.mapping.document.DocumentWorkflow;
 import org.eclipse.jnosql.mapping.document.JNoSQLDocumentTemplate;
 import org.eclipse.jnosql.mapping.document.MockProducer;
@@ -53,6 +56,7 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
@@ -215,6 +219,62 @@ public class DocumentRepositoryProxyTest {
 
     }
 
+    @Test
+    public void shouldAppendIdToKeysetSorts() {
+        when(template.select(any(DocumentQuery.class))).thenReturn(Stream.empty());
+
+        personRepository.findAll(Pageable.ofSize(2).sortBy(Sort.asc("name")).afterKeyset("Ada", 10L));
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertThat(query.sorts()).containsExactly(Sort.asc("name"), Sort.asc("_id"));
+        assertEquals(Condition.OR, query.condition().orElseThrow().condition());
+    }
+
+    @Test
+    public void shouldFindByProjection() {
+        Person ada = Person.builder()
+                .withAge(20).withName("Ada").build();
+
+        when(template.select(any(DocumentQuery.class)))
+                .thenReturn(Stream.of(ada));
+
+        List<PersonName> names = personRepository.findByAgeGreaterThanEqual(20);
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertThat(query.documents()).containsExactly("name", "age");
+        assertThat(names).hasSize(1);
+        PersonName name = names.get(0);
+        assertEquals("Ada", name.getName());
+        assertEquals(20, name.getAge());
+    }
+
+    @Test
+    public void shouldFindByHints() {
+        when(template.select(any(DocumentQuery.class)))
+                .thenReturn(Stream.empty());
+
+        personRepository.findByPhones("123");
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture());
+        DocumentQuery query = captor.getValue();
+        assertThat(query.hints()).containsExactly(Map.entry(QueryHints.FETCH_SIZE, "100"),
+                Map.entry(QueryHints.READ_CONSISTENCY, "QUORUM"));
+        assertTrue(query.condition().isPresent());
+    }
+
+    @Test
+    public void shouldQueryWithHints() {
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        when(statement.result()).thenReturn(Stream.empty());
+        when(template.prepare(Mockito.anyString(), Mockito.anyMap())).thenReturn(statement);
+
+        personRepository.findByHintedQuery();
+        verify(template).prepare("select * from Person", Map.of(QueryHints.FETCH_SIZE, "100"));
+        verify(template, Mockito.never()).query(Mockito.anyString());
+    }
+
     @Test
     public void shouldFindByAgeANDName() {
         Person ada = Person.builder()
@@ -696,8 +756,25 @@ public class DocumentRepositoryProxyTest {
     }
 
 
+    interface PersonName {
+
+        String getName();
+
+        int getAge();
+    }
+
     interface PersonRepository extends PageableRepository<Person, Long> {
 
+        List<PersonName> findByAgeGreaterThanEqual(Integer age);
+
+        @Hint(name = QueryHints.FETCH_SIZE, value = "100")
+        @Hint(name = QueryHints.READ_CONSISTENCY, value = "QUORUM")
+        List<Person> findByPhones(String phone);
+
+        @Hint(name = QueryHints.FETCH_SIZE, value = "100")
+        @Query("select * from Person")
+        List<Person> findByHintedQuery();
+
 
         long countByName(String name);
 
@@ -18,6 +18,7 @@ import jakarta.data.exceptions.EmptyResultException;
 import jakarta.data.exceptions.NonUniqueResultException;
 import jakarta.nosql.PreparedStatement;
 import jakarta.nosql.QueryMapper;
+import org.eclipse.jnosql.communication.Cancellation;
 import org.eclipse.jnosql.mapping.Converters;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
@@ -28,6 +29,8 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Transaction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
+import org.eclipse.jnosql.mapping.IdentityMap;
+import org.eclipse.jnosql.mapping.UnitOfWork;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
 import org.eclipse.jnosql.mapping.reflection.FieldMapping;
@@ -57,6 +60,11 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
     private static final Function<GraphTraversal<?, ?>, GraphTraversal<Vertex, Vertex>> INITIAL_VERTEX =
             g -> (GraphTraversal<Vertex, Vertex>) g;
 
+    /**
+     * The vertex ids are unique at the graph, so the identity map keeps the vertices under this name
+     */
+    private static final String VERTEX = "vertex";
+
     private static final Function<GraphTraversal<?, ?>, GraphTraversal<Vertex, Edge>> INITIAL_EDGE =
             g -> (GraphTraversal<Vertex, Edge>) g;
 
@@ -89,7 +97,7 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
             return v;
         };
 
-        return getFlow().flow(entity, save);
+        return invalidate(getFlow().flow(entity, save));
     }
 
     @Override
@@ -116,7 +124,7 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
             GraphTransactionUtil.transaction(getGraph());
             return vertex;
         };
-        return getFlow().flow(entity, update);
+        return invalidate(getFlow().flow(entity, update));
     }
 
     @Override
@@ -128,15 +136,20 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
                 .orElseThrow(() -> IdNotFoundException.newInstance(type));
 
         Object value = ConverterUtil.getValue(id, entityMetadata, idField.getFieldName(), getConverters());
-
+        Optional<IdentityMap> identityMap = identityMap();
+        Optional<T> entity = identityMap.flatMap(m -> m.get(VERTEX, value, type));
+        if (entity.isPresent()) {
+            return entity;
+        }
         final Optional<Vertex> vertex = traversal().V(value).hasLabel(entityMetadata.getName()).tryNext();
-        return vertex.map(getConverter()::toEntity);
+        return vertex.map(v -> identity(identityMap, getConverter().toEntity(v)));
     }
 
     @Override
     public <T> void delete(T idValue) {
         requireNonNull(idValue, "id is required");
         traversal().V(idValue).toStream().forEach(Vertex::remove);
+        identityMap().ifPresent(m -> m.evict(VERTEX));
     }
 
     @Override
@@ -149,6 +162,7 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
                 .hasLabel(mapping.getName())
                 .toStream()
                 .forEach(Vertex::remove);
+        identityMap().ifPresent(m -> m.evict(VERTEX));
     }
 
     @Override
@@ -160,8 +174,13 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
     @Override
     public <T, K> Optional<T> find(K idValue) {
         requireNonNull(idValue, "id is required");
+        Optional<IdentityMap> identityMap = identityMap();
+        Optional<T> entity = identityMap.flatMap(m -> m.get(VERTEX, idValue, Object.class)).map(e -> (T) e);
+        if (entity.isPresent()) {
+            return entity;
+        }
         Optional<Vertex> vertex = traversal().V(idValue).tryNext();
-        return vertex.map(getConverter()::toEntity);
+        return vertex.map(v -> identity(identityMap, getConverter().toEntity(v)));
     }
 
     @Override
@@ -183,6 +202,7 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         requireNonNull(ids, "ids is required");
         final Object[] vertexIds = StreamSupport.stream(ids.spliterator(), false).toArray(Object[]::new);
         traversal().V(vertexIds).toStream().forEach(Vertex::remove);
+        identityMap().ifPresent(m -> m.evict(VERTEX));
     }
 
     @Override
@@ -305,9 +325,18 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
     @Override
     public <T> Stream<T> query(String gremlin) {
         requireNonNull(gremlin, "query is required");
+        identityMap().ifPresent(IdentityMap::clear);
         return getExecutor().executeGremlin(traversal(), gremlin);
     }
 
+    @Override
+    public <T> Stream<T> query(String gremlin, Cancellation cancellation) {
+        requireNonNull(gremlin, "query is required");
+        requireNonNull(cancellation, "cancellation is required");
+        identityMap().ifPresent(IdentityMap::clear);
+        return getExecutor().executeGremlin(traversal(), gremlin, Collections.emptyMap(), cancellation);
+    }
+
     @Override
     public <T> Optional<T> singleResult(String gremlin) {
         Stream<T> entities = query(gremlin);
@@ -369,8 +398,9 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
     public <T> Stream<T> findAll(Class<T> type) {
         Objects.requireNonNull(type, "type is required");
         EntityMetadata metadata = getEntities().get(type);
+        Optional<IdentityMap> identityMap = identityMap();
         return traversal().V().hasLabel(metadata.getName())
-                .toStream().map(getConverter()::toEntity);
+                .toStream().map(v -> identity(identityMap, getConverter().toEntity(v)));
     }
 
     @Override
@@ -378,6 +408,7 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         Objects.requireNonNull(type, "type is required");
         EntityMetadata metadata = getEntities().get(type);
         traversal().V().hasLabel(metadata.getName()).toStream().forEach(Vertex::remove);
+        identityMap().ifPresent(m -> m.evict(VERTEX));
     }
 
     private <K> Collection<EdgeEntity> edgesByIdImpl(K id, Direction direction, String... labels) {
@@ -425,6 +456,42 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         }
     }
 
+    /**
+     * Returns the {@link UnitOfWork} of the current thread, the templates of a CDI container override it to also
+     * resolve the one of the current request.
+     *
+     * @return the {@link UnitOfWork} or {@link Optional#empty()} when there is none
+     */
+    protected Optional<UnitOfWork> getUnitOfWork() {
+        return UnitOfWork.current();
+    }
+
+    private Optional<IdentityMap> identityMap() {
+        return getUnitOfWork().map(u -> u.identityMap(this));
+    }
+
+    /**
+     * Returns the entity already loaded at the {@link UnitOfWork} with the same id, if any, otherwise it keeps the
+     * entity at the identity map
+     */
+    private <T> T identity(Optional<IdentityMap> identityMap, T entity) {
+        if (identityMap.isEmpty()) {
+            return entity;
+        }
+        return id(entity).map(id -> identityMap.get().putIfAbsent(VERTEX, id, entity)).orElse(entity);
+    }
+
+    private <T> T invalidate(T entity) {
+        identityMap().ifPresent(m -> id(entity).ifPresent(id -> m.remove(VERTEX, id)));
+        return entity;
+    }
+
+    private Optional<Object> id(Object entity) {
+        EntityMetadata metadata = getEntities().get(entity.getClass());
+        return metadata.getId().flatMap(id -> Optional.ofNullable(id.read(entity))
+                .map(value -> ConverterUtil.getValue(value, metadata, id.getFieldName(), getConverters())));
+    }
+
     private <T> boolean isIdNull(T entity) {
         EntityMetadata entityMetadata = getEntities().get(entity.getClass());
         FieldMapping field = entityMetadata.getId().get();
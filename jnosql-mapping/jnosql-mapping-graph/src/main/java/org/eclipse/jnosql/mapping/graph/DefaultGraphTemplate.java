@@ -22,8 +22,12 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.eclipse.jnosql.mapping.Converters;
 import org.eclipse.jnosql.mapping.Database;
 import org.eclipse.jnosql.mapping.DatabaseType;
+import org.eclipse.jnosql.mapping.UnitOfWork;
+import org.eclipse.jnosql.mapping.UnitOfWorkResolver;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
 
+import java.util.Optional;
+
 /**
  * The default {@link GraphTemplate}
  */
@@ -43,15 +47,19 @@ class DefaultGraphTemplate extends AbstractGraphTemplate {
 
     private Converters converters;
 
+    private UnitOfWorkResolver units;
+
     @Inject
     DefaultGraphTemplate(Instance<Graph> graph, EntitiesMetadata entities, GraphConverter converter,
                          GraphWorkflow workflow,
-                         Converters converters) {
+                         Converters converters,
+                         UnitOfWorkResolver units) {
         this.graph = graph;
         this.entities = entities;
         this.converter = converter;
         this.workflow = workflow;
         this.converters = converters;
+        this.units = units;
     }
 
     DefaultGraphTemplate() {
@@ -82,4 +90,8 @@ class DefaultGraphTemplate extends AbstractGraphTemplate {
         return converters;
     }
 
-}
\ No newline at end of file
+    @Override
+    protected Optional<UnitOfWork> getUnitOfWork() {
+        return units.current();
+    }
+}
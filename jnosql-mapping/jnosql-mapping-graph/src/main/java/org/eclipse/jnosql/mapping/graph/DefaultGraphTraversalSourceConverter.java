@@ -16,7 +16,6 @@ package org.eclipse.jnosql.mapping.graph;
 
 import jakarta.data.exceptions.EmptyResultException;
 import org.eclipse.jnosql.mapping.Converters;
-import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -29,12 +28,8 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 
 import java.util.Iterator;
-import java.util.List;
-import java.util.Optional;
-import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 
 /**
  * A default implementation to GraphTraversalSourceOperation
@@ -90,36 +85,23 @@ class DefaultGraphTraversalSourceConverter extends GraphConverter {
     public <T> Vertex toVertex(T entity) {
         requireNonNull(entity, "entity is required");
 
-        EntityMetadata mapping = getEntities().get(entity.getClass());
-        String label = mapping.getName();
-
-        List<FieldGraph> fields = mapping.getFields().stream()
-                .map(f -> to(f, entity))
-                .filter(FieldGraph::isNotEmpty).collect(toList());
-
-        Optional<FieldGraph> id = fields.stream().filter(FieldGraph::isId).findFirst();
-
-        final Function<Property, Vertex> findVertexOrCreateWithId = p -> {
-            Iterator<Vertex> vertices = getTraversalSource().V(p.value());
-            return vertices.hasNext() ? vertices.next() :
+        GraphWritePlan plan = getWritePlan(entity.getClass());
+        String label = plan.getLabel();
+
+        Object[] values = plan.read(entity);
+        Property<?> id = plan.id(values);
+        Vertex vertex;
+        if (id == null) {
+            vertex = getTraversalSource().addV(label).next();
+        } else {
+            Iterator<Vertex> vertices = getTraversalSource().V(id.value());
+            vertex = vertices.hasNext() ? vertices.next() :
                     getTraversalSource().addV(label)
-                            .property(org.apache.tinkerpop.gremlin.structure.T.id, p.value())
+                            .property(org.apache.tinkerpop.gremlin.structure.T.id, id.value())
                             .next();
-        };
-
-        Vertex vertex = id.map(i -> i.toElement(getConverters()))
-                .map(findVertexOrCreateWithId)
-                .orElseGet(() -> getTraversalSource().addV(label).next());
-
-        fields.stream().filter(FieldGraph::isNotId)
-                .flatMap(f -> f.toElements(this, getConverters()).stream())
-                .forEach(p -> vertex.property(p.key(), p.value()));
-
-        mapping.getInheritance().ifPresent(i ->
-                vertex.property(i.getDiscriminatorColumn(), i.getDiscriminatorValue()));
-
+        }
+        plan.write(values, vertex, this);
         return vertex;
-
     }
 
     @Override
@@ -15,6 +15,8 @@
 package org.eclipse.jnosql.mapping.graph;
 
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.UnitOfWork;
+import org.eclipse.jnosql.mapping.UnitOfWorkResolver;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -24,6 +26,7 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import java.util.Iterator;
+import java.util.Optional;
 
 /**
  * The default {@link GraphTemplate} to GraphTraversalSourceOperation
@@ -42,17 +45,21 @@ class DefaultGraphTraversalSourceTemplate extends AbstractGraphTemplate {
 
     private Converters converters;
 
+    private UnitOfWorkResolver units;
+
     @Inject
     DefaultGraphTraversalSourceTemplate(Instance<GraphTraversalSourceSupplier> supplierInstance,
                                         EntitiesMetadata entities,
                                         @GraphTraversalSourceOperation GraphConverter converter,
                                         GraphWorkflow workflow,
-                                        Converters converters) {
+                                        Converters converters,
+                                        UnitOfWorkResolver units) {
         this.supplierInstance = supplierInstance;
         this.entities = entities;
         this.converter = converter;
         this.workflow = workflow;
         this.converters = converters;
+        this.units = units;
     }
 
     DefaultGraphTraversalSourceTemplate() {
@@ -97,4 +104,8 @@ class DefaultGraphTraversalSourceTemplate extends AbstractGraphTemplate {
         return traversal().V(id).toList().iterator();
     }
 
+    @Override
+    protected Optional<UnitOfWork> getUnitOfWork() {
+        return units.current();
+    }
 }
@@ -27,6 +27,7 @@ import org.eclipse.jnosql.mapping.reflection.ConstructorBuilder;
 import org.eclipse.jnosql.mapping.reflection.ConstructorMetadata;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityAccessor;
 import org.eclipse.jnosql.mapping.reflection.FieldMapping;
 import org.eclipse.jnosql.mapping.reflection.InheritanceMetadata;
 import org.eclipse.jnosql.mapping.reflection.ParameterMetaData;
@@ -37,10 +38,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -49,6 +49,9 @@ import static org.eclipse.jnosql.mapping.reflection.MappingType.EMBEDDED;
 
 public abstract class GraphConverter {
 
+    private final Map<Class<?>, GraphWritePlan> writePlans = new ConcurrentHashMap<>();
+
+    private final boolean generated = EntityAccessor.isEnabled();
 
     protected abstract EntitiesMetadata getEntities();
 
@@ -69,32 +72,22 @@ public abstract class GraphConverter {
     public <T> Vertex toVertex(T entity) {
         requireNonNull(entity, "entity is required");
 
-        EntityMetadata mapping = getEntities().get(entity.getClass());
-        String label = mapping.getName();
-
-        List<FieldGraph> fields = mapping.getFields().stream()
-                .map(f -> to(f, entity))
-                .filter(FieldGraph::isNotEmpty).collect(toList());
+        GraphWritePlan plan = getWritePlan(entity.getClass());
+        String label = plan.getLabel();
 
-        Optional<FieldGraph> id = fields.stream().filter(FieldGraph::isId).findFirst();
-        final Function<Property, Vertex> findVertexOrCreateWithId = p -> {
-            Iterator<Vertex> vertices = getGraph().vertices(p.value());
-            return vertices.hasNext() ? vertices.next() :
+        Object[] values = plan.read(entity);
+        Property<?> id = plan.id(values);
+        Vertex vertex = null;
+        if (id != null) {
+            Iterator<Vertex> vertices = getGraph().vertices(id.value());
+            vertex = vertices.hasNext() ? vertices.next() :
                     getGraph().addVertex(org.apache.tinkerpop.gremlin.structure.T.label, label,
-                            org.apache.tinkerpop.gremlin.structure.T.id, p.value());
-        };
-
-        Vertex vertex = id.map(i -> i.toElement(getConverters()))
-                .map(findVertexOrCreateWithId)
-                .orElseGet(() -> getGraph().addVertex(label));
-
-        fields.stream().filter(FieldGraph::isNotId)
-                .flatMap(f -> f.toElements(this, getConverters()).stream())
-                .forEach(p -> vertex.property(p.key(), p.value()));
-
-        mapping.getInheritance().ifPresent(i ->
-                vertex.property(i.getDiscriminatorColumn(), i.getDiscriminatorValue()));
-
+                            org.apache.tinkerpop.gremlin.structure.T.id, id.value());
+        }
+        if (vertex == null) {
+            vertex = getGraph().addVertex(label);
+        }
+        plan.write(values, vertex, this);
         return vertex;
     }
 
@@ -109,14 +102,8 @@ public abstract class GraphConverter {
      */
     public <T> List<Property<?>> getProperties(T entity) {
         Objects.requireNonNull(entity, "entity is required");
-        EntityMetadata mapping = getEntities().get(entity.getClass());
-        List<FieldGraph> fields = mapping.getFields().stream()
-                .map(f -> to(f, entity))
-                .filter(FieldGraph::isNotEmpty).collect(toList());
-
-        return fields.stream().filter(FieldGraph::isNotId)
-                .flatMap(f -> f.toElements(this, getConverters()).stream())
-                .collect(Collectors.toList());
+        GraphWritePlan plan = getWritePlan(entity.getClass());
+        return plan.properties(plan.read(entity), this);
     }
 
     /**
@@ -228,21 +215,30 @@ public abstract class GraphConverter {
     }
 
     private <T> T convertEntityByConstructor(Vertex vertex, EntityMetadata mapping) {
-        ConstructorBuilder builder = ConstructorBuilder.of(mapping.getConstructor());
-        List<Property<?>> properties = vertex.keys().stream()
-                .map(k -> DefaultProperty.of(k, vertex.value(k)))
-                .collect(toList());
-        for (ParameterMetaData parameter : builder.getParameters()) {
-            Optional<Property<?>> property = properties.stream()
-                    .filter(c -> c.key().equals(parameter.getName()))
-                    .findFirst();
-            property.ifPresentOrElse(p -> parameter.getConverter().ifPresentOrElse(c -> {
-                Object value = getConverters().get(c).convertToEntityAttribute(p.value());
-                builder.add(value);
-            }, () -> {
-                Value value = Value.of(p.value());
-                builder.add(value.get(parameter.getType()));
-            }), builder::addEmptyParameter);
+        ConstructorMetadata constructor = mapping.getConstructor();
+        ConstructorBuilder builder = ConstructorBuilder.of(constructor);
+        List<ParameterMetaData> parameters = builder.getParameters();
+        Property<?>[] properties = new Property<?>[parameters.size()];
+        for (String key : vertex.keys()) {
+            int index = constructor.indexOf(key);
+            if (index >= 0) {
+                properties[index] = DefaultProperty.of(key, vertex.value(key));
+            }
+        }
+        for (int index = 0; index < properties.length; index++) {
+            ParameterMetaData parameter = parameters.get(index);
+            Property<?> property = properties[index];
+            if (property == null) {
+                builder.addEmptyParameter();
+            } else {
+                parameter.getConverter().ifPresentOrElse(c -> {
+                    Object value = getConverters().get(c).convertToEntityAttribute(property.value());
+                    builder.add(value);
+                }, () -> {
+                    Value value = Value.of(property.value());
+                    builder.add(value.get(parameter.getType()));
+                });
+            }
         }
         return builder.build();
     }
@@ -319,6 +315,14 @@ public abstract class GraphConverter {
         field.write(instance, toEntity(field.getNativeField().getType(), elements));
     }
 
+    GraphWritePlan getWritePlan(Class<?> type) {
+        return writePlans.computeIfAbsent(type, t -> {
+            EntityMetadata mapping = getEntities().get(t);
+            EntityAccessor accessor = generated ? EntityAccessor.of(mapping).orElse(null) : null;
+            return GraphWritePlan.of(mapping, getConverters(), accessor);
+        });
+    }
+
     protected FieldGraph to(FieldMapping field, Object entityInstance) {
         Object value = field.read(entityInstance);
         return FieldGraph.of(value, field);
@@ -14,8 +14,10 @@
  */
 package org.eclipse.jnosql.mapping.graph;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.inject.Inject;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.eclipse.jnosql.mapping.EntityPostPersist;
@@ -49,6 +51,30 @@ class GraphEventPersistManager {
     @Inject
     private Event<EntityGraphPostPersist> entityGraphPostPersist;
 
+    @Inject
+    private BeanManager beanManager;
+
+    private boolean entityPrePersistEventObserved = true;
+
+    private boolean entityPostPersistEventObserved = true;
+
+    private boolean entityGraphPrePersistObserved = true;
+
+    private boolean entityGraphPostPersistObserved = true;
+
+    /**
+     * Resolves, once, which events have observers, thus, the events without observers are neither created nor
+     * fired.
+     */
+    @PostConstruct
+    void init() {
+        Object object = new Object();
+        this.entityPrePersistEventObserved = isObserved(EntityPrePersist.of(object));
+        this.entityPostPersistEventObserved = isObserved(EntityPostPersist.of(object));
+        this.entityGraphPrePersistObserved = isObserved(EntityGraphPrePersist.of(object));
+        this.entityGraphPostPersistObserved = isObserved(EntityGraphPostPersist.of(object));
+    }
+
     /**
      * Fire an event once the method is called
      *
@@ -56,7 +82,9 @@ class GraphEventPersistManager {
      * @param <T>    the entity type
      */
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (entityPrePersistEventObserved) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     /**
@@ -67,7 +95,9 @@ class GraphEventPersistManager {
      * @param <T>    the entity kind
      */
     public <T> void firePostEntity(T entity) {
-        entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        if (entityPostPersistEventObserved) {
+            entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        }
     }
 
     /**
@@ -77,7 +107,9 @@ class GraphEventPersistManager {
      * @param <T>    the entity type
      */
     public <T> void firePreGraphEntity(T entity) {
-        entityGraphPrePersist.fire(EntityGraphPrePersist.of(entity));
+        if (entityGraphPrePersistObserved) {
+            entityGraphPrePersist.fire(EntityGraphPrePersist.of(entity));
+        }
     }
 
     /**
@@ -87,6 +119,12 @@ class GraphEventPersistManager {
      * @param <T>    the entity kind
      */
     public <T> void firePostGraphEntity(T entity) {
-        entityGraphPostPersist.fire(EntityGraphPostPersist.of(entity));
+        if (entityGraphPostPersistObserved) {
+            entityGraphPostPersist.fire(EntityGraphPostPersist.of(entity));
+        }
+    }
+
+    private boolean isObserved(Object event) {
+        return !beanManager.resolveObserverMethods(event).isEmpty();
     }
 }
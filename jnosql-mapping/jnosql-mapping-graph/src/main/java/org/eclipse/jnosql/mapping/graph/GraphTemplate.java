@@ -18,6 +18,7 @@ import jakarta.nosql.PreparedStatement;
 import jakarta.nosql.Template;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.eclipse.jnosql.communication.Cancellation;
 
 import java.util.Collection;
 import java.util.List;
@@ -244,6 +245,18 @@ public interface GraphTemplate extends Template {
      */
     <T> Stream<T> query(String gremlin);
 
+    /**
+     * Executes a Gremlin bound to a {@link Cancellation}; when it is either cancelled or expired, the evaluation
+     * is interrupted and the stream stops producing elements.
+     *
+     * @param gremlin      the query gremlin
+     * @param cancellation the cancellation handle
+     * @param <T>          the entity type
+     * @return the result as {@link Stream}
+     * @throws NullPointerException when there is a null parameter
+     */
+    <T> Stream<T> query(String gremlin, Cancellation cancellation);
+
     /**
      * Executes a Gremlin query then bring the result as a unique result
      *
@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.mapping.graph;
 
 import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.UnitOfWorkResolver;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
 
@@ -46,6 +47,9 @@ public class GraphTemplateProducer {
     @Inject
     private GraphEventPersistManager eventManager;
 
+    @Inject
+    private UnitOfWorkResolver units;
+
 
     /**
      * creates a {@link GraphTemplate}
@@ -62,7 +66,7 @@ public class GraphTemplateProducer {
         GraphConverter converter = new DefaultGraphConverter(entities,
                 converters,instance, eventManager);
         GraphWorkflow workflow = new GraphWorkflow(persistManager, converter);
-        return new DefaultGraphTemplate(instance, entities, converter, workflow, converters);
+        return new DefaultGraphTemplate(instance, entities, converter, workflow, converters, units);
     }
 
     /**
@@ -80,7 +84,7 @@ public class GraphTemplateProducer {
         GraphConverter converter = new DefaultGraphTraversalSourceConverter(entities,
                 converters, instance, eventManager);
         GraphWorkflow workflow = new GraphWorkflow(persistManager, converter);
-        return new DefaultGraphTraversalSourceTemplate(instance, entities, converter, workflow, converters);
+        return new DefaultGraphTraversalSourceTemplate(instance, entities, converter, workflow, converters, units);
     }
 
     static class SingleInstance<T> implements Instance<T> {
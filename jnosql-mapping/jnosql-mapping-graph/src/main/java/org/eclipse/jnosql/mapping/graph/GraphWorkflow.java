@@ -19,7 +19,6 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import java.util.Objects;
-import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 /**
@@ -57,44 +56,13 @@ class GraphWorkflow {
      * @return after the workflow the the entity response
      */
     public <T> T flow(T entity, UnaryOperator<Vertex> action) {
-        Function<T, T> flow = getFlow(entity, action);
-        return flow.apply(entity);
-    }
-
-    private <T> Function<T, T> getFlow(T entity, UnaryOperator<Vertex> action) {
-        UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
-
-        UnaryOperator<T> firePreEntity = t -> {
-            graphEventPersistManager.firePreEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePreGraphEntity = t -> {
-            graphEventPersistManager.firePreGraphEntity(t);
-            return t;
-        };
-
-        Function<T, Vertex> converterGraph = t -> converter.toVertex(t);
-
-        Function<Vertex, T> converterEntity = t -> converter.toEntity(entity, t);
-
-        UnaryOperator<T> firePostEntity = t -> {
-            graphEventPersistManager.firePostEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePostGraphEntity = t -> {
-            graphEventPersistManager.firePostGraphEntity(t);
-            return t;
-        };
-
-        return validation
-                .andThen(firePreEntity)
-                .andThen(firePreGraphEntity)
-                .andThen(converterGraph)
-                .andThen(action)
-                .andThen(converterEntity)
-                .andThen(firePostEntity)
-                .andThen(firePostGraphEntity);
+        Objects.requireNonNull(entity, "entity is required");
+        graphEventPersistManager.firePreEntity(entity);
+        graphEventPersistManager.firePreGraphEntity(entity);
+        Vertex vertex = action.apply(converter.toVertex(entity));
+        T updated = converter.toEntity(entity, vertex);
+        graphEventPersistManager.firePostEntity(updated);
+        graphEventPersistManager.firePostGraphEntity(updated);
+        return updated;
     }
 }
@@ -0,0 +1,162 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.eclipse.jnosql.mapping.AttributeConverter;
+import org.eclipse.jnosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.reflection.EntityAccessor;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+import org.eclipse.jnosql.mapping.reflection.InheritanceMetadata;
+import org.eclipse.jnosql.mapping.reflection.MappingType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The immutable plan to write an entity as the properties of a {@link Vertex}: it resolves, once by entity, the
+ * id field, the embedded fields and the {@link AttributeConverter} instances, thus, the conversion reads the fields
+ * in a loop without the intermediate {@link FieldGraph} and streams.
+ * When there is an {@link EntityAccessor}, it reads all the fields at once.
+ * The embedded entities use the plan of their own type.
+ */
+final class GraphWritePlan {
+
+    private final String label;
+
+    private final FieldMapping[] fields;
+
+    private final AttributeConverter<Object, Object>[] converters;
+
+    private final InheritanceMetadata inheritance;
+
+    private final EntityAccessor accessor;
+
+    private GraphWritePlan(String label, FieldMapping[] fields, AttributeConverter<Object, Object>[] converters,
+                           InheritanceMetadata inheritance, EntityAccessor accessor) {
+        this.label = label;
+        this.fields = fields;
+        this.converters = converters;
+        this.inheritance = inheritance;
+        this.accessor = accessor;
+    }
+
+    String getLabel() {
+        return label;
+    }
+
+    /**
+     * Reads the values of the fields, at the order of the plan
+     */
+    Object[] read(Object entity) {
+        if (accessor != null) {
+            return accessor.read(entity);
+        }
+        Object[] values = new Object[fields.length];
+        for (int index = 0; index < fields.length; index++) {
+            values[index] = fields[index].read(entity);
+        }
+        return values;
+    }
+
+    /**
+     * Returns the id property from the values
+     *
+     * @return the id property or null when the entity does not have an id value
+     */
+    Property<?> id(Object[] values) {
+        for (int index = 0; index < fields.length; index++) {
+            if (fields[index].isId()) {
+                Object value = values[index];
+                if (value != null) {
+                    return DefaultProperty.of(fields[index].getName(), convert(index, value));
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Writes the properties, but the id, and the discriminator column at the vertex
+     */
+    void write(Object[] values, Vertex vertex, GraphConverter converter) {
+        for (int index = 0; index < fields.length; index++) {
+            FieldMapping field = fields[index];
+            if (field.isId()) {
+                continue;
+            }
+            Object value = values[index];
+            if (value == null) {
+                continue;
+            }
+            if (MappingType.EMBEDDED.equals(field.getType())) {
+                for (Property<?> property : converter.getProperties(value)) {
+                    vertex.property(property.key(), property.value());
+                }
+            } else {
+                vertex.property(field.getName(), convert(index, value));
+            }
+        }
+        if (inheritance != null) {
+            vertex.property(inheritance.getDiscriminatorColumn(), inheritance.getDiscriminatorValue());
+        }
+    }
+
+    /**
+     * Returns the properties, but the id, of the entity
+     */
+    List<Property<?>> properties(Object[] values, GraphConverter converter) {
+        List<Property<?>> properties = new ArrayList<>(fields.length);
+        for (int index = 0; index < fields.length; index++) {
+            FieldMapping field = fields[index];
+            if (field.isId()) {
+                continue;
+            }
+            Object value = values[index];
+            if (value == null) {
+                continue;
+            }
+            if (MappingType.EMBEDDED.equals(field.getType())) {
+                properties.addAll(converter.getProperties(value));
+            } else {
+                properties.add(DefaultProperty.of(field.getName(), convert(index, value)));
+            }
+        }
+        return properties;
+    }
+
+    private Object convert(int index, Object value) {
+        AttributeConverter<Object, Object> converter = converters[index];
+        return converter == null ? value : converter.convertToDatabaseColumn(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    static GraphWritePlan of(EntityMetadata mapping, Converters converters, EntityAccessor accessor) {
+        List<FieldMapping> fields = mapping.getFields();
+        AttributeConverter<Object, Object>[] attributeConverters = new AttributeConverter[fields.size()];
+        for (int index = 0; index < fields.size(); index++) {
+            FieldMapping field = fields.get(index);
+            Optional<Class<? extends AttributeConverter<Object, Object>>> converter = field.getConverter();
+            if (!MappingType.EMBEDDED.equals(field.getType()) && converter.isPresent()) {
+                attributeConverters[index] = converters.get(converter.get());
+            }
+        }
+        return new GraphWritePlan(mapping.getName(), fields.toArray(new FieldMapping[0]), attributeConverters,
+                mapping.getInheritance().orElse(null), accessor);
+    }
+}
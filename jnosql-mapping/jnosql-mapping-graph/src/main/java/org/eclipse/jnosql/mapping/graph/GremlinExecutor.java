@@ -19,7 +19,10 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.eclipse.jnosql.communication.Cancellation;
+import org.eclipse.jnosql.mapping.config.QueryTimeout;
 
+import java.time.Duration;
 import javax.script.Bindings;
 import javax.script.ScriptEngine;
 import javax.script.ScriptException;
@@ -33,6 +36,8 @@ final class GremlinExecutor {
 
     private final GraphConverter converter;
 
+    private final Duration timeout = QueryTimeout.get().orElse(null);
+
     private static final ScriptEngine ENGINE = new GremlinGroovyScriptEngine();
 
     GremlinExecutor(GraphConverter converter) {
@@ -44,6 +49,19 @@ final class GremlinExecutor {
     }
 
     <T> Stream<T> executeGremlin(GraphTraversalSource traversalSource, String gremlin, Map<String, Object> params) {
+        if (timeout == null) {
+            return evaluate(traversalSource, gremlin, params);
+        }
+        return Cancellation.stream(timeout, c -> executeGremlin(traversalSource, gremlin, params, c));
+    }
+
+    <T> Stream<T> executeGremlin(GraphTraversalSource traversalSource, String gremlin, Map<String, Object> params,
+                                 Cancellation cancellation) {
+        Stream<T> result = cancellation.call(() -> evaluate(traversalSource, gremlin, params));
+        return cancellation.apply(result);
+    }
+
+    private <T> Stream<T> evaluate(GraphTraversalSource traversalSource, String gremlin, Map<String, Object> params) {
         try {
             Bindings bindings = ENGINE.createBindings();
             bindings.put("g", traversalSource);
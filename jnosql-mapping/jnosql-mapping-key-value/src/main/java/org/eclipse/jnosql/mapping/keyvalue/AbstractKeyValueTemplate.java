@@ -23,9 +23,12 @@ import jakarta.nosql.keyvalue.KeyValueTemplate;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.mapping.IdentityMap;
+import org.eclipse.jnosql.mapping.UnitOfWork;
 
 import java.time.Duration;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.UnaryOperator;
@@ -41,6 +44,11 @@ import static java.util.Objects.requireNonNull;
  */
 public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
 
+    /**
+     * The keys share a single namespace at the bucket, so the identity map keeps the entities under this name
+     */
+    private static final String BUCKET = "bucket";
+
     protected abstract KeyValueEntityConverter getConverter();
 
     protected abstract BucketManager getManager();
@@ -54,6 +62,7 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
 
         UnaryOperator<KeyValueEntity> putAction = k -> {
             getManager().put(k);
+            identityMap().ifPresent(IdentityMap::clear);
             return k;
 
         };
@@ -67,6 +76,7 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
 
         UnaryOperator<KeyValueEntity> putAction = k -> {
             getManager().put(k, ttl);
+            identityMap().ifPresent(IdentityMap::clear);
             return k;
 
         };
@@ -75,12 +85,15 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities) {
-        return put(entities);
+        requireNonNull(entities, "entities is required");
+        return getFlow().flowAll(entities, this::putAll);
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
-        return put(entities, ttl);
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl class is required");
+        return getFlow().flowAll(entities, k -> putAll(k, ttl));
     }
 
     @Override
@@ -90,7 +103,7 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
 
     @Override
     public <T> Iterable<T> update(Iterable<T> entities) {
-        return put(entities);
+        return insert(entities);
     }
 
     @Override
@@ -108,9 +121,16 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
         requireNonNull(key, "key is required");
         requireNonNull(type, "entity class is required");
 
+        Optional<IdentityMap> identityMap = identityMap();
+        Optional<T> entity = identityMap.flatMap(m -> m.get(BUCKET, key, type));
+        if (entity.isPresent()) {
+            return entity;
+        }
         Optional<Value> value = getManager().get(key);
         return value.map(v -> getConverter().toEntity(type, KeyValueEntity.of(key, v)))
-                .filter(Objects::nonNull).map(e -> {
+                .filter(Objects::nonNull)
+                .map(e -> identityMap.map(m -> m.putIfAbsent(BUCKET, key, e)).orElse(e))
+                .map(e -> {
                     getEventManager().firePostEntity(e);
                     return e;
                 });
@@ -132,18 +152,21 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
     public <K> void delete(K key) {
         requireNonNull(key, "key is required");
         getManager().delete(key);
+        identityMap().ifPresent(m -> m.remove(BUCKET, key));
     }
 
     @Override
     public <K> void delete(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
         getManager().delete(keys);
+        identityMap().ifPresent(m -> keys.forEach(k -> m.remove(BUCKET, k)));
     }
 
     @Override
     public <T> Stream<T> query(String query, Class<T> type) {
         requireNonNull(query, "query is required");
         requireNonNull(type, "type is required");
+        identityMap().ifPresent(IdentityMap::clear);
         Stream<Value> values = getManager().query(query);
         return values.map(v -> v.get(type));
     }
@@ -168,6 +191,7 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
     @Override
     public void query(String query) {
         requireNonNull(query, "query is required");
+        identityMap().ifPresent(IdentityMap::clear);
         getManager().query(query);
     }
 
@@ -197,4 +221,30 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
     public <T> QueryMapper.MapperDeleteFrom delete(Class<T> type) {
         throw new UnsupportedOperationException("Key value database type does not have support for mapping query");
     }
+
+    private List<KeyValueEntity> putAll(List<KeyValueEntity> entities) {
+        getManager().put(entities);
+        identityMap().ifPresent(IdentityMap::clear);
+        return entities;
+    }
+
+    private List<KeyValueEntity> putAll(List<KeyValueEntity> entities, Duration ttl) {
+        getManager().put(entities, ttl);
+        identityMap().ifPresent(IdentityMap::clear);
+        return entities;
+    }
+
+    /**
+     * Returns the {@link UnitOfWork} of the current thread, the templates of a CDI container override it to also
+     * resolve the one of the current request.
+     *
+     * @return the {@link UnitOfWork} or {@link Optional#empty()} when there is none
+     */
+    protected Optional<UnitOfWork> getUnitOfWork() {
+        return UnitOfWork.current();
+    }
+
+    private Optional<IdentityMap> identityMap() {
+        return getUnitOfWork().map(u -> u.identityMap(this));
+    }
 }
@@ -21,6 +21,10 @@ import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.mapping.Database;
 import org.eclipse.jnosql.mapping.DatabaseType;
+import org.eclipse.jnosql.mapping.UnitOfWork;
+import org.eclipse.jnosql.mapping.UnitOfWorkResolver;
+
+import java.util.Optional;
 
 @Default
 @Database(DatabaseType.KEY_VALUE)
@@ -35,15 +39,19 @@ class DefaultKeyValueTemplate extends AbstractKeyValueTemplate {
 
     private KeyValueEventPersistManager eventManager;
 
+    private UnitOfWorkResolver units;
+
     @Inject
     DefaultKeyValueTemplate(KeyValueEntityConverter converter,
                             Instance<BucketManager> manager,
                             KeyValueWorkflow flow,
-                            KeyValueEventPersistManager eventManager) {
+                            KeyValueEventPersistManager eventManager,
+                            UnitOfWorkResolver units) {
         this.converter = converter;
         this.manager = manager;
         this.flow = flow;
         this.eventManager = eventManager;
+        this.units = units;
     }
 
     DefaultKeyValueTemplate() {
@@ -69,4 +77,9 @@ class DefaultKeyValueTemplate extends AbstractKeyValueTemplate {
         return eventManager;
     }
 
+    @Override
+    protected Optional<UnitOfWork> getUnitOfWork() {
+        return units.current();
+    }
+
 }
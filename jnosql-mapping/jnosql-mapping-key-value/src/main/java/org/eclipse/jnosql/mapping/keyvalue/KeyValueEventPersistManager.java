@@ -17,8 +17,10 @@ package org.eclipse.jnosql.mapping.keyvalue;
 
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.mapping.EntityPostPersist;
 import org.eclipse.jnosql.mapping.EntityPrePersist;
@@ -44,6 +46,37 @@ public class KeyValueEventPersistManager {
     @Inject
     private Event<EntityKeyValuePostPersist> entityKeyValuePostPersist;
 
+    @Inject
+    private BeanManager beanManager;
+
+    private boolean keyValueEntityPrePersistEventObserved = true;
+
+    private boolean keyValueEntityPostPersistEventObserved = true;
+
+    private boolean entityPrePersistEventObserved = true;
+
+    private boolean entityPostPersistEventObserved = true;
+
+    private boolean entityKeyValuePrePersistObserved = true;
+
+    private boolean entityKeyValuePostPersistObserved = true;
+
+    /**
+     * Resolves, once, which events have observers, thus, the events without observers are neither created nor
+     * fired.
+     */
+    @PostConstruct
+    void init() {
+        KeyValueEntity entity = KeyValueEntity.of("observer", "observer");
+        Object object = new Object();
+        this.keyValueEntityPrePersistEventObserved = isObserved(new KeyValueEntityPrePersist(entity));
+        this.keyValueEntityPostPersistEventObserved = isObserved(new KeyValueEntityPostPersist(entity));
+        this.entityPrePersistEventObserved = isObserved(EntityPrePersist.of(object));
+        this.entityPostPersistEventObserved = isObserved(EntityPostPersist.of(object));
+        this.entityKeyValuePrePersistObserved = isObserved(new EntityKeyValuePrePersist(object));
+        this.entityKeyValuePostPersistObserved = isObserved(new EntityKeyValuePostPersist(object));
+    }
+
 
     /**
      * Fire an event after the conversion of the entity to communication API model.
@@ -51,7 +84,9 @@ public class KeyValueEventPersistManager {
      * @param entity the entity
      */
     public void firePreKeyValue(KeyValueEntity entity) {
-        keyValueEntityPrePersistEvent.fire(new KeyValueEntityPrePersist(entity));
+        if (keyValueEntityPrePersistEventObserved) {
+            keyValueEntityPrePersistEvent.fire(new KeyValueEntityPrePersist(entity));
+        }
     }
 
     /**
@@ -60,7 +95,9 @@ public class KeyValueEventPersistManager {
      * @param entity the entity
      */
     public void firePostKeyValue(KeyValueEntity entity) {
-        keyValueEntityPostPersistEvent.fire(new KeyValueEntityPostPersist(entity));
+        if (keyValueEntityPostPersistEventObserved) {
+            keyValueEntityPostPersistEvent.fire(new KeyValueEntityPostPersist(entity));
+        }
     }
 
     /**
@@ -70,7 +107,9 @@ public class KeyValueEventPersistManager {
      * @param <T>    the entity type
      */
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (entityPrePersistEventObserved) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     /**
@@ -81,7 +120,9 @@ public class KeyValueEventPersistManager {
      * @param <T>    the entity kind
      */
     public <T> void firePostEntity(T entity) {
-        entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        if (entityPostPersistEventObserved) {
+            entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        }
     }
 
     /**
@@ -91,7 +132,9 @@ public class KeyValueEventPersistManager {
      * @param <T>    the entity type
      */
     public <T> void firePreKeyValueEntity(T entity) {
-        entityKeyValuePrePersist.fire(new EntityKeyValuePrePersist(entity));
+        if (entityKeyValuePrePersistObserved) {
+            entityKeyValuePrePersist.fire(new EntityKeyValuePrePersist(entity));
+        }
     }
     /**
      * Fire the last event
@@ -100,6 +143,12 @@ public class KeyValueEventPersistManager {
      * @param <T>    the entity kind
      */
     public <T> void firePostKeyValueEntity(T entity) {
-        entityKeyValuePostPersist.fire(new EntityKeyValuePostPersist(entity));
+        if (entityKeyValuePostPersistObserved) {
+            entityKeyValuePostPersist.fire(new EntityKeyValuePostPersist(entity));
+        }
+    }
+
+    private boolean isObserved(Object event) {
+        return !beanManager.resolveObserverMethods(event).isEmpty();
     }
 }
@@ -21,8 +21,11 @@ import jakarta.enterprise.inject.Vetoed;
 import jakarta.inject.Inject;
 import jakarta.nosql.keyvalue.KeyValueTemplate;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.mapping.UnitOfWork;
+import org.eclipse.jnosql.mapping.UnitOfWorkResolver;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 
 
@@ -40,10 +43,13 @@ public class KeyValueTemplateProducer implements Function<BucketManager, KeyValu
     @Inject
     private KeyValueEventPersistManager eventManager;
 
+    @Inject
+    private UnitOfWorkResolver units;
+
     @Override
     public KeyValueTemplate apply(BucketManager manager) {
         Objects.requireNonNull(manager, "manager is required");
-        return new ProducerKeyValueTemplate(converter, flow, manager, eventManager);
+        return new ProducerKeyValueTemplate(converter, flow, manager, eventManager, units);
     }
 
     @Vetoed
@@ -57,12 +63,16 @@ public class KeyValueTemplateProducer implements Function<BucketManager, KeyValu
 
         private KeyValueEventPersistManager eventManager;
 
+        private UnitOfWorkResolver units;
+
         ProducerKeyValueTemplate(KeyValueEntityConverter converter, KeyValueWorkflow flow,
-                                 BucketManager manager, KeyValueEventPersistManager eventManager) {
+                                 BucketManager manager, KeyValueEventPersistManager eventManager,
+                                 UnitOfWorkResolver units) {
             this.converter = converter;
             this.flow = flow;
             this.manager = manager;
             this.eventManager = eventManager;
+            this.units = units;
         }
 
         ProducerKeyValueTemplate() {
@@ -87,5 +97,10 @@ public class KeyValueTemplateProducer implements Function<BucketManager, KeyValu
         protected KeyValueEventPersistManager getEventManager() {
             return eventManager;
         }
+
+        @Override
+        protected Optional<UnitOfWork> getUnitOfWork() {
+            return units.current();
+        }
     }
 }
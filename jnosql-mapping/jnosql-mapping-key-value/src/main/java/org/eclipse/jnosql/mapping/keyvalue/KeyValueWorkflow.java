@@ -15,7 +15,11 @@
 package org.eclipse.jnosql.mapping.keyvalue;
 
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.mapping.config.BatchSize;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -34,6 +38,8 @@ import java.util.function.UnaryOperator;
  */
 public abstract class KeyValueWorkflow {
 
+    private final int batchSize = BatchSize.get().orElse(Integer.MAX_VALUE);
+
     protected abstract KeyValueEventPersistManager getEventManager();
 
 
@@ -50,61 +56,77 @@ public abstract class KeyValueWorkflow {
      * @see jakarta.nosql.keyvalue.KeyValueTemplate#put(Object, java.time.Duration)  {@link jakarta.nosql.keyvalue.KeyValueTemplate#put(Object)}
      * DocumentTemplate#update(Object)
      */
+    @SuppressWarnings("unchecked")
     public <T> T flow(T entity, UnaryOperator<KeyValueEntity> action) {
-
-        Function<T, T> flow = getFlow(entity, action);
-
-        return flow.apply(entity);
-
+        Objects.requireNonNull(entity, "entity is required");
+        KeyValueEventPersistManager eventManager = getEventManager();
+        eventManager.firePreEntity(entity);
+        eventManager.firePreKeyValueEntity(entity);
+        KeyValueEntity keyValue = getConverter().toKeyValue(entity);
+        eventManager.firePreKeyValue(keyValue);
+        KeyValueEntity result = action.apply(keyValue);
+        eventManager.firePostKeyValue(result);
+        T updated = getConverter().toEntity((Class<T>) entity.getClass(), result);
+        eventManager.firePostEntity(updated);
+        eventManager.firePostKeyValueEntity(updated);
+        return updated;
     }
 
-    private <T> Function<T, T> getFlow(T entity, UnaryOperator<KeyValueEntity> action) {
-        UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
-
-        UnaryOperator<T> firePreEntity = t -> {
-            getEventManager().firePreEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePreKeyValueEntity = t -> {
-            getEventManager().firePreKeyValueEntity(t);
-            return t;
-        };
-
-        Function<T, KeyValueEntity> convertKeyValue = t -> getConverter().toKeyValue(t);
-
-        UnaryOperator<KeyValueEntity> firePreDocument = t -> {
-            getEventManager().firePreKeyValue(t);
-            return t;
-        };
-
-        UnaryOperator<KeyValueEntity> firePostDocument = t -> {
-            getEventManager().firePostKeyValue(t);
-            return t;
-        };
-
-        Function<KeyValueEntity, T> converterEntity = t -> getConverter().toEntity((Class<T>) entity.getClass(), t);
-
-        UnaryOperator<T> firePostEntity = t -> {
-            getEventManager().firePostEntity(t);
-            return t;
-        };
-
-        UnaryOperator<T> firePostKeyValueEntity = t -> {
-            getEventManager().firePostKeyValueEntity(t);
-            return t;
-        };
-
+    /**
+     * Executes the workflow to a bulk interaction on the database: it fires the events of each entity, as
+     * {@link KeyValueWorkflow#flow(Object, UnaryOperator)} does, but the action receives the key-value entities of up to
+     * {@link org.eclipse.jnosql.mapping.config.MappingConfigurations#BATCH_SIZE} entities at once, or of all of them
+     * when it is not defined, and it should return them in the same order.
+     *
+     * @param entities the entities to be saved
+     * @param action   the alteration to be executed on database to each batch
+     * @param <T>      the entity type
+     * @return after the workflow the entities response, in the same order
+     * @throws NullPointerException  when either entities, an entity or action is null
+     * @throws IllegalStateException when the action returns fewer entities than it has received
+     */
+    public <T> List<T> flowAll(Iterable<T> entities, Function<List<KeyValueEntity>, Iterable<KeyValueEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+        KeyValueEventPersistManager eventManager = getEventManager();
+        List<T> updated = new ArrayList<>();
+        List<T> batch = new ArrayList<>();
+        List<KeyValueEntity> keyValues = new ArrayList<>();
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            eventManager.firePreEntity(entity);
+            eventManager.firePreKeyValueEntity(entity);
+            KeyValueEntity keyValue = getConverter().toKeyValue(entity);
+            eventManager.firePreKeyValue(keyValue);
+            batch.add(entity);
+            keyValues.add(keyValue);
+            if (batch.size() == batchSize) {
+                flow(batch, action.apply(keyValues), updated);
+                batch = new ArrayList<>();
+                keyValues = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flow(batch, action.apply(keyValues), updated);
+        }
+        return updated;
+    }
 
-        return validation
-                .andThen(firePreEntity)
-                .andThen(firePreKeyValueEntity)
-                .andThen(convertKeyValue)
-                .andThen(firePreDocument)
-                .andThen(action)
-                .andThen(firePostDocument)
-                .andThen(converterEntity)
-                .andThen(firePostEntity)
-                .andThen(firePostKeyValueEntity);
+    @SuppressWarnings("unchecked")
+    private <T> void flow(List<T> batch, Iterable<KeyValueEntity> responses, List<T> updated) {
+        KeyValueEventPersistManager eventManager = getEventManager();
+        Iterator<KeyValueEntity> iterator = responses.iterator();
+        for (T entity : batch) {
+            if (!iterator.hasNext()) {
+                throw new IllegalStateException("The database has returned fewer entities than it has received: "
+                        + batch.size());
+            }
+            KeyValueEntity response = iterator.next();
+            eventManager.firePostKeyValue(response);
+            T result = getConverter().toEntity((Class<T>) entity.getClass(), response);
+            eventManager.firePostEntity(result);
+            eventManager.firePostKeyValueEntity(result);
+            updated.add(result);
+        }
     }
-}
\ No newline at end of file
+}
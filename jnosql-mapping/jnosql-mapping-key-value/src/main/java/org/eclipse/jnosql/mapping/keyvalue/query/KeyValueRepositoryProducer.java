@@ -21,8 +21,8 @@ import jakarta.inject.Inject;
 import jakarta.nosql.keyvalue.KeyValueTemplate;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.mapping.keyvalue.KeyValueTemplateProducer;
+import org.eclipse.jnosql.mapping.reflection.GeneratedRepositories;
 
-import java.lang.reflect.Proxy;
 import java.util.Objects;
 
 @ApplicationScoped
@@ -43,8 +43,6 @@ public class KeyValueRepositoryProducer {
         Objects.requireNonNull(template, "template class is required");
 
         KeyValueRepositoryProxy<T> handler = new KeyValueRepositoryProxy<>(repositoryClass, template);
-        return (R) Proxy.newProxyInstance(repositoryClass.getClassLoader(),
-                new Class[]{repositoryClass},
-                handler);
+        return (R) GeneratedRepositories.INSTANCE.newInstance(repositoryClass, handler);
     }
 }
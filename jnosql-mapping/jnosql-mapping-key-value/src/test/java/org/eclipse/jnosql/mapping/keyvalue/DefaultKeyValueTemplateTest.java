@@ -24,6 +24,9 @@ import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import org.eclipse.jnosql.communication.keyvalue.KeyValuePreparedStatement;
 import org.eclipse.jnosql.mapping.Convert;
+import org.eclipse.jnosql.mapping.UnitOfWork;
+import org.eclipse.jnosql.mapping.UnitOfWorkResolver;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
 import org.eclipse.jnosql.mapping.keyvalue.spi.KeyValueExtension;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
 import org.eclipse.jnosql.mapping.test.entities.Person;
@@ -77,12 +80,18 @@ public class DefaultKeyValueTemplateTest {
     @Inject
     private KeyValueEventPersistManager eventManager;
 
+    @Inject
+    private UnitOfWorkResolver units;
+
     @Mock
     private BucketManager manager;
 
     @Captor
     private ArgumentCaptor<KeyValueEntity> captor;
 
+    @Captor
+    private ArgumentCaptor<Iterable<KeyValueEntity>> entitiesCaptor;
+
     private KeyValueTemplate template;
 
 
@@ -90,7 +99,7 @@ public class DefaultKeyValueTemplateTest {
     public void setUp() {
         Instance<BucketManager> instance = Mockito.mock(Instance.class);
         when(instance.get()).thenReturn(manager);
-        this.template = new DefaultKeyValueTemplate(converter, instance, flow, eventManager);
+        this.template = new DefaultKeyValueTemplate(converter, instance, flow, eventManager, units);
     }
 
     @Test
@@ -161,8 +170,8 @@ public class DefaultKeyValueTemplateTest {
     public void shouldInsertIterable() {
         User user = new User(KEY, "otavio", 27);
         template.insert(singletonList(user));
-        Mockito.verify(manager).put(captor.capture());
-        KeyValueEntity entity = captor.getValue();
+        Mockito.verify(manager).put(entitiesCaptor.capture());
+        KeyValueEntity entity = entitiesCaptor.getValue().iterator().next();
         assertEquals(KEY, entity.key());
         assertEquals(user, entity.value());
     }
@@ -187,8 +196,8 @@ public class DefaultKeyValueTemplateTest {
         User user = new User(KEY, "otavio", 27);
         template.insert(singletonList(user), duration);
 
-        Mockito.verify(manager).put(captor.capture(), Mockito.eq(duration));
-        KeyValueEntity entity = captor.getValue();
+        Mockito.verify(manager).put(entitiesCaptor.capture(), Mockito.eq(duration));
+        KeyValueEntity entity = entitiesCaptor.getValue().iterator().next();
         assertEquals(KEY, entity.key());
         assertEquals(user, entity.value());
     }
@@ -207,12 +216,33 @@ public class DefaultKeyValueTemplateTest {
     public void shouldUpdateIterable() {
         User user = new User(KEY, "otavio", 27);
         template.update(singletonList(user));
-        Mockito.verify(manager).put(captor.capture());
-        KeyValueEntity entity = captor.getValue();
+        Mockito.verify(manager).put(entitiesCaptor.capture());
+        KeyValueEntity entity = entitiesCaptor.getValue().iterator().next();
         assertEquals(KEY, entity.key());
         assertEquals(user, entity.value());
     }
 
+    @Test
+    public void shouldInsertIterableInBatches() {
+        System.setProperty(MappingConfigurations.BATCH_SIZE.get(), "2");
+        try {
+            Instance<BucketManager> instance = Mockito.mock(Instance.class);
+            when(instance.get()).thenReturn(manager);
+            template = new DefaultKeyValueTemplate(converter, instance, new DefaultKeyValueWorkflow(eventManager, converter), eventManager, units);
+        } finally {
+            System.clearProperty(MappingConfigurations.BATCH_SIZE.get());
+        }
+        List<User> users = List.of(new User("ada", "Ada", 36), new User("alan", "Alan", 41),
+                new User("grace", "Grace", 85));
+
+        Iterable<User> result = template.insert(users);
+
+        assertThat(result).containsExactlyElementsOf(users);
+        Mockito.verify(manager, Mockito.times(2)).put(entitiesCaptor.capture());
+        assertThat(entitiesCaptor.getAllValues().get(0)).hasSize(2);
+        assertThat(entitiesCaptor.getAllValues().get(1)).hasSize(1);
+    }
+
     @Test
     public void shouldGet() {
         User user = new User(KEY, "otavio", 27);
@@ -224,6 +254,28 @@ public class DefaultKeyValueTemplateTest {
         assertEquals(user, userOptional.get());
     }
 
+    @Test
+    public void shouldGetFromIdentityMap() {
+        User user = new User(KEY, "otavio", 27);
+        when(manager.get(KEY)).thenReturn(Optional.of(Value.of(user)));
+
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            User first = template.get(KEY, User.class).orElseThrow();
+            assertSame(first, template.find(User.class, KEY).orElseThrow());
+            Mockito.verify(manager, Mockito.times(1)).get(KEY);
+
+            template.put(user);
+            template.get(KEY, User.class).orElseThrow();
+            Mockito.verify(manager, Mockito.times(2)).get(KEY);
+
+            template.delete(KEY);
+            template.get(KEY, User.class).orElseThrow();
+            Mockito.verify(manager, Mockito.times(3)).get(KEY);
+        }
+        template.get(KEY, User.class);
+        Mockito.verify(manager, Mockito.times(4)).get(KEY);
+    }
+
     @Test
     public void shouldFindById() {
         User user = new User(KEY, "otavio", 27);
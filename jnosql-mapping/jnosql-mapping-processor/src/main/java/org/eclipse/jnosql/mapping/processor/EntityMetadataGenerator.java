@@ -0,0 +1,296 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Generates the source of a {@code GeneratedEntityMetadata} following the same rules of the reflection based
+ * {@code ClassConverter}: the entity name, the fields annotated with either Column or Id, including the mapped
+ * superclass fields, and the accessors. The fields are accessed directly when they are visible from the entity
+ * package; the remaining ones are left to the field reader and writer of the mapping, as the bean methods might
+ * either have side effects or not match the field.
+ */
+class EntityMetadataGenerator {
+
+    static final String SUFFIX = "_JNoSQLEntityMetadata";
+
+    private static final String COLUMN = "jakarta.nosql.Column";
+
+    private static final String ID = "jakarta.nosql.Id";
+
+    private static final String INHERITANCE = "org.eclipse.jnosql.mapping.Inheritance";
+
+    private static final String MAPPED_SUPERCLASS = "org.eclipse.jnosql.mapping.MappedSuperclass";
+
+    private static final String GENERATED = "javax.annotation.processing.Generated";
+
+    private static final String FIELD_METADATA = "org.eclipse.jnosql.mapping.reflection.GeneratedFieldMetadata";
+
+    private static final String INDENT = "    ";
+
+    private final Elements elements;
+
+    private final Types types;
+
+    EntityMetadataGenerator(ProcessingEnvironment environment) {
+        this.elements = environment.getElementUtils();
+        this.types = environment.getTypeUtils();
+    }
+
+    /**
+     * The qualified name of the generated class
+     *
+     * @param type the entity
+     * @return the class name
+     */
+    String className(TypeElement type) {
+        PackageElement packageElement = elements.getPackageOf(type);
+        String simpleName = simpleName(type);
+        if (packageElement.isUnnamed()) {
+            return simpleName;
+        }
+        return packageElement.getQualifiedName() + "." + simpleName;
+    }
+
+    /**
+     * Generates the source of the entity metadata
+     *
+     * @param type the entity
+     * @return the source or {@link Optional#empty()} when the entity is not visible from its package
+     */
+    Optional<String> generate(TypeElement type) {
+        PackageElement packageElement = elements.getPackageOf(type);
+        if (!isTypeVisible(type, packageElement)) {
+            return Optional.empty();
+        }
+        List<VariableElement> fields = fields(type);
+        for (VariableElement field : fields) {
+            if (!isTypeVisible((TypeElement) field.getEnclosingElement(), packageElement)) {
+                return Optional.empty();
+            }
+        }
+        String entity = qualifiedName(type);
+        StringBuilder source = new StringBuilder();
+        if (!packageElement.isUnnamed()) {
+            source.append("package ").append(packageElement.getQualifiedName()).append(";\n\n");
+        }
+        if (elements.getTypeElement(GENERATED) != null) {
+            source.append('@').append(GENERATED).append("(\"").append(EntityProcessor.class.getName())
+                    .append("\")\n");
+        }
+        source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(simpleName(type)).append(" implements ")
+                .append(EntityProcessor.GENERATED_ENTITY).append(" {\n\n");
+
+        source.append(INDENT).append("private static final java.util.List<").append(FIELD_METADATA)
+                .append("> FIELDS = java.util.List.of(");
+        for (int index = 0; index < fields.size(); index++) {
+            source.append(index == 0 ? "\n" : ",\n");
+            appendField(source, type, fields.get(index), packageElement);
+        }
+        source.append(");\n\n");
+
+        appendMethod(source, "Class<?>", "type", entity + ".class");
+        appendMethod(source, "String", "name", literal(entityName(type)));
+        appendMethod(source, "java.util.Optional<org.eclipse.jnosql.mapping.reflection.InstanceSupplier>",
+                "instanceSupplier", hasVisibleConstructor(type, packageElement)
+                        ? "java.util.Optional.of(" + entity + "::new)" : "java.util.Optional.empty()");
+        appendMethod(source, "java.util.List<" + FIELD_METADATA + ">", "fields", "FIELDS");
+        source.setLength(source.length() - 1);
+        source.append("}\n");
+        return Optional.of(source.toString());
+    }
+
+    private void appendField(StringBuilder source, TypeElement type, VariableElement field,
+                             PackageElement packageElement) {
+        String entity = qualifiedName(type);
+        String fieldName = field.getSimpleName().toString();
+        boolean id = annotation(field, ID).isPresent();
+        String name = annotation(field, id ? ID : COLUMN).map(this::value)
+                .filter(v -> !v.isBlank()).orElse(fieldName);
+        String bean = "((" + entity + ") bean)";
+        String reader = "null";
+        String writer = "null";
+        TypeMirror fieldType = field.asType();
+        Optional<String> castType = castType(fieldType, packageElement);
+        boolean visible = isVisible(field, packageElement);
+        if (visible) {
+            reader = "bean -> " + bean + '.' + fieldName;
+            if (castType.isPresent() && !field.getModifiers().contains(Modifier.FINAL)) {
+                writer = "(bean, value) -> " + bean + '.' + fieldName + " = (" + castType.get() + ") value";
+            }
+        }
+        String indent = INDENT.repeat(3);
+        source.append(INDENT.repeat(2)).append(FIELD_METADATA).append(".of(")
+                .append(qualifiedName((TypeElement) field.getEnclosingElement())).append(".class, ")
+                .append(literal(fieldName)).append(", ").append(literal(name)).append(", ").append(id).append(",\n")
+                .append(indent).append(reader).append(",\n")
+                .append(indent).append(writer).append(')');
+    }
+
+    private void appendMethod(StringBuilder source, String returnType, String name, String value) {
+        source.append(INDENT).append("@Override\n")
+                .append(INDENT).append("public ").append(returnType).append(' ').append(name).append("() {\n")
+                .append(INDENT.repeat(2)).append("return ").append(value).append(";\n")
+                .append(INDENT).append("}\n\n");
+    }
+
+    private List<VariableElement> fields(TypeElement type) {
+        List<VariableElement> fields = new ArrayList<>();
+        superclass(type).filter(s -> annotation(s, MAPPED_SUPERCLASS).isPresent()
+                        || annotation(s, INHERITANCE).isPresent())
+                .ifPresent(s -> fields.addAll(fields(s)));
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (annotation(field, COLUMN).isPresent() || annotation(field, ID).isPresent()) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private String entityName(TypeElement type) {
+        Optional<TypeElement> parent = superclass(type).filter(s -> annotation(s, INHERITANCE).isPresent());
+        TypeElement entity = parent.orElse(type);
+        return annotation(entity, EntityProcessor.ENTITY).map(this::value)
+                .filter(v -> !v.isBlank())
+                .orElse(entity.getSimpleName().toString());
+    }
+
+    private boolean hasVisibleConstructor(TypeElement type, PackageElement packageElement) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL && !type.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && isVisible(c, packageElement));
+    }
+
+    private Optional<String> castType(TypeMirror type, PackageElement packageElement) {
+        TypeMirror erasure = types.erasure(type);
+        if (erasure.getKind().isPrimitive()) {
+            return Optional.of(types.boxedClass(types.getPrimitiveType(erasure.getKind()))
+                    .getQualifiedName().toString());
+        } else if (erasure.getKind() == TypeKind.ARRAY) {
+            return castType(((ArrayType) erasure).getComponentType(), packageElement).map(c -> c + "[]");
+        } else if (erasure.getKind() == TypeKind.DECLARED) {
+            TypeElement element = (TypeElement) ((DeclaredType) erasure).asElement();
+            if (isTypeVisible(element, packageElement)) {
+                return Optional.of(qualifiedName(element));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean isTypeVisible(TypeElement type, PackageElement packageElement) {
+        Element element = type;
+        while (element instanceof TypeElement) {
+            if (!isVisible(element, packageElement)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private boolean isVisible(Element element, PackageElement packageElement) {
+        if (element.getModifiers().contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        return !element.getModifiers().contains(Modifier.PRIVATE)
+                && elements.getPackageOf(element).equals(packageElement);
+    }
+
+    private Optional<TypeElement> superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return Optional.empty();
+        }
+        return Optional.of((TypeElement) ((DeclaredType) superclass).asElement());
+    }
+
+    private Optional<? extends AnnotationMirror> annotation(Element element, String name) {
+        return element.getAnnotationMirrors().stream()
+                .filter(a -> ((TypeElement) a.getAnnotationType().asElement()).getQualifiedName().contentEquals(name))
+                .findFirst();
+    }
+
+    private String value(AnnotationMirror annotation) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : elements.getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                return String.valueOf(entry.getValue().getValue());
+            }
+        }
+        return "";
+    }
+
+    private String qualifiedName(TypeElement type) {
+        return type.getQualifiedName().toString();
+    }
+
+    private String simpleName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing.getKind() != ElementKind.PACKAGE) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append(SUFFIX).toString();
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char character : value.toCharArray()) {
+            switch (character) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                default:
+                    literal.append(character);
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.FilerException;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The annotation processor that generates, at compile time, a
+ * {@code org.eclipse.jnosql.mapping.reflection.GeneratedEntityMetadata} for each class annotated with either
+ * {@code jakarta.nosql.Entity} or {@code org.eclipse.jnosql.mapping.Embeddable}, and registers them at
+ * {@code META-INF/services}, so the mapping reads them instead of the annotations at runtime.
+ * It also writes the entities index, {@code META-INF/jnosql/entities.idx}, with the entities, embeddables and
+ * repositories of the compilation, so the mapping does not scan the classpath when {@code jnosql.scanner.index} is
+ * enabled, and generates an implementation to each repository,
+ * registered as a {@code org.eclipse.jnosql.mapping.reflection.GeneratedRepository}, so the mapping does not create
+ * a {@link java.lang.reflect.Proxy} to them.
+ */
+@SupportedAnnotationTypes({EntityProcessor.ENTITY, EntityProcessor.EMBEDDABLE, EntityProcessor.REPOSITORY})
+public class EntityProcessor extends AbstractProcessor {
+
+    static final String ENTITY = "jakarta.nosql.Entity";
+
+    static final String EMBEDDABLE = "org.eclipse.jnosql.mapping.Embeddable";
+
+    static final String REPOSITORY = "jakarta.data.repository.Repository";
+
+    static final String GENERATED_ENTITY = "org.eclipse.jnosql.mapping.reflection.GeneratedEntityMetadata";
+
+    static final String GENERATED_REPOSITORY = "org.eclipse.jnosql.mapping.reflection.GeneratedRepository";
+
+    static final String INDEX = "META-INF/jnosql/entities.idx";
+
+    private static final String SERVICE = "META-INF/services/" + GENERATED_ENTITY;
+
+    private static final String REPOSITORY_SERVICE = "META-INF/services/" + GENERATED_REPOSITORY;
+
+    private static final String DATA_REPOSITORY = "jakarta.data.repository.DataRepository";
+
+    private final Set<String> generated = new TreeSet<>();
+
+    private final Set<String> repositories = new TreeSet<>();
+
+    private final Set<String> index = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        if (round.processingOver()) {
+            write(SERVICE, generated);
+            write(REPOSITORY_SERVICE, repositories);
+            write(INDEX, index);
+            return false;
+        }
+        if (annotations.isEmpty()) {
+            return false;
+        }
+        index(annotations, round);
+        if (processingEnv.getElementUtils().getTypeElement(GENERATED_ENTITY) == null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "The jnosql-mapping-core is not "
+                    + "at the classpath, the entity metadata will not be generated");
+            return false;
+        }
+        EntityMetadataGenerator generator = new EntityMetadataGenerator(processingEnv);
+        RepositoryGenerator repositoryGenerator = new RepositoryGenerator(processingEnv);
+        boolean generateRepositories = processingEnv.getElementUtils().getTypeElement(GENERATED_REPOSITORY) != null;
+        for (TypeElement annotation : annotations) {
+            if (annotation.getQualifiedName().contentEquals(REPOSITORY)) {
+                for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                    if (generateRepositories && isDataRepository(element)) {
+                        generate(repositoryGenerator, (TypeElement) element);
+                    }
+                }
+                continue;
+            }
+            for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS) {
+                    generate(generator, (TypeElement) element);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void generate(RepositoryGenerator generator, TypeElement type) {
+        Optional<String> source = generator.generate(type);
+        if (source.isEmpty()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "The repository is not accessible from "
+                    + "generated code, it will use a proxy", type);
+            return;
+        }
+        String className = generator.className(type);
+        if (!repositories.add(className + '$' + RepositoryGenerator.FACTORY)) {
+            return;
+        }
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(className, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.get());
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Error generating the repository: "
+                    + exception.getMessage(), type);
+        }
+    }
+
+    private void generate(EntityMetadataGenerator generator, TypeElement type) {
+        Optional<String> source = generator.generate(type);
+        if (source.isEmpty()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "The entity is not accessible from "
+                    + "generated code, it will use reflection", type);
+            return;
+        }
+        String className = generator.className(type);
+        if (!generated.add(className)) {
+            return;
+        }
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(className, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.get());
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Error generating the entity metadata: "
+                    + exception.getMessage(), type);
+        }
+    }
+
+    private void index(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        Elements elements = processingEnv.getElementUtils();
+        for (TypeElement annotation : annotations) {
+            Name name = annotation.getQualifiedName();
+            for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                String binaryName = elements.getBinaryName((TypeElement) element).toString();
+                if (name.contentEquals(ENTITY) && element.getKind() == ElementKind.CLASS) {
+                    index.add("entity=" + binaryName);
+                } else if (name.contentEquals(EMBEDDABLE) && element.getKind() == ElementKind.CLASS) {
+                    index.add("embeddable=" + binaryName);
+                } else if (name.contentEquals(REPOSITORY) && isDataRepository(element)) {
+                    index.add("repository=" + binaryName);
+                }
+            }
+        }
+    }
+
+    private boolean isDataRepository(Element element) {
+        Types types = processingEnv.getTypeUtils();
+        TypeElement dataRepository = processingEnv.getElementUtils().getTypeElement(DATA_REPOSITORY);
+        return element.getKind() == ElementKind.INTERFACE && dataRepository != null
+                && types.isAssignable(types.erasure(element.asType()), types.erasure(dataRepository.asType()));
+    }
+
+    private void write(String resource, Set<String> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        Filer filer = processingEnv.getFiler();
+        Set<String> content = new TreeSet<>(lines);
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", resource);
+            try (Writer writer = file.openWriter()) {
+                for (String line : content) {
+                    writer.write(line);
+                    writer.write(System.lineSeparator());
+                }
+            }
+        } catch (FilerException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "The file was already written: "
+                    + resource + ' ' + exception.getMessage());
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Error writing the file: "
+                    + resource + ' ' + exception.getMessage());
+        }
+    }
+}
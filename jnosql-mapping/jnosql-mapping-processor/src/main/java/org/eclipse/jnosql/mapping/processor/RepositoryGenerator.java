@@ -0,0 +1,328 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.IntersectionType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the source of a repository implementation: a final class that implements each abstract method of the
+ * repository interface calling the {@code java.lang.reflect.InvocationHandler} of the mapping, as the
+ * {@code java.lang.reflect.Proxy} does, with the {@code java.lang.reflect.Method} instances resolved once at the
+ * class initialization. As the proxy, it also calls the handler with the {@link Object} methods at the
+ * {@code equals}, {@code hashCode} and {@code toString}. The default methods are inherited as they are. It also generates the nested
+ * {@code GeneratedRepository} factory that the mapping loads with the {@link java.util.ServiceLoader}.
+ */
+class RepositoryGenerator {
+
+    static final String SUFFIX = "_JNoSQLRepository";
+
+    static final String FACTORY = "Factory";
+
+    private static final String GENERATED = "javax.annotation.processing.Generated";
+
+    private static final String HANDLER = "java.lang.reflect.InvocationHandler";
+
+    private static final String METHOD = "java.lang.reflect.Method";
+
+    private static final String OBJECT = "java.lang.Object";
+
+    private static final String INDENT = "    ";
+
+    private final Elements elements;
+
+    private final Types types;
+
+    RepositoryGenerator(ProcessingEnvironment environment) {
+        this.elements = environment.getElementUtils();
+        this.types = environment.getTypeUtils();
+    }
+
+    /**
+     * The qualified name of the generated class
+     *
+     * @param type the repository
+     * @return the class name
+     */
+    String className(TypeElement type) {
+        PackageElement packageElement = elements.getPackageOf(type);
+        String simpleName = simpleName(type);
+        if (packageElement.isUnnamed()) {
+            return simpleName;
+        }
+        return packageElement.getQualifiedName() + "." + simpleName;
+    }
+
+    /**
+     * Generates the source of the repository implementation
+     *
+     * @param type the repository
+     * @return the source or {@link Optional#empty()} when either the repository or a type of its methods is not
+     * visible from its package, the repository is generic or a method declares a checked exception
+     */
+    Optional<String> generate(TypeElement type) {
+        PackageElement packageElement = elements.getPackageOf(type);
+        if (!isTypeVisible(type, packageElement) || !type.getTypeParameters().isEmpty()) {
+            return Optional.empty();
+        }
+        DeclaredType repository = (DeclaredType) type.asType();
+        List<ExecutableElement> methods = ElementFilter.methodsIn(elements.getAllMembers(type)).stream()
+                .filter(m -> m.getModifiers().contains(Modifier.ABSTRACT))
+                .filter(m -> m.getEnclosingElement().getKind() == ElementKind.INTERFACE)
+                .filter(m -> !isObjectMethod(m))
+                .collect(Collectors.toList());
+        List<ExecutableType> signatures = new ArrayList<>();
+        for (ExecutableElement method : methods) {
+            ExecutableType signature = (ExecutableType) types.asMemberOf(repository, method);
+            if (!method.getThrownTypes().isEmpty() || !isVisible(signature, packageElement)) {
+                return Optional.empty();
+            }
+            signatures.add(signature);
+        }
+        String repositoryName = type.getQualifiedName().toString();
+        String simpleName = simpleName(type);
+        StringBuilder source = new StringBuilder();
+        if (!packageElement.isUnnamed()) {
+            source.append("package ").append(packageElement.getQualifiedName()).append(";\n\n");
+        }
+        if (elements.getTypeElement(GENERATED) != null) {
+            source.append('@').append(GENERATED).append("(\"").append(EntityProcessor.class.getName())
+                    .append("\")\n");
+        }
+        source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(simpleName).append(" implements ").append(repositoryName)
+                .append(" {\n\n");
+
+        source.append(INDENT).append("private static final ").append(METHOD).append("[] METHODS = {");
+        for (ExecutableElement method : methods) {
+            appendLookup(source, repositoryName, method);
+            source.append(",\n");
+        }
+        source.append(INDENT.repeat(2)).append("method(").append(OBJECT).append(".class, \"hashCode\"),\n")
+                .append(INDENT.repeat(2)).append("method(").append(OBJECT).append(".class, \"equals\", ")
+                .append(OBJECT).append(".class),\n")
+                .append(INDENT.repeat(2)).append("method(").append(OBJECT).append(".class, \"toString\")};\n\n");
+
+        source.append(INDENT).append("private final ").append(HANDLER).append(" handler;\n\n")
+                .append(INDENT).append(simpleName).append('(').append(HANDLER).append(" handler) {\n")
+                .append(INDENT.repeat(2)).append("this.handler = handler;\n")
+                .append(INDENT).append("}\n\n");
+
+        for (int index = 0; index < methods.size(); index++) {
+            appendMethod(source, index, methods.get(index), signatures.get(index));
+        }
+        int objectIndex = methods.size();
+        source.append(INDENT).append("@Override\n")
+                .append(INDENT).append("public int hashCode() {\n")
+                .append(INDENT.repeat(2)).append("return (java.lang.Integer) invoke(").append(objectIndex).append(", null);\n")
+                .append(INDENT).append("}\n\n")
+                .append(INDENT).append("@Override\n")
+                .append(INDENT).append("public boolean equals(").append(OBJECT).append(" arg0) {\n")
+                .append(INDENT.repeat(2)).append("return (java.lang.Boolean) invoke(").append(objectIndex + 1)
+                .append(", new Object[]{arg0});\n")
+                .append(INDENT).append("}\n\n")
+                .append(INDENT).append("@Override\n")
+                .append(INDENT).append("public java.lang.String toString() {\n")
+                .append(INDENT.repeat(2)).append("return (java.lang.String) invoke(").append(objectIndex + 2).append(", null);\n")
+                .append(INDENT).append("}\n\n");
+
+        source.append(INDENT).append("private Object invoke(int index, Object[] args) {\n")
+                .append(INDENT.repeat(2)).append("try {\n")
+                .append(INDENT.repeat(3)).append("return handler.invoke(this, METHODS[index], args);\n")
+                .append(INDENT.repeat(2)).append("} catch (RuntimeException | Error exception) {\n")
+                .append(INDENT.repeat(3)).append("throw exception;\n")
+                .append(INDENT.repeat(2)).append("} catch (Throwable exception) {\n")
+                .append(INDENT.repeat(3)).append("throw new java.lang.reflect.UndeclaredThrowableException(exception);\n")
+                .append(INDENT.repeat(2)).append("}\n")
+                .append(INDENT).append("}\n\n");
+
+        source.append(INDENT).append("private static ").append(METHOD)
+                .append(" method(Class<?> type, String name, Class<?>... parameterTypes) {\n")
+                .append(INDENT.repeat(2)).append("try {\n")
+                .append(INDENT.repeat(3)).append("return type.getMethod(name, parameterTypes);\n")
+                .append(INDENT.repeat(2)).append("} catch (NoSuchMethodException exception) {\n")
+                .append(INDENT.repeat(3)).append("throw new IllegalStateException(\"The generated repository does not match ")
+                .append("the interface, recompile it: \" + ").append(repositoryName).append(".class, exception);\n")
+                .append(INDENT.repeat(2)).append("}\n")
+                .append(INDENT).append("}\n\n");
+
+        source.append(INDENT).append("public static final class ").append(FACTORY).append(" implements ")
+                .append(EntityProcessor.GENERATED_REPOSITORY).append(" {\n\n")
+                .append(INDENT.repeat(2)).append("@Override\n")
+                .append(INDENT.repeat(2)).append("public Class<?> type() {\n")
+                .append(INDENT.repeat(3)).append("return ").append(repositoryName).append(".class;\n")
+                .append(INDENT.repeat(2)).append("}\n\n")
+                .append(INDENT.repeat(2)).append("@Override\n")
+                .append(INDENT.repeat(2)).append("public Object newInstance(").append(HANDLER).append(" handler) {\n")
+                .append(INDENT.repeat(3)).append("return new ").append(simpleName).append("(handler);\n")
+                .append(INDENT.repeat(2)).append("}\n")
+                .append(INDENT).append("}\n")
+                .append("}\n");
+        return Optional.of(source.toString());
+    }
+
+    private void appendLookup(StringBuilder source, String repositoryName, ExecutableElement method) {
+        source.append(INDENT.repeat(2)).append("method(").append(repositoryName).append(".class, \"")
+                .append(method.getSimpleName()).append('"');
+        for (VariableElement parameter : method.getParameters()) {
+            source.append(", ").append(types.erasure(parameter.asType())).append(".class");
+        }
+        source.append(')');
+    }
+
+    private void appendMethod(StringBuilder source, int index, ExecutableElement method, ExecutableType signature) {
+        source.append(INDENT).append("@Override\n").append(INDENT).append("public ");
+        List<? extends TypeVariable> variables = signature.getTypeVariables();
+        if (!variables.isEmpty()) {
+            source.append(variables.stream().map(this::declaration).collect(Collectors.joining(", ", "<", "> ")));
+        }
+        TypeMirror returnType = signature.getReturnType();
+        source.append(returnType).append(' ').append(method.getSimpleName()).append('(');
+        List<? extends TypeMirror> parameters = signature.getParameterTypes();
+        StringBuilder args = new StringBuilder();
+        for (int parameter = 0; parameter < parameters.size(); parameter++) {
+            if (parameter > 0) {
+                source.append(", ");
+                args.append(", ");
+            }
+            source.append(parameters.get(parameter)).append(" arg").append(parameter);
+            args.append("arg").append(parameter);
+        }
+        source.append(") {\n").append(INDENT.repeat(2));
+        String invoke = "invoke(" + index + ", " + (parameters.isEmpty() ? "null" : "new Object[]{" + args + "}") + ')';
+        if (returnType.getKind() == TypeKind.VOID) {
+            source.append(invoke).append(";\n");
+        } else {
+            source.append("return (").append(returnType).append(") ").append(invoke).append(";\n");
+        }
+        source.append(INDENT).append("}\n\n");
+    }
+
+    private boolean isObjectMethod(ExecutableElement method) {
+        List<? extends VariableElement> parameters = method.getParameters();
+        switch (method.getSimpleName().toString()) {
+            case "hashCode":
+            case "toString":
+                return parameters.isEmpty();
+            case "equals":
+                return parameters.size() == 1 && types.isSameType(parameters.get(0).asType(),
+                        elements.getTypeElement(OBJECT).asType());
+            default:
+                return false;
+        }
+    }
+
+    private String declaration(TypeVariable variable) {
+        TypeMirror bound = variable.getUpperBound();
+        if (bound.getKind() == TypeKind.DECLARED && types.isSameType(bound, elements.getTypeElement(OBJECT)
+                .asType())) {
+            return variable.toString();
+        }
+        if (bound.getKind() == TypeKind.INTERSECTION) {
+            return variable + " extends " + ((IntersectionType) bound).getBounds().stream().map(TypeMirror::toString)
+                    .collect(Collectors.joining(" & "));
+        }
+        return variable + " extends " + bound;
+    }
+
+    private boolean isVisible(ExecutableType signature, PackageElement packageElement) {
+        if (!isVisible(signature.getReturnType(), packageElement)) {
+            return false;
+        }
+        for (TypeMirror parameter : signature.getParameterTypes()) {
+            if (!isVisible(parameter, packageElement)) {
+                return false;
+            }
+        }
+        for (TypeVariable variable : signature.getTypeVariables()) {
+            if (!isVisible(variable.getUpperBound(), packageElement)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isVisible(TypeMirror type, PackageElement packageElement) {
+        switch (type.getKind()) {
+            case DECLARED:
+                DeclaredType declared = (DeclaredType) type;
+                return isTypeVisible((TypeElement) declared.asElement(), packageElement)
+                        && declared.getTypeArguments().stream().allMatch(t -> isVisible(t, packageElement));
+            case ARRAY:
+                return isVisible(((ArrayType) type).getComponentType(), packageElement);
+            case WILDCARD:
+                WildcardType wildcard = (WildcardType) type;
+                return (wildcard.getExtendsBound() == null || isVisible(wildcard.getExtendsBound(), packageElement))
+                        && (wildcard.getSuperBound() == null || isVisible(wildcard.getSuperBound(), packageElement));
+            case INTERSECTION:
+                return ((IntersectionType) type).getBounds().stream().allMatch(t -> isVisible(t, packageElement));
+            case TYPEVAR:
+            case VOID:
+                return true;
+            default:
+                return type.getKind().isPrimitive();
+        }
+    }
+
+    private boolean isTypeVisible(TypeElement type, PackageElement packageElement) {
+        Element element = type;
+        while (element instanceof TypeElement) {
+            if (!isVisible(element, packageElement)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private boolean isVisible(Element element, PackageElement packageElement) {
+        if (element.getModifiers().contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        return !element.getModifiers().contains(Modifier.PRIVATE)
+                && elements.getPackageOf(element).equals(packageElement);
+    }
+
+    private String simpleName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing.getKind() != ElementKind.PACKAGE) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append(SUFFIX).toString();
+    }
+}
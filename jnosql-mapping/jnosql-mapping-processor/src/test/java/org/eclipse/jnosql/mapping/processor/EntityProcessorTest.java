@@ -0,0 +1,256 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import org.eclipse.jnosql.mapping.reflection.GeneratedEntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.GeneratedFieldMetadata;
+import org.eclipse.jnosql.mapping.reflection.GeneratedRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.util.ArrayList;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityProcessorTest {
+
+    @TempDir
+    Path directory;
+
+    private Path sources;
+
+    private Path classes;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        this.sources = Files.createDirectories(directory.resolve("sources/sample"));
+        this.classes = Files.createDirectories(directory.resolve("classes"));
+        write("Person.java", "package sample;\n"
+                + "import jakarta.nosql.*;\n"
+                + "import java.util.List;\n"
+                + "@Entity(\"people\")\n"
+                + "public class Person {\n"
+                + "    @Id(\"_id\") long id;\n"
+                + "    @Column String name;\n"
+                + "    @Column(\"native_age\") private int age;\n"
+                + "    @Column List<String> phones;\n"
+                + "    @Column private String secret;\n"
+                + "    @Column int level;\n"
+                + "    private String ignored;\n"
+                + "    public int getAge() { return age; }\n"
+                + "    public void setAge(int age) { this.age = age; }\n"
+                + "    public String getSecret() { return secret; }\n"
+                + "}\n");
+        write("Address.java", "package sample;\n"
+                + "import jakarta.nosql.Column;\n"
+                + "@org.eclipse.jnosql.mapping.Embeddable\n"
+                + "class Address {\n"
+                + "    @Column final String street = null;\n"
+                + "    private Address() {}\n"
+                + "}\n");
+        write("PersonRepository.java", "package sample;\n"
+                + "@jakarta.data.repository.Repository\n"
+                + "public interface PersonRepository extends jakarta.data.repository.CrudRepository<Person, Long> {\n"
+                + "    java.util.List<Person> findByName(String name);\n"
+                + "    long countByAge(int age);\n"
+                + "    String toString();\n"
+                + "    default java.util.List<Person> findAdults() { return findByName(\"adult\"); }\n"
+                + "}\n");
+        write("Hidden.java", "package sample;\n"
+                + "public class Hidden {\n"
+                + "    @jakarta.nosql.Entity private static class Secret {\n"
+                + "        @jakarta.nosql.Id String id;\n"
+                + "    }\n"
+                + "}\n");
+    }
+
+    @Test
+    public void shouldGenerateEntityMetadata() throws Exception {
+        compile();
+
+        assertTrue(Files.exists(classes.resolve("sample/Person_JNoSQLEntityMetadata.class")));
+        assertFalse(Files.exists(classes.resolve("sample/Hidden_Secret_JNoSQLEntityMetadata.class")));
+        List<String> services = Files.readAllLines(classes.resolve("META-INF/services/"
+                + EntityProcessor.GENERATED_ENTITY));
+        assertThat(services).containsExactly("sample.Address_JNoSQLEntityMetadata",
+                "sample.Person_JNoSQLEntityMetadata");
+    }
+
+    @Test
+    public void shouldGenerateIndex() throws Exception {
+        compile();
+
+        List<String> index = Files.readAllLines(classes.resolve(EntityProcessor.INDEX));
+        assertThat(index).containsExactly("embeddable=sample.Address", "entity=sample.Hidden$Secret",
+                "entity=sample.Person", "repository=sample.PersonRepository");
+    }
+
+    @Test
+    public void shouldReadEntityMetadata() throws Exception {
+        compile();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()},
+                getClass().getClassLoader())) {
+            List<GeneratedEntityMetadata> entities = StreamSupport.stream(ServiceLoader
+                            .load(GeneratedEntityMetadata.class, loader).spliterator(), false)
+                    .collect(Collectors.toList());
+            assertEquals(2, entities.size());
+            GeneratedEntityMetadata person = entities.stream().filter(e -> e.name().equals("people"))
+                    .findFirst().orElseThrow();
+            assertEquals(loader.loadClass("sample.Person"), person.type());
+            assertThat(person.fields()).extracting(GeneratedFieldMetadata::getName)
+                    .containsExactly("_id", "name", "native_age", "phones", "secret", "level");
+            assertThat(person.fields()).extracting(GeneratedFieldMetadata::isId)
+                    .containsExactly(true, false, false, false, false, false);
+
+            Object entity = person.instanceSupplier().orElseThrow().get();
+            GeneratedFieldMetadata id = person.fields().get(0);
+            GeneratedFieldMetadata age = person.fields().get(2);
+            GeneratedFieldMetadata phones = person.fields().get(3);
+            GeneratedFieldMetadata secret = person.fields().get(4);
+            GeneratedFieldMetadata level = person.fields().get(5);
+            id.getWriter().orElseThrow().write(entity, 10L);
+            level.getWriter().orElseThrow().write(entity, 20);
+            phones.getWriter().orElseThrow().write(entity, List.of("123"));
+            assertEquals(10L, id.getReader().orElseThrow().read(entity));
+            assertEquals(20, level.getReader().orElseThrow().read(entity));
+            assertEquals(List.of("123"), phones.getReader().orElseThrow().read(entity));
+            assertThrows(NullPointerException.class, () -> level.getWriter().orElseThrow().write(entity, null));
+            assertTrue(age.getReader().isEmpty());
+            assertTrue(age.getWriter().isEmpty());
+            assertTrue(secret.getReader().isEmpty());
+            assertTrue(secret.getWriter().isEmpty());
+
+            GeneratedEntityMetadata address = entities.stream().filter(e -> e.name().equals("Address"))
+                    .findFirst().orElseThrow();
+            assertTrue(address.instanceSupplier().isEmpty());
+            assertTrue(address.fields().get(0).getReader().isPresent());
+            assertTrue(address.fields().get(0).getWriter().isEmpty());
+        }
+    }
+
+    @Test
+    public void shouldGenerateRepository() throws Exception {
+        compile();
+
+        assertTrue(Files.exists(classes.resolve("sample/PersonRepository_JNoSQLRepository.class")));
+        List<String> services = Files.readAllLines(classes.resolve("META-INF/services/"
+                + EntityProcessor.GENERATED_REPOSITORY));
+        assertThat(services).containsExactly("sample.PersonRepository_JNoSQLRepository$Factory");
+    }
+
+    @Test
+    public void shouldNotGenerateHiddenRepository() throws Exception {
+        write("Repositories.java", "package sample;\n"
+                + "public class Repositories {\n"
+                + "    @jakarta.data.repository.Repository\n"
+                + "    private interface Secrets extends jakarta.data.repository.CrudRepository<Person, Long> {\n"
+                + "    }\n"
+                + "}\n");
+        compile();
+
+        assertFalse(Files.exists(classes.resolve("sample/Repositories_Secrets_JNoSQLRepository.class")));
+    }
+
+    @Test
+    public void shouldCallHandlerFromRepository() throws Exception {
+        compile();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()},
+                getClass().getClassLoader())) {
+            GeneratedRepository generated = ServiceLoader.load(GeneratedRepository.class, loader)
+                    .iterator().next();
+            Class<?> type = loader.loadClass("sample.PersonRepository");
+            Object person = loader.loadClass("sample.Person").getConstructor().newInstance();
+            assertEquals(type, generated.type());
+
+            List<Method> methods = new ArrayList<>();
+            Object repository = generated.newInstance((proxy, method, args) -> {
+                methods.add(method);
+                switch (method.getName()) {
+                    case "countByAge":
+                        return 10L + (int) args[0];
+                    case "save":
+                        return args[0];
+                    case "deleteById":
+                        throw new IOException("error");
+                    case "hashCode":
+                        return 42;
+                    case "equals":
+                        return proxy == args[0];
+                    case "toString":
+                        return "PersonRepository";
+                    default:
+                        return List.of();
+                }
+            });
+
+            assertTrue(type.isInstance(repository));
+            assertEquals(31L, type.getMethod("countByAge", int.class).invoke(repository, 21));
+            assertEquals(List.of(), type.getMethod("findAdults").invoke(repository));
+            assertSame(person, type.getMethod("save", Object.class).invoke(repository, person));
+            InvocationTargetException exception = assertThrows(InvocationTargetException.class,
+                    () -> type.getMethod("deleteById", Object.class).invoke(repository, 1L));
+            assertThat(exception.getCause()).isInstanceOf(UndeclaredThrowableException.class);
+            assertEquals(42, repository.hashCode());
+            assertTrue(repository.equals(repository));
+            assertFalse(repository.equals(person));
+            assertEquals("PersonRepository", repository.toString());
+            assertThat(methods).containsExactly(type.getMethod("countByAge", int.class),
+                    type.getMethod("findByName", String.class), type.getMethod("save", Object.class),
+                    type.getMethod("deleteById", Object.class), Object.class.getMethod("hashCode"),
+                    Object.class.getMethod("equals", Object.class), Object.class.getMethod("equals", Object.class),
+                    Object.class.getMethod("toString"));
+        }
+    }
+
+    private void write(String name, String source) throws IOException {
+        Files.writeString(sources.resolve(name), source);
+    }
+
+    private void compile() throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> arguments = new ArrayList<>(List.of("-processor", EntityProcessor.class.getName(),
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", classes.toString(), "-s", classes.toString()));
+        try (Stream<Path> files = Files.list(sources)) {
+            files.map(Path::toString).forEach(arguments::add);
+        }
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        int result = compiler.run(null, null, errors, arguments.toArray(String[]::new));
+        assertEquals(0, result, errors.toString(StandardCharsets.UTF_8));
+    }
+}
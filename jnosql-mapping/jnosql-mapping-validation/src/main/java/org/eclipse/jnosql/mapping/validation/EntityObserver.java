@@ -15,14 +15,17 @@
 package org.eclipse.jnosql.mapping.validation;
 
 
-import org.eclipse.jnosql.mapping.EntityPostPersist;
+import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.mapping.EntityPrePersist;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
 import org.eclipse.jnosql.mapping.reflection.ConstructorEvent;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
 
+import java.util.Objects;
+
 @ApplicationScoped
 class EntityObserver {
 
@@ -33,11 +36,17 @@ class EntityObserver {
         this.validator.validate(entity.get());
     }
 
-    void validate(@Observes EntityPostPersist entity) {
-        this.validator.validate(entity.get());
-    }
-
     void validate(@Observes ConstructorEvent event) {
         this.validator.validate(event);
     }
+
+    /**
+     * Checks whether {@link MappingConfigurations#VALIDATION_POST_PERSIST} is enabled, when it is not,
+     * {@link ValidationExtension} vetoes the {@link PostPersistObserver}.
+     */
+    static boolean isPostPersistEnabled(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        return settings.get(MappingConfigurations.VALIDATION_POST_PERSIST, String.class)
+                .map(String::trim).map(Boolean::parseBoolean).orElse(false);
+    }
 }
@@ -26,14 +26,19 @@ import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
 import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.metadata.ConstructorDescriptor;
 
+import java.lang.reflect.Constructor;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
  * Validates bean instances. Implementations of this interface must be thread-safe.
+ * It looks up the {@link Validator} once and skips the types and constructors without any constraint.
  */
 @ApplicationScoped
 public class MappingValidator {
@@ -44,6 +49,12 @@ public class MappingValidator {
     @Inject
     private Instance<Validator> validators;
 
+    private final Map<Class<?>, Boolean> constrainedTypes = new ConcurrentHashMap<>();
+
+    private final Map<Constructor<?>, Boolean> constrainedConstructors = new ConcurrentHashMap<>();
+
+    private volatile Validator validator;
+
     /**
      * Validate an entity using entity validation
      *
@@ -54,6 +65,9 @@ public class MappingValidator {
      */
     public void validate(Object entity) {
         Objects.requireNonNull(entity, "entity is required");
+        if (!isConstrained(entity.getClass())) {
+            return;
+        }
         Validator validator = getValidator();
         Set<ConstraintViolation<Object>> violations = validator.validate(entity);
 
@@ -73,6 +87,9 @@ public class MappingValidator {
      */
     public void validate(ConstructorEvent event) {
         Objects.requireNonNull(event, "event is required");
+        if (!isConstrained(event.getConstructor())) {
+            return;
+        }
         Validator validator = getValidator();
         ExecutableValidator executableValidator = validator.forExecutables();
         Set<? extends ConstraintViolation<?>> violations =
@@ -84,7 +101,34 @@ public class MappingValidator {
         }
     }
 
+    private boolean isConstrained(Class<?> type) {
+        return constrainedTypes.computeIfAbsent(type, t -> getValidator().getConstraintsForClass(t)
+                .isBeanConstrained());
+    }
+
+    private boolean isConstrained(Constructor<?> constructor) {
+        return constrainedConstructors.computeIfAbsent(constructor, c -> {
+            ConstructorDescriptor descriptor = getValidator().getConstraintsForClass(c.getDeclaringClass())
+                    .getConstraintsForConstructor(c.getParameterTypes());
+            return descriptor != null && descriptor.hasConstrainedParameters();
+        });
+    }
+
     private Validator getValidator() {
+        Validator current = this.validator;
+        if (current == null) {
+            synchronized (this) {
+                current = this.validator;
+                if (current == null) {
+                    current = lookupValidator();
+                    this.validator = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Validator lookupValidator() {
         if (!validators.isUnsatisfied()) {
             return validators.get();
         } else if (!validatorFactories.isUnsatisfied()) {
@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.validation;
+
+
+import org.eclipse.jnosql.mapping.EntityPostPersist;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+/**
+ * Validates the entities again after they are persisted. It is only a bean when
+ * {@link org.eclipse.jnosql.mapping.config.MappingConfigurations#VALIDATION_POST_PERSIST} is enabled, thus, by
+ * default, there is no observer of {@link EntityPostPersist} and the templates do not fire it.
+ */
+@ApplicationScoped
+class PostPersistObserver {
+
+    @Inject
+    private MappingValidator validator;
+
+    void validate(@Observes EntityPostPersist entity) {
+        this.validator.validate(entity.get());
+    }
+}
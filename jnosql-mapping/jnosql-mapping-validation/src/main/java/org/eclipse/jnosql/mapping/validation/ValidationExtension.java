@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.validation;
+
+
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.Extension;
+import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
+
+/**
+ * This CDI extension vetoes the {@link PostPersistObserver} when the post persist validation is not enabled.
+ */
+public class ValidationExtension implements Extension {
+
+    void vetoPostPersist(@Observes ProcessAnnotatedType<PostPersistObserver> event) {
+        if (!EntityObserver.isPostPersistEnabled(MicroProfileSettings.INSTANCE)) {
+            event.veto();
+        }
+    }
+}
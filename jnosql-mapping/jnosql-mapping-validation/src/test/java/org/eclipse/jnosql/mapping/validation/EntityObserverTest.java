@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.validation;
+
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolationException;
+import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.mapping.Convert;
+import org.eclipse.jnosql.mapping.EntityPostPersist;
+import org.eclipse.jnosql.mapping.EntityPrePersist;
+import org.eclipse.jnosql.mapping.config.MappingConfigurations;
+import org.eclipse.jnosql.mapping.reflection.ConstructorEvent;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static java.util.Collections.singletonMap;
+
+@EnableAutoWeld
+@AddPackages(value = {Convert.class})
+@AddPackages(Person.class)
+@AddExtensions({EntityMetadataExtension.class, ValidationExtension.class})
+public class EntityObserverTest {
+
+    @Inject
+    private EntityObserver observer;
+
+    @Inject
+    private BeanManager beanManager;
+
+    @Test
+    public void shouldValidateOnPrePersist() {
+        Assertions.assertThrows(ConstraintViolationException.class,
+                () -> observer.validate(EntityPrePersist.of(User.of("Ada", 10))));
+    }
+
+    @Test
+    public void shouldNotObservePostPersist() {
+        Assertions.assertTrue(beanManager.resolveObserverMethods(EntityPostPersist.of(User.of("Ada", 10))).isEmpty());
+    }
+
+    @Test
+    public void shouldSkipUnconstrainedEntity() {
+        observer.validate(EntityPrePersist.of(new Animal(null)));
+    }
+
+    @Test
+    public void shouldSkipUnconstrainedConstructor() throws NoSuchMethodException {
+        observer.validate(ConstructorEvent.of(Animal.class.getConstructor(String.class), new Object[]{null}));
+    }
+
+    @Test
+    public void shouldReturnPostPersistEnabled() {
+        Assertions.assertFalse(EntityObserver.isPostPersistEnabled(Settings.of(Collections.emptyMap())));
+        Assertions.assertTrue(EntityObserver.isPostPersistEnabled(
+                Settings.of(singletonMap(MappingConfigurations.VALIDATION_POST_PERSIST.get(), "true"))));
+    }
+
+    public static class Animal {
+
+        private final String name;
+
+        public Animal(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.validation;
+
+import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolationException;
+import org.eclipse.jnosql.mapping.Convert;
+import org.eclipse.jnosql.mapping.EntityPostPersist;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadataExtension;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+@EnableAutoWeld
+@AddPackages(value = {Convert.class})
+@AddPackages(Person.class)
+@AddExtensions({EntityMetadataExtension.class})
+public class PostPersistObserverTest {
+
+    @Inject
+    private PostPersistObserver observer;
+
+    @Test
+    public void shouldValidateOnPostPersist() {
+        Assertions.assertThrows(ConstraintViolationException.class,
+                () -> observer.validate(EntityPostPersist.of(User.of("Ada", 10))));
+    }
+}